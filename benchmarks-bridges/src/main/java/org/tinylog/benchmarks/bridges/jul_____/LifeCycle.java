@@ -0,0 +1,60 @@
+/*
+ * Copyright 2022 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.benchmarks.bridges.jul_____;
+
+import java.nio.file.Path;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.tinylog.jul.JulTinylogBridge;
+
+/**
+ * Life cycle for initializing and shutting down tinylog with java.util.logging as logging API.
+ */
+@State(Scope.Benchmark)
+public class LifeCycle extends org.tinylog.benchmarks.logging.tinylog2.LifeCycle {
+
+	private Logger logger;
+
+	/**
+	 *
+	 */
+	public LifeCycle() {
+	}
+
+	@Override
+	protected void init(final Path file) {
+		super.init(file);
+		JulTinylogBridge.activate();
+		logger = Logger.getLogger(Jul_____Benchmark.class.getName());
+	}
+
+	@Override
+	protected void shutDown() throws InterruptedException {
+		LogManager.getLogManager().reset();
+		super.shutDown();
+	}
+
+	/**
+	 * Gets the current logger.
+	 *
+	 * @return Current logger
+	 */
+	public Logger getLogger() {
+		return logger;
+	}
+
+}
@@ -0,0 +1,316 @@
+/*
+ * Copyright 2022 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.benchmarks.api;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.util.Statistics;
+import org.tinylog.Logger;
+import org.tinylog.benchmarks.logging.AbstractBenchmark;
+import org.tinylog.benchmarks.logging.LocationInfo;
+import org.tinylog.configuration.Configuration;
+import org.tinylog.provider.ProviderRegistry;
+
+/**
+ * Benchmark for measuring the latency distribution of issuing log entries via tinylog from multiple threads at the
+ * same time.
+ *
+ * <p>
+ *     JMH cannot parameterize the number of threads. Therefore, {@link #main(String[])} runs this benchmark once for
+ *     each thread count from {@link #THREADS} with enabled GC profiler, and writes the latency percentiles and the
+ *     allocation rates of all runs into a single result file. This file can be rendered as HTML diagrams by
+ *     {@link org.tinylog.benchmarks.converters.HtmlConverterApplication}.
+ * </p>
+ */
+public class ContentionBenchmark {
+
+	/**
+	 * Thread counts for simultaneously issuing log entries.
+	 */
+	public static final int[] THREADS = {1, 2, 4, 8, 16, 32, 64};
+
+	/**
+	 * Percentiles to record in the result file.
+	 */
+	public static final double[] PERCENTILES = {50, 90, 99, 99.9, 99.99};
+
+	private static final String OUTPUT_FILE_PROPERTY = "benchmark.output";
+	private static final String DEFAULT_OUTPUT_FILE = "contention.txt";
+	private static final String ALLOCATION_RATE_KEY = "·gc.alloc.rate.norm";
+
+	/** */
+	public ContentionBenchmark() {
+	}
+
+	/**
+	 * Benchmarks issuing a single log entry that will be output.
+	 *
+	 * @param lifeCycle
+	 *            Life cycle with initialized tinylog
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.SampleTime)
+	@OutputTimeUnit(TimeUnit.NANOSECONDS)
+	public void output(final LifeCycle lifeCycle) {
+		Logger.info("Hello {}!", AbstractBenchmark.MAGIC_NUMBER);
+	}
+
+	/**
+	 * Runs this benchmark for all thread counts and writes the combined results into a file. The file name can be
+	 * defined via the system property {@code benchmark.output}.
+	 *
+	 * @param arguments
+	 *            JMH command line options, for example "-f 1" for a single fork
+	 * @throws CommandLineOptionException
+	 *             Invalid JMH command line options
+	 * @throws RunnerException
+	 *             Failed to run the benchmark
+	 * @throws IOException
+	 *             Failed to write the result file
+	 */
+	public static void main(final String[] arguments) throws CommandLineOptionException, RunnerException, IOException {
+		CommandLineOptions commandLine = new CommandLineOptions(arguments);
+		List<String> lines = new ArrayList<>();
+		lines.add(createHeader());
+
+		for (int threads : THREADS) {
+			Options options = new OptionsBuilder()
+				.parent(commandLine)
+				.include(ContentionBenchmark.class.getName() + "\\.")
+				.threads(threads)
+				.addProfiler(GCProfiler.class)
+				.build();
+
+			Collection<RunResult> results = new Runner(options).run();
+			results.stream()
+				.sorted(Comparator.comparing(result -> result.getParams().id()))
+				.map(ContentionBenchmark::createLine)
+				.forEach(lines::add);
+		}
+
+		Path file = Paths.get(System.getProperty(OUTPUT_FILE_PROPERTY, DEFAULT_OUTPUT_FILE));
+		Files.write(file, lines, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Creates the header line for the result file.
+	 *
+	 * @return Tab separated column names
+	 */
+	private static String createHeader() {
+		Stream<String> parameters = Stream.of("writer", "writingThread", "buffered", "locationInfo", "threads");
+		Stream<String> percentiles = Arrays.stream(PERCENTILES).mapToObj(percentile -> "p" + format(percentile));
+		Stream<String> allocation = Stream.of("allocation");
+		return Stream.of(parameters, percentiles, allocation).flatMap(stream -> stream).collect(Collectors.joining("\t"));
+	}
+
+	/**
+	 * Creates a line for the result file.
+	 *
+	 * @param result
+	 *            Result of a single benchmark run
+	 * @return Tab separated parameters, latency percentiles in nanoseconds, and allocated bytes per log entry
+	 */
+	private static String createLine(final RunResult result) {
+		BenchmarkParams params = result.getParams();
+		Statistics statistics = result.getPrimaryResult().getStatistics();
+		Result<?> allocation = result.getSecondaryResults().get(ALLOCATION_RATE_KEY);
+
+		List<String> values = new ArrayList<>();
+		values.add(params.getParam("writer"));
+		values.add(params.getParam("writingThread"));
+		values.add(params.getParam("buffered"));
+		values.add(params.getParam("locationInfo"));
+		values.add(Integer.toString(params.getThreads()));
+
+		for (double percentile : PERCENTILES) {
+			values.add(format(statistics.getPercentile(percentile)));
+		}
+
+		values.add(allocation == null ? "NaN" : format(allocation.getScore()));
+		return String.join("\t", values);
+	}
+
+	/**
+	 * Formats a number locale independent.
+	 *
+	 * @param value
+	 *            Number to format
+	 * @return Formatted number without unnecessary trailing zeros
+	 */
+	private static String format(final double value) {
+		return String.format(Locale.ROOT, "%.3f", value).replaceAll("\\.?0+$", "");
+	}
+
+	/**
+	 * Life cycle for initializing and shutting down tinylog.
+	 */
+	@State(Scope.Benchmark)
+	public static class LifeCycle {
+
+		/**
+		 * Name of the writer to use. The console writer outputs to a stream that discards all data.
+		 */
+		@Param({"file", "rolling file", "json", "shared file", "console"})
+		private String writer;
+
+		/**
+		 * Defines whether the writing thread should be enabled.
+		 */
+		@Param({"false", "true"})
+		private boolean writingThread;
+
+		/**
+		 * Defines whether the output should be buffered (ignored by the console writer).
+		 */
+		@Param({"false", "true"})
+		private boolean buffered;
+
+		/**
+		 * Location information to output.
+		 */
+		@Param
+		private LocationInfo locationInfo;
+
+		private Path folder;
+		private PrintStream originalOutput;
+
+		/** */
+		public LifeCycle() {
+		}
+
+		/**
+		 * Creates a temporary folder for log files and initializes tinylog.
+		 *
+		 * @throws IOException
+		 *             Failed to create the temporary folder
+		 */
+		@Setup(Level.Trial)
+		public void init() throws IOException {
+			folder = Files.createTempDirectory("jmh_contention_");
+			originalOutput = System.out;
+			System.setOut(new PrintStream(new DiscardingOutputStream(), false, "UTF-8"));
+
+			Configuration.set("autoshutdown", "false");
+			Configuration.set("level", "info");
+			Configuration.set("writingthread", Boolean.toString(writingThread));
+			Configuration.set("writer", writer);
+			Configuration.set("writer.buffered", Boolean.toString(buffered));
+			Configuration.set("writer.stream", "out");
+
+			if ("rolling file".equals(writer)) {
+				Configuration.set("writer.file", folder.resolve("log-{count}.txt").toString());
+				Configuration.set("writer.policies", "size: 10mb");
+				Configuration.set("writer.backups", "2");
+			} else {
+				Configuration.set("writer.file", folder.resolve("log.txt").toString());
+			}
+
+			if ("json".equals(writer)) {
+				Configuration.set("writer.field.date", "{date:yyyy-MM-dd HH:mm:ss}");
+				Configuration.set("writer.field.thread", "{thread}");
+				Configuration.set("writer.field.level", "{level}");
+				Configuration.set("writer.field.message", "{message}");
+				if (locationInfo != LocationInfo.NONE) {
+					Configuration.set("writer.field.class", "{class}");
+				}
+				if (locationInfo == LocationInfo.FULL) {
+					Configuration.set("writer.field.method", "{method}");
+				}
+			} else if (locationInfo == LocationInfo.NONE) {
+				Configuration.set("writer.format", "{date:yyyy-MM-dd HH:mm:ss} - {thread} - {level}: {message}");
+			} else if (locationInfo == LocationInfo.CLASS_OR_CATEGORY_ONLY) {
+				Configuration.set("writer.format", "{date:yyyy-MM-dd HH:mm:ss} - {thread} - {class} - {level}: {message}");
+			} else {
+				Configuration.set("writer.format", "{date:yyyy-MM-dd HH:mm:ss} - {thread} - {class}.{method}() - {level}: {message}");
+			}
+		}
+
+		/**
+		 * Shuts tinylog down, restores the original output stream, and deletes all log files.
+		 *
+		 * @throws InterruptedException
+		 *             Interrupted while waiting for the writing thread
+		 * @throws IOException
+		 *             Failed to delete log files
+		 */
+		@TearDown(Level.Trial)
+		public void release() throws InterruptedException, IOException {
+			ProviderRegistry.getLoggingProvider().shutdown();
+			System.setOut(originalOutput);
+
+			try (Stream<Path> files = Files.walk(folder)) {
+				for (Path file : files.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+					Files.delete(file);
+				}
+			}
+		}
+
+	}
+
+	/**
+	 * Output stream that discards all data like {@code /dev/null}.
+	 */
+	private static final class DiscardingOutputStream extends OutputStream {
+
+		/** */
+		private DiscardingOutputStream() {
+		}
+
+		@Override
+		public void write(final int b) {
+		}
+
+		@Override
+		public void write(final byte[] b, final int off, final int len) {
+		}
+
+	}
+
+}
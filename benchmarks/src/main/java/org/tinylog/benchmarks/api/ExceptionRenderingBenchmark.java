@@ -0,0 +1,183 @@
+/*
+ * Copyright 2022 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.benchmarks.api;
+
+import java.util.Collections;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.tinylog.Level;
+import org.tinylog.core.LogEntry;
+import org.tinylog.pattern.FormatPatternParser;
+import org.tinylog.pattern.Token;
+import org.tinylog.runtime.RuntimeProvider;
+
+/**
+ * Benchmark for rendering exceptions with deep stack traces and causes via the "{exception}" placeholder.
+ *
+ * <p>
+ * The exception token caches rendered exceptions. Therefore, there is one benchmark for rendering always the same
+ * exception, which is served by the cache, and one benchmark for rendering more distinct exceptions than the cache can
+ * hold.
+ * </p>
+ *
+ * @see FormatPatternParser
+ */
+public class ExceptionRenderingBenchmark {
+
+	private static final int DISTINCT_EXCEPTIONS = 64;
+	private static final int BUILDER_CAPACITY = 64 * 1024;
+
+	/** */
+	public ExceptionRenderingBenchmark() {
+	}
+
+	/**
+	 * Benchmarks rendering the same exception repeatedly.
+	 *
+	 * @param state
+	 *            Parsed token and log entries to render
+	 * @return Length of rendered exception
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	public int renderSame(final RenderingState state) {
+		StringBuilder builder = state.builder;
+		builder.setLength(0);
+		state.token.render(state.logEntries[0], builder);
+		return builder.length();
+	}
+
+	/**
+	 * Benchmarks rendering distinct exceptions, which cannot be served by the cache of the exception token.
+	 *
+	 * @param state
+	 *            Parsed token and log entries to render
+	 * @return Length of rendered exception
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	public int renderDistinct(final RenderingState state) {
+		StringBuilder builder = state.builder;
+		builder.setLength(0);
+		state.token.render(state.logEntries[state.next()], builder);
+		return builder.length();
+	}
+
+	/**
+	 * State with parsed token and log entries with exceptions for rendering.
+	 */
+	@State(Scope.Thread)
+	public static class RenderingState {
+
+		/**
+		 * Throwable filters to benchmark. "none" means that no throwable filters are applied.
+		 */
+		@Param({
+			"none",
+			"keep: java.lang.RuntimeException",
+			"strip: java.lang.reflect | jdk.internal | sun.reflect | org.openjdk.jmh",
+			"drop cause",
+			"unpack",
+			"unpack, strip: java.lang.reflect | jdk.internal | sun.reflect | org.openjdk.jmh"
+		})
+		private String filters;
+
+		/**
+		 * Number of nested method calls before throwing the exception.
+		 */
+		@Param({"10", "100"})
+		private int depth;
+
+		private Token token;
+		private LogEntry[] logEntries;
+		private StringBuilder builder;
+		private int index;
+
+		/** */
+		public RenderingState() {
+		}
+
+		/**
+		 * Parses the "{exception}" placeholder and creates the log entries with distinct exceptions.
+		 */
+		@Setup
+		public void init() {
+			token = new FormatPatternParser("none".equals(filters) ? null : filters).parse("{exception}");
+			logEntries = new LogEntry[DISTINCT_EXCEPTIONS];
+			for (int i = 0; i < DISTINCT_EXCEPTIONS; ++i) {
+				logEntries[i] = new LogEntry(RuntimeProvider.createTimestamp(), Thread.currentThread(),
+					Collections.<String, String>emptyMap(), ExceptionRenderingBenchmark.class.getName(), "render", null,
+					-1, null, Level.ERROR, null, createException(depth, "Request #" + i + " failed"));
+			}
+			builder = new StringBuilder(BUILDER_CAPACITY);
+		}
+
+		/**
+		 * Gets the index of the next distinct log entry.
+		 *
+		 * @return Index of log entry
+		 */
+		private int next() {
+			index = (index + 1) % DISTINCT_EXCEPTIONS;
+			return index;
+		}
+
+		/**
+		 * Creates an exception with a cause that is thrown after the passed number of nested method calls.
+		 *
+		 * @param depth
+		 *            Number of nested method calls
+		 * @param message
+		 *            Message for the exception
+		 * @return Created exception
+		 * @throws IllegalStateException
+		 *             Nested method calls have not thrown the expected exception
+		 */
+		private static RuntimeException createException(final int depth, final String message) {
+			try {
+				throwNested(depth, message);
+			} catch (IllegalArgumentException ex) {
+				return new RuntimeException("Failed to process request", ex);
+			}
+
+			throw new IllegalStateException("Exception has not been thrown");
+		}
+
+		/**
+		 * Throws an exception after the passed number of nested method calls.
+		 *
+		 * @param depth
+		 *            Remaining number of nested method calls
+		 * @param message
+		 *            Message for the exception
+		 * @throws IllegalArgumentException
+		 *             Always thrown with the passed message as soon as the depth has been reached
+		 */
+		private static void throwNested(final int depth, final String message) {
+			if (depth <= 0) {
+				throw new IllegalArgumentException(message);
+			} else {
+				throwNested(depth - 1, message);
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2022 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.benchmarks.api;
+
+import java.util.Collections;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.tinylog.Level;
+import org.tinylog.core.LogEntry;
+import org.tinylog.pattern.FormatPatternParser;
+import org.tinylog.pattern.Token;
+import org.tinylog.runtime.RuntimeProvider;
+
+/**
+ * Benchmark for rendering log entries with format patterns.
+ *
+ * @see FormatPatternParser
+ */
+public class FormatPatternBenchmark {
+
+	private static final int BUILDER_CAPACITY = 1024;
+
+	/** */
+	public FormatPatternBenchmark() {
+	}
+
+	/**
+	 * Benchmarks rendering a log entry into a fresh string builder.
+	 *
+	 * @param state
+	 *            Parsed token and log entry to render
+	 * @return Rendered log entry
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	public String render(final RenderingState state) {
+		StringBuilder builder = new StringBuilder(BUILDER_CAPACITY);
+		state.token.render(state.logEntry, builder);
+		return builder.toString();
+	}
+
+	/**
+	 * Benchmarks rendering a log entry into a reused string builder, as done by writers with enabled writing thread.
+	 *
+	 * @param state
+	 *            Parsed token and log entry to render
+	 * @return Length of rendered log entry
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	public int renderReused(final RenderingState state) {
+		StringBuilder builder = state.builder;
+		builder.setLength(0);
+		state.token.render(state.logEntry, builder);
+		return builder.length();
+	}
+
+	/**
+	 * State with parsed format pattern and log entry for rendering.
+	 */
+	@State(Scope.Thread)
+	public static class RenderingState {
+
+		/**
+		 * Format pattern to benchmark. The first one is the default pattern of all format pattern based writers.
+		 */
+		@Param({
+			"{date} [{thread}] {class}.{method}()\n{level}: {message}",
+			"{date:HH:mm:ss.SSS} {level|min-size=5} {class-name}: {message}",
+			"{message}"
+		})
+		private String pattern;
+
+		private Token token;
+		private LogEntry logEntry;
+		private StringBuilder builder;
+
+		/** */
+		public RenderingState() {
+		}
+
+		/**
+		 * Parses the format pattern and creates the log entry to render.
+		 */
+		@Setup
+		public void init() {
+			token = new FormatPatternParser(null).parse(pattern + System.lineSeparator());
+			logEntry = new LogEntry(RuntimeProvider.createTimestamp(), Thread.currentThread(),
+				Collections.<String, String>emptyMap(), FormatPatternBenchmark.class.getName(), "render", null, -1, null,
+				Level.INFO, "Hello World!", null);
+			builder = new StringBuilder(BUILDER_CAPACITY);
+		}
+
+	}
+
+}
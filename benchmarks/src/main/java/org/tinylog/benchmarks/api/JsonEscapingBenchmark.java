@@ -0,0 +1,166 @@
+/*
+ * Copyright 2022 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.benchmarks.api;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.tinylog.core.LogEntry;
+import org.tinylog.runtime.RuntimeProvider;
+import org.tinylog.writers.JsonWriter;
+
+/**
+ * Benchmark for writing log entries with special characters that have to be escaped by {@link JsonWriter}.
+ */
+public class JsonEscapingBenchmark {
+
+	/** */
+	public JsonEscapingBenchmark() {
+	}
+
+	/**
+	 * Benchmarks writing a log entry as JSON object.
+	 *
+	 * @param state
+	 *            JSON writer and log entry to write
+	 * @throws IOException
+	 *             Failed to write to the log file
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	public void write(final WritingState state) throws IOException {
+		state.writer.write(state.logEntry);
+	}
+
+	/**
+	 * Realistic log entries with different amounts of characters to escape.
+	 */
+	public enum Content {
+
+		/**
+		 * Text message without any characters to escape.
+		 */
+		PLAIN("User admin logged in from 192.168.0.1 using TLS", null),
+
+		/**
+		 * Text message with many quotes and backslashes to escape.
+		 */
+		QUOTED("Loaded \"C:\\Program Files\\App\\config.json\" with {\"user\": \"admin\", \"path\": \"C:\\\\temp\"}", null),
+
+		/**
+		 * Multi-line text message with line breaks and tabs to escape.
+		 */
+		MULTI_LINE("Configuration has been reloaded:\n\tsource: tinylog.properties\n\tentries: 42\r\n\tduration: 12 ms", null),
+
+		/**
+		 * Text message with an exception, whose stack trace contains many line breaks and tabs to escape.
+		 */
+		EXCEPTION("Failed to process request", new RuntimeException("Failed to process request",
+			new IllegalArgumentException("Invalid \"id\" parameter")));
+
+		private final String message;
+		private final Throwable exception;
+
+		/**
+		 * @param message
+		 *            Text message
+		 * @param exception
+		 *            Exception or {@code null}
+		 */
+		Content(final String message, final Throwable exception) {
+			this.message = message;
+			this.exception = exception;
+		}
+
+	}
+
+	/**
+	 * State with JSON writer and log entry to write.
+	 */
+	@State(Scope.Thread)
+	public static class WritingState {
+
+		@Param
+		private Content content;
+
+		private File file;
+		private JsonWriter writer;
+		private LogEntry logEntry;
+
+		/** */
+		public WritingState() {
+		}
+
+		/**
+		 * Creates the log entry to write.
+		 */
+		@Setup(Level.Trial)
+		public void init() {
+			logEntry = new LogEntry(RuntimeProvider.createTimestamp(), Thread.currentThread(),
+				Collections.<String, String>emptyMap(), JsonEscapingBenchmark.class.getName(), "write", null, -1, null,
+				org.tinylog.Level.INFO, content.message, content.exception);
+		}
+
+		/**
+		 * Creates a new JSON writer for a new temporary file for each iteration to avoid huge log files.
+		 *
+		 * @throws IOException
+		 *             Failed to create the temporary file
+		 */
+		@Setup(Level.Iteration)
+		public void open() throws IOException {
+			file = File.createTempFile("log", ".json");
+			file.deleteOnExit();
+
+			Map<String, String> properties = new HashMap<>();
+			properties.put("file", file.getAbsolutePath());
+			properties.put("format", "LDJSON");
+			properties.put("buffered", "true");
+			properties.put("writingthread", "true");
+			properties.put("field.level", "{level}");
+			properties.put("field.source", "{class}.{method}()");
+			properties.put("field.message", "{message}");
+			writer = new JsonWriter(properties);
+		}
+
+		/**
+		 * Closes the JSON writer and deletes the temporary file afterwards.
+		 *
+		 * @throws IOException
+		 *             Failed to close the JSON writer
+		 */
+		@TearDown(Level.Iteration)
+		public void close() throws IOException {
+			try {
+				writer.close();
+			} finally {
+				file.delete();
+			}
+		}
+
+	}
+
+}
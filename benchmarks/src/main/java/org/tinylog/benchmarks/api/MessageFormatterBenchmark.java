@@ -0,0 +1,231 @@
+/*
+ * Copyright 2022 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.benchmarks.api;
+
+import java.util.Locale;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.tinylog.format.AdvancedMessageFormatter;
+import org.tinylog.format.JavaTextMessageFormatFormatter;
+import org.tinylog.format.LegacyMessageFormatter;
+import org.tinylog.format.MessageFormatter;
+import org.tinylog.format.PrintfStyleFormatter;
+
+/**
+ * Benchmark for formatting text messages with arguments by all available message formatters.
+ *
+ * @see AdvancedMessageFormatter
+ * @see LegacyMessageFormatter
+ * @see PrintfStyleFormatter
+ * @see JavaTextMessageFormatFormatter
+ */
+public class MessageFormatterBenchmark {
+
+	private static final int INDEX_CAPACITY = 16;
+
+	/** */
+	public MessageFormatterBenchmark() {
+	}
+
+	/**
+	 * Benchmarks formatting a text message with arguments.
+	 *
+	 * @param state
+	 *            Message formatter, text message, and arguments
+	 * @return Formatted text message
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	public String format(final FormattingState state) {
+		return state.formatter.format(state.message, state.arguments);
+	}
+
+	/**
+	 * Message formatters to benchmark.
+	 */
+	public enum Formatter {
+
+		/**
+		 * {@link AdvancedMessageFormatter} with enabled escaping by ticks.
+		 */
+		ADVANCED {
+			@Override
+			MessageFormatter create() {
+				return new AdvancedMessageFormatter(Locale.ROOT, true);
+			}
+
+			@Override
+			String convert(final String message) {
+				return message;
+			}
+		},
+
+		/**
+		 * {@link LegacyMessageFormatter} as used by tinylog 1.
+		 */
+		LEGACY {
+			@Override
+			MessageFormatter create() {
+				return new LegacyMessageFormatter();
+			}
+
+			@Override
+			String convert(final String message) {
+				return message;
+			}
+		},
+
+		/**
+		 * {@link PrintfStyleFormatter} for "%s" placeholders.
+		 */
+		PRINTF {
+			@Override
+			MessageFormatter create() {
+				return new PrintfStyleFormatter(Locale.ROOT);
+			}
+
+			@Override
+			String convert(final String message) {
+				return message.replace("{}", "%s");
+			}
+		},
+
+		/**
+		 * {@link JavaTextMessageFormatFormatter} for indexed "{0}" placeholders.
+		 */
+		JAVA_TEXT {
+			@Override
+			MessageFormatter create() {
+				return new JavaTextMessageFormatFormatter(Locale.ROOT);
+			}
+
+			@Override
+			String convert(final String message) {
+				StringBuilder builder = new StringBuilder(message.length() + INDEX_CAPACITY);
+				int index = 0;
+				int start = 0;
+				for (int position = message.indexOf("{}"); position >= 0; position = message.indexOf("{}", start)) {
+					builder.append(message, start, position).append('{').append(index++).append('}');
+					start = position + 2;
+				}
+				return builder.append(message, start, message.length()).toString();
+			}
+		};
+
+		/**
+		 * Creates a new instance of the message formatter.
+		 *
+		 * @return Created message formatter
+		 */
+		abstract MessageFormatter create();
+
+		/**
+		 * Converts a text message with "{}" placeholders into the placeholder syntax of the message formatter.
+		 *
+		 * @param message
+		 *            Text message with "{}" placeholders
+		 * @return Text message with placeholders for the message formatter
+		 */
+		abstract String convert(String message);
+
+	}
+
+	/**
+	 * Realistic text messages with "{}" placeholders. The text messages don't contain any ticks, since ticks are
+	 * interpreted differently by the message formatters.
+	 */
+	public enum Message {
+
+		/**
+		 * Short text message with a single placeholder.
+		 */
+		SHORT("Hello {}!"),
+
+		/**
+		 * Text message with many placeholders.
+		 */
+		MANY_PLACEHOLDERS("User {} ({}) logged in from {}:{} at {} with role {} in session {} using {} on {} - {} attempts"),
+
+		/**
+		 * Long text message with a few placeholders.
+		 */
+		LONG("Received request {} from client {} with a large payload that has been validated against the registered "
+			+ "schema, transformed into the internal representation, enriched with data from several backend services, "
+			+ "and finally persisted in the database within {} milliseconds without any errors or warnings"),
+
+		/**
+		 * Multi-line text message with placeholders in several lines.
+		 */
+		MULTI_LINE("Configuration has been reloaded:\n\tsource: {}\n\tentries: {}\n\tchecksum: {}\n\tduration: {} ms");
+
+		private final String template;
+
+		/**
+		 * @param template
+		 *            Text message with "{}" placeholders
+		 */
+		Message(final String template) {
+			this.template = template;
+		}
+
+	}
+
+	/**
+	 * State with message formatter, text message, and arguments.
+	 */
+	@State(Scope.Thread)
+	public static class FormattingState {
+
+		private static final Object[] VALUES = {
+			"admin", 42, "192.168.0.1", 8080, 1234.5, "operator", 0xCAFEL, "TLS", true, 'x'
+		};
+
+		@Param
+		private Formatter type;
+
+		@Param
+		private Message text;
+
+		private MessageFormatter formatter;
+		private String message;
+		private Object[] arguments;
+
+		/** */
+		public FormattingState() {
+		}
+
+		/**
+		 * Creates the message formatter and prepares the text message and its arguments.
+		 */
+		@Setup
+		public void init() {
+			formatter = type.create();
+			message = type.convert(text.template);
+
+			int count = text.template.split("\\{}", -1).length - 1;
+			arguments = new Object[count];
+			for (int i = 0; i < count; ++i) {
+				arguments[i] = VALUES[i % VALUES.length];
+			}
+		}
+
+	}
+
+}
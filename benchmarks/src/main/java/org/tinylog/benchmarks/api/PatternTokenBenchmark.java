@@ -0,0 +1,154 @@
+/*
+ * Copyright 2022 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.benchmarks.api;
+
+import java.util.Collections;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.tinylog.Level;
+import org.tinylog.core.LogEntry;
+import org.tinylog.pattern.FormatPatternParser;
+import org.tinylog.pattern.Token;
+import org.tinylog.runtime.RuntimeProvider;
+
+/**
+ * Benchmark for rendering single placeholders of format patterns. Unlike {@link FormatPatternBenchmark}, each token is
+ * benchmarked in isolation to find out which token is responsible for a regression.
+ *
+ * @see FormatPatternParser
+ */
+public class PatternTokenBenchmark {
+
+	private static final int LINE_NUMBER = 42;
+	private static final int BUILDER_CAPACITY = 1024;
+
+	private static final String LONG_MESSAGE = "Received request from client with a large payload that has been validated "
+		+ "against the registered schema, transformed into the internal representation, enriched with data from several "
+		+ "backend services, and finally persisted in the database without any errors or warnings";
+
+	private static final String MULTI_LINE_MESSAGE = "Configuration has been reloaded:\n\tsource: tinylog.properties\n"
+		+ "\tentries: 42\n\tchecksum: CAFEBABE\n\tduration: 12 ms";
+
+	/** */
+	public PatternTokenBenchmark() {
+	}
+
+	/**
+	 * Benchmarks rendering a log entry into a reused string builder.
+	 *
+	 * @param state
+	 *            Parsed token and log entry to render
+	 * @return Length of rendered log entry
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	public int render(final RenderingState state) {
+		StringBuilder builder = state.builder;
+		builder.setLength(0);
+		state.token.render(state.logEntry, builder);
+		return builder.length();
+	}
+
+	/**
+	 * Realistic text messages for log entries.
+	 */
+	public enum Message {
+
+		/**
+		 * Short single-line text message.
+		 */
+		SHORT("Hello World!"),
+
+		/**
+		 * Long single-line text message.
+		 */
+		LONG(LONG_MESSAGE),
+
+		/**
+		 * Text message with multiple lines that are indented by the "indent" style option.
+		 */
+		MULTI_LINE(MULTI_LINE_MESSAGE);
+
+		private final String text;
+
+		/**
+		 * @param text
+		 *            Text message
+		 */
+		Message(final String text) {
+			this.text = text;
+		}
+
+	}
+
+	/**
+	 * State with parsed token and log entry for rendering.
+	 */
+	@State(Scope.Thread)
+	public static class RenderingState {
+
+		/**
+		 * Placeholders to benchmark, including style options.
+		 */
+		@Param({
+			"{date}",
+			"{date:yyyy-MM-dd HH:mm:ss.SSS}",
+			"{timestamp:milliseconds}",
+			"{uptime}",
+			"{thread}",
+			"{context:user}",
+			"{class}",
+			"{class-name}",
+			"{method}",
+			"{file}:{line}",
+			"{level}",
+			"{level|min-size=5}",
+			"{message-only}",
+			"{message-only|indent=4}",
+			"{message-only|max-size=80}"
+		})
+		private String placeholder;
+
+		@Param
+		private Message message;
+
+		private Token token;
+		private LogEntry logEntry;
+		private StringBuilder builder;
+
+		/** */
+		public RenderingState() {
+		}
+
+		/**
+		 * Parses the placeholder and creates the log entry to render.
+		 */
+		@Setup
+		public void init() {
+			token = new FormatPatternParser(null).parse(placeholder);
+			logEntry = new LogEntry(RuntimeProvider.createTimestamp(), Thread.currentThread(),
+				Collections.singletonMap("user", "admin"), PatternTokenBenchmark.class.getName(), "render",
+				"PatternTokenBenchmark.java", LINE_NUMBER, null, Level.INFO, message.text, null);
+			builder = new StringBuilder(BUILDER_CAPACITY);
+		}
+
+	}
+
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright 2022 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.benchmarks.api;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.tinylog.util.JvmProcessBuilder;
+import org.tinylog.writers.raw.AppendingFileWriter;
+import org.tinylog.writers.raw.BufferedWriterDecorator;
+import org.tinylog.writers.raw.ByteArrayWriter;
+import org.tinylog.writers.raw.LockedRandomAccessFileWriter;
+
+/**
+ * Benchmark for comparing the locking and the lock free writer for writing simultaneously from multiple processes to
+ * the same file.
+ *
+ * <p>
+ *     Each benchmark invocation starts several local JVM processes. The measured time includes the start of the JVM
+ *     processes, which is equal for both writers.
+ * </p>
+ *
+ * @see LockedRandomAccessFileWriter
+ * @see AppendingFileWriter
+ */
+public class SharedWritingBenchmark {
+
+	private static final String LINE = "Writing lines to a shared text file by multiple processes - Let's benchmark it!\n";
+	private static final byte[] DATA = LINE.getBytes(StandardCharsets.US_ASCII);
+
+	private static final int PROCESSES = 4;
+	private static final long LINES = 100_000;
+
+	/** */
+	public SharedWritingBenchmark() {
+	}
+
+	/**
+	 * Benchmarks writing via {@link LockedRandomAccessFileWriter}, which locks the file for each write operation.
+	 *
+	 * @param configuration
+	 *            Configuration with target file
+	 * @throws IOException
+	 *             Failed to start processes
+	 * @throws InterruptedException
+	 *             Interrupted while waiting for processes
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	public void locking(final Configuration configuration) throws IOException, InterruptedException {
+		run(configuration, "false");
+	}
+
+	/**
+	 * Benchmarks writing via {@link AppendingFileWriter}, which relies on the atomic append mode of the operating
+	 * system.
+	 *
+	 * @param configuration
+	 *            Configuration with target file
+	 * @throws IOException
+	 *             Failed to start processes
+	 * @throws InterruptedException
+	 *             Interrupted while waiting for processes
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	public void lockFree(final Configuration configuration) throws IOException, InterruptedException {
+		run(configuration, "true");
+	}
+
+	/**
+	 * Writes a defined number of lines to a given target file. This main method is started by the benchmarks as
+	 * separate process. It blocks until the benchmark closes the standard input stream of the process, so that all
+	 * processes start writing at the same time.
+	 *
+	 * @param arguments
+	 *            Target file, lock free mode ({@code true} or {@code false}), and buffered mode ({@code true} or
+	 *            {@code false})
+	 * @throws IOException
+	 *             Failed to write to target file
+	 */
+	public static void main(final String[] arguments) throws IOException {
+		File file = new File(arguments[0]);
+		while (System.in.read() >= 0) {
+			// Wait for the start signal
+		}
+
+		RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw");
+		ByteArrayWriter writer;
+
+		if (Boolean.parseBoolean(arguments[1])) {
+			writer = new AppendingFileWriter(randomAccessFile, new FileOutputStream(file, true));
+		} else {
+			writer = new LockedRandomAccessFileWriter(randomAccessFile);
+		}
+
+		if (Boolean.parseBoolean(arguments[2])) {
+			writer = new BufferedWriterDecorator(writer);
+		}
+
+		try {
+			for (long i = 0; i < LINES; ++i) {
+				writer.write(DATA, 0, DATA.length);
+			}
+		} finally {
+			writer.close();
+		}
+	}
+
+	/**
+	 * Starts all processes and waits until they are finished.
+	 *
+	 * @param configuration
+	 *            Configuration with target file
+	 * @param lockFree
+	 *            {@code "true"} for using the lock free writer, {@code "false"} for using the locking writer
+	 * @throws IOException
+	 *             Failed to start processes
+	 * @throws InterruptedException
+	 *             Interrupted while waiting for processes
+	 * @throws IllegalStateException
+	 *             A process has been terminated abnormally
+	 */
+	private static void run(final Configuration configuration, final String lockFree)
+		throws IOException, InterruptedException {
+		String path = configuration.file.getAbsolutePath();
+		String buffered = configuration.buffered;
+		List<Process> processes = new JvmProcessBuilder(SharedWritingBenchmark.class, path, lockFree, buffered).start(PROCESSES);
+
+		if (!configuration.file.createNewFile()) {
+			throw new IOException("Failed to create file: " + path);
+		}
+
+		for (Process process : processes) {
+			process.getOutputStream().close();
+		}
+
+		for (Process process : processes) {
+			if (process.waitFor() != 0) {
+				throw new IllegalStateException("Process failed with exit code " + process.exitValue());
+			}
+		}
+	}
+
+	/**
+	 * Holder of target file and buffering mode.
+	 */
+	@State(Scope.Thread)
+	public static class Configuration {
+
+		/**
+		 * Defines whether the output should be buffered.
+		 */
+		@Param({"false", "true"})
+		private String buffered;
+
+		private File file;
+
+		/** */
+		public Configuration() {
+		}
+
+		/**
+		 * Defines a new temporary file, which doesn't exist yet.
+		 *
+		 * @throws IOException
+		 *             Failed to create new temporary file
+		 */
+		@Setup(Level.Invocation)
+		public void init() throws IOException {
+			file = File.createTempFile("log", ".txt");
+			if (!file.delete()) {
+				throw new IOException("Failed to delete temporary file: " + file);
+			}
+		}
+
+		/**
+		 * Verifies that all lines were written and deletes the temporary file afterwards.
+		 *
+		 * @throws IllegalStateException
+		 *             Log file is incomplete or corrupt
+		 */
+		@TearDown(Level.Invocation)
+		public void dispose() {
+			try {
+				long expected = PROCESSES * LINES * DATA.length;
+				if (file.length() != expected) {
+					throw new IllegalStateException("File is corrupt (" + expected + " bytes expected, but was "
+						+ file.length() + " bytes)");
+				}
+			} finally {
+				file.delete();
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2022 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.benchmarks.api;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.tinylog.Logger;
+import org.tinylog.util.JvmProcessBuilder;
+
+/**
+ * Benchmark for measuring the time until the first log entry is issued in a fresh JVM.
+ *
+ * <p>
+ *     Each benchmark invocation starts a new local JVM process that configures tinylog, issues exactly one log entry,
+ *     and terminates. The measured time includes the start of the JVM process, which is equal for all configurations.
+ * </p>
+ */
+public class StartupBenchmark {
+
+	/** */
+	public StartupBenchmark() {
+	}
+
+	/**
+	 * Benchmarks the startup of tinylog including issuing the first log entry.
+	 *
+	 * @param configuration
+	 *            Writer configuration
+	 * @throws IOException
+	 *             Failed to start process
+	 * @throws InterruptedException
+	 *             Interrupted while waiting for process
+	 * @throws IllegalStateException
+	 *             Process has been terminated abnormally
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	public void firstLogEntry(final Configuration configuration) throws IOException, InterruptedException {
+		String path = configuration.file.getAbsolutePath();
+		Process process = new JvmProcessBuilder(StartupBenchmark.class, configuration.writer, path, configuration.lazy).start();
+
+		if (process.waitFor() != 0) {
+			throw new IllegalStateException("Process failed with exit code " + process.exitValue());
+		}
+	}
+
+	/**
+	 * Configures tinylog and issues a single log entry. This main method is started by the benchmark as separate
+	 * process.
+	 *
+	 * @param arguments
+	 *            Writer name, target file, and lazy mode ({@code true} or {@code false})
+	 */
+	public static void main(final String[] arguments) {
+		System.setProperty("tinylog.writer", arguments[0]);
+		System.setProperty("tinylog.writer.file", arguments[1]);
+		System.setProperty("tinylog.writer.lazy", arguments[2]);
+		System.setProperty("tinylog.writer.stream", "out");
+		System.setProperty("tinylog.writer.format", "{date} {class}.{method}() {level}: {message}");
+
+		Logger.info("Hello World!");
+	}
+
+	/**
+	 * Holder of writer configuration and target file.
+	 */
+	@State(Scope.Thread)
+	public static class Configuration {
+
+		/**
+		 * Name of the writer to use.
+		 */
+		@Param({"console", "file", "rolling file"})
+		private String writer;
+
+		/**
+		 * Defines whether log files should be opened lazily (only supported by the file writer).
+		 */
+		@Param({"false", "true"})
+		private String lazy;
+
+		private File file;
+
+		/** */
+		public Configuration() {
+		}
+
+		/**
+		 * Defines a new temporary file, which doesn't exist yet.
+		 *
+		 * @throws IOException
+		 *             Failed to create new temporary file
+		 */
+		@Setup(Level.Invocation)
+		public void init() throws IOException {
+			file = File.createTempFile("log", ".txt");
+			if (!file.delete()) {
+				throw new IOException("Failed to delete temporary file: " + file);
+			}
+		}
+
+		/**
+		 * Deletes the temporary file, if it has been created.
+		 *
+		 * @throws IOException
+		 *             Failed to delete temporary file
+		 */
+		@TearDown(Level.Invocation)
+		public void dispose() throws IOException {
+			if (file.exists() && !file.delete()) {
+				throw new IOException("Failed to delete temporary file: " + file);
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2022 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.benchmarks.api;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.tinylog.Logger;
+import org.tinylog.ThreadContext;
+import org.tinylog.configuration.Configuration;
+import org.tinylog.provider.ProviderRegistry;
+
+/**
+ * Benchmark for logging from a million virtual threads.
+ *
+ * <p>
+ *     Virtual threads require Java 21 or later. The virtual thread executor is created via reflection, so that this
+ *     benchmark can be compiled with older Java versions.
+ * </p>
+ */
+public class VirtualThreadBenchmark {
+
+	private static final int THREADS = 1_000_000;
+
+	/** */
+	public VirtualThreadBenchmark() {
+	}
+
+	/**
+	 * Benchmarks starting a million virtual threads, which issue one log entry each.
+	 *
+	 * @param lifeCycle
+	 *            Configured tinylog and factory for virtual thread executors
+	 * @throws Exception
+	 *             Failed to create the virtual thread executor or interrupted while waiting for termination
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	public void log(final LifeCycle lifeCycle) throws Exception {
+		ExecutorService executor = lifeCycle.createExecutor();
+
+		for (int i = 0; i < THREADS; ++i) {
+			final int number = i;
+			executor.execute(new Runnable() {
+				@Override
+				public void run() {
+					Logger.info("Hello from virtual thread {}!", number);
+				}
+			});
+		}
+
+		executor.shutdown();
+		executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Life cycle for initializing and shutting down tinylog.
+	 */
+	@State(Scope.Benchmark)
+	public static class LifeCycle {
+
+		/**
+		 * Defines whether virtual threads inherit the thread context of the spawning thread.
+		 */
+		@Param({"true", "false"})
+		private boolean inheritContext;
+
+		/**
+		 * Defines whether log entries are written by a separate writing thread.
+		 */
+		@Param({"false", "true"})
+		private boolean writingThread;
+
+		private Method factory;
+		private Path file;
+
+		/** */
+		public LifeCycle() {
+		}
+
+		/**
+		 * Configures tinylog and resolves the factory method for virtual thread executors.
+		 *
+		 * @throws IOException
+		 *             Failed to create a temporary log file
+		 * @throws UnsupportedOperationException
+		 *             Virtual threads are not supported by the current Java version
+		 */
+		@Setup(Level.Trial)
+		public void init() throws IOException {
+			try {
+				factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+			} catch (NoSuchMethodException ex) {
+				throw new UnsupportedOperationException("Virtual threads require Java 21 or later", ex);
+			}
+
+			file = Files.createTempFile("jmh_virtual_threads_", ".log");
+
+			Configuration.set("autoshutdown", "false");
+			Configuration.set("inheritcontext", Boolean.toString(inheritContext));
+			Configuration.set("writingthread", Boolean.toString(writingThread));
+			Configuration.set("writer", "file");
+			Configuration.set("writer.buffered", "true");
+			Configuration.set("writer.file", file.toString());
+			Configuration.set("writer.format", "{date:HH:mm:ss.SSS} {context:request} - {level}: {message}");
+
+			ThreadContext.put("request", "benchmark");
+		}
+
+		/**
+		 * Shuts tinylog down and deletes the temporary log file.
+		 *
+		 * @throws InterruptedException
+		 *             Interrupted while waiting for the writing thread
+		 * @throws IOException
+		 *             Failed to delete the temporary log file
+		 */
+		@TearDown(Level.Trial)
+		public void release() throws InterruptedException, IOException {
+			ProviderRegistry.getLoggingProvider().shutdown();
+			Files.delete(file);
+		}
+
+		/**
+		 * Creates a new executor that starts a new virtual thread for each task.
+		 *
+		 * @return Virtual thread executor
+		 * @throws Exception
+		 *             Failed to create the virtual thread executor
+		 */
+		private ExecutorService createExecutor() throws Exception {
+			return (ExecutorService) factory.invoke(null);
+		}
+
+	}
+
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright 2022 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.benchmarks.comparison;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.tinylog.Logger;
+
+/**
+ * Application for comparing JMH results with a baseline. The application fails with the exit code 1, if the
+ * throughput or the allocated memory per operation of at least one benchmark has regressed by more than the defined
+ * threshold.
+ *
+ * <p>
+ * Usage: {@code BaselineComparisonApplication <baseline.csv> <current.csv> [throughput threshold in %] [allocation
+ * threshold in %]}
+ * </p>
+ *
+ * <p>
+ * Both result files have to be created by JMH in CSV format. Allocation rates are only available, if JMH has been
+ * executed with the GC profiler ("-prof gc"). The benchmark-option-baseline profile enables both.
+ * </p>
+ */
+public final class BaselineComparisonApplication {
+
+	private static final double DEFAULT_THROUGHPUT_THRESHOLD = 10;
+	private static final double DEFAULT_ALLOCATION_THRESHOLD = 5;
+
+	/**
+	 * Measured allocations are not exact. Therefore, this absolute tolerance in bytes is always accepted. Otherwise,
+	 * benchmarks with almost no allocation would fail on negligible noise.
+	 */
+	private static final double ALLOCATION_TOLERANCE = 1;
+
+	private static final int THROUGHPUT_THRESHOLD_ARGUMENT = 2;
+	private static final int ALLOCATION_THRESHOLD_ARGUMENT = 3;
+
+	private static final int EXIT_REGRESSION = 1;
+	private static final int EXIT_INVALID_ARGUMENTS = 2;
+	private static final int PERCENTAGE = 100;
+
+	/** */
+	private BaselineComparisonApplication() {
+	}
+
+	/**
+	 * Main method for executing the comparison.
+	 *
+	 * @param args
+	 *            Baseline result file, current result file, and optional thresholds in percent for throughput and
+	 *            allocation
+	 */
+	public static void main(final String[] args) {
+		if (args.length < 2) {
+			Logger.error("Usage: BaselineComparisonApplication <baseline.csv> <current.csv>"
+				+ " [throughput threshold in %] [allocation threshold in %]");
+			System.exit(EXIT_INVALID_ARGUMENTS);
+		}
+
+		Map<String, BenchmarkScore> baseline;
+		Map<String, BenchmarkScore> current;
+		double throughputThreshold;
+		double allocationThreshold;
+
+		try {
+			CsvResultParser parser = new CsvResultParser();
+			baseline = parser.parse(Paths.get(args[0]));
+			current = parser.parse(Paths.get(args[1]));
+			throughputThreshold = args.length > THROUGHPUT_THRESHOLD_ARGUMENT
+				? Double.parseDouble(args[THROUGHPUT_THRESHOLD_ARGUMENT]) : DEFAULT_THROUGHPUT_THRESHOLD;
+			allocationThreshold = args.length > ALLOCATION_THRESHOLD_ARGUMENT
+				? Double.parseDouble(args[ALLOCATION_THRESHOLD_ARGUMENT]) : DEFAULT_ALLOCATION_THRESHOLD;
+		} catch (IOException | NumberFormatException ex) {
+			Logger.error(ex, "Invalid arguments");
+			System.exit(EXIT_INVALID_ARGUMENTS);
+			return;
+		}
+
+		int regressions = compare(baseline, current, throughputThreshold, allocationThreshold);
+		if (regressions > 0) {
+			Logger.error("{} regression(s) found", regressions);
+			System.exit(EXIT_REGRESSION);
+		} else {
+			Logger.info("No regressions found");
+		}
+	}
+
+	/**
+	 * Compares all current scores with the baseline and outputs the results.
+	 *
+	 * @param baseline
+	 *            Scores from the baseline
+	 * @param current
+	 *            Current scores
+	 * @param throughputThreshold
+	 *            Maximum accepted regression in percent for throughput and time scores
+	 * @param allocationThreshold
+	 *            Maximum accepted regression in percent for allocated memory per operation
+	 * @return Number of found regressions
+	 */
+	static int compare(final Map<String, BenchmarkScore> baseline, final Map<String, BenchmarkScore> current,
+		final double throughputThreshold, final double allocationThreshold) {
+		int regressions = 0;
+
+		for (Entry<String, BenchmarkScore> entry : current.entrySet()) {
+			BenchmarkScore currentScore = entry.getValue();
+			BenchmarkScore baselineScore = baseline.get(entry.getKey());
+
+			if (baselineScore == null) {
+				System.out.println("NEW         " + format(currentScore) + "  " + entry.getKey());
+			} else if (!baselineScore.getUnit().equals(currentScore.getUnit())) {
+				System.out.println("SKIPPED     " + baselineScore.getUnit() + " vs " + currentScore.getUnit() + "  "
+					+ entry.getKey());
+			} else {
+				boolean regressed = isRegression(baselineScore, currentScore, throughputThreshold, allocationThreshold);
+				if (regressed) {
+					regressions += 1;
+				}
+
+				System.out.println((regressed ? "REGRESSION  " : "OK          ") + format(baselineScore) + " -> "
+					+ format(currentScore) + " (" + formatChange(baselineScore, currentScore) + ")  " + entry.getKey());
+			}
+		}
+
+		for (String benchmark : baseline.keySet()) {
+			if (!current.containsKey(benchmark)) {
+				System.out.println("MISSING     " + benchmark);
+			}
+		}
+
+		return regressions;
+	}
+
+	/**
+	 * Checks whether a current score has regressed compared to the baseline by more than the accepted threshold.
+	 *
+	 * @param baseline
+	 *            Score from the baseline
+	 * @param current
+	 *            Current score
+	 * @param throughputThreshold
+	 *            Maximum accepted regression in percent for throughput and time scores
+	 * @param allocationThreshold
+	 *            Maximum accepted regression in percent for allocated memory per operation
+	 * @return {@code true} if the score has regressed, {@code false} if not
+	 */
+	private static boolean isRegression(final BenchmarkScore baseline, final BenchmarkScore current,
+		final double throughputThreshold, final double allocationThreshold) {
+		if (current.isAllocation()) {
+			double limit = baseline.getScore() * (1 + allocationThreshold / PERCENTAGE) + ALLOCATION_TOLERANCE;
+			return current.getScore() > limit;
+		} else if (current.isHigherBetter()) {
+			return current.getScore() < baseline.getScore() * (1 - throughputThreshold / PERCENTAGE);
+		} else {
+			return current.getScore() > baseline.getScore() * (1 + throughputThreshold / PERCENTAGE);
+		}
+	}
+
+	/**
+	 * Formats a score with its unit.
+	 *
+	 * @param score
+	 *            Score to format
+	 * @return Formatted score
+	 */
+	private static String format(final BenchmarkScore score) {
+		return String.format(Locale.ROOT, "%.3f %s", score.getScore(), score.getUnit());
+	}
+
+	/**
+	 * Formats the relative change between a baseline score and a current score.
+	 *
+	 * @param baseline
+	 *            Score from the baseline
+	 * @param current
+	 *            Current score
+	 * @return Formatted change in percent
+	 */
+	private static String formatChange(final BenchmarkScore baseline, final BenchmarkScore current) {
+		if (baseline.getScore() == 0) {
+			return current.getScore() == 0 ? "+0.00%" : "n/a";
+		} else {
+			double change = (current.getScore() - baseline.getScore()) / baseline.getScore() * PERCENTAGE;
+			return String.format(Locale.ROOT, "%+.2f%%", change);
+		}
+	}
+
+}
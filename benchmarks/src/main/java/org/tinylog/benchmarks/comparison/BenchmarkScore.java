@@ -0,0 +1,97 @@
+/*
+ * Copyright 2022 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.benchmarks.comparison;
+
+/**
+ * Data class for a single score from a JMH result file.
+ */
+public final class BenchmarkScore {
+
+	private final String benchmark;
+	private final String mode;
+	private final double score;
+	private final String unit;
+
+	/**
+	 * @param benchmark
+	 *            Fully-qualified benchmark method name including parameters and the optional secondary metric
+	 * @param mode
+	 *            JMH benchmark mode like "thrpt" or "avgt"
+	 * @param score
+	 *            Measured score
+	 * @param unit
+	 *            Unit of the score like "ops/s" or "B/op"
+	 */
+	public BenchmarkScore(final String benchmark, final String mode, final double score, final String unit) {
+		this.benchmark = benchmark;
+		this.mode = mode;
+		this.score = score;
+		this.unit = unit;
+	}
+
+	/**
+	 * Gets the benchmark name.
+	 *
+	 * @return Fully-qualified benchmark method name including parameters and the optional secondary metric
+	 */
+	public String getBenchmark() {
+		return benchmark;
+	}
+
+	/**
+	 * Gets the JMH benchmark mode.
+	 *
+	 * @return Benchmark mode like "thrpt" or "avgt"
+	 */
+	public String getMode() {
+		return mode;
+	}
+
+	/**
+	 * Gets the measured score.
+	 *
+	 * @return Measured score
+	 */
+	public double getScore() {
+		return score;
+	}
+
+	/**
+	 * Gets the unit of the score.
+	 *
+	 * @return Unit like "ops/s" or "B/op"
+	 */
+	public String getUnit() {
+		return unit;
+	}
+
+	/**
+	 * Checks whether this score is the allocated memory per operation from the GC profiler.
+	 *
+	 * @return {@code true} if allocated memory, {@code false} if not
+	 */
+	public boolean isAllocation() {
+		return benchmark.endsWith(CsvResultParser.ALLOCATION_METRIC);
+	}
+
+	/**
+	 * Checks whether a higher score is better. This is only true for throughput scores.
+	 *
+	 * @return {@code true} if a higher score is better, {@code false} if a lower score is better
+	 */
+	public boolean isHigherBetter() {
+		return !isAllocation() && "thrpt".equals(mode);
+	}
+
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2022 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.benchmarks.comparison;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Parser for JMH result files in CSV format, as created by JMH with the options "-rf csv -rff &lt;file&gt;".
+ *
+ * <p>
+ * Only primary scores and the allocated memory per operation from the GC profiler are parsed. All other secondary
+ * scores are ignored.
+ * </p>
+ */
+public final class CsvResultParser {
+
+	/**
+	 * Name of the secondary metric from the GC profiler for allocated bytes per operation.
+	 */
+	static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+
+	private static final String BENCHMARK_COLUMN = "Benchmark";
+	private static final String MODE_COLUMN = "Mode";
+	private static final String SCORE_COLUMN = "Score";
+	private static final String UNIT_COLUMN = "Unit";
+	private static final String PARAMETER_PREFIX = "Param: ";
+
+	/** */
+	public CsvResultParser() {
+	}
+
+	/**
+	 * Parses the given file.
+	 *
+	 * @param file
+	 *            JMH result file in CSV format
+	 * @return All found scores mapped by their benchmark names including parameters
+	 * @throws IOException
+	 *             Failed to read the file or the file is not a valid JMH result file
+	 */
+	public Map<String, BenchmarkScore> parse(final Path file) throws IOException {
+		try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+			String header = reader.readLine();
+			if (header == null) {
+				throw new IOException("\"" + file + "\" is empty");
+			}
+
+			List<String> columns = split(header);
+			int benchmarkIndex = indexOf(file, columns, BENCHMARK_COLUMN);
+			int modeIndex = indexOf(file, columns, MODE_COLUMN);
+			int scoreIndex = indexOf(file, columns, SCORE_COLUMN);
+			int unitIndex = indexOf(file, columns, UNIT_COLUMN);
+
+			Map<String, BenchmarkScore> scores = new LinkedHashMap<>();
+
+			for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+				if (line.trim().isEmpty()) {
+					continue;
+				}
+
+				List<String> values = split(line);
+				if (values.size() != columns.size()) {
+					throw new IOException("Invalid line in \"" + file + "\": " + line);
+				}
+
+				String benchmark = values.get(benchmarkIndex);
+				int separator = benchmark.indexOf(':');
+				if (separator >= 0 && !benchmark.endsWith(ALLOCATION_METRIC)) {
+					continue;
+				}
+
+				StringBuilder name = new StringBuilder(benchmark);
+				for (int i = 0; i < columns.size(); ++i) {
+					if (columns.get(i).startsWith(PARAMETER_PREFIX) && !values.get(i).isEmpty()) {
+						name.append(' ').append(columns.get(i).substring(PARAMETER_PREFIX.length()))
+							.append('=').append(values.get(i));
+					}
+				}
+
+				double score = parseNumber(file, values.get(scoreIndex));
+				scores.put(name.toString(), new BenchmarkScore(name.toString(), values.get(modeIndex), score,
+					values.get(unitIndex)));
+			}
+
+			return scores;
+		}
+	}
+
+	/**
+	 * Finds a column.
+	 *
+	 * @param file
+	 *            JMH result file for error messages
+	 * @param columns
+	 *            All available column names
+	 * @param column
+	 *            Name of the column to find
+	 * @return Index of the column
+	 * @throws IOException
+	 *             Column does not exist
+	 */
+	private static int indexOf(final Path file, final List<String> columns, final String column) throws IOException {
+		int index = columns.indexOf(column);
+		if (index < 0) {
+			throw new IOException("Column \"" + column + "\" is missing in \"" + file + "\"");
+		} else {
+			return index;
+		}
+	}
+
+	/**
+	 * Parses a score. Both, dot and comma, are accepted as decimal separator, since JMH uses the default locale.
+	 *
+	 * @param file
+	 *            JMH result file for error messages
+	 * @param value
+	 *            Score to parse
+	 * @return Parsed score
+	 * @throws IOException
+	 *             Score is not a valid number
+	 */
+	private static double parseNumber(final Path file, final String value) throws IOException {
+		try {
+			return Double.parseDouble(value.replace(',', '.'));
+		} catch (NumberFormatException ex) {
+			throw new IOException("Invalid score in \"" + file + "\": " + value, ex);
+		}
+	}
+
+	/**
+	 * Splits a CSV line into its values. Values can be enclosed in double quotes. Double quotes within enclosed values
+	 * are escaped by a second double quote.
+	 *
+	 * @param line
+	 *            CSV line
+	 * @return All values of the line
+	 */
+	private static List<String> split(final String line) {
+		List<String> values = new ArrayList<>();
+		StringBuilder builder = new StringBuilder();
+		boolean quoted = false;
+
+		for (int i = 0; i < line.length(); ++i) {
+			char character = line.charAt(i);
+			if (quoted) {
+				if (character != '"') {
+					builder.append(character);
+				} else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+					builder.append('"');
+					i += 1;
+				} else {
+					quoted = false;
+				}
+			} else if (character == '"') {
+				quoted = true;
+			} else if (character == ',') {
+				values.add(builder.toString());
+				builder.setLength(0);
+			} else {
+				builder.append(character);
+			}
+		}
+
+		values.add(builder.toString());
+		return values;
+	}
+
+}
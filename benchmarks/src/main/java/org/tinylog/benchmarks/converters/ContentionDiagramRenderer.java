@@ -0,0 +1,165 @@
+/*
+ * Copyright 2022 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.benchmarks.converters;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.text.NumberFormat;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+
+/**
+ * Renderer for creating HTML diagrams from results of the contention benchmark.
+ *
+ * <p>
+ *     For each benchmarked configuration, there is one diagram with the latency percentiles and one diagram with the
+ *     allocated bytes per log entry for all thread counts.
+ * </p>
+ */
+public final class ContentionDiagramRenderer {
+
+	private static final BigDecimal PERCENTAGE = BigDecimal.valueOf(100);
+	private static final int DECIMAL_PLACES = 2;
+	private static final NumberFormat NUMBER_FORMAT = NumberFormat.getInstance(Locale.ENGLISH);
+
+	/** */
+	public ContentionDiagramRenderer() {
+	}
+
+	/**
+	 * Creates and outputs HTML diagrams.
+	 *
+	 * @param results
+	 *            Results of the contention benchmark grouped by configuration
+	 */
+	public void output(final Map<String, List<ContentionResult>> results) {
+		BigDecimal maxAllocation = results.values().stream()
+			.flatMap(Collection::stream)
+			.map(ContentionResult::getAllocation)
+			.filter(Objects::nonNull)
+			.max(Comparator.naturalOrder())
+			.orElse(BigDecimal.ONE);
+
+		for (Entry<String, List<ContentionResult>> entry : results.entrySet()) {
+			System.out.println(entry.getKey());
+			System.out.println();
+
+			outputLatencies(entry.getValue());
+			outputAllocations(entry.getValue(), maxAllocation);
+		}
+	}
+
+	/**
+	 * Outputs a diagram with the latency percentiles of a single configuration.
+	 *
+	 * @param results
+	 *            Results for all thread counts
+	 */
+	private static void outputLatencies(final List<ContentionResult> results) {
+		BigDecimal max = results.stream()
+			.flatMap(result -> result.getPercentiles().values().stream())
+			.max(Comparator.naturalOrder())
+			.orElse(BigDecimal.ONE);
+
+		System.out.println("<div class=\"table-responsive\"><table class=\"table benchmark percentiles\">");
+
+		System.out.println("\t<thead>");
+		System.out.println("\t\t<tr>");
+		System.out.println("\t\t\t<th>Threads</th>");
+		if (!results.isEmpty()) {
+			for (String percentile : results.get(0).getPercentiles().keySet()) {
+				System.out.println("\t\t\t<th>" + percentile + " Latency (ns)</th>");
+			}
+		}
+		System.out.println("\t\t</tr>");
+		System.out.println("\t</thead>");
+
+		System.out.println("\t<tbody>");
+
+		for (ContentionResult result : results) {
+			System.out.println("\t\t<tr>");
+			System.out.println("\t\t\t<td>" + result.getThreads() + "</td>");
+			for (BigDecimal latency : result.getPercentiles().values()) {
+				outputBar(latency, max);
+			}
+			System.out.println("\t\t</tr>");
+		}
+
+		System.out.println("\t</tbody>");
+
+		System.out.println("</table></div>");
+		System.out.println();
+	}
+
+	/**
+	 * Outputs a diagram with the allocated bytes per log entry of a single configuration.
+	 *
+	 * @param results
+	 *            Results for all thread counts
+	 * @param max
+	 *            Highest allocation of all configurations for scaling the bars
+	 */
+	private static void outputAllocations(final List<ContentionResult> results, final BigDecimal max) {
+		System.out.println("<div class=\"table-responsive\"><table class=\"table benchmark allocations\">");
+
+		System.out.println("\t<thead>");
+		System.out.println("\t\t<tr>");
+		System.out.println("\t\t\t<th>Threads</th>");
+		System.out.println("\t\t\t<th>Allocated Bytes per Log Entry</th>");
+		System.out.println("\t\t</tr>");
+		System.out.println("\t</thead>");
+
+		System.out.println("\t<tbody>");
+
+		for (ContentionResult result : results) {
+			if (result.getAllocation() != null) {
+				System.out.println("\t\t<tr>");
+				System.out.println("\t\t\t<td>" + result.getThreads() + "</td>");
+				outputBar(result.getAllocation(), max);
+				System.out.println("\t\t</tr>");
+			}
+		}
+
+		System.out.println("\t</tbody>");
+
+		System.out.println("</table></div>");
+		System.out.println();
+	}
+
+	/**
+	 * Outputs a table cell with a bar.
+	 *
+	 * @param value
+	 *            Value to output
+	 * @param max
+	 *            Value for a bar with full width
+	 */
+	private static void outputBar(final BigDecimal value, final BigDecimal max) {
+		BigDecimal total = value.setScale(0, RoundingMode.HALF_UP);
+		BigDecimal percentage = max.signum() == 0
+			? BigDecimal.ZERO
+			: value.multiply(PERCENTAGE).divide(max, DECIMAL_PLACES, RoundingMode.HALF_UP);
+
+		System.out.println("\t\t\t<td>");
+		System.out.println("\t\t\t\t<div class=\"bar\" style=\"width: " + percentage + "%\">&nbsp;</div>");
+		System.out.println("\t\t\t\t<div class=\"total\">" + NUMBER_FORMAT.format(total) + "</div>");
+		System.out.println("\t\t\t</td>");
+	}
+
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2022 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.benchmarks.converters;
+
+import java.io.BufferedReader;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.tinylog.Logger;
+import org.tinylog.benchmarks.api.ContentionBenchmark;
+
+/**
+ * Parser for parsing the result file of {@link ContentionBenchmark}.
+ */
+public final class ContentionOutputParser {
+
+	private static final String SEPARATOR = "\t";
+	private static final int PARAMETER_COLUMNS = 4;
+
+	/** */
+	public ContentionOutputParser() {
+	}
+
+	/**
+	 * Parses the given file.
+	 *
+	 * @param file
+	 *            Result file of the contention benchmark
+	 * @return All results grouped by the benchmarked configuration
+	 */
+	public Map<String, List<ContentionResult>> parse(final String file) {
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(openResource(file), StandardCharsets.UTF_8))) {
+			String header = reader.readLine();
+			if (header == null) {
+				return Collections.emptyMap();
+			}
+
+			String[] columns = header.split(SEPARATOR);
+			Map<String, List<ContentionResult>> results = new LinkedHashMap<>();
+
+			for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+				String[] values = line.split(SEPARATOR);
+				if (values.length != columns.length) {
+					Logger.error("Invalid line in \"{}\": \"{}\"", file, line);
+					return Collections.emptyMap();
+				}
+
+				String configuration = values[0] + " writer, writing thread " + values[1] + ", buffered " + values[2]
+					+ ", location info " + values[PARAMETER_COLUMNS - 1];
+				int threads = Integer.parseInt(values[PARAMETER_COLUMNS]);
+
+				Map<String, BigDecimal> percentiles = new LinkedHashMap<>();
+				for (int i = PARAMETER_COLUMNS + 1; i < columns.length - 1; ++i) {
+					percentiles.put(columns[i], new BigDecimal(values[i]));
+				}
+
+				String allocation = values[columns.length - 1];
+				BigDecimal parsedAllocation = "NaN".equals(allocation) ? null : new BigDecimal(allocation);
+
+				results
+					.computeIfAbsent(configuration, key -> new ArrayList<>())
+					.add(new ContentionResult(configuration, threads, percentiles, parsedAllocation));
+			}
+
+			return results;
+		} catch (IOException ex) {
+			Logger.error(ex, "Failed to open \"{}\"", file);
+			return Collections.emptyMap();
+		}
+	}
+
+	/**
+	 * Opens a resource from classpath.
+	 *
+	 * @param file
+	 *            Filename of resource
+	 * @return Stream of given file
+	 * @throws FileNotFoundException
+	 *             Resource does not exist
+	 * @throws IOException
+	 *             Failed to open resource
+	 */
+	private static InputStream openResource(final String file) throws IOException {
+		InputStream stream = ContentionOutputParser.class.getResourceAsStream("/" + file);
+		if (stream == null) {
+			throw new FileNotFoundException(file);
+		} else {
+			return stream;
+		}
+	}
+
+}
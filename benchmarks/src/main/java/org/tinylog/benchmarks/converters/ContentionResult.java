@@ -0,0 +1,84 @@
+/*
+ * Copyright 2022 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.benchmarks.converters;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Data class for a single run of the contention benchmark with a fixed number of threads.
+ */
+public final class ContentionResult {
+
+	private final String configuration;
+	private final int threads;
+	private final Map<String, BigDecimal> percentiles;
+	private final BigDecimal allocation;
+
+	/**
+	 * @param configuration
+	 *            Human readable description of the benchmarked tinylog configuration
+	 * @param threads
+	 *            Number of threads that have issued log entries simultaneously
+	 * @param percentiles
+	 *            Latencies in nanoseconds mapped by their percentile names like "p99"
+	 * @param allocation
+	 *            Allocated bytes per log entry
+	 */
+	public ContentionResult(final String configuration, final int threads, final Map<String, BigDecimal> percentiles,
+		final BigDecimal allocation) {
+		this.configuration = configuration;
+		this.threads = threads;
+		this.percentiles = Collections.unmodifiableMap(percentiles);
+		this.allocation = allocation;
+	}
+
+	/**
+	 * Gets the description of the benchmarked tinylog configuration.
+	 *
+	 * @return Human readable description
+	 */
+	public String getConfiguration() {
+		return configuration;
+	}
+
+	/**
+	 * Gets the number of threads that have issued log entries simultaneously.
+	 *
+	 * @return Number of threads
+	 */
+	public int getThreads() {
+		return threads;
+	}
+
+	/**
+	 * Gets the latency percentiles.
+	 *
+	 * @return Latencies in nanoseconds mapped by their percentile names like "p99" in ascending order
+	 */
+	public Map<String, BigDecimal> getPercentiles() {
+		return percentiles;
+	}
+
+	/**
+	 * Gets the allocated bytes per log entry.
+	 *
+	 * @return Allocated bytes or {@code null} if the GC profiler has not been active
+	 */
+	public BigDecimal getAllocation() {
+		return allocation;
+	}
+
+}
@@ -18,10 +18,17 @@ import java.util.Map;
 
 /**
  * Converter for creating diagrams from the results of the logging framework benchmark for tinylog.org.
+ *
+ * <p>
+ *     If the first argument is "contention", the results of the contention benchmark are converted into latency
+ *     percentile and allocation diagrams instead.
+ * </p>
  */
 public final class HtmlConverterApplication {
 
 	private static final String OUTPUT_FILE = "output.txt";
+	private static final String CONTENTION_MODE = "contention";
+	private static final String CONTENTION_FILE = "contention.txt";
 	private static final Map<String, Framework> FRAMEWORKS = new LinkedHashMap<>();
 
 	static {
@@ -42,9 +49,16 @@ public final class HtmlConverterApplication {
 	 * Main method for executing the converter.
 	 * 
 	 * @param args
-	 *            Arguments are ignored
+	 *            Optional "contention" for converting the results of the contention benchmark
 	 */
 	public static void main(final String[] args) {
+		if (args.length > 0 && CONTENTION_MODE.equals(args[0])) {
+			ContentionOutputParser parser = new ContentionOutputParser();
+			ContentionDiagramRenderer renderer = new ContentionDiagramRenderer();
+			renderer.output(parser.parse(CONTENTION_FILE));
+			return;
+		}
+
 		BenchmarkOutputParser parser = new BenchmarkOutputParser(FRAMEWORKS.keySet());
 		HtmlDiagramRenderer renderer = new HtmlDiagramRenderer(FRAMEWORKS);
 		renderer.output(parser.parse(OUTPUT_FILE));
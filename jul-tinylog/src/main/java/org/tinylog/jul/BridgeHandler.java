@@ -13,6 +13,10 @@
 
 package org.tinylog.jul;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.logging.Handler;
 import java.util.logging.Level;
 import java.util.logging.LogManager;
@@ -22,11 +26,19 @@ import java.util.logging.Logger;
 import org.tinylog.configuration.Configuration;
 import org.tinylog.format.JavaTextMessageFormatFormatter;
 import org.tinylog.format.MessageFormatter;
+import org.tinylog.provider.BridgeLoggingProvider;
+import org.tinylog.provider.LogEntrySource;
 import org.tinylog.provider.LoggingProvider;
 import org.tinylog.provider.ProviderRegistry;
 
 /**
  * {@link Handler java.util.logging.Handler} for redirecting log entries to tinylog.
+ *
+ * <p>
+ * If the logging provider is a {@link BridgeLoggingProvider}, the timestamp as well as the source class and method of
+ * log records are reused instead of determining them a second time. Source class and method are only requested from
+ * log records if really required, as {@code java.util.logging} walks the stack trace for them if not explicitly set.
+ * </p>
  */
 final class BridgeHandler extends Handler {
 
@@ -35,14 +47,28 @@ final class BridgeHandler extends Handler {
 	private static final MessageFormatter formatter = new JavaTextMessageFormatFormatter(Configuration.getLocale());
 	private static final LoggingProvider provider = ProviderRegistry.getLoggingProvider();
 
+	private final List<Logger> configuredLoggers;
+
 	/** */
 	BridgeHandler() {
+		configuredLoggers = new ArrayList<Logger>();
 	}
 
 	@Override
 	public void publish(final LogRecord record) {
-		provider.log(LOGGER_CLASS_NAME, null, translateLevel(record.getLevel()), record.getThrown(), formatter, record.getMessage(),
-				record.getParameters());
+		org.tinylog.Level level = translateLevel(record.getLevel());
+
+		if (provider instanceof BridgeLoggingProvider) {
+			if (level.ordinal() < provider.getMinimumLevel(null).ordinal()) {
+				return;
+			}
+
+			BridgeLoggingProvider bridgeProvider = (BridgeLoggingProvider) provider;
+			bridgeProvider.log(LOGGER_CLASS_NAME, new LogRecordSource(record), LogRecordTimestamp.get(record), null, level,
+				record.getThrown(), formatter, record.getMessage(), record.getParameters());
+		} else {
+			provider.log(LOGGER_CLASS_NAME, null, level, record.getThrown(), formatter, record.getMessage(), record.getParameters());
+		}
 	}
 
 	@Override
@@ -57,13 +83,51 @@ final class BridgeHandler extends Handler {
 
 	/**
 	 * Activates this handler.
+	 *
+	 * <p>
+	 * The root logger inherits the minimum severity level of the logging provider. If the configuration property
+	 * {@code jul.levels} is set to {@code true} and the logging provider supports this, custom severity levels for
+	 * packages and classes are additionally applied to the {@code java.util.logging} loggers with the same names.
+	 * Thereby, disabled log records are already discarded by {@code java.util.logging} without creating any
+	 * {@link LogRecord}.
+	 * </p>
+	 *
+	 * <p>
+	 * tinylog resolves custom severity levels by the class name of the caller, but {@code java.util.logging} filters
+	 * by logger name. Therefore, {@code jul.levels} should only be enabled if all loggers are named after the
+	 * fully-qualified class names of their callers. Otherwise, log records from loggers with other names (for example
+	 * anonymous loggers or loggers named after a topic) can be discarded, although tinylog would output them.
+	 * </p>
 	 */
 	void activate() {
 		LogManager.getLogManager().reset();
 
-		Logger logger = Logger.getLogger("");
-		logger.setLevel(translateLevel(provider.getMinimumLevel(null)));
-		logger.addHandler(this);
+		Logger root = Logger.getLogger("");
+		root.setLevel(translateLevel(provider.getMinimumLevel(null)));
+
+		configuredLoggers.clear();
+		if (provider instanceof BridgeLoggingProvider && isLevelMappingEnabled()) {
+			Map<String, org.tinylog.Level> levels = ((BridgeLoggingProvider) provider).getMinimumLevels(null);
+			for (Entry<String, org.tinylog.Level> entry : levels.entrySet()) {
+				if (entry.getKey().length() > 0) {
+					Logger logger = Logger.getLogger(entry.getKey());
+					logger.setLevel(translateLevel(entry.getValue()));
+					configuredLoggers.add(logger);
+				}
+			}
+		}
+
+		root.addHandler(this);
+	}
+
+	/**
+	 * Checks whether custom severity levels should be applied to {@code java.util.logging} loggers.
+	 *
+	 * @return {@code true} if explicitly enabled via {@code jul.levels}, otherwise {@code false}
+	 */
+	private static boolean isLevelMappingEnabled() {
+		String enabled = Configuration.get("jul.levels");
+		return enabled != null && Boolean.parseBoolean(enabled.trim());
 	}
 
 	/**
@@ -116,4 +180,32 @@ final class BridgeHandler extends Handler {
 		}
 	}
 
+	/**
+	 * Source of a {@link LogRecord}. Class and method name are resolved lazily, as {@code java.util.logging} might
+	 * have to walk the stack trace for getting them.
+	 */
+	private static final class LogRecordSource implements LogEntrySource {
+
+		private final LogRecord record;
+
+		/**
+		 * @param record
+		 *            Log record from {@code java.util.logging}
+		 */
+		private LogRecordSource(final LogRecord record) {
+			this.record = record;
+		}
+
+		@Override
+		public String getClassName() {
+			return record.getSourceClassName();
+		}
+
+		@Override
+		public String getMethodName() {
+			return record.getSourceMethodName();
+		}
+
+	}
+
 }
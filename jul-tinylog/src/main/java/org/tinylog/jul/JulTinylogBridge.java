@@ -30,7 +30,8 @@ public final class JulTinylogBridge {
 	 * 
 	 * <p>
 	 * All existing {@link Handler handlers} will be removed. {@link Logger java.util.logging.Loggers} inherit the
-	 * minimum activated severity level from tinylog.
+	 * minimum activated severity level from tinylog. If {@code jul.levels = true} is configured, custom severity levels
+	 * for packages and classes are additionally applied to the loggers with the same names.
 	 * </p>
 	 */
 	public static void activate() {
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2022 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.jul;
+
+import java.time.Instant;
+import java.util.logging.LogRecord;
+
+import org.tinylog.runtime.PreciseTimestamp;
+import org.tinylog.runtime.Timestamp;
+
+/**
+ * Converter for getting the timestamp of a {@link LogRecord} as tinylog timestamp.
+ *
+ * <p>
+ * This implementation is used for Java 9 and later and keeps the nanosecond precision of log records.
+ * </p>
+ */
+final class LogRecordTimestamp {
+
+	private static final int MILLISECOND_IN_NANOS = 1000000;
+
+	/** */
+	private LogRecordTimestamp() {
+	}
+
+	/**
+	 * Gets the point in time when a log record was created.
+	 *
+	 * @param record
+	 *            Log record from {@code java.util.logging}
+	 * @return Timestamp of the passed log record
+	 */
+	static Timestamp get(final LogRecord record) {
+		Instant instant = record.getInstant();
+		return new PreciseTimestamp(instant.toEpochMilli(), instant.getNano() % MILLISECOND_IN_NANOS);
+	}
+
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright 2022 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.jul;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.LogManager;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.powermock.modules.junit4.PowerMockRunner;
+import org.powermock.modules.junit4.rule.PowerMockRule;
+import org.powermock.reflect.Whitebox;
+import org.tinylog.Level;
+import org.tinylog.configuration.Configuration;
+import org.tinylog.format.JavaTextMessageFormatFormatter;
+import org.tinylog.provider.BridgeLoggingProvider;
+import org.tinylog.provider.LogEntrySource;
+import org.tinylog.runtime.Timestamp;
+
+import static java.util.Collections.emptyMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for {@link BridgeHandler} in combination with a {@link BridgeLoggingProvider}.
+ */
+public final class BridgeHandlerBridgeProviderTest {
+
+	/**
+	 * Activates PowerMock (alternative to {@link PowerMockRunner}).
+	 */
+	@Rule
+	public PowerMockRule rule = new PowerMockRule();
+
+	private BridgeLoggingProvider provider;
+
+	/**
+	 * Mocks the underlying logging provider with a custom severity level for this package and activates the bridge for
+	 * {@code java.util.logging}.
+	 *
+	 * @throws ClassNotFoundException
+	 *             Failed to load {@link BridgeHandler}
+	 */
+	@Before
+	public void init() throws ClassNotFoundException {
+		Class.forName("org.tinylog.jul.BridgeHandler");
+
+		Map<String, Level> levels = new HashMap<>();
+		levels.put("", Level.WARN);
+		levels.put(BridgeHandlerBridgeProviderTest.class.getPackage().getName(), Level.DEBUG);
+		levels.put("com.example", Level.ERROR);
+
+		provider = mock(BridgeLoggingProvider.class);
+		when(provider.getMinimumLevel(null)).thenReturn(Level.DEBUG);
+		when(provider.getMinimumLevels(null)).thenReturn(levels);
+		Whitebox.setInternalState(BridgeHandler.class, provider);
+
+		JulTinylogBridge.activate();
+	}
+
+	/**
+	 * Resets {@code java.util.logging} and clears the tinylog configuration.
+	 */
+	@After
+	public void reset() {
+		LogManager.getLogManager().reset();
+
+		Whitebox.setInternalState(Configuration.class, "frozen", false);
+		Configuration.replace(emptyMap());
+	}
+
+	/**
+	 * Verifies that only the minimum severity level is applied to the root logger by default.
+	 */
+	@Test
+	public void minimumLevel() {
+		Logger logger = Logger.getLogger(BridgeHandlerBridgeProviderTest.class.getName());
+		assertThat(logger.isLoggable(java.util.logging.Level.FINEST)).isFalse();
+		assertThat(logger.isLoggable(java.util.logging.Level.FINE)).isTrue();
+
+		Logger other = Logger.getLogger("com.example.Other");
+		assertThat(other.isLoggable(java.util.logging.Level.FINE)).isTrue();
+	}
+
+	/**
+	 * Verifies that the severity levels for packages are applied to the corresponding loggers, if enabled via
+	 * {@code jul.levels}.
+	 */
+	@Test
+	public void customLevels() {
+		Whitebox.setInternalState(Configuration.class, "frozen", false);
+		Configuration.set("jul.levels", "true");
+		JulTinylogBridge.activate();
+
+		Logger logger = Logger.getLogger(BridgeHandlerBridgeProviderTest.class.getName());
+		assertThat(logger.isLoggable(java.util.logging.Level.FINEST)).isFalse();
+		assertThat(logger.isLoggable(java.util.logging.Level.FINE)).isTrue();
+
+		Logger restricted = Logger.getLogger("com.example.Other");
+		assertThat(restricted.isLoggable(java.util.logging.Level.WARNING)).isFalse();
+		assertThat(restricted.isLoggable(java.util.logging.Level.SEVERE)).isTrue();
+
+		Logger anonymous = Logger.getAnonymousLogger();
+		assertThat(anonymous.isLoggable(java.util.logging.Level.FINE)).isTrue();
+	}
+
+	/**
+	 * Verifies that explicitly passed source class and method names of log records are forwarded.
+	 */
+	@Test
+	public void explicitSource() {
+		Logger logger = Logger.getLogger(BridgeHandlerBridgeProviderTest.class.getName());
+		logger.logp(java.util.logging.Level.INFO, "com.example.MyClass", "myMethod", "Hello World!");
+
+		ArgumentCaptor<LogEntrySource> source = ArgumentCaptor.forClass(LogEntrySource.class);
+		verify(provider).log(eq(Logger.class.getName()), source.capture(), any(Timestamp.class), isNull(), eq(Level.INFO), same(null),
+			any(JavaTextMessageFormatFormatter.class), eq("Hello World!"), isNull());
+
+		assertThat(source.getValue().getClassName()).isEqualTo("com.example.MyClass");
+		assertThat(source.getValue().getMethodName()).isEqualTo("myMethod");
+	}
+
+	/**
+	 * Verifies that the source of log records is inferred by {@code java.util.logging}, if not passed explicitly. The
+	 * source has to be resolved while logging, as {@code java.util.logging} walks the current stack trace for it.
+	 */
+	@Test
+	public void inferredSource() {
+		String[] resolved = new String[2];
+		doAnswer(invocation -> {
+			LogEntrySource source = invocation.getArgument(1);
+			resolved[0] = source.getClassName();
+			resolved[1] = source.getMethodName();
+			return null;
+		}).when(provider).log(eq(Logger.class.getName()), any(LogEntrySource.class), any(Timestamp.class), isNull(), eq(Level.INFO),
+			same(null), any(JavaTextMessageFormatFormatter.class), eq("Hello World!"), isNull());
+
+		Logger logger = Logger.getLogger(BridgeHandlerBridgeProviderTest.class.getName());
+		logger.info("Hello World!");
+
+		assertThat(resolved).containsExactly(BridgeHandlerBridgeProviderTest.class.getName(), "inferredSource");
+	}
+
+	/**
+	 * Verifies that log records with a severity level below the minimum level of the logging provider are discarded,
+	 * even if passed directly to the handler.
+	 */
+	@Test
+	public void discardDisabledLevel() {
+		new BridgeHandler().publish(new LogRecord(java.util.logging.Level.FINEST, "Hello World!"));
+
+		verify(provider, never()).log(anyString(), any(), any(), any(), any(), any(), any(), any(), any());
+	}
+
+	/**
+	 * Verifies that the creation time of log records is used as timestamp.
+	 */
+	@Test
+	public void timestamp() {
+		long before = System.currentTimeMillis();
+		Logger.getLogger(BridgeHandlerBridgeProviderTest.class.getName()).warning("Hello World!");
+		long after = System.currentTimeMillis();
+
+		ArgumentCaptor<Timestamp> timestamp = ArgumentCaptor.forClass(Timestamp.class);
+		verify(provider).log(eq(Logger.class.getName()), any(LogEntrySource.class), timestamp.capture(), isNull(), eq(Level.WARN),
+			same(null), any(JavaTextMessageFormatFormatter.class), eq("Hello World!"), isNull());
+
+		assertThat(timestamp.getValue().toDate().getTime()).isBetween(before, after);
+	}
+
+}
@@ -15,7 +15,6 @@ package org.tinylog.slf4j;
 
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Map.Entry;
 
 import org.slf4j.spi.MDCAdapter;
 import org.tinylog.ThreadContext;
@@ -56,10 +55,7 @@ public final class TinylogMdcAdapter implements MDCAdapter {
 
 	@Override
 	public void setContextMap(final Map<String, String> contextMap) {
-		ThreadContext.clear();
-		for (Entry<String, String> entry : contextMap.entrySet()) {
-			ThreadContext.put(entry.getKey(), entry.getValue());
-		}
+		ThreadContext.setMapping(contextMap);
 	}
 
 }
@@ -21,7 +21,7 @@ import org.junit.Before;
 import org.junit.Test;
 import org.powermock.reflect.Whitebox;
 import org.tinylog.ThreadContext;
-import org.tinylog.provider.ContextProvider;
+import org.tinylog.provider.BulkContextProvider;
 import org.tinylog.provider.ProviderRegistry;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -34,7 +34,7 @@ import static org.powermock.api.mockito.PowerMockito.when;
  */
 public final class TinylogMdcAdapterTest {
 
-	private ContextProvider provider;
+	private BulkContextProvider provider;
 
 	/**
 	 * Mocks the underlying context provider.
@@ -43,7 +43,7 @@ public final class TinylogMdcAdapterTest {
 	public void init() {
 		ThreadContext.clear();
 
-		provider = mock(ContextProvider.class);
+		provider = mock(BulkContextProvider.class);
 		Whitebox.setInternalState(ThreadContext.class, provider);
 	}
 
@@ -108,10 +108,10 @@ public final class TinylogMdcAdapterTest {
 	 */
 	@Test
 	public void setContextMap() {
-		new TinylogMdcAdapter().setContextMap(Collections.singletonMap("test", "42"));
+		Map<String, String> newMap = Collections.singletonMap("test", "42");
+		new TinylogMdcAdapter().setContextMap(newMap);
 
-		verify(provider).clear();
-		verify(provider).put("test", "42");
+		verify(provider).setMapping(newMap);
 	}
 
 }
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2022 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog;
+
+import java.io.Closeable;
+
+/**
+ * Scope of thread context values. The values of a scope are visible in the thread context until the scope is closed.
+ * Closing a scope restores the previous values of all keys of the scope. A scope can be used in try-with-resources
+ * statements and must be closed by the same thread that has opened it.
+ *
+ * <p>
+ * This interface extends {@link Closeable} instead of {@link AutoCloseable} to ensure compatibility with Java prior to
+ * version 7. {@link AutoCloseable} was introduced with Java 7 and is a super interface of {@link Closeable}.
+ * </p>
+ *
+ * @see ThreadContext#scope(String, Object)
+ * @see ThreadContext#scope(java.util.Map)
+ */
+public interface ContextScope extends Closeable {
+
+	/**
+	 * Removes the values of this scope from thread context and restores the previous values. Repeated calls have no
+	 * effect.
+	 */
+	@Override
+	void close();
+
+}
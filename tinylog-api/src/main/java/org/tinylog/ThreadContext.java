@@ -13,10 +13,15 @@
 
 package org.tinylog;
 
+import java.util.Collections;
 import java.util.Map;
+import java.util.Map.Entry;
 
+import org.tinylog.provider.BulkContextProvider;
 import org.tinylog.provider.ContextProvider;
 import org.tinylog.provider.ProviderRegistry;
+import org.tinylog.provider.RestoringContextScope;
+import org.tinylog.provider.ScopedContextProvider;
 
 /**
  * Thread-based mapped diagnostic context for enriching log entries with additional values. A stored value is only
@@ -71,6 +76,67 @@ public final class ThreadContext {
 		provider.put(key, value);
 	}
 
+	/**
+	 * Stores all passed values in thread context. Already existing keys will be overridden.
+	 *
+	 * @param mapping
+	 *            Values to store
+	 */
+	public static void putAll(final Map<String, ?> mapping) {
+		if (provider instanceof BulkContextProvider) {
+			BulkContextProvider bulkProvider = (BulkContextProvider) provider;
+			bulkProvider.putAll(mapping);
+		} else {
+			for (Entry<String, ?> entry : mapping.entrySet()) {
+				provider.put(entry.getKey(), entry.getValue());
+			}
+		}
+	}
+
+	/**
+	 * Replaces all existing values in thread context by the passed values.
+	 *
+	 * @param mapping
+	 *            New values of thread context
+	 */
+	public static void setMapping(final Map<String, ?> mapping) {
+		if (provider instanceof BulkContextProvider) {
+			BulkContextProvider bulkProvider = (BulkContextProvider) provider;
+			bulkProvider.setMapping(mapping);
+		} else {
+			provider.clear();
+			for (Entry<String, ?> entry : mapping.entrySet()) {
+				provider.put(entry.getKey(), entry.getValue());
+			}
+		}
+	}
+
+	/**
+	 * Stores a value in thread context until the returned scope is closed. Closing the scope restores the previous
+	 * value. This method is intended to be used in try-with-resources statements.
+	 *
+	 * @param key
+	 *            Key of mapping
+	 * @param value
+	 *            Value of mapping
+	 * @return Scope that has to be closed by the current thread
+	 */
+	public static ContextScope scope(final String key, final Object value) {
+		return openScope(Collections.singletonMap(key, value));
+	}
+
+	/**
+	 * Stores all passed values in thread context until the returned scope is closed. Closing the scope restores the
+	 * previous values of all passed keys. This method is intended to be used in try-with-resources statements.
+	 *
+	 * @param mapping
+	 *            Values of the scope
+	 * @return Scope that has to be closed by the current thread
+	 */
+	public static ContextScope scope(final Map<String, ?> mapping) {
+		return openScope(mapping);
+	}
+
 	/**
 	 * Removes a value from thread context. If there is no mapping with the given key, this method will just quit
 	 * silently.
@@ -89,4 +155,20 @@ public final class ThreadContext {
 		provider.clear();
 	}
 
+	/**
+	 * Opens a new scope in the underlying context provider. Context providers without an own implementation of scopes
+	 * get a {@link RestoringContextScope}.
+	 *
+	 * @param mapping
+	 *            Values of the scope
+	 * @return Scope that has to be closed by the current thread
+	 */
+	private static ContextScope openScope(final Map<String, ?> mapping) {
+		if (provider instanceof ScopedContextProvider) {
+			return ((ScopedContextProvider) provider).scope(mapping);
+		} else {
+			return new RestoringContextScope(provider, mapping);
+		}
+	}
+
 }
@@ -14,6 +14,7 @@
 package org.tinylog.configuration;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Enumeration;
 import java.util.HashMap;
@@ -21,8 +22,8 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Properties;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.tinylog.Level;
 import org.tinylog.provider.InternalLogger;
@@ -67,8 +68,9 @@ public final class Configuration {
 		SystemPropertyResolver.INSTANCE
 	};
 
-	private static final ReadWriteLock lock = new ReentrantReadWriteLock();
+	private static final Lock lock = new ReentrantLock();
 	private static final Properties properties = load();
+	private static volatile Snapshot snapshot;
 	private static boolean frozen;
 
 	/** */
@@ -189,13 +191,7 @@ public final class Configuration {
 	 * @return Found value or {@code null}
 	 */
 	public static String get(final String key) {
-		try {
-			lock.readLock().lock();
-			frozen = true;
-			return (String) properties.get(key);
-		} finally {
-			lock.readLock().unlock();
-		}
+		return getSnapshot().values.get(key);
 	}
 
 	/**
@@ -216,21 +212,17 @@ public final class Configuration {
 	 * @return All found properties (map will be empty if there are no matching properties)
 	 */
 	public static Map<String, String> getSiblings(final String prefix) {
-		try {
-			lock.readLock().lock();
-			frozen = true;
-
-			Map<String, String> map = new HashMap<String, String>();
-			for (Enumeration<Object> enumeration = properties.keys(); enumeration.hasMoreElements();) {
-				String key = (String) enumeration.nextElement();
-				if (key.startsWith(prefix) && (prefix.endsWith("@") || key.indexOf('.', prefix.length()) == -1)) {
-					map.put(key, (String) properties.get(key));
-				}
+		Snapshot current = getSnapshot();
+		boolean ignoreDots = prefix.endsWith("@");
+
+		Map<String, String> map = new HashMap<String, String>();
+		for (int i = current.findFirst(prefix); i < current.keys.length && current.keys[i].startsWith(prefix); ++i) {
+			String key = current.keys[i];
+			if (ignoreDots || key.indexOf('.', prefix.length()) == -1) {
+				map.put(key, current.values.get(key));
 			}
-			return map;
-		} finally {
-			lock.readLock().unlock();
 		}
+		return map;
 	}
 
 	/**
@@ -246,23 +238,15 @@ public final class Configuration {
 	 * @return All found children properties (map will be empty if there are no children properties)
 	 */
 	public static Map<String, String> getChildren(final String key) {
-		try {
-			lock.readLock().lock();
-			frozen = true;
-
-			String prefix = key + ".";
+		Snapshot current = getSnapshot();
+		String prefix = key + ".";
 
-			Map<String, String> map = new HashMap<String, String>();
-			for (Enumeration<Object> enumeration = properties.keys(); enumeration.hasMoreElements();) {
-				String property = (String) enumeration.nextElement();
-				if (property.startsWith(prefix)) {
-					map.put(property.substring(prefix.length()), (String) properties.get(property));
-				}
-			}
-			return map;
-		} finally {
-			lock.readLock().unlock();
+		Map<String, String> map = new HashMap<String, String>();
+		for (int i = current.findFirst(prefix); i < current.keys.length && current.keys[i].startsWith(prefix); ++i) {
+			String property = current.keys[i];
+			map.put(property.substring(prefix.length()), current.values.get(property));
 		}
+		return map;
 	}
 
 	/**
@@ -282,15 +266,16 @@ public final class Configuration {
 	 */
 	public static void set(final String key, final String value) throws UnsupportedOperationException {
 		try {
-			lock.writeLock().lock();
+			lock.lock();
 
 			if (frozen) {
 				throw new UnsupportedOperationException("Configuration cannot be changed after applying to tinylog");
 			} else {
 				properties.put(key, value);
+				snapshot = null;
 			}
 		} finally {
-			lock.writeLock().unlock();
+			lock.unlock();
 		}
 	}
 
@@ -309,16 +294,17 @@ public final class Configuration {
 	 */
 	public static void replace(final Map<String, String> configuration) throws UnsupportedOperationException {
 		try {
-			lock.writeLock().lock();
+			lock.lock();
 
 			if (frozen) {
 				throw new UnsupportedOperationException("Configuration cannot be changed after applying to tinylog");
 			} else {
 				properties.clear();
 				properties.putAll(configuration);
+				snapshot = null;
 			}
 		} finally {
-			lock.writeLock().unlock();
+			lock.unlock();
 		}
 	}
 
@@ -418,6 +404,33 @@ public final class Configuration {
 		}
 	}
 
+	/**
+	 * Gets the immutable snapshot of the configuration. The configuration will be frozen, if this has not been done
+	 * yet.
+	 *
+	 * @return Current snapshot
+	 */
+	private static Snapshot getSnapshot() {
+		Snapshot current = snapshot;
+		if (current != null && frozen) {
+			return current;
+		}
+
+		try {
+			lock.lock();
+			frozen = true;
+
+			current = snapshot;
+			if (current == null) {
+				current = new Snapshot(properties);
+				snapshot = current;
+			}
+			return current;
+		} finally {
+			lock.unlock();
+		}
+	}
+
 	/**
 	 * Checks whether the configuration is already frozen.
 	 *
@@ -427,4 +440,41 @@ public final class Configuration {
 		return frozen;
 	}
 
+	/**
+	 * Immutable copy of frozen configuration properties. Keys are additionally stored in sorted order. Therefore, all
+	 * keys with a common prefix are adjacent and can be found via binary search without iterating all properties.
+	 */
+	private static final class Snapshot {
+
+		private final Map<String, String> values;
+		private final String[] keys;
+
+		/**
+		 * @param properties
+		 *            Configuration properties to copy
+		 */
+		private Snapshot(final Properties properties) {
+			this.values = new HashMap<String, String>();
+			for (Enumeration<Object> enumeration = properties.keys(); enumeration.hasMoreElements();) {
+				String key = (String) enumeration.nextElement();
+				values.put(key, (String) properties.get(key));
+			}
+			this.keys = values.keySet().toArray(new String[values.size()]);
+			Arrays.sort(keys);
+		}
+
+		/**
+		 * Finds the index of the first key that is equal to or greater than the passed prefix.
+		 *
+		 * @param prefix
+		 *            Prefix for keys
+		 * @return Found index or length of the key array, if all keys are smaller than the prefix
+		 */
+		private int findFirst(final String prefix) {
+			int index = Arrays.binarySearch(keys, prefix);
+			return index >= 0 ? index : -(index + 1);
+		}
+
+	}
+
 }
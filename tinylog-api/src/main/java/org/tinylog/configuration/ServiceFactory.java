@@ -0,0 +1,43 @@
+/*
+ * Copyright 2022 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.configuration;
+
+/**
+ * Factory for creating service implementations without reflection.
+ *
+ * <p>
+ * Factories are registered via {@link java.util.ServiceLoader} and asked by {@link ServiceLoader} before falling back
+ * to reflection. Ahead-of-time compilers and class data sharing archives can handle a factory like any other code,
+ * since there are neither reflective class lookups nor reflective constructor calls.
+ * </p>
+ */
+public interface ServiceFactory {
+
+	/**
+	 * Creates a new instance of a service implementation.
+	 *
+	 * @param className
+	 *            Fully-qualified class name of service implementation
+	 * @param argumentTypes
+	 *            Argument types of the expected constructor
+	 * @param arguments
+	 *            Arguments for the constructor
+	 * @return Created instance or {@code null} if the service implementation or constructor is unknown to this factory
+	 *
+	 * @throws Exception
+	 *             Constructor of service implementation has failed
+	 */
+	Object create(String className, Class<?>[] argumentTypes, Object[] arguments) throws Exception;
+
+}
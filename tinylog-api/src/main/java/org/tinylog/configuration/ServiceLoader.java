@@ -22,8 +22,14 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Enumeration;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.WeakHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.regex.Pattern;
 
 import org.tinylog.Level;
@@ -33,6 +39,17 @@ import org.tinylog.runtime.RuntimeProvider;
 /**
  * Alternative service loader that supports constructors with arguments in opposite to {@link java.util.ServiceLoader}.
  *
+ * <p>
+ * Service files are parsed only once per class loader and service interface. The found class names are kept in a
+ * process-wide index, which references class loaders weakly. Therefore, further service loaders for the same service
+ * interface neither search nor read any service files again.
+ * </p>
+ *
+ * <p>
+ * Service implementations are created by a registered {@link ServiceFactory} if available. Reflection is only used for
+ * service implementations that are unknown to all service factories.
+ * </p>
+ *
  * @param <T>
  *            Service interface
  */
@@ -41,6 +58,12 @@ public final class ServiceLoader<T> {
 	private static final String SERVICE_PREFIX = "META-INF/services/";
 	private static final Pattern SPLIT_PATTERN = Pattern.compile(" ");
 
+	private static final Lock indexLock = new ReentrantLock();
+	private static final Map<ClassLoader, Map<String, Collection<String>>> index =
+		new WeakHashMap<ClassLoader, Map<String, Collection<String>>>();
+
+	private static final Collection<ServiceFactory> factories = loadFactories();
+
 	private final Class<? extends T> service;
 	private final Class<?>[] argumentTypes;
 
@@ -57,12 +80,11 @@ public final class ServiceLoader<T> {
 		this.service = service;
 		this.argumentTypes = argumentTypes;
 
-		String fileName = SERVICE_PREFIX + service.getName();
 		for (ClassLoader loader : RuntimeProvider.getClassLoaders()) {
-			Enumeration<URL> serviceFiles = fetchServiceFiles(loader, fileName);
-			if (serviceFiles.hasMoreElements()) {
+			Collection<String> names = getClasses(loader, service);
+			if (names != null) {
 				classLoader = loader;
-				classes = loadClasses(loader, service);
+				classes = names;
 				return;
 			}
 		}
@@ -156,37 +178,74 @@ public final class ServiceLoader<T> {
 		return instances;
 	}
 
-	private static Enumeration<URL> fetchServiceFiles(final ClassLoader classLoader, final String fileName) {
+	/**
+	 * Clears the process-wide index of parsed service files. Afterwards, service files will be searched and read again
+	 * by new service loaders.
+	 */
+	static void clearIndex() {
+		indexLock.lock();
 		try {
-			return classLoader.getResources(fileName);
-		} catch (IOException ex) {
-			InternalLogger.log(Level.ERROR, "Failed loading services from '" + fileName + "'");
-			return Collections.enumeration(Collections.<URL>emptyList());
+			index.clear();
+		} finally {
+			indexLock.unlock();
 		}
 	}
 
 	/**
-	 * Loads all registered service class names.
+	 * Gets all registered service class names from the process-wide index. Service files are only read, if the class
+	 * loader has not been asked for the passed service interface before.
 	 *
-	 * @param <T>
-	 *            Service interface
 	 * @param classLoader
 	 *             Class loader to use for finding service files
 	 * @param service
 	 *            Service interface
-	 * @return Class names
+	 * @return Unmodifiable class names or {@code null} if the class loader does not provide any service files for the
+	 *         passed service interface
 	 */
-	private static <T> Collection<String> loadClasses(final ClassLoader classLoader, final Class<? extends T> service) {
+	private static Collection<String> getClasses(final ClassLoader classLoader, final Class<?> service) {
 		String name = SERVICE_PREFIX + service.getName();
+
+		indexLock.lock();
+		try {
+			Map<String, Collection<String>> services = index.get(classLoader);
+			if (services == null) {
+				services = new HashMap<String, Collection<String>>();
+				index.put(classLoader, services);
+			} else if (services.containsKey(name)) {
+				return services.get(name);
+			}
+
+			Collection<String> classes = loadClasses(classLoader, name);
+			services.put(name, classes);
+			return classes;
+		} finally {
+			indexLock.unlock();
+		}
+	}
+
+	/**
+	 * Loads all registered service class names.
+	 *
+	 * @param classLoader
+	 *             Class loader to use for finding service files
+	 * @param name
+	 *            Resource name of service files
+	 * @return Unmodifiable class names or {@code null} if there are no service files
+	 */
+	private static Collection<String> loadClasses(final ClassLoader classLoader, final String name) {
 		Enumeration<URL> urls;
 		try {
 			urls = classLoader.getResources(name);
 		} catch (IOException ex) {
 			InternalLogger.log(Level.ERROR, "Failed loading services from '" + name + "'");
-			return Collections.emptyList();
+			return null;
+		}
+
+		if (!urls.hasMoreElements()) {
+			return null;
 		}
 
-		Collection<String> classes = new ArrayList<String>();
+		List<String> classes = new ArrayList<String>();
 
 		while (urls.hasMoreElements()) {
 			URL url = urls.nextElement();
@@ -213,7 +272,24 @@ public final class ServiceLoader<T> {
 			}
 		}
 
-		return classes;
+		return Collections.unmodifiableList(classes);
+	}
+
+	/**
+	 * Loads all registered service factories.
+	 *
+	 * @return Found service factories
+	 */
+	private static Collection<ServiceFactory> loadFactories() {
+		Collection<ServiceFactory> factories = new ArrayList<ServiceFactory>();
+		try {
+			for (ServiceFactory factory : java.util.ServiceLoader.load(ServiceFactory.class, ServiceFactory.class.getClassLoader())) {
+				factories.add(factory);
+			}
+		} catch (ServiceConfigurationError error) {
+			InternalLogger.log(Level.ERROR, error, "Failed loading service factories");
+		}
+		return factories;
 	}
 
 	/**
@@ -251,6 +327,20 @@ public final class ServiceLoader<T> {
 	 */
 	@SuppressWarnings("unchecked")
 	private T createInstance(final String className, final Object... arguments) {
+		try {
+			for (ServiceFactory factory : factories) {
+				if (factory.getClass().getClassLoader() == classLoader) {
+					Object instance = factory.create(className, argumentTypes, arguments);
+					if (service.isInstance(instance)) {
+						return (T) instance;
+					}
+				}
+			}
+		} catch (Exception ex) {
+			InternalLogger.log(Level.ERROR, ex, "Failed creating service implementation '" + className + "'");
+			return null;
+		}
+
 		try {
 			Class<?> implementation = Class.forName(className, false, classLoader);
 			if (service.isAssignableFrom(implementation)) {
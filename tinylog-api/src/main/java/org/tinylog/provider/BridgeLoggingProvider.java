@@ -0,0 +1,80 @@
+/*
+ * Copyright 2022 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.provider;
+
+import java.util.Map;
+
+import org.tinylog.Level;
+import org.tinylog.format.MessageFormatter;
+import org.tinylog.runtime.Timestamp;
+
+/**
+ * Optional extension of {@link LoggingProvider} for bridges that redirect log entries from other logging APIs to
+ * tinylog.
+ *
+ * <p>
+ * Other logging APIs often filter log entries per logger and know the timestamp and source of log entries already.
+ * Bridges can use this interface for avoiding redundant work like a second stack trace walk.
+ * </p>
+ */
+public interface BridgeLoggingProvider extends LoggingProvider {
+
+	/**
+	 * Gets the lowest activated severity levels for a tag per package or class.
+	 *
+	 * <p>
+	 * The result of this method is cacheable like {@link #getMinimumLevel(String)} and can be used to configure the
+	 * levels of the loggers of other logging APIs. The key of each entry is a fully-qualified package or class name.
+	 * The empty string is used as key for all other packages and classes. Log entries with a lower severity level than
+	 * the value of the most specific matching key will be never output.
+	 * </p>
+	 *
+	 * @param tag
+	 *            Tag to check (can be {@code null})
+	 * @return Lowest activated severity levels with package or class names as keys
+	 */
+	Map<String, Level> getMinimumLevels(String tag);
+
+	/**
+	 * Provides a log entry with a known timestamp and source.
+	 *
+	 * <p>
+	 * The class and method name of the passed source are used as location information, unless the file name or line
+	 * number is required. In this case, the location information is determined from the stack trace via the passed
+	 * logger class name.
+	 * </p>
+	 *
+	 * @param loggerClassName
+	 *            Fully-qualified class name of the logger instance
+	 * @param source
+	 *            Source of the log entry or {@code null} for determining it from the stack trace
+	 * @param timestamp
+	 *            Date and time of issuing the log entry or {@code null} for using the current date and time
+	 * @param tag
+	 *            Tag of log entry or {@code null} if untagged
+	 * @param level
+	 *            Severity level of log entry
+	 * @param exception
+	 *            Exception to log or {@code null}
+	 * @param formatter
+	 *            Formatter for text message, only required if there are any arguments to insert
+	 * @param obj
+	 *            Message to log or {@code null}
+	 * @param arguments
+	 *            Arguments for message or {@code null}
+	 */
+	void log(String loggerClassName, LogEntrySource source, Timestamp timestamp, String tag, Level level, Throwable exception,
+		MessageFormatter formatter, Object obj, Object... arguments);
+
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2022 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.provider;
+
+import java.util.Map;
+
+/**
+ * Optional extension of {@link ContextProvider} for context providers that can store multiple values at once.
+ *
+ * <p>
+ * Context providers that don't implement this interface are still supported. For them, multiple values are stored one
+ * by one via {@link ContextProvider#put(String, Object)} and replaced by calling {@link ContextProvider#clear()} first.
+ * </p>
+ */
+public interface BulkContextProvider extends ContextProvider {
+
+	/**
+	 * Stores all passed values in thread context. Already existing keys will be overridden. Mappings with {@code null}
+	 * as value will be not stored.
+	 *
+	 * @param mapping
+	 *            Values to store
+	 */
+	void putAll(Map<String, ?> mapping);
+
+	/**
+	 * Replaces all existing values in thread context by the passed values. Mappings with {@code null} as value will be
+	 * not stored.
+	 *
+	 * @param mapping
+	 *            New values of thread context
+	 */
+	void setMapping(Map<String, ?> mapping);
+
+}
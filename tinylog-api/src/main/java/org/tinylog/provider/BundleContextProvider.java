@@ -17,10 +17,12 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.tinylog.ContextScope;
+
 /**
  * Context provider that combines multiple context providers into one.
  */
-public final class BundleContextProvider implements ContextProvider {
+public final class BundleContextProvider implements BulkContextProvider, ScopedContextProvider {
 
 	private final ContextProvider[] providers;
 
@@ -60,6 +62,44 @@ public final class BundleContextProvider implements ContextProvider {
 		}
 	}
 
+	@Override
+	public void putAll(final Map<String, ?> mapping) {
+		for (int i = 0; i < providers.length; ++i) {
+			if (providers[i] instanceof BulkContextProvider) {
+				BulkContextProvider provider = (BulkContextProvider) providers[i];
+				provider.putAll(mapping);
+			} else {
+				putEach(providers[i], mapping);
+			}
+		}
+	}
+
+	@Override
+	public void setMapping(final Map<String, ?> mapping) {
+		for (int i = 0; i < providers.length; ++i) {
+			if (providers[i] instanceof BulkContextProvider) {
+				BulkContextProvider provider = (BulkContextProvider) providers[i];
+				provider.setMapping(mapping);
+			} else {
+				providers[i].clear();
+				putEach(providers[i], mapping);
+			}
+		}
+	}
+
+	@Override
+	public ContextScope scope(final Map<String, ?> mapping) {
+		ContextScope[] scopes = new ContextScope[providers.length];
+		for (int i = 0; i < providers.length; ++i) {
+			if (providers[i] instanceof ScopedContextProvider) {
+				scopes[i] = ((ScopedContextProvider) providers[i]).scope(mapping);
+			} else {
+				scopes[i] = new RestoringContextScope(providers[i], mapping);
+			}
+		}
+		return new BundleContextScope(scopes);
+	}
+
 	@Override
 	public void remove(final String key) {
 		for (int i = 0; i < providers.length; ++i) {
@@ -74,4 +114,42 @@ public final class BundleContextProvider implements ContextProvider {
 		}
 	}
 
+	/**
+	 * Stores all passed values one by one in a context provider that doesn't support bulk operations.
+	 *
+	 * @param provider
+	 *            Context provider for storing the values
+	 * @param mapping
+	 *            Values to store
+	 */
+	private static void putEach(final ContextProvider provider, final Map<String, ?> mapping) {
+		for (Map.Entry<String, ?> entry : mapping.entrySet()) {
+			provider.put(entry.getKey(), entry.getValue());
+		}
+	}
+
+	/**
+	 * Scope that combines the scopes of all underlying context providers.
+	 */
+	private static final class BundleContextScope implements ContextScope {
+
+		private final ContextScope[] scopes;
+
+		/**
+		 * @param scopes
+		 *            Scopes of all underlying context providers
+		 */
+		private BundleContextScope(final ContextScope[] scopes) {
+			this.scopes = scopes;
+		}
+
+		@Override
+		public void close() {
+			for (int i = scopes.length - 1; i >= 0; --i) {
+				scopes[i].close();
+			}
+		}
+
+	}
+
 }
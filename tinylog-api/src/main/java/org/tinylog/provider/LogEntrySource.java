@@ -0,0 +1,41 @@
+/*
+ * Copyright 2022 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.provider;
+
+/**
+ * Source of a log entry that has been issued via another logging API.
+ *
+ * <p>
+ * Many logging APIs already know or can determine the class and method that issued a log entry. Bridges can pass
+ * this knowledge via this interface to a {@link BridgeLoggingProvider}. Both methods are called only if the class or
+ * method name is actually required. Therefore, implementations can resolve them lazily.
+ * </p>
+ */
+public interface LogEntrySource {
+
+	/**
+	 * Gets the fully-qualified name of the class that has issued the log entry.
+	 *
+	 * @return Fully-qualified class name or {@code null} if unknown
+	 */
+	String getClassName();
+
+	/**
+	 * Gets the name of the method that has issued the log entry.
+	 *
+	 * @return Method name or {@code null} if unknown
+	 */
+	String getMethodName();
+
+}
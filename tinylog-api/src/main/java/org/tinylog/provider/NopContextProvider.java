@@ -16,10 +16,12 @@ package org.tinylog.provider;
 import java.util.Collections;
 import java.util.Map;
 
+import org.tinylog.ContextScope;
+
 /**
  * Context provider implementation that does nothing. All put values will be ignored.
  */
-public final class NopContextProvider implements ContextProvider {
+public final class NopContextProvider implements BulkContextProvider, ScopedContextProvider {
 
 	/** */
 	public NopContextProvider() {
@@ -40,6 +42,21 @@ public final class NopContextProvider implements ContextProvider {
 		// Ignore
 	}
 
+	@Override
+	public void putAll(final Map<String, ?> mapping) {
+		// Ignore
+	}
+
+	@Override
+	public void setMapping(final Map<String, ?> mapping) {
+		// Ignore
+	}
+
+	@Override
+	public ContextScope scope(final Map<String, ?> mapping) {
+		return NopContextScope.INSTANCE;
+	}
+
 	@Override
 	public void remove(final String key) {
 		// Ignore
@@ -50,4 +67,22 @@ public final class NopContextProvider implements ContextProvider {
 		// Ignore
 	}
 
+	/**
+	 * Scope without any values.
+	 */
+	private static final class NopContextScope implements ContextScope {
+
+		private static final NopContextScope INSTANCE = new NopContextScope();
+
+		/** */
+		private NopContextScope() {
+		}
+
+		@Override
+		public void close() {
+			// Ignore
+		}
+
+	}
+
 }
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2022 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.provider;
+
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.tinylog.ContextScope;
+import org.tinylog.Level;
+
+/**
+ * Generic context scope for context providers that don't have an optimized scope implementation. The scope stores the
+ * passed values via {@link ContextProvider#put(String, Object)} and remembers the previous values of all affected keys
+ * for restoring them while closing.
+ *
+ * <p>
+ * A scope must be closed by the thread that has opened it. Keys, whose values have been changed after opening the
+ * scope, are not restored. This happens for example if nested scopes are not closed in reverse order of opening.
+ * Both cases are reported via {@link InternalLogger}.
+ * </p>
+ */
+public final class RestoringContextScope implements ContextScope {
+
+	private final ContextProvider provider;
+	private final Thread thread;
+	private final String[] keys;
+	private final String[] values;
+	private final String[] previousValues;
+	private boolean closed;
+
+	/**
+	 * Stores the passed values in the passed context provider.
+	 *
+	 * @param provider
+	 *            Context provider for storing the values
+	 * @param mapping
+	 *            Values of the scope
+	 */
+	public RestoringContextScope(final ContextProvider provider, final Map<String, ?> mapping) {
+		this.provider = provider;
+		this.thread = Thread.currentThread();
+		this.keys = new String[mapping.size()];
+		this.values = new String[mapping.size()];
+		this.previousValues = new String[mapping.size()];
+
+		int index = 0;
+		for (Entry<String, ?> entry : mapping.entrySet()) {
+			keys[index] = entry.getKey();
+			values[index] = entry.getValue() == null ? null : entry.getValue().toString();
+			previousValues[index] = provider.get(entry.getKey());
+			provider.put(entry.getKey(), entry.getValue());
+			index += 1;
+		}
+	}
+
+	@Override
+	public void close() {
+		if (thread != Thread.currentThread()) {
+			InternalLogger.log(Level.ERROR, "Context scope has to be closed by the same thread that has opened it");
+		} else if (!closed) {
+			closed = true;
+			for (int i = keys.length - 1; i >= 0; --i) {
+				if (!isUnchanged(provider.get(keys[i]), values[i])) {
+					InternalLogger.log(Level.WARN, "Context value of '" + keys[i] + "' is not restored, as it has been changed"
+						+ " after opening the scope");
+				} else if (previousValues[i] == null) {
+					provider.remove(keys[i]);
+				} else {
+					provider.put(keys[i], previousValues[i]);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Checks whether the current value of a key is still the value that has been set by this scope.
+	 *
+	 * @param current
+	 *            Current value
+	 * @param value
+	 *            Value that has been set by this scope
+	 * @return {@code true} if both values are equal, {@code false} if not
+	 */
+	private static boolean isUnchanged(final String current, final String value) {
+		return current == null ? value == null : current.equals(value);
+	}
+
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2022 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.provider;
+
+import java.util.Map;
+
+import org.tinylog.ContextScope;
+
+/**
+ * Optional extension of {@link ContextProvider} for context providers with an own implementation of scopes.
+ *
+ * <p>
+ * Context providers that don't implement this interface are still supported. For them, scopes are implemented by
+ * {@link RestoringContextScope}.
+ * </p>
+ */
+public interface ScopedContextProvider extends ContextProvider {
+
+	/**
+	 * Opens a new scope with the passed values. The values are stored in thread context until the returned scope is
+	 * closed. Closing restores the previous values of all passed keys.
+	 *
+	 * @param mapping
+	 *            Values of the scope
+	 * @return Scope that has to be closed by the current thread
+	 */
+	ContextScope scope(Map<String, ?> mapping);
+
+}
@@ -1,4 +1,5 @@
 module org.tinylog.api {
+	uses org.tinylog.configuration.ServiceFactory;
 	uses org.tinylog.provider.LoggingProvider;
 
 	requires static java.sql;
@@ -13,17 +13,26 @@
 
 package org.tinylog;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
+import org.mockito.InOrder;
 import org.powermock.reflect.Whitebox;
+import org.tinylog.provider.BulkContextProvider;
 import org.tinylog.provider.ContextProvider;
 import org.tinylog.provider.ProviderRegistry;
+import org.tinylog.provider.RestoringContextScope;
+import org.tinylog.provider.ScopedContextProvider;
 import org.tinylog.rules.SystemStreamCollector;
 
+import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -40,7 +49,7 @@ public final class ThreadContextTest {
 	@Rule
 	public final SystemStreamCollector systemStream = new SystemStreamCollector(false);
 
-	private ContextProvider provider;
+	private BulkContextProvider provider;
 
 	/**
 	 * Mocks the underlying context provider.
@@ -49,7 +58,7 @@ public final class ThreadContextTest {
 	public void init() {
 		ThreadContext.clear();
 
-		provider = mock(ContextProvider.class);
+		provider = mock(BulkContextProvider.class);
 		Whitebox.setInternalState(ThreadContext.class, provider);
 	}
 
@@ -97,6 +106,120 @@ public final class ThreadContextTest {
 		verify(provider).put("pi", "3.14");
 	}
 
+	/**
+	 * Verifies that multiple new mappings will be passed-through to underlying context provider.
+	 */
+	@Test
+	public void putAllValues() {
+		Map<String, String> mapping = doubletonMap("e", "2.71", "pi", "3.14");
+		ThreadContext.putAll(mapping);
+		verify(provider).putAll(mapping);
+	}
+
+	/**
+	 * Verifies that a complete mapping will be passed-through to underlying context provider.
+	 */
+	@Test
+	public void setMapping() {
+		Map<String, String> mapping = doubletonMap("e", "2.71", "pi", "3.14");
+		ThreadContext.setMapping(mapping);
+		verify(provider).setMapping(mapping);
+	}
+
+	/**
+	 * Verifies that multiple new mappings will be stored one by one, if the underlying context provider doesn't support
+	 * bulk operations.
+	 */
+	@Test
+	public void putAllValuesWithoutBulkSupport() {
+		ContextProvider simpleProvider = mock(ContextProvider.class);
+		Whitebox.setInternalState(ThreadContext.class, simpleProvider);
+
+		ThreadContext.putAll(doubletonMap("e", "2.71", "pi", "3.14"));
+		verify(simpleProvider).put("e", "2.71");
+		verify(simpleProvider).put("pi", "3.14");
+	}
+
+	/**
+	 * Verifies that a complete mapping will be stored one by one after clearing the thread context, if the underlying
+	 * context provider doesn't support bulk operations.
+	 */
+	@Test
+	public void setMappingWithoutBulkSupport() {
+		ContextProvider simpleProvider = mock(ContextProvider.class);
+		Whitebox.setInternalState(ThreadContext.class, simpleProvider);
+
+		ThreadContext.setMapping(doubletonMap("e", "2.71", "pi", "3.14"));
+
+		InOrder order = inOrder(simpleProvider);
+		order.verify(simpleProvider).clear();
+		order.verify(simpleProvider).put("e", "2.71");
+		order.verify(simpleProvider).put("pi", "3.14");
+	}
+
+	/**
+	 * Verifies that values with {@code null} as key are passed to the underlying context provider like any other key.
+	 */
+	@Test
+	public void passNullKeys() {
+		Map<String, String> mapping = new HashMap<>();
+		mapping.put(null, "42");
+
+		ThreadContext.put(null, "42");
+		ThreadContext.get(null);
+		ThreadContext.putAll(mapping);
+		ThreadContext.remove(null);
+
+		verify(provider).put(null, "42");
+		verify(provider).get(null);
+		verify(provider).putAll(mapping);
+		verify(provider).remove(null);
+	}
+
+	/**
+	 * Verifies that a scope with a single value will be opened in underlying context provider.
+	 */
+	@Test
+	public void scopeForSingleValue() {
+		ScopedContextProvider scopedProvider = mock(ScopedContextProvider.class);
+		Whitebox.setInternalState(ThreadContext.class, scopedProvider);
+
+		ContextScope scope = mock(ContextScope.class);
+		when(scopedProvider.scope(singletonMap("pi", "3.14"))).thenReturn(scope);
+
+		assertThat(ThreadContext.scope("pi", "3.14")).isSameAs(scope);
+	}
+
+	/**
+	 * Verifies that a scope with multiple values will be opened in underlying context provider.
+	 */
+	@Test
+	public void scopeForMultipleValues() {
+		ScopedContextProvider scopedProvider = mock(ScopedContextProvider.class);
+		Whitebox.setInternalState(ThreadContext.class, scopedProvider);
+
+		ContextScope scope = mock(ContextScope.class);
+		Map<String, String> mapping = doubletonMap("e", "2.71", "pi", "3.14");
+		when(scopedProvider.scope(mapping)).thenReturn(scope);
+
+		assertThat(ThreadContext.scope(mapping)).isSameAs(scope);
+	}
+
+	/**
+	 * Verifies that a generic scope will be used, if the underlying context provider doesn't implement scopes.
+	 */
+	@Test
+	public void scopeWithoutScopeSupport() {
+		when(provider.get("pi")).thenReturn(null, "3.14");
+
+		ContextScope scope = ThreadContext.scope("pi", "3.14");
+		assertThat(scope).isInstanceOf(RestoringContextScope.class);
+		verify(provider).put("pi", "3.14");
+
+		scope.close();
+		verify(provider).remove("pi");
+	}
+
 	/**
 	 * Verifies that a mapping can be removed from underlying context provider.
 	 */
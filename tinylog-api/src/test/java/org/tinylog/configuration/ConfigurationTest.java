@@ -391,6 +391,24 @@ public final class ConfigurationTest {
 		assertThat(Configuration.getChildren("writer")).containsOnly(entry("file", "log.txt"), entry("buffered", "true"));
 	}
 
+	/**
+	 * Verifies that {@link Configuration#getSiblings(String)} and {@link Configuration#getChildren(String)} find
+	 * exactly the matching properties, if there are further properties whose keys are sorted before or after them.
+	 *
+	 * @throws Exception
+	 *             Failed creating temporary file or invoking private method {@link Configuration#load()}
+	 */
+	@Test
+	public void foundPropertiesBetweenSimilarKeys() throws Exception {
+		loadProperties(FileSystem.createTemporaryFile("write = no", "writer = file", "writer.file = log.txt", "writer-a = yes",
+			"writer2.file = other.txt", "writes = no", "writer2 = console"));
+
+		assertThat(Configuration.getSiblings("writer"))
+			.containsOnly(entry("writer", "file"), entry("writer-a", "yes"), entry("writer2", "console"));
+		assertThat(Configuration.getChildren("writer")).containsOnly(entry("file", "log.txt"));
+		assertThat(Configuration.get("writes")).isEqualTo("no");
+	}
+
 	/**
 	 * Verifies that {@link Configuration#getChildren(String)} can handle requests without any matching child
 	 * properties.
@@ -841,8 +859,10 @@ public final class ConfigurationTest {
 			System.setProperty(CONFIGURATION_PROPERTY, path);
 		}
 
+		ServiceLoader.clearIndex();
 		Properties properties = Whitebox.invokeMethod(Configuration.class, "load");
 		Whitebox.setInternalState(Configuration.class, Properties.class, properties);
+		Whitebox.setInternalState(Configuration.class, "snapshot", (Object) null);
 	}	
 	
 	/**
@@ -53,13 +53,14 @@ public final class ServiceLoaderTest {
 	public final SystemStreamCollector systemStream = new SystemStreamCollector(true);
 
 	/**
-	 * Creates pre-filled service file for {@link List} in class path.
+	 * Creates pre-filled service file for {@link List} in class path and clears the index of parsed service files.
 	 *
 	 * @throws Exception
 	 *             Failed creating service file
 	 */
 	@Before
 	public void init() throws Exception {
+		ServiceLoader.clearIndex();
 		FileSystem.createServiceFile(List.class, ArrayList.class.getName(), LinkedList.class.getName());
 		FileSystem.createServiceFile(Throwable.class, NullPointerException.class.getName(), IllegalStateException.class.getName());
 	}
@@ -19,6 +19,8 @@ import java.util.stream.Collectors;
 import org.assertj.core.api.Condition;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.InOrder;
+import org.tinylog.ContextScope;
 
 import static java.util.Arrays.asList;
 import static java.util.Arrays.stream;
@@ -26,6 +28,7 @@ import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -36,16 +39,16 @@ import static org.tinylog.util.Maps.doubletonMap;
  */
 public final class BundleContextProviderTest {
 
-	private ContextProvider first;
+	private BulkContextProvider first;
 	private ContextProvider second;
-	private ContextProvider bundle;
+	private BulkContextProvider bundle;
 
 	/**
 	 * Creates mocks for underlying context providers.
 	 */
 	@Before
 	public void init() {
-		first = mock(ContextProvider.class);
+		first = mock(BulkContextProvider.class);
 		second = mock(ContextProvider.class);
 		bundle = new BundleContextProvider(asList(first, second));
 	}
@@ -155,6 +158,57 @@ public final class BundleContextProviderTest {
 		verify(second).put("pi", "3.14");
 	}
 
+	/**
+	 * Verifies that {@code putAll()} method puts all mappings to all underlying context providers. Context providers
+	 * without support for bulk operations receive the mappings one by one.
+	 */
+	@Test
+	public void putAllValues() {
+		Map<String, String> mapping = doubletonMap("pi", "3.14", "e", "2.71");
+		bundle.putAll(mapping);
+
+		verify(first).putAll(mapping);
+		verify(second).put("pi", "3.14");
+		verify(second).put("e", "2.71");
+	}
+
+	/**
+	 * Verifies that {@code setMapping()} method replaces the mappings of all underlying context providers. Context
+	 * providers without support for bulk operations are cleared and receive the mappings one by one.
+	 */
+	@Test
+	public void setMapping() {
+		Map<String, String> mapping = doubletonMap("pi", "3.14", "e", "2.71");
+		bundle.setMapping(mapping);
+
+		verify(first).setMapping(mapping);
+
+		InOrder order = inOrder(second);
+		order.verify(second).clear();
+		order.verify(second).put("e", "2.71");
+		order.verify(second).put("pi", "3.14");
+	}
+
+	/**
+	 * Verifies that {@code scope()} method opens scopes in all underlying context providers and closes them in reverse
+	 * order. Context providers without an own implementation of scopes get a generic scope.
+	 */
+	@Test
+	public void scope() {
+		ScopedContextProvider scoped = mock(ScopedContextProvider.class);
+		ContextScope scopedScope = mock(ContextScope.class);
+		Map<String, String> mapping = singletonMap("pi", "3.14");
+		when(scoped.scope(mapping)).thenReturn(scopedScope);
+		when(second.get("pi")).thenReturn(null, "3.14");
+
+		new BundleContextProvider(asList(scoped, second)).scope(mapping).close();
+
+		InOrder order = inOrder(scopedScope, second);
+		order.verify(second).put("pi", "3.14");
+		order.verify(second).remove("pi");
+		order.verify(scopedScope).close();
+	}
+
 	/**
 	 * Verifies that {@code remove()} method removes a value from underlying child context providers.
 	 */
@@ -13,8 +13,11 @@
 
 package org.tinylog.provider;
 
+import java.util.Collections;
+
 import org.junit.Before;
 import org.junit.Test;
+import org.tinylog.ContextScope;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -59,6 +62,26 @@ public final class NopContextProviderTest {
 		assertThat(provider.getMapping()).isEmpty();
 	}
 
+	/**
+	 * Verifies that mappings passed to {@code putAll()} and {@code setMapping()} will be not stored.
+	 */
+	@Test
+	public void putAllAndSetMapping() {
+		provider.putAll(Collections.singletonMap("abc", "123"));
+		provider.setMapping(Collections.singletonMap("def", "456"));
+		assertThat(provider.getMapping()).isEmpty();
+	}
+
+	/**
+	 * Verifies that values of scopes will be not stored.
+	 */
+	@Test
+	public void scope() {
+		try (ContextScope scope = provider.scope(Collections.singletonMap("abc", "123"))) {
+			assertThat(provider.getMapping()).isEmpty();
+		}
+	}
+
 	/**
 	 * Verifies that {@code remove()} method is invokable without throwing any exceptions.
 	 */
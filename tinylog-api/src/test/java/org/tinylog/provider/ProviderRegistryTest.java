@@ -23,6 +23,7 @@ import org.powermock.modules.junit4.PowerMockRunner;
 import org.powermock.reflect.Whitebox;
 import org.tinylog.Level;
 import org.tinylog.configuration.Configuration;
+import org.tinylog.configuration.ServiceLoader;
 import org.tinylog.format.MessageFormatter;
 import org.tinylog.rules.SystemStreamCollector;
 import org.tinylog.util.FileSystem;
@@ -44,12 +45,16 @@ public final class ProviderRegistryTest {
 	public final SystemStreamCollector systemStream = new SystemStreamCollector(true);
 
 	/**
-	 * Initializes {@link ProviderRegistry} properly.
+	 * Initializes {@link ProviderRegistry} properly and clears the index of parsed service files.
+	 *
+	 * @throws Exception
+	 *             Failed invoking private method {@link ServiceLoader#clearIndex()}
 	 */
 	@Before
-	public void init() {
+	public void init() throws Exception {
 		ProviderRegistry.getLoggingProvider();
 		systemStream.clear();
+		Whitebox.invokeMethod(ServiceLoader.class, "clearIndex");
 	}
 
 	/**
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2022 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.provider;
+
+import java.util.Map;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.tinylog.rules.SystemStreamCollector;
+
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+import static org.tinylog.util.Maps.doubletonMap;
+
+/**
+ * Tests for {@link RestoringContextScope}.
+ */
+public final class RestoringContextScopeTest {
+
+	/**
+	 * Redirects and collects system output streams.
+	 */
+	@Rule
+	public final SystemStreamCollector systemStream = new SystemStreamCollector(true);
+
+	/**
+	 * Verifies that values of the scope will be stored while opening and previous values will be restored while
+	 * closing.
+	 */
+	@Test
+	public void storeAndRestore() {
+		ContextProvider provider = mock(ContextProvider.class);
+		when(provider.get("a")).thenReturn("1", "2");
+		when(provider.get("b")).thenReturn(null, "3");
+
+		Map<String, String> mapping = doubletonMap("a", "2", "b", "3");
+		RestoringContextScope scope = new RestoringContextScope(provider, mapping);
+		verify(provider).put("a", "2");
+		verify(provider).put("b", "3");
+
+		scope.close();
+		verify(provider).put("a", "1");
+		verify(provider).remove("b");
+	}
+
+	/**
+	 * Verifies that closing a scope multiple times restores the previous values only once.
+	 */
+	@Test
+	public void closeTwice() {
+		ContextProvider provider = mock(ContextProvider.class);
+		when(provider.get("a")).thenReturn(null, "1");
+		when(provider.get("b")).thenReturn(null, "2");
+
+		Map<String, String> mapping = doubletonMap("a", "1", "b", "2");
+		RestoringContextScope scope = new RestoringContextScope(provider, mapping);
+
+		scope.close();
+		scope.close();
+
+		verify(provider, times(2)).get("a");
+		verify(provider, times(2)).get("b");
+		verify(provider).put("a", "1");
+		verify(provider).put("b", "2");
+		verify(provider).remove("a");
+		verify(provider).remove("b");
+		verifyNoMoreInteractions(provider);
+	}
+
+	/**
+	 * Verifies that values, which have been changed after opening the scope, are not restored and the issue is
+	 * reported.
+	 */
+	@Test
+	public void keepChangedValues() {
+		ContextProvider provider = mock(ContextProvider.class);
+		when(provider.get("a")).thenReturn("1", "3");
+		when(provider.get("b")).thenReturn(null, "2");
+
+		Map<String, String> mapping = doubletonMap("a", "2", "b", "2");
+		RestoringContextScope scope = new RestoringContextScope(provider, mapping);
+
+		scope.close();
+		verify(provider, never()).put("a", "1");
+		verify(provider).remove("b");
+
+		assertThat(systemStream.consumeErrorOutput()).containsOnlyOnce("WARN").contains("'a'");
+	}
+
+	/**
+	 * Verifies that a scope cannot be closed by another thread.
+	 *
+	 * @throws InterruptedException
+	 *             Failed waiting for the closing thread
+	 */
+	@Test
+	public void closeByOtherThread() throws InterruptedException {
+		ContextProvider provider = mock(ContextProvider.class);
+
+		RestoringContextScope scope = new RestoringContextScope(provider, singletonMap("a", "1"));
+
+		Thread thread = new Thread(scope::close);
+		thread.start();
+		thread.join();
+
+		verify(provider, never()).remove("a");
+		assertThat(systemStream.consumeErrorOutput()).containsOnlyOnce("ERROR").contains("same thread");
+	}
+
+}
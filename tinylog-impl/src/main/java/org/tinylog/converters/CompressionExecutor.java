@@ -0,0 +1,119 @@
+/*
+ * Copyright 2022 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.converters;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.tinylog.Level;
+import org.tinylog.configuration.Configuration;
+import org.tinylog.provider.InternalLogger;
+
+/**
+ * Process-wide thread pool for compressing log files. All converters share the same bounded pool instead of starting
+ * an own thread per converter instance.
+ *
+ * <p>
+ *     The number of threads can be configured via the property {@code compressionthreads}. By default, half of the
+ *     available processors are used, but at least one thread. Idle threads terminate automatically.
+ * </p>
+ */
+final class CompressionExecutor {
+
+	private static final String THREADS_PROPERTY = "compressionthreads";
+	private static final long KEEP_ALIVE_SECONDS = 60L;
+
+	/** */
+	private CompressionExecutor() {
+	}
+
+	/**
+	 * Gets the shared thread pool for compression tasks.
+	 *
+	 * @return Shared thread pool
+	 */
+	static ThreadPoolExecutor get() {
+		return Holder.EXECUTOR;
+	}
+
+	/**
+	 * Gets the maximum number of threads of the shared thread pool.
+	 *
+	 * @return Number of threads
+	 */
+	static int getThreads() {
+		return Holder.EXECUTOR.getMaximumPoolSize();
+	}
+
+	/**
+	 * Reads the configured number of compression threads.
+	 *
+	 * @return Number of threads to use
+	 */
+	static int loadThreads() {
+		int defaultThreads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+		String property = Configuration.get(THREADS_PROPERTY);
+
+		if (property == null) {
+			return defaultThreads;
+		}
+
+		try {
+			int threads = Integer.parseInt(property.trim());
+			if (threads > 0) {
+				return threads;
+			}
+		} catch (NumberFormatException ex) {
+			// Handled below
+		}
+
+		InternalLogger.log(Level.ERROR, "Invalid number of compression threads: " + property);
+		return defaultThreads;
+	}
+
+	/**
+	 * Lazy holder for the shared thread pool.
+	 */
+	private static final class Holder {
+
+		private static final ThreadPoolExecutor EXECUTOR = create(loadThreads());
+
+		/** */
+		private Holder() {
+		}
+
+		/**
+		 * Creates a new thread pool with daemon threads.
+		 *
+		 * @param threads
+		 *            Maximum number of threads
+		 * @return Created thread pool
+		 */
+		private static ThreadPoolExecutor create(final int threads) {
+			ThreadPoolExecutor executor = new ThreadPoolExecutor(
+				threads,
+				threads,
+				KEEP_ALIVE_SECONDS,
+				TimeUnit.SECONDS,
+				new LinkedBlockingQueue<Runnable>(),
+				new NamedDaemonThreadFactory("tinylog-CompressionThread")
+			);
+			executor.allowCoreThreadTimeOut(true);
+			return executor;
+		}
+
+	}
+
+}
@@ -13,17 +13,37 @@
 
 package org.tinylog.converters;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.zip.Deflater;
 import java.util.zip.GZIPOutputStream;
 
 import org.tinylog.Level;
+import org.tinylog.core.Diagnostics;
 import org.tinylog.provider.InternalLogger;
 
 /**
  * GZIP encoder for compressing a file.
+ *
+ * <p>
+ *     Large files can be compressed in parallel. In this case, the file is split into independent blocks, which are
+ *     compressed concurrently and written as concatenated GZIP members. The result is a valid GZIP file that can be
+ *     decompressed by all common tools.
+ * </p>
  */
 final class GzipEncoder implements Runnable {
 
@@ -32,18 +52,43 @@ final class GzipEncoder implements Runnable {
 	 */
 	static final String FILE_EXTENSION = ".gz";
 
+	/**
+	 * Size of independently compressed blocks for parallel compression.
+	 */
+	static final int BLOCK_SIZE = 4 * 1024 * 1024;
+
 	private static final int BUFFER_SIZE = 64 * 1024;
 
 	private final File sourceFile;
 	private final File targetFile;
+	private final int level;
+	private final Executor executor;
+	private final int parallelism;
 
 	/**
 	 * @param file
 	 *            File that should be compressed
 	 */
 	GzipEncoder(final File file) {
-		sourceFile = file;
-		targetFile = new File(file.getAbsolutePath() + FILE_EXTENSION);
+		this(file, Deflater.DEFAULT_COMPRESSION, null, 1);
+	}
+
+	/**
+	 * @param file
+	 *            File that should be compressed
+	 * @param level
+	 *            Compression level from 0 to 9 or {@link Deflater#DEFAULT_COMPRESSION}
+	 * @param executor
+	 *            Executor for compressing blocks in parallel or {@code null} for compressing sequentially
+	 * @param parallelism
+	 *            Maximum number of blocks to compress concurrently
+	 */
+	GzipEncoder(final File file, final int level, final Executor executor, final int parallelism) {
+		this.sourceFile = file;
+		this.targetFile = new File(file.getAbsolutePath() + FILE_EXTENSION);
+		this.level = level;
+		this.executor = executor;
+		this.parallelism = parallelism;
 
 		try {
 			if (!targetFile.createNewFile()) {
@@ -56,20 +101,18 @@ final class GzipEncoder implements Runnable {
 
 	@Override
 	public void run() {
+		long start = Diagnostics.isEnabled() ? System.nanoTime() : 0L;
+		long originalSize = sourceFile.length();
+
 		try {
 			FileInputStream fileInputStream = new FileInputStream(sourceFile);
 			try {
 				FileOutputStream fileOutputStream = new FileOutputStream(targetFile);
 				try {
-					GZIPOutputStream gzipOutputStream = new GZIPOutputStream(fileOutputStream, BUFFER_SIZE);
-					try {
-						byte[] buffer = new byte[BUFFER_SIZE];
-						int count;
-						while ((count = fileInputStream.read(buffer)) >= 0) {
-							gzipOutputStream.write(buffer, 0, count);
-						}
-					} finally {
-						gzipOutputStream.close();
+					if (executor != null && parallelism > 1 && originalSize > BLOCK_SIZE) {
+						compressBlocks(fileInputStream, fileOutputStream);
+					} else {
+						compressStream(fileInputStream, fileOutputStream);
 					}
 				} finally {
 					fileOutputStream.close();
@@ -81,9 +124,184 @@ final class GzipEncoder implements Runnable {
 			if (!sourceFile.delete()) {
 				InternalLogger.log(Level.WARN, "Failed to delete original log file '" + sourceFile + "'");
 			}
+
+			if (Diagnostics.isEnabled()) {
+				Diagnostics.compressed(sourceFile.getPath(), originalSize, targetFile.length(), System.nanoTime() - start);
+			}
 		} catch (IOException ex) {
 			InternalLogger.log(Level.ERROR, ex, "Failed to compress log file '" + sourceFile + "'");
 		}
 	}
 
+	/**
+	 * Compresses the passed input stream sequentially as a single GZIP member.
+	 *
+	 * @param input
+	 *            Uncompressed source data
+	 * @param output
+	 *            Target for compressed data
+	 * @throws IOException
+	 *             Failed to read or write data
+	 */
+	private void compressStream(final InputStream input, final OutputStream output) throws IOException {
+		GZIPOutputStream gzipOutputStream = new LevelGzipOutputStream(output, level);
+		try {
+			byte[] buffer = new byte[BUFFER_SIZE];
+			int count;
+			while ((count = input.read(buffer)) >= 0) {
+				gzipOutputStream.write(buffer, 0, count);
+			}
+		} finally {
+			gzipOutputStream.close();
+		}
+	}
+
+	/**
+	 * Compresses the passed input stream in parallel blocks. Each block becomes an independent GZIP member. Blocks are
+	 * written in their original order.
+	 *
+	 * <p>
+	 *     The calling thread compresses blocks itself, if they have not been started by the executor yet. Therefore,
+	 *     this method never blocks, even if it runs in the same bounded thread pool as the block tasks.
+	 * </p>
+	 *
+	 * @param input
+	 *            Uncompressed source data
+	 * @param output
+	 *            Target for compressed data
+	 * @throws IOException
+	 *             Failed to read or write data
+	 */
+	private void compressBlocks(final InputStream input, final OutputStream output) throws IOException {
+		Queue<FutureTask<byte[]>> tasks = new ArrayDeque<FutureTask<byte[]>>(parallelism);
+		byte[] block = readBlock(input);
+
+		while (block != null || !tasks.isEmpty()) {
+			while (block != null && tasks.size() < parallelism) {
+				FutureTask<byte[]> task = new FutureTask<byte[]>(new BlockCompressor(block, level));
+				tasks.add(task);
+				try {
+					executor.execute(task);
+				} catch (RejectedExecutionException ex) {
+					// Will be run by this thread
+				}
+				block = readBlock(input);
+			}
+
+			FutureTask<byte[]> task = tasks.remove();
+			task.run();
+			output.write(getResult(task));
+		}
+	}
+
+	/**
+	 * Reads the next block from an input stream.
+	 *
+	 * @param input
+	 *            Source data
+	 * @return Read block or {@code null} if the end of the stream has been reached
+	 * @throws IOException
+	 *             Failed to read data
+	 */
+	private static byte[] readBlock(final InputStream input) throws IOException {
+		byte[] block = new byte[BLOCK_SIZE];
+		int size = 0;
+
+		while (size < BLOCK_SIZE) {
+			int count = input.read(block, size, BLOCK_SIZE - size);
+			if (count < 0) {
+				break;
+			}
+			size += count;
+		}
+
+		if (size == 0) {
+			return null;
+		} else if (size < BLOCK_SIZE) {
+			return Arrays.copyOf(block, size);
+		} else {
+			return block;
+		}
+	}
+
+	/**
+	 * Waits for the result of a block compression task.
+	 *
+	 * @param task
+	 *            Task that has been already started
+	 * @return Compressed block
+	 * @throws InterruptedIOException
+	 *             Interrupted while waiting
+	 * @throws IOException
+	 *             Failed to compress block
+	 */
+	private static byte[] getResult(final FutureTask<byte[]> task) throws IOException {
+		try {
+			return task.get();
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while waiting for compressed block");
+		} catch (ExecutionException ex) {
+			Throwable cause = ex.getCause();
+			if (cause instanceof IOException) {
+				throw (IOException) cause;
+			} else {
+				throw new IOException(cause);
+			}
+		}
+	}
+
+	/**
+	 * Task for compressing a single block as independent GZIP member.
+	 */
+	private static final class BlockCompressor implements Callable<byte[]> {
+
+		private final byte[] block;
+		private final int level;
+
+		/**
+		 * @param block
+		 *            Uncompressed data
+		 * @param level
+		 *            Compression level
+		 */
+		private BlockCompressor(final byte[] block, final int level) {
+			this.block = block;
+			this.level = level;
+		}
+
+		@Override
+		public byte[] call() throws IOException {
+			ByteArrayOutputStream stream = new ByteArrayOutputStream(block.length / 2);
+			GZIPOutputStream gzipOutputStream = new LevelGzipOutputStream(stream, level);
+			try {
+				gzipOutputStream.write(block);
+			} finally {
+				gzipOutputStream.close();
+			}
+			return stream.toByteArray();
+		}
+
+	}
+
+	/**
+	 * GZIP output stream with configurable compression level.
+	 */
+	private static final class LevelGzipOutputStream extends GZIPOutputStream {
+
+		/**
+		 * @param stream
+		 *            Underlying output stream
+		 * @param level
+		 *            Compression level from 0 to 9 or {@link Deflater#DEFAULT_COMPRESSION}
+		 * @throws IOException
+		 *             Failed to write GZIP header
+		 */
+		private LevelGzipOutputStream(final OutputStream stream, final int level) throws IOException {
+			super(stream, BUFFER_SIZE);
+			def.setLevel(level);
+		}
+
+	}
+
 }
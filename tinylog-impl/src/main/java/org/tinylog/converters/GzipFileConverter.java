@@ -14,26 +14,52 @@
 package org.tinylog.converters;
 
 import java.io.File;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.TimeoutException;
+import java.util.zip.Deflater;
+
+import org.tinylog.Level;
+import org.tinylog.provider.InternalLogger;
 
 /**
  * Converter for compressing a log file asynchronously by the GZIP algorithm when backing up the file.
+ *
+ * <p>
+ *     All GZIP converters share a process-wide thread pool (see property {@code compressionthreads}). Large files are
+ *     compressed in parallel blocks, if the pool has more than one thread. The compression level can be defined as
+ *     argument, for example {@code gzip: level=3}.
+ * </p>
  */
 public final class GzipFileConverter implements FileConverter {
 
-	private static final AtomicInteger count = new AtomicInteger();
+	private static final long SHUTDOWN_TIMEOUT = TimeUnit.MINUTES.toNanos(1);
 
-	private final ExecutorService executor = Executors.newSingleThreadExecutor(
-		new NamedDaemonThreadFactory("tinylog-GZipThread-" + count.getAndIncrement())
-	);
+	private final int level;
+	private final List<Future<?>> tasks = new ArrayList<Future<?>>();
 
 	private volatile File file;
 
 	/** */
 	public GzipFileConverter() {
+		this(null);
+	}
+
+	/**
+	 * @param argument
+	 *            Optional comma separated settings, for example "level=3"
+	 *
+	 * @throws IllegalArgumentException
+	 *             Invalid or unsupported settings
+	 */
+	public GzipFileConverter(final String argument) {
+		level = parseLevel(argument);
 	}
 
 	@Override
@@ -53,13 +79,81 @@ public final class GzipFileConverter implements FileConverter {
 
 	@Override
 	public void close() {
-		executor.execute(new GzipEncoder(file));
+		ThreadPoolExecutor executor = CompressionExecutor.get();
+		Future<?> task = executor.submit(new GzipEncoder(file, level, executor, executor.getMaximumPoolSize()));
+
+		synchronized (tasks) {
+			Iterator<Future<?>> iterator = tasks.iterator();
+			while (iterator.hasNext()) {
+				if (iterator.next().isDone()) {
+					iterator.remove();
+				}
+			}
+			tasks.add(task);
+		}
 	}
 
 	@Override
 	public void shutdown() throws InterruptedException {
-		executor.shutdown();
-		executor.awaitTermination(1, TimeUnit.MINUTES);
+		List<Future<?>> pending;
+		synchronized (tasks) {
+			pending = new ArrayList<Future<?>>(tasks);
+			tasks.clear();
+		}
+
+		long deadline = System.nanoTime() + SHUTDOWN_TIMEOUT;
+		for (Future<?> task : pending) {
+			try {
+				task.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+			} catch (ExecutionException ex) {
+				InternalLogger.log(Level.ERROR, ex.getCause(), "Failed to compress log file");
+			} catch (TimeoutException ex) {
+				InternalLogger.log(Level.WARN, "Timeout while waiting for compressing log files");
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Parses the compression level from the passed argument.
+	 *
+	 * @param argument
+	 *            Comma separated settings or {@code null}
+	 * @return Compression level from 0 to 9 or {@link Deflater#DEFAULT_COMPRESSION}
+	 *
+	 * @throws IllegalArgumentException
+	 *             Invalid or unsupported settings
+	 */
+	private static int parseLevel(final String argument) {
+		int level = Deflater.DEFAULT_COMPRESSION;
+
+		if (argument != null) {
+			for (String setting : argument.split(",")) {
+				setting = setting.trim();
+				if (setting.isEmpty()) {
+					continue;
+				}
+
+				int separator = setting.indexOf('=');
+				String key = separator == -1 ? "" : setting.substring(0, separator).trim().toLowerCase(Locale.ROOT);
+				String value = separator == -1 ? setting : setting.substring(separator + 1).trim();
+
+				if ("level".equals(key)) {
+					try {
+						level = Integer.parseInt(value);
+					} catch (NumberFormatException ex) {
+						throw new IllegalArgumentException("Invalid compression level \"" + value + "\" for GZIP converter");
+					}
+					if (level < Deflater.NO_COMPRESSION || level > Deflater.BEST_COMPRESSION) {
+						throw new IllegalArgumentException("Invalid compression level \"" + value + "\" for GZIP converter");
+					}
+				} else {
+					throw new IllegalArgumentException("Unknown setting \"" + setting + "\" for GZIP converter");
+				}
+			}
+		}
+
+		return level;
 	}
 
 }
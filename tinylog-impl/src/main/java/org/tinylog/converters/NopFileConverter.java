@@ -22,6 +22,13 @@ public final class NopFileConverter implements FileConverter {
 	public NopFileConverter() {
 	}
 
+	/**
+	 * @param argument
+	 *            Will be ignored
+	 */
+	public NopFileConverter(final String argument) {
+	}
+
 	@Override
 	public String getBackupSuffix() {
 		return null;
@@ -19,6 +19,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.TimeUnit;
 
 import org.tinylog.Level;
 import org.tinylog.configuration.Configuration;
@@ -93,6 +94,52 @@ public final class ConfigurationParser {
 		return enabled != null && Boolean.parseBoolean(enabled.trim());
 	}
 
+	/**
+	 * Loads the high-water mark for pending log entries of the writing thread from configuration. Each time the number
+	 * of pending log entries exceeds another multiple of the high-water mark, log entries of the next higher severity
+	 * level are dropped.
+	 *
+	 * @return Configured high-water mark or {@code 0} if log entries should be never dropped
+	 */
+	public static int getWritingThreadHighWaterMark() {
+		String property = Configuration.get("writingthread.highwatermark");
+		if (property == null) {
+			return 0;
+		}
+
+		try {
+			int highWaterMark = Integer.parseInt(property.trim());
+			if (highWaterMark > 0) {
+				return highWaterMark;
+			}
+		} catch (NumberFormatException ex) {
+			// Handled below
+		}
+
+		InternalLogger.log(Level.ERROR, "High-water mark for writing thread must be a positive number: " + property);
+		return 0;
+	}
+
+	/**
+	 * Detects whether severity levels can be changed at runtime.
+	 *
+	 * @return {@code true} if reconfiguration is explicitly enabled, otherwise {@code false}
+	 */
+	public static boolean isReconfigurationEnabled() {
+		String enabled = Configuration.get("reconfigurable");
+		return enabled != null && Boolean.parseBoolean(enabled.trim());
+	}
+
+	/**
+	 * Detects whether metrics should be collected and published via JMX.
+	 *
+	 * @return {@code true} if metrics are explicitly enabled, otherwise {@code false}
+	 */
+	public static boolean isMetricsEnabled() {
+		String enabled = Configuration.get("metrics");
+		return enabled != null && Boolean.parseBoolean(enabled.trim());
+	}
+
 	/**
 	 * Detects whether auto shutdown is enabled in configuration.
 	 *
@@ -103,6 +150,60 @@ public final class ConfigurationParser {
 		return enabled == null || Boolean.parseBoolean(enabled.trim());
 	}
 
+	/**
+	 * Detects whether child threads should inherit the thread context of their parent thread.
+	 *
+	 * @return {@code false} if context inheritance is explicitly disabled, otherwise {@code true}
+	 */
+	public static boolean isContextInheritanceEnabled() {
+		String enabled = Configuration.get("inheritcontext");
+		return enabled == null || Boolean.parseBoolean(enabled.trim());
+	}
+
+	/**
+	 * Loads the rate limit for log entries from configuration. The rate limit has to be defined as maximum number of
+	 * log entries per second, minute, or hour, for example "100/s", "1000/m", or "10000/h".
+	 *
+	 * @return Rate limiter or {@code null} if no valid rate limit is configured
+	 */
+	public static RateLimiter getRateLimiter() {
+		String property = Configuration.get("ratelimit");
+		if (property == null) {
+			return null;
+		}
+
+		int splitIndex = property.indexOf('/');
+		if (splitIndex == -1) {
+			InternalLogger.log(Level.ERROR, "Rate limit must be defined as number per time unit, for example \"100/s\": " + property);
+			return null;
+		}
+
+		long limit;
+		try {
+			limit = Long.parseLong(property.substring(0, splitIndex).trim());
+		} catch (NumberFormatException ex) {
+			InternalLogger.log(Level.ERROR, "Invalid number for rate limit: " + property);
+			return null;
+		}
+
+		if (limit <= 0) {
+			InternalLogger.log(Level.ERROR, "Rate limit must be positive: " + property);
+			return null;
+		}
+
+		String unit = property.substring(splitIndex + 1).trim().toLowerCase(Locale.ROOT);
+		if ("s".equals(unit)) {
+			return new RateLimiter(limit, TimeUnit.SECONDS.toNanos(1));
+		} else if ("m".equals(unit)) {
+			return new RateLimiter(limit, TimeUnit.MINUTES.toNanos(1));
+		} else if ("h".equals(unit)) {
+			return new RateLimiter(limit, TimeUnit.HOURS.toNanos(1));
+		} else {
+			InternalLogger.log(Level.ERROR, "Unknown time unit for rate limit (expected \"s\", \"m\", or \"h\"): " + property);
+			return null;
+		}
+	}
+
 	/**
 	 * Reads a severity level from configuration.
 	 *
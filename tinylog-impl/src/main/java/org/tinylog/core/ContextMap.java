@@ -0,0 +1,609 @@
+/*
+ * Copyright 2022 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.core;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Immutable map for thread context values with structural sharing.
+ *
+ * <p>
+ *     Modifications create new maps via {@link #with(String, String)} and {@link #without(String)}, but never modify
+ *     an existing map. Thereby, an existing map can be used as snapshot without copying. Small maps store their
+ *     entries in a sorted array. Larger maps use a hash array mapped trie, where a modification copies only the nodes
+ *     along the path to the modified entry.
+ * </p>
+ */
+final class ContextMap extends AbstractMap<String, String> {
+
+	/**
+	 * Empty context map.
+	 */
+	static final ContextMap EMPTY = new ContextMap(new Object[0], null, 0);
+
+	private static final int MAX_ARRAY_SIZE = 8;
+	private static final int MAX_DEPTH = 8;
+
+	private static final int BITS_PER_LEVEL = 5;
+	private static final int LEVEL_MASK = (1 << BITS_PER_LEVEL) - 1;
+
+	private final Object[] entries;
+	private final AbstractNode root;
+	private final int size;
+
+	/**
+	 * @param entries
+	 *            Alternately keys and values sorted by key, or {@code null} if the root node is used
+	 * @param root
+	 *            Root node of the trie, or {@code null} if the sorted array is used
+	 * @param size
+	 *            Number of stored mappings
+	 */
+	private ContextMap(final Object[] entries, final AbstractNode root, final int size) {
+		this.entries = entries;
+		this.root = root;
+		this.size = size;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override
+	public boolean containsKey(final Object key) {
+		return get(key) != null;
+	}
+
+	@Override
+	public String get(final Object key) {
+		if (key instanceof String) {
+			String name = (String) key;
+			if (root == null) {
+				int index = search(entries, name);
+				return index >= 0 ? (String) entries[index + 1] : null;
+			} else {
+				return root.get(0, name.hashCode(), name);
+			}
+		} else {
+			return null;
+		}
+	}
+
+	@Override
+	public Set<Entry<String, String>> entrySet() {
+		return new EntrySet();
+	}
+
+	/**
+	 * Creates a new context map that contains all mappings of this map and additionally the passed mapping. If the key
+	 * already exists, the original value will be overridden.
+	 *
+	 * @param key
+	 *            Key of mapping
+	 * @param value
+	 *            Value of mapping (must be not {@code null})
+	 * @return New context map or this map, if the passed mapping exists already
+	 */
+	ContextMap with(final String key, final String value) {
+		String existing = get(key);
+		if (value.equals(existing)) {
+			return this;
+		}
+
+		int newSize = existing == null ? size + 1 : size;
+
+		if (root == null && newSize <= MAX_ARRAY_SIZE) {
+			int index = search(entries, key);
+			if (index >= 0) {
+				Object[] copy = entries.clone();
+				copy[index + 1] = value;
+				return new ContextMap(copy, null, newSize);
+			} else {
+				int position = -(index + 1);
+				Object[] copy = new Object[entries.length + 2];
+				System.arraycopy(entries, 0, copy, 0, position);
+				copy[position] = key;
+				copy[position + 1] = value;
+				System.arraycopy(entries, position, copy, position + 2, entries.length - position);
+				return new ContextMap(copy, null, newSize);
+			}
+		} else {
+			AbstractNode node = root;
+			if (node == null) {
+				node = BitmapNode.EMPTY;
+				for (int i = 0; i < entries.length; i += 2) {
+					String entryKey = (String) entries[i];
+					node = node.put(0, entryKey.hashCode(), entryKey, entries[i + 1]);
+				}
+			}
+
+			return new ContextMap(null, node.put(0, key.hashCode(), key, value), newSize);
+		}
+	}
+
+	/**
+	 * Creates a new context map that contains all mappings of this map except the mapping with the passed key.
+	 *
+	 * @param key
+	 *            Key of mapping to remove
+	 * @return New context map or this map, if there is no mapping with the passed key
+	 */
+	ContextMap without(final String key) {
+		if (get(key) == null) {
+			return this;
+		} else if (size == 1) {
+			return EMPTY;
+		} else if (root == null) {
+			int index = search(entries, key);
+			Object[] copy = new Object[entries.length - 2];
+			System.arraycopy(entries, 0, copy, 0, index);
+			System.arraycopy(entries, index + 2, copy, index, entries.length - index - 2);
+			return new ContextMap(copy, null, size - 1);
+		} else if (size - 1 <= MAX_ARRAY_SIZE) {
+			ContextMap map = EMPTY;
+			for (Entry<String, String> entry : entrySet()) {
+				if (!key.equals(entry.getKey())) {
+					map = map.with(entry.getKey(), entry.getValue());
+				}
+			}
+			return map;
+		} else {
+			return new ContextMap(null, root.remove(0, key.hashCode(), key), size - 1);
+		}
+	}
+
+	/**
+	 * Searches a key in a sorted array with alternating keys and values.
+	 *
+	 * @param entries
+	 *            Alternately keys and values sorted by key
+	 * @param key
+	 *            Key to search for
+	 * @return Array index of the found key or {@code (-(insertion index) - 1)}, if the key doesn't exist
+	 */
+	private static int search(final Object[] entries, final String key) {
+		int low = 0;
+		int high = entries.length / 2 - 1;
+
+		while (low <= high) {
+			int middle = (low + high) >>> 1;
+			int result = ((String) entries[middle * 2]).compareTo(key);
+			if (result < 0) {
+				low = middle + 1;
+			} else if (result > 0) {
+				high = middle - 1;
+			} else {
+				return middle * 2;
+			}
+		}
+
+		return -(low * 2) - 1;
+	}
+
+	/**
+	 * Immutable node of the hash array mapped trie. Nodes store alternately keys and values. A {@code null} key means
+	 * that the following element is a child node instead of a value.
+	 */
+	private abstract static class AbstractNode {
+
+		private final Object[] array;
+
+		/**
+		 * @param array
+		 *            Alternately keys and values or child nodes
+		 */
+		AbstractNode(final Object[] array) {
+			this.array = array;
+		}
+
+		/**
+		 * Gets the stored elements of this node.
+		 *
+		 * @return Alternately keys and values or child nodes
+		 */
+		final Object[] getArray() {
+			return array;
+		}
+
+		/**
+		 * Gets the value of a key.
+		 *
+		 * @param shift
+		 *            Number of hash bits that are consumed by the parent nodes
+		 * @param hash
+		 *            Hash code of the key
+		 * @param key
+		 *            Key of mapping
+		 * @return Found value or {@code null}
+		 */
+		abstract String get(int shift, int hash, String key);
+
+		/**
+		 * Creates a new node that contains additionally the passed mapping.
+		 *
+		 * @param shift
+		 *            Number of hash bits that are consumed by the parent nodes
+		 * @param hash
+		 *            Hash code of the key
+		 * @param key
+		 *            Key of mapping
+		 * @param value
+		 *            Value of mapping
+		 * @return New node
+		 */
+		abstract AbstractNode put(int shift, int hash, String key, Object value);
+
+		/**
+		 * Creates a new node without the mapping with the passed key.
+		 *
+		 * @param shift
+		 *            Number of hash bits that are consumed by the parent nodes
+		 * @param hash
+		 *            Hash code of the key
+		 * @param key
+		 *            Key of mapping
+		 * @return New node, this node if the key doesn't exist, or {@code null} if the new node would be empty
+		 */
+		abstract AbstractNode remove(int shift, int hash, String key);
+
+	}
+
+	/**
+	 * Trie node that uses a bitmap for identifying the occupied slots for the next bits of the hash code.
+	 */
+	private static final class BitmapNode extends AbstractNode {
+
+		private static final BitmapNode EMPTY = new BitmapNode(0, new Object[0]);
+
+		private final int bitmap;
+
+		/**
+		 * @param bitmap
+		 *            Occupied slots
+		 * @param array
+		 *            Alternately keys and values or child nodes for all occupied slots
+		 */
+		private BitmapNode(final int bitmap, final Object[] array) {
+			super(array);
+			this.bitmap = bitmap;
+		}
+
+		@Override
+		String get(final int shift, final int hash, final String key) {
+			Object[] array = getArray();
+			int bit = bit(shift, hash);
+			if ((bitmap & bit) == 0) {
+				return null;
+			}
+
+			int index = index(bit);
+			Object storedKey = array[index];
+
+			if (storedKey == null) {
+				return ((AbstractNode) array[index + 1]).get(shift + BITS_PER_LEVEL, hash, key);
+			} else if (key.equals(storedKey)) {
+				return (String) array[index + 1];
+			} else {
+				return null;
+			}
+		}
+
+		@Override
+		AbstractNode put(final int shift, final int hash, final String key, final Object value) {
+			Object[] array = getArray();
+			int bit = bit(shift, hash);
+			int index = index(bit);
+
+			if ((bitmap & bit) == 0) {
+				Object[] copy = new Object[array.length + 2];
+				System.arraycopy(array, 0, copy, 0, index);
+				copy[index] = key;
+				copy[index + 1] = value;
+				System.arraycopy(array, index, copy, index + 2, array.length - index);
+				return new BitmapNode(bitmap | bit, copy);
+			}
+
+			Object storedKey = array[index];
+			Object storedValue = array[index + 1];
+			Object[] copy = array.clone();
+
+			if (storedKey == null) {
+				copy[index + 1] = ((AbstractNode) storedValue).put(shift + BITS_PER_LEVEL, hash, key, value);
+			} else if (key.equals(storedKey)) {
+				copy[index + 1] = value;
+			} else {
+				String existingKey = (String) storedKey;
+				copy[index] = null;
+				copy[index + 1] = merge(shift + BITS_PER_LEVEL, existingKey, storedValue, hash, key, value);
+			}
+
+			return new BitmapNode(bitmap, copy);
+		}
+
+		@Override
+		AbstractNode remove(final int shift, final int hash, final String key) {
+			Object[] array = getArray();
+			int bit = bit(shift, hash);
+			if ((bitmap & bit) == 0) {
+				return this;
+			}
+
+			int index = index(bit);
+			Object storedKey = array[index];
+
+			if (storedKey == null) {
+				AbstractNode child = (AbstractNode) array[index + 1];
+				AbstractNode newChild = child.remove(shift + BITS_PER_LEVEL, hash, key);
+				if (newChild == child) {
+					return this;
+				} else if (newChild != null) {
+					Object[] copy = array.clone();
+					copy[index + 1] = newChild;
+					return new BitmapNode(bitmap, copy);
+				}
+			} else if (!key.equals(storedKey)) {
+				return this;
+			}
+
+			if (bitmap == bit) {
+				return null;
+			} else {
+				Object[] copy = new Object[array.length - 2];
+				System.arraycopy(array, 0, copy, 0, index);
+				System.arraycopy(array, index + 2, copy, index, array.length - index - 2);
+				return new BitmapNode(bitmap ^ bit, copy);
+			}
+		}
+
+		/**
+		 * Creates a new node that contains two different mappings.
+		 *
+		 * @param shift
+		 *            Number of hash bits that are consumed by the parent nodes
+		 * @param firstKey
+		 *            Key of first mapping
+		 * @param firstValue
+		 *            Value of first mapping
+		 * @param secondHash
+		 *            Hash code of second key
+		 * @param secondKey
+		 *            Key of second mapping
+		 * @param secondValue
+		 *            Value of second mapping
+		 * @return New node
+		 */
+		private static AbstractNode merge(final int shift, final String firstKey, final Object firstValue, final int secondHash,
+				final String secondKey, final Object secondValue) {
+			int firstHash = firstKey.hashCode();
+			if (firstHash == secondHash) {
+				return new CollisionNode(firstHash, new Object[] { firstKey, firstValue, secondKey, secondValue });
+			} else {
+				return EMPTY.put(shift, firstHash, firstKey, firstValue).put(shift, secondHash, secondKey, secondValue);
+			}
+		}
+
+		/**
+		 * Gets the bit in the bitmap for a hash code.
+		 *
+		 * @param shift
+		 *            Number of hash bits that are consumed by the parent nodes
+		 * @param hash
+		 *            Hash code of a key
+		 * @return Bit with the slot for the passed hash code
+		 */
+		private static int bit(final int shift, final int hash) {
+			return 1 << ((hash >>> shift) & LEVEL_MASK);
+		}
+
+		/**
+		 * Gets the array index for an occupied or new slot.
+		 *
+		 * @param bit
+		 *            Bit of the slot
+		 * @return Array index of the key
+		 */
+		private int index(final int bit) {
+			return Integer.bitCount(bitmap & (bit - 1)) * 2;
+		}
+
+	}
+
+	/**
+	 * Trie node for keys with identical hash codes.
+	 */
+	private static final class CollisionNode extends AbstractNode {
+
+		private final int hash;
+
+		/**
+		 * @param hash
+		 *            Hash code of all contained keys
+		 * @param array
+		 *            Alternately keys and values
+		 */
+		private CollisionNode(final int hash, final Object[] array) {
+			super(array);
+			this.hash = hash;
+		}
+
+		@Override
+		String get(final int shift, final int hash, final String key) {
+			Object[] array = getArray();
+			int index = find(key);
+			return index >= 0 ? (String) array[index + 1] : null;
+		}
+
+		@Override
+		AbstractNode put(final int shift, final int hash, final String key, final Object value) {
+			Object[] array = getArray();
+
+			if (hash != this.hash) {
+				BitmapNode parent = new BitmapNode(BitmapNode.bit(shift, this.hash), new Object[] { null, this });
+				return parent.put(shift, hash, key, value);
+			}
+
+			int index = find(key);
+			if (index >= 0) {
+				Object[] copy = array.clone();
+				copy[index + 1] = value;
+				return new CollisionNode(hash, copy);
+			} else {
+				Object[] copy = new Object[array.length + 2];
+				System.arraycopy(array, 0, copy, 0, array.length);
+				copy[array.length] = key;
+				copy[array.length + 1] = value;
+				return new CollisionNode(hash, copy);
+			}
+		}
+
+		@Override
+		AbstractNode remove(final int shift, final int hash, final String key) {
+			Object[] array = getArray();
+			int index = find(key);
+
+			if (index < 0) {
+				return this;
+			} else if (array.length == 2) {
+				return null;
+			} else {
+				Object[] copy = new Object[array.length - 2];
+				System.arraycopy(array, 0, copy, 0, index);
+				System.arraycopy(array, index + 2, copy, index, array.length - index - 2);
+				return new CollisionNode(hash, copy);
+			}
+		}
+
+		/**
+		 * Searches the array index of a key.
+		 *
+		 * @param key
+		 *            Key to search for
+		 * @return Found array index or {@code -1}
+		 */
+		private int find(final String key) {
+			Object[] array = getArray();
+			for (int i = 0; i < array.length; i += 2) {
+				if (key.equals(array[i])) {
+					return i;
+				}
+			}
+			return -1;
+		}
+
+	}
+
+	/**
+	 * Entry set view of this context map.
+	 */
+	private final class EntrySet extends AbstractSet<Entry<String, String>> {
+
+		/** */
+		private EntrySet() {
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+
+		@Override
+		public Iterator<Entry<String, String>> iterator() {
+			return new EntryIterator(root == null ? entries : root.getArray());
+		}
+
+	}
+
+	/**
+	 * Iterator for all entries of a sorted array or trie.
+	 */
+	private static final class EntryIterator implements Iterator<Entry<String, String>> {
+
+		private final Object[][] arrays;
+		private final int[] positions;
+		private int depth;
+		private Entry<String, String> next;
+
+		/**
+		 * @param array
+		 *            Alternately keys and values or child nodes of the root
+		 */
+		private EntryIterator(final Object[] array) {
+			arrays = new Object[MAX_DEPTH][];
+			positions = new int[MAX_DEPTH];
+			arrays[0] = array;
+			advance();
+		}
+
+		@Override
+		public boolean hasNext() {
+			return next != null;
+		}
+
+		@Override
+		public Entry<String, String> next() {
+			Entry<String, String> entry = next;
+			if (entry == null) {
+				throw new NoSuchElementException();
+			}
+
+			advance();
+			return entry;
+		}
+
+		@Override
+		public void remove() {
+			throw new UnsupportedOperationException();
+		}
+
+		/**
+		 * Moves forward to the next entry.
+		 */
+		private void advance() {
+			next = null;
+
+			while (depth >= 0) {
+				Object[] array = arrays[depth];
+				int position = positions[depth];
+
+				if (position >= array.length) {
+					arrays[depth--] = null;
+				} else {
+					positions[depth] = position + 2;
+					Object key = array[position];
+					Object value = array[position + 1];
+
+					if (key == null) {
+						arrays[++depth] = ((AbstractNode) value).getArray();
+						positions[depth] = 0;
+					} else {
+						next = new SimpleImmutableEntry<String, String>((String) key, (String) value);
+						return;
+					}
+				}
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2022 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.core;
+
+import org.tinylog.Level;
+import org.tinylog.writers.Writer;
+
+/**
+ * Listener for internal events of tinylog, such as flushes, rollovers, or compressions of log files.
+ *
+ * <p>
+ * Implementations are discovered via {@link java.util.ServiceLoader} and must provide a public default constructor.
+ * All methods can be called concurrently from different threads, including the writing thread and compression threads.
+ * Therefore, implementations must be thread-safe and should return quickly.
+ * </p>
+ *
+ * @see Diagnostics
+ */
+public interface DiagnosticListener {
+
+	/**
+	 * Called after a writer has been flushed by the writing thread.
+	 *
+	 * @param writer
+	 *            Flushed writer
+	 * @param nanoseconds
+	 *            Duration of flushing in nanoseconds
+	 */
+	void flushed(Writer writer, long nanoseconds);
+
+	/**
+	 * Called after a rolling file writer has started a new log file.
+	 *
+	 * @param fileName
+	 *            Path of the new log file
+	 * @param nanoseconds
+	 *            Duration that the writing thread has been blocked by starting the new log file in nanoseconds
+	 */
+	void rolledOver(String fileName, long nanoseconds);
+
+	/**
+	 * Called after a log file has been compressed.
+	 *
+	 * @param fileName
+	 *            Path of the original log file
+	 * @param originalSize
+	 *            Size of the original log file in bytes
+	 * @param compressedSize
+	 *            Size of the compressed log file in bytes
+	 * @param nanoseconds
+	 *            Duration of compressing in nanoseconds
+	 */
+	void compressed(String fileName, long originalSize, long compressedSize, long nanoseconds);
+
+	/**
+	 * Called after the writing thread has fallen so far behind that log entries below a severity level are dropped.
+	 *
+	 * @param pendingEntries
+	 *            Number of pending log entries
+	 * @param minimumLevel
+	 *            New minimum severity level for accepted log entries
+	 */
+	void stalled(int pendingEntries, Level minimumLevel);
+
+}
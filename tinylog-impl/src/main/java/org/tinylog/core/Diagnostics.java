@@ -0,0 +1,127 @@
+/*
+ * Copyright 2022 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ServiceConfigurationError;
+
+import org.tinylog.Level;
+import org.tinylog.provider.InternalLogger;
+import org.tinylog.writers.Writer;
+
+/**
+ * Dispatcher for internal events to all registered {@link DiagnosticListener DiagnosticListeners}.
+ *
+ * <p>
+ * Listeners are loaded once when this class is initialized. Callers should check {@link #isEnabled()} before measuring
+ * durations, so that there is no overhead if no listener is registered.
+ * </p>
+ */
+public final class Diagnostics {
+
+	private static final DiagnosticListener[] listeners = loadListeners();
+
+	/** */
+	private Diagnostics() {
+	}
+
+	/**
+	 * Checks whether at least one listener is registered.
+	 *
+	 * @return {@code true} if events are dispatched, {@code false} if events are discarded anyway
+	 */
+	public static boolean isEnabled() {
+		return listeners.length > 0;
+	}
+
+	/**
+	 * Notifies all listeners that a writer has been flushed.
+	 *
+	 * @param writer
+	 *            Flushed writer
+	 * @param nanoseconds
+	 *            Duration of flushing in nanoseconds
+	 */
+	public static void flushed(final Writer writer, final long nanoseconds) {
+		for (DiagnosticListener listener : listeners) {
+			listener.flushed(writer, nanoseconds);
+		}
+	}
+
+	/**
+	 * Notifies all listeners that a new log file has been started.
+	 *
+	 * @param fileName
+	 *            Path of the new log file
+	 * @param nanoseconds
+	 *            Duration of starting the new log file in nanoseconds
+	 */
+	public static void rolledOver(final String fileName, final long nanoseconds) {
+		for (DiagnosticListener listener : listeners) {
+			listener.rolledOver(fileName, nanoseconds);
+		}
+	}
+
+	/**
+	 * Notifies all listeners that a log file has been compressed.
+	 *
+	 * @param fileName
+	 *            Path of the original log file
+	 * @param originalSize
+	 *            Size of the original log file in bytes
+	 * @param compressedSize
+	 *            Size of the compressed log file in bytes
+	 * @param nanoseconds
+	 *            Duration of compressing in nanoseconds
+	 */
+	public static void compressed(final String fileName, final long originalSize, final long compressedSize, final long nanoseconds) {
+		for (DiagnosticListener listener : listeners) {
+			listener.compressed(fileName, originalSize, compressedSize, nanoseconds);
+		}
+	}
+
+	/**
+	 * Notifies all listeners that the writing thread has started dropping log entries.
+	 *
+	 * @param pendingEntries
+	 *            Number of pending log entries
+	 * @param minimumLevel
+	 *            New minimum severity level for accepted log entries
+	 */
+	public static void stalled(final int pendingEntries, final Level minimumLevel) {
+		for (DiagnosticListener listener : listeners) {
+			listener.stalled(pendingEntries, minimumLevel);
+		}
+	}
+
+	/**
+	 * Loads all registered listeners.
+	 *
+	 * @return Found listeners
+	 */
+	private static DiagnosticListener[] loadListeners() {
+		List<DiagnosticListener> listeners = new ArrayList<DiagnosticListener>();
+		try {
+			ClassLoader classLoader = DiagnosticListener.class.getClassLoader();
+			for (DiagnosticListener listener : java.util.ServiceLoader.load(DiagnosticListener.class, classLoader)) {
+				listeners.add(listener);
+			}
+		} catch (ServiceConfigurationError error) {
+			InternalLogger.log(Level.ERROR, error, "Failed loading diagnostic listeners");
+		}
+		return listeners.toArray(new DiagnosticListener[listeners.size()]);
+	}
+
+}
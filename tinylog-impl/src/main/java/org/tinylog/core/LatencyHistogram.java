@@ -0,0 +1,127 @@
+/*
+ * Copyright 2022 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.core;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free histogram for durations with logarithmic buckets.
+ *
+ * <p>
+ * Each bucket covers a range from a power of two nanoseconds inclusively to the next power of two exclusively.
+ * Therefore, percentiles are accurate to a factor of two, while recording a duration costs only one atomic increment.
+ * </p>
+ */
+public final class LatencyHistogram {
+
+	private static final int BUCKETS = Long.SIZE;
+	private static final double MAX_PERCENTILE = 100;
+
+	private final AtomicLongArray buckets;
+
+	/** */
+	LatencyHistogram() {
+		buckets = new AtomicLongArray(BUCKETS);
+	}
+
+	/**
+	 * Gets the number of all recorded durations.
+	 *
+	 * @return Number of recorded durations
+	 */
+	public long getCount() {
+		long count = 0;
+		for (int i = 0; i < BUCKETS; ++i) {
+			count += buckets.get(i);
+		}
+		return count;
+	}
+
+	/**
+	 * Gets the upper bound of a percentile of all recorded durations.
+	 *
+	 * @param percentile
+	 *            Percentile between 0 and 100 (for example, 99 for the 99th percentile)
+	 * @return Exclusive upper bound in nanoseconds or {@code 0} if no durations have been recorded yet
+	 */
+	public long getPercentile(final double percentile) {
+		long[] counts = new long[BUCKETS];
+		long total = 0;
+		for (int i = 0; i < BUCKETS; ++i) {
+			counts[i] = buckets.get(i);
+			total += counts[i];
+		}
+		return getPercentile(counts, total, percentile);
+	}
+
+	/**
+	 * Gets the upper bound of a percentile of all durations that have been recorded by multiple histograms.
+	 *
+	 * @param histograms
+	 *            Histograms to combine
+	 * @param percentile
+	 *            Percentile between 0 and 100 (for example, 99 for the 99th percentile)
+	 * @return Exclusive upper bound in nanoseconds or {@code 0} if no durations have been recorded yet
+	 */
+	static long getPercentile(final Iterable<LatencyHistogram> histograms, final double percentile) {
+		long[] counts = new long[BUCKETS];
+		long total = 0;
+		for (LatencyHistogram histogram : histograms) {
+			for (int i = 0; i < BUCKETS; ++i) {
+				long count = histogram.buckets.get(i);
+				counts[i] += count;
+				total += count;
+			}
+		}
+		return getPercentile(counts, total, percentile);
+	}
+
+	/**
+	 * Records a duration.
+	 *
+	 * @param nanoseconds
+	 *            Duration in nanoseconds (negative durations are recorded as zero)
+	 */
+	void record(final long nanoseconds) {
+		buckets.incrementAndGet(nanoseconds <= 0 ? 0 : Long.SIZE - Long.numberOfLeadingZeros(nanoseconds));
+	}
+
+	/**
+	 * Finds the bucket that contains a percentile.
+	 *
+	 * @param counts
+	 *            Number of durations per bucket
+	 * @param total
+	 *            Number of all durations
+	 * @param percentile
+	 *            Percentile between 0 and 100
+	 * @return Exclusive upper bound of the found bucket in nanoseconds or {@code 0} if there are no durations
+	 */
+	private static long getPercentile(final long[] counts, final long total, final double percentile) {
+		if (total == 0) {
+			return 0;
+		}
+
+		long threshold = (long) Math.ceil(total * Math.min(Math.max(percentile, 0), MAX_PERCENTILE) / MAX_PERCENTILE);
+		long sum = 0;
+		for (int i = 0; i < BUCKETS; ++i) {
+			sum += counts[i];
+			if (sum >= threshold && sum > 0) {
+				return i >= Long.SIZE - 1 ? Long.MAX_VALUE : 1L << i;
+			}
+		}
+		return Long.MAX_VALUE;
+	}
+
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2022 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.core;
+
+import java.util.Locale;
+
+import org.tinylog.Level;
+
+/**
+ * JMX MBean for changing severity levels of a {@link TinylogLoggingProvider} at runtime.
+ */
+final class LevelControl implements LevelControlMBean {
+
+	/**
+	 * Object name of the registered MBean.
+	 */
+	static final String OBJECT_NAME = "org.tinylog:type=Levels";
+
+	private final TinylogLoggingProvider provider;
+
+	/**
+	 * @param provider
+	 *            Logging provider whose severity levels should be changed
+	 */
+	LevelControl(final TinylogLoggingProvider provider) {
+		this.provider = provider;
+	}
+
+	@Override
+	public String getLevel() {
+		return provider.getLevel().name();
+	}
+
+	@Override
+	public void setLevel(final String level) {
+		Level parsedLevel = parse(level);
+		if (parsedLevel == null) {
+			throw new IllegalArgumentException("Global severity level cannot be removed");
+		} else {
+			provider.setLevel(parsedLevel);
+		}
+	}
+
+	@Override
+	public String getCustomLevel(final String packageOrClass) {
+		return toName(provider.getCustomLevels().get(packageOrClass));
+	}
+
+	@Override
+	public void setCustomLevel(final String packageOrClass, final String level) {
+		provider.setLevel(packageOrClass, parse(level));
+	}
+
+	@Override
+	public String getTagLevel(final String tag) {
+		return toName(provider.getTagLevels().get(tag));
+	}
+
+	@Override
+	public void setTagLevel(final String tag, final String level) {
+		provider.setTagLevel(tag, parse(level));
+	}
+
+	/**
+	 * Registers a new MBean for the passed logging provider at the platform MBean server. An already registered MBean
+	 * will be replaced.
+	 *
+	 * @param provider
+	 *            Logging provider whose severity levels should be changeable via JMX
+	 */
+	static void register(final TinylogLoggingProvider provider) {
+		ManagementRegistry.register(OBJECT_NAME, provider, new LevelControl(provider), LevelControlMBean.class);
+	}
+
+	/**
+	 * Unregisters the MBean from the platform MBean server, if it belongs to the passed logging provider.
+	 *
+	 * @param provider
+	 *            Logging provider that has been registered before
+	 */
+	static void unregister(final TinylogLoggingProvider provider) {
+		ManagementRegistry.unregister(OBJECT_NAME, provider);
+	}
+
+	/**
+	 * Parses a severity level.
+	 *
+	 * @param level
+	 *            Case-insensitive name of severity level
+	 * @return Parsed severity level or {@code null} if the passed name is {@code null} or empty
+	 *
+	 * @throws IllegalArgumentException
+	 *             Passed severity level is unknown
+	 */
+	private static Level parse(final String level) {
+		if (level == null || level.trim().isEmpty()) {
+			return null;
+		} else {
+			try {
+				return Level.valueOf(level.trim().toUpperCase(Locale.ROOT));
+			} catch (IllegalArgumentException ex) {
+				throw new IllegalArgumentException("Unknown severity level: " + level, ex);
+			}
+		}
+	}
+
+	/**
+	 * Gets the name of a severity level.
+	 *
+	 * @param level
+	 *            Severity level (can be {@code null})
+	 * @return Name of severity level or {@code null}
+	 */
+	private static String toName(final Level level) {
+		return level == null ? null : level.name();
+	}
+
+}
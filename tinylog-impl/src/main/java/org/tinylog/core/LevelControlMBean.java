@@ -0,0 +1,88 @@
+/*
+ * Copyright 2022 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.core;
+
+/**
+ * JMX management interface for changing severity levels of {@link TinylogLoggingProvider} at runtime.
+ *
+ * <p>
+ * Severity levels are passed as case-insensitive names like "debug" or "info". Passing {@code null} or an empty
+ * string for a custom severity level removes it.
+ * </p>
+ */
+public interface LevelControlMBean {
+
+	/**
+	 * Gets the current global severity level.
+	 *
+	 * @return Name of global severity level
+	 */
+	String getLevel();
+
+	/**
+	 * Changes the global severity level.
+	 *
+	 * @param level
+	 *            Name of new global severity level
+	 *
+	 * @throws IllegalArgumentException
+	 *             Passed severity level is unknown
+	 */
+	void setLevel(String level);
+
+	/**
+	 * Gets the current custom severity level for a package or class.
+	 *
+	 * @param packageOrClass
+	 *            Fully-qualified name of package or class
+	 * @return Name of custom severity level or {@code null} if there is none
+	 */
+	String getCustomLevel(String packageOrClass);
+
+	/**
+	 * Changes the custom severity level for a package or class.
+	 *
+	 * @param packageOrClass
+	 *            Fully-qualified name of package or class
+	 * @param level
+	 *            Name of new severity level or {@code null} to remove the custom severity level
+	 *
+	 * @throws IllegalArgumentException
+	 *             Passed severity level is unknown
+	 */
+	void setCustomLevel(String packageOrClass, String level);
+
+	/**
+	 * Gets the current custom severity level for a tag.
+	 *
+	 * @param tag
+	 *            Name of tag
+	 * @return Name of custom severity level or {@code null} if there is none
+	 */
+	String getTagLevel(String tag);
+
+	/**
+	 * Changes the custom severity level for a tag.
+	 *
+	 * @param tag
+	 *            Name of tag
+	 * @param level
+	 *            Name of new severity level or {@code null} to remove the custom severity level
+	 *
+	 * @throws IllegalArgumentException
+	 *             Passed severity level is unknown
+	 */
+	void setTagLevel(String tag, String level);
+
+}
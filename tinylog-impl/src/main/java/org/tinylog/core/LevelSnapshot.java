@@ -0,0 +1,224 @@
+/*
+ * Copyright 2022 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.core;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.tinylog.Level;
+
+/**
+ * Immutable snapshot of the global severity level and all custom severity levels for packages, classes and tags.
+ *
+ * <p>
+ * Changing a severity level creates a new snapshot. Therefore, a snapshot can be shared between threads without any
+ * synchronization.
+ * </p>
+ */
+final class LevelSnapshot {
+
+	private final Level globalLevel;
+	private final Map<String, Level> customLevels;
+	private final Map<String, Level> tagLevels;
+	private final Level lowestLevel;
+
+	/**
+	 * @param globalLevel
+	 *            Global severity level
+	 * @param customLevels
+	 *            Custom severity levels for packages and classes (map will be copied)
+	 * @param tagLevels
+	 *            Custom severity levels for tags (map will be copied)
+	 */
+	LevelSnapshot(final Level globalLevel, final Map<String, Level> customLevels, final Map<String, Level> tagLevels) {
+		this.globalLevel = globalLevel;
+		this.customLevels = Collections.unmodifiableMap(new HashMap<String, Level>(customLevels));
+		this.tagLevels = Collections.unmodifiableMap(new HashMap<String, Level>(tagLevels));
+
+		Level lowest = globalLevel;
+		for (Level level : customLevels.values()) {
+			if (level.ordinal() < lowest.ordinal()) {
+				lowest = level;
+			}
+		}
+		this.lowestLevel = lowest;
+	}
+
+	/**
+	 * Gets the global severity level.
+	 *
+	 * @return Global severity level
+	 */
+	Level getGlobalLevel() {
+		return globalLevel;
+	}
+
+	/**
+	 * Gets all custom severity levels for packages and classes.
+	 *
+	 * @return Unmodifiable map with package or class names as keys
+	 */
+	Map<String, Level> getCustomLevels() {
+		return customLevels;
+	}
+
+	/**
+	 * Gets all custom severity levels for tags.
+	 *
+	 * @return Unmodifiable map with tags as keys
+	 */
+	Map<String, Level> getTagLevels() {
+		return tagLevels;
+	}
+
+	/**
+	 * Checks whether the active severity level depends on the class name of the caller.
+	 *
+	 * @return {@code true} if there are custom severity levels for packages or classes, {@code false} if not
+	 */
+	boolean hasCustomLevels() {
+		return !customLevels.isEmpty();
+	}
+
+	/**
+	 * Checks whether the active severity level for a tag depends on the class name of the caller. This is the case if
+	 * there are custom severity levels for packages or classes, and no custom severity level for the passed tag.
+	 *
+	 * @param tag
+	 *            Tag of log entry or {@code null} if untagged
+	 * @return {@code true} if the class name of the caller is required for resolving the active severity level,
+	 *         {@code false} if not
+	 */
+	boolean isClassDependent(final String tag) {
+		return !customLevels.isEmpty() && (tag == null || !tagLevels.containsKey(tag));
+	}
+
+	/**
+	 * Gets the lowest severity level that can be active for a tag, independent of the class name of the caller. Log
+	 * entries with a lower severity level can be discarded without resolving the caller.
+	 *
+	 * @param tag
+	 *            Tag of log entry or {@code null} if untagged
+	 * @return Lowest possible active severity level
+	 */
+	Level getMinimumLevel(final String tag) {
+		if (tag != null && !tagLevels.isEmpty()) {
+			Level tagLevel = tagLevels.get(tag);
+			if (tagLevel != null) {
+				return tagLevel;
+			}
+		}
+
+		return lowestLevel;
+	}
+
+	/**
+	 * Gets the active severity level. A custom severity level for the passed tag has precedence over custom severity
+	 * levels for packages and classes. If there is neither a matching custom severity level for the tag nor for the
+	 * class or one of it's (sub-)packages, the global severity level will be returned.
+	 *
+	 * @param tag
+	 *            Tag of log entry or {@code null} if untagged
+	 * @param className
+	 *            Fully-qualified class name or {@code null} if there are no custom severity levels for classes
+	 * @return Active severity level
+	 */
+	Level getLevel(final String tag, final String className) {
+		if (tag != null && !tagLevels.isEmpty()) {
+			Level tagLevel = tagLevels.get(tag);
+			if (tagLevel != null) {
+				return tagLevel;
+			}
+		}
+
+		if (className == null || customLevels.isEmpty()) {
+			return globalLevel;
+		}
+
+		String key = className;
+		while (true) {
+			Level customLevel = customLevels.get(key);
+			if (customLevel == null) {
+				int index = key.lastIndexOf('.');
+				if (index == -1) {
+					return globalLevel;
+				} else {
+					key = key.substring(0, index);
+				}
+			} else {
+				return customLevel;
+			}
+		}
+	}
+
+	/**
+	 * Creates a new snapshot with a different global severity level.
+	 *
+	 * @param level
+	 *            New global severity level
+	 * @return Created snapshot
+	 */
+	LevelSnapshot withGlobalLevel(final Level level) {
+		return new LevelSnapshot(level, customLevels, tagLevels);
+	}
+
+	/**
+	 * Creates a new snapshot with a changed or removed custom severity level for a package or class.
+	 *
+	 * @param packageOrClass
+	 *            Fully-qualified name of package or class
+	 * @param level
+	 *            New severity level or {@code null} to remove the custom severity level
+	 * @return Created snapshot
+	 */
+	LevelSnapshot withCustomLevel(final String packageOrClass, final Level level) {
+		return new LevelSnapshot(globalLevel, put(customLevels, packageOrClass, level), tagLevels);
+	}
+
+	/**
+	 * Creates a new snapshot with a changed or removed custom severity level for a tag.
+	 *
+	 * @param tag
+	 *            Name of tag
+	 * @param level
+	 *            New severity level or {@code null} to remove the custom severity level
+	 * @return Created snapshot
+	 */
+	LevelSnapshot withTagLevel(final String tag, final Level level) {
+		return new LevelSnapshot(globalLevel, customLevels, put(tagLevels, tag, level));
+	}
+
+	/**
+	 * Creates a modified copy of a map.
+	 *
+	 * @param levels
+	 *            Original map
+	 * @param key
+	 *            Key to change
+	 * @param level
+	 *            New value or {@code null} to remove the key
+	 * @return Modified copy
+	 */
+	private static Map<String, Level> put(final Map<String, Level> levels, final String key, final Level level) {
+		Map<String, Level> copy = new HashMap<String, Level>(levels);
+		if (level == null) {
+			copy.remove(key);
+		} else {
+			copy.put(key, level);
+		}
+		return copy;
+	}
+
+}
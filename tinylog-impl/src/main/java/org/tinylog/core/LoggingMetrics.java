@@ -0,0 +1,206 @@
+/*
+ * Copyright 2022 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.core;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.tinylog.writers.Writer;
+
+/**
+ * Metrics of a {@link TinylogLoggingProvider} and all its writers.
+ *
+ * <p>
+ * All counters are lock-free and can be updated concurrently by any number of threads. The set of writers is fixed at
+ * creation, so looking up the metrics of a writer doesn't require any synchronization.
+ * </p>
+ */
+public final class LoggingMetrics implements LoggingMetricsMBean {
+
+	/**
+	 * Object name of the registered MBean.
+	 */
+	static final String OBJECT_NAME = "org.tinylog:type=Metrics";
+
+	private static final double PERCENTILE = 99;
+
+	private final StripedCounter acceptedEntries;
+	private final StripedCounter filteredEntries;
+	private final StripedCounter droppedEntries;
+	private final StripedCounter suppressedEntries;
+	private final AtomicInteger maximumQueueDepth;
+	private final Map<Writer, WriterMetrics> writers;
+	private volatile int queueDepth;
+
+	/**
+	 * @param writers
+	 *            All writers of the logging provider
+	 */
+	LoggingMetrics(final Collection<Writer> writers) {
+		this.acceptedEntries = new StripedCounter();
+		this.filteredEntries = new StripedCounter();
+		this.droppedEntries = new StripedCounter();
+		this.suppressedEntries = new StripedCounter();
+		this.maximumQueueDepth = new AtomicInteger();
+		this.writers = new IdentityHashMap<Writer, WriterMetrics>();
+
+		for (Writer writer : writers) {
+			this.writers.put(writer, new WriterMetrics());
+		}
+	}
+
+	@Override
+	public long getAcceptedEntries() {
+		return acceptedEntries.sum();
+	}
+
+	@Override
+	public long getFilteredEntries() {
+		return filteredEntries.sum();
+	}
+
+	@Override
+	public long getDroppedEntries() {
+		return droppedEntries.sum();
+	}
+
+	@Override
+	public long getSuppressedEntries() {
+		return suppressedEntries.sum();
+	}
+
+	@Override
+	public int getQueueDepth() {
+		return queueDepth;
+	}
+
+	@Override
+	public int getMaximumQueueDepth() {
+		return maximumQueueDepth.get();
+	}
+
+	@Override
+	public long getWrittenEntries() {
+		long sum = 0;
+		for (WriterMetrics metrics : writers.values()) {
+			sum += metrics.getWrittenEntries();
+		}
+		return sum;
+	}
+
+	@Override
+	public long getFailedWrites() {
+		long sum = 0;
+		for (WriterMetrics metrics : writers.values()) {
+			sum += metrics.getFailedWrites();
+		}
+		return sum;
+	}
+
+	@Override
+	public long getFlushes() {
+		long sum = 0;
+		for (WriterMetrics metrics : writers.values()) {
+			sum += metrics.getFlushes();
+		}
+		return sum;
+	}
+
+	@Override
+	public long getWriteLatency99thPercentile() {
+		List<LatencyHistogram> histograms = new ArrayList<LatencyHistogram>(writers.size());
+		for (WriterMetrics metrics : writers.values()) {
+			histograms.add(metrics.getWriteLatency());
+		}
+		return LatencyHistogram.getPercentile(histograms, PERCENTILE);
+	}
+
+	@Override
+	public long getFlushLatency99thPercentile() {
+		List<LatencyHistogram> histograms = new ArrayList<LatencyHistogram>(writers.size());
+		for (WriterMetrics metrics : writers.values()) {
+			histograms.add(metrics.getFlushLatency());
+		}
+		return LatencyHistogram.getPercentile(histograms, PERCENTILE);
+	}
+
+	/**
+	 * Gets the metrics of all writers.
+	 *
+	 * @return Unmodifiable map with writers as keys (compared by identity)
+	 */
+	public Map<Writer, WriterMetrics> getWriterMetrics() {
+		return Collections.unmodifiableMap(writers);
+	}
+
+	/**
+	 * Gets the metrics of a writer.
+	 *
+	 * @param writer
+	 *            Writer of the logging provider
+	 * @return Metrics of the passed writer or {@code null} if the writer is unknown
+	 */
+	WriterMetrics getWriterMetrics(final Writer writer) {
+		return writers.get(writer);
+	}
+
+	/**
+	 * Records a log entry that has been accepted for output.
+	 */
+	void recordAccepted() {
+		acceptedEntries.increment();
+	}
+
+	/**
+	 * Records a log entry that has been discarded by the active severity level.
+	 */
+	void recordFiltered() {
+		filteredEntries.increment();
+	}
+
+	/**
+	 * Records a log entry that has been dropped, because the writing thread has fallen behind.
+	 */
+	void recordDropped() {
+		droppedEntries.increment();
+	}
+
+	/**
+	 * Records a log entry that has been suppressed by the rate limiter.
+	 */
+	void recordSuppressed() {
+		suppressedEntries.increment();
+	}
+
+	/**
+	 * Updates the number of log entries that are pending for the writing thread.
+	 *
+	 * @param depth
+	 *            Current number of pending log entries
+	 */
+	void updateQueueDepth(final int depth) {
+		queueDepth = depth;
+
+		int maximum = maximumQueueDepth.get();
+		while (depth > maximum && !maximumQueueDepth.compareAndSet(maximum, depth)) {
+			maximum = maximumQueueDepth.get();
+		}
+	}
+
+}
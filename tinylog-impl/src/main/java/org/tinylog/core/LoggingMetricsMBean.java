@@ -0,0 +1,105 @@
+/*
+ * Copyright 2022 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.core;
+
+/**
+ * JMX MBean for monitoring the throughput of a {@link TinylogLoggingProvider}.
+ *
+ * <p>
+ * The MBean is registered as {@code org.tinylog:type=Metrics}, if metrics are enabled in the configuration (property
+ * {@code metrics}). All counters start at zero when the logging provider is created. Latencies are in nanoseconds and
+ * have the precision of a power of two.
+ * </p>
+ */
+public interface LoggingMetricsMBean {
+
+	/**
+	 * Gets the number of log entries that have been accepted for output.
+	 *
+	 * @return Number of accepted log entries
+	 */
+	long getAcceptedEntries();
+
+	/**
+	 * Gets the number of log entries that have been discarded, because their severity level was lower than the active
+	 * severity level.
+	 *
+	 * @return Number of filtered log entries
+	 */
+	long getFilteredEntries();
+
+	/**
+	 * Gets the number of log entries that have been dropped, because the writing thread has fallen behind.
+	 *
+	 * @return Number of dropped log entries
+	 */
+	long getDroppedEntries();
+
+	/**
+	 * Gets the number of log entries that have been suppressed by the rate limiter.
+	 *
+	 * @return Number of suppressed log entries
+	 */
+	long getSuppressedEntries();
+
+	/**
+	 * Gets the current number of log entries that are pending for the writing thread.
+	 *
+	 * @return Number of pending log entries or {@code 0} if there is no writing thread
+	 */
+	int getQueueDepth();
+
+	/**
+	 * Gets the highest number of log entries that have been pending for the writing thread at the same time.
+	 *
+	 * @return Maximum number of pending log entries or {@code 0} if there is no writing thread
+	 */
+	int getMaximumQueueDepth();
+
+	/**
+	 * Gets the number of log entries that have been successfully written by all writers together.
+	 *
+	 * @return Number of written log entries
+	 */
+	long getWrittenEntries();
+
+	/**
+	 * Gets the number of log entries that writers failed to write.
+	 *
+	 * @return Number of failed log entries
+	 */
+	long getFailedWrites();
+
+	/**
+	 * Gets the number of flushes of all writers together.
+	 *
+	 * @return Number of flushes
+	 */
+	long getFlushes();
+
+	/**
+	 * Gets the 99th percentile of durations for writing a log entry across all writers.
+	 *
+	 * @return Upper bound of the 99th percentile in nanoseconds or {@code 0} if nothing has been written yet
+	 */
+	long getWriteLatency99thPercentile();
+
+	/**
+	 * Gets the 99th percentile of durations for flushing across all writers.
+	 *
+	 * @return Upper bound of the 99th percentile in nanoseconds or {@code 0} if nothing has been flushed yet
+	 */
+	long getFlushLatency99thPercentile();
+
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2022 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.core;
+
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+
+import org.tinylog.Level;
+import org.tinylog.provider.InternalLogger;
+
+/**
+ * Registry for tinylog's MBeans at the platform MBean server.
+ *
+ * <p>
+ * Each MBean belongs to a logging provider. Registering an MBean replaces an already registered MBean with the same
+ * object name. Unregistering is ignored, if the MBean has been replaced by another logging provider in the meantime.
+ * </p>
+ */
+final class ManagementRegistry {
+
+	private static final Lock lock = new ReentrantLock();
+	private static final Map<String, TinylogLoggingProvider> owners = new HashMap<String, TinylogLoggingProvider>();
+
+	/** */
+	private ManagementRegistry() {
+	}
+
+	/**
+	 * Registers an MBean for a logging provider.
+	 *
+	 * @param <T>
+	 *            Management interface
+	 * @param objectName
+	 *            Object name for the MBean
+	 * @param provider
+	 *            Logging provider that owns the MBean
+	 * @param implementation
+	 *            Implementation of the management interface
+	 * @param managementInterface
+	 *            Management interface to expose
+	 */
+	static <T> void register(final String objectName, final TinylogLoggingProvider provider, final T implementation,
+		final Class<T> managementInterface) {
+		lock.lock();
+		try {
+			MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+			ObjectName name = new ObjectName(objectName);
+			if (server.isRegistered(name)) {
+				server.unregisterMBean(name);
+			}
+			server.registerMBean(new StandardMBean(implementation, managementInterface), name);
+			owners.put(objectName, provider);
+		} catch (JMException ex) {
+			InternalLogger.log(Level.WARN, ex, "Failed to register MBean '" + objectName + "'");
+		} catch (LinkageError error) {
+			InternalLogger.log(Level.WARN, error, "JMX is not available for registering MBean '" + objectName + "'");
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Unregisters an MBean, if it still belongs to the passed logging provider.
+	 *
+	 * @param objectName
+	 *            Object name of the MBean
+	 * @param provider
+	 *            Logging provider that has registered the MBean
+	 */
+	static void unregister(final String objectName, final TinylogLoggingProvider provider) {
+		lock.lock();
+		try {
+			if (owners.get(objectName) == provider) {
+				owners.remove(objectName);
+				MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+				ObjectName name = new ObjectName(objectName);
+				if (server.isRegistered(name)) {
+					server.unregisterMBean(name);
+				}
+			}
+		} catch (JMException ex) {
+			InternalLogger.log(Level.WARN, ex, "Failed to unregister MBean '" + objectName + "'");
+		} catch (LinkageError error) {
+			InternalLogger.log(Level.WARN, error, "JMX is not available for unregistering MBean '" + objectName + "'");
+		} finally {
+			lock.unlock();
+		}
+	}
+
+}
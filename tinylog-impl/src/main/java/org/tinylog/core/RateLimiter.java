@@ -0,0 +1,451 @@
+/*
+ * Copyright 2022 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.tinylog.Level;
+
+/**
+ * Rate limiter for log entries.
+ *
+ * <p>
+ * Log entries are identified by their tag, severity level, and message. Text messages are compared by their content.
+ * All other message objects, for example lazy suppliers, are compared by their class, as a new instance can be
+ * created for each log entry. Log entries with different identities never share the same limit.
+ * </p>
+ *
+ * <p>
+ * Identities are tracked in a fixed-size table without any locks. Each identity can be stored in a few slots that are
+ * determined by its hash code. If all these slots are occupied, an identity without pending suppressed log entries
+ * from past time windows is replaced. Log entries of new identities are not limited as long as there is no free slot.
+ * </p>
+ *
+ * <p>
+ * The number of suppressed log entries is reported either with the next log entry of the same identity or via
+ * {@link #expire()} as soon as the time window has passed, whatever comes first.
+ * </p>
+ */
+public final class RateLimiter {
+
+	private static final int TABLE_SIZE = 1024;
+	private static final int PROBES = 4;
+	private static final int HASH_MULTIPLIER = 31;
+	private static final int WINDOW_SHIFT = 32;
+	private static final long COUNT_MASK = 0xFFFFFFFFL;
+
+	private final long limit;
+	private final long period;
+	private final AtomicReferenceArray<Counter> counters;
+	private final AtomicLong expiredWindow;
+
+	/**
+	 * @param limit
+	 *            Maximum number of log entries per time window and identity
+	 * @param period
+	 *            Length of a time window in nanoseconds
+	 */
+	public RateLimiter(final long limit, final long period) {
+		this.limit = Math.min(limit, Integer.MAX_VALUE - 1);
+		this.period = period;
+		this.counters = new AtomicReferenceArray<Counter>(TABLE_SIZE);
+		this.expiredWindow = new AtomicLong(Long.MIN_VALUE);
+	}
+
+	/**
+	 * Gets the maximum number of log entries per time window.
+	 *
+	 * @return Maximum number of log entries
+	 */
+	public long getLimit() {
+		return limit;
+	}
+
+	/**
+	 * Gets the length of a time window.
+	 *
+	 * @return Length of a time window in nanoseconds
+	 */
+	public long getPeriod() {
+		return period;
+	}
+
+	/**
+	 * Checks whether a log entry can be output.
+	 *
+	 * @param tag
+	 *            Tag of log entry (can be {@code null})
+	 * @param level
+	 *            Severity level of log entry
+	 * @param message
+	 *            Message template or message object of log entry (can be {@code null})
+	 * @return {@code -1} if the log entry has to be suppressed, otherwise the number of suppressed log entries with the
+	 *         same identity from the last time window
+	 */
+	public long acquire(final String tag, final Level level, final Object message) {
+		return acquire(tag, level, message, System.nanoTime());
+	}
+
+	/**
+	 * Removes and returns the summaries of suppressed log entries from past time windows, whose reporting is still
+	 * outstanding. The table of identities is scanned at most once per time window. All other calls return
+	 * immediately.
+	 *
+	 * @return Summaries of suppressed log entries from past time windows
+	 */
+	public List<Summary> expire() {
+		return expire(System.nanoTime());
+	}
+
+	/**
+	 * Removes and returns all pending summaries of suppressed log entries, whose reporting is still outstanding. This
+	 * method should be called on shutdown, as summaries of the current time window are otherwise lost.
+	 *
+	 * @return Pending summaries
+	 */
+	public List<Summary> drain() {
+		List<Summary> summaries = new ArrayList<Summary>();
+		for (int i = 0; i < TABLE_SIZE; ++i) {
+			Counter counter = counters.getAndSet(i, null);
+			if (counter != null) {
+				long suppressed = counter.reset();
+				if (suppressed > 0) {
+					summaries.add(new Summary(counter.key.tag, counter.key.level, suppressed));
+				}
+			}
+		}
+		return summaries;
+	}
+
+	/**
+	 * Checks whether a log entry can be output at a defined point in time.
+	 *
+	 * @param tag
+	 *            Tag of log entry (can be {@code null})
+	 * @param level
+	 *            Severity level of log entry
+	 * @param message
+	 *            Message template or message object of log entry (can be {@code null})
+	 * @param timestamp
+	 *            Current timestamp in nanoseconds
+	 * @return {@code -1} if the log entry has to be suppressed, otherwise the number of suppressed log entries with the
+	 *         same identity from the last time window
+	 */
+	long acquire(final String tag, final Level level, final Object message, final long timestamp) {
+		long window = timestamp / period;
+		Key key = new Key(tag, level, message);
+		Counter counter = find(key, window);
+		return counter == null ? 0 : counter.acquire(window);
+	}
+
+	/**
+	 * Removes and returns the summaries of suppressed log entries from time windows before a defined point in time.
+	 *
+	 * @param timestamp
+	 *            Current timestamp in nanoseconds
+	 * @return Summaries of suppressed log entries from past time windows
+	 */
+	List<Summary> expire(final long timestamp) {
+		long window = timestamp / period;
+		long expired = expiredWindow.get();
+		if (expired >= window || !expiredWindow.compareAndSet(expired, window)) {
+			return Collections.emptyList();
+		}
+
+		List<Summary> summaries = null;
+		for (int i = 0; i < TABLE_SIZE; ++i) {
+			Counter counter = counters.get(i);
+			if (counter != null) {
+				long suppressed = counter.expire(window);
+				if (suppressed > 0) {
+					if (summaries == null) {
+						summaries = new ArrayList<Summary>();
+					}
+					summaries.add(new Summary(counter.key.tag, counter.key.level, suppressed));
+				}
+			}
+		}
+
+		return summaries == null ? Collections.<Summary>emptyList() : summaries;
+	}
+
+	/**
+	 * Finds the counter for an identity. A new counter will be created, if there is none yet.
+	 *
+	 * @param key
+	 *            Identity of log entry
+	 * @param window
+	 *            Current time window
+	 * @return Found or created counter, or {@code null} if there is no free slot for a new identity
+	 */
+	private Counter find(final Key key, final long window) {
+		int start = key.hash ^ key.hash >>> (Integer.SIZE / 2);
+
+		for (int i = 0; i < PROBES; ++i) {
+			Counter counter = counters.get((start + i) & (TABLE_SIZE - 1));
+			if (counter != null && counter.key.equals(key)) {
+				return counter;
+			}
+		}
+
+		Counter created = new Counter(key, window);
+		for (int i = 0; i < PROBES; ++i) {
+			int index = (start + i) & (TABLE_SIZE - 1);
+			Counter counter = counters.get(index);
+			if ((counter == null || counter.isIdle(window)) && counters.compareAndSet(index, counter, created)) {
+				return created;
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Summary of suppressed log entries.
+	 */
+	public static final class Summary {
+
+		private final String tag;
+		private final Level level;
+		private final long count;
+
+		/**
+		 * @param tag
+		 *            Tag of suppressed log entries (can be {@code null})
+		 * @param level
+		 *            Severity level of suppressed log entries
+		 * @param count
+		 *            Number of suppressed log entries
+		 */
+		private Summary(final String tag, final Level level, final long count) {
+			this.tag = tag;
+			this.level = level;
+			this.count = count;
+		}
+
+		/**
+		 * Gets the tag of the suppressed log entries.
+		 *
+		 * @return Tag or {@code null} if untagged
+		 */
+		public String getTag() {
+			return tag;
+		}
+
+		/**
+		 * Gets the severity level of the suppressed log entries.
+		 *
+		 * @return Severity level
+		 */
+		public Level getLevel() {
+			return level;
+		}
+
+		/**
+		 * Gets the number of suppressed log entries.
+		 *
+		 * @return Number of suppressed log entries
+		 */
+		public long getCount() {
+			return count;
+		}
+
+	}
+
+	/**
+	 * Identity of log entries.
+	 */
+	private static final class Key {
+
+		private final String tag;
+		private final Level level;
+		private final Object message;
+		private final int hash;
+
+		/**
+		 * @param tag
+		 *            Tag of log entry (can be {@code null})
+		 * @param level
+		 *            Severity level of log entry
+		 * @param message
+		 *            Message template or message object of log entry (can be {@code null})
+		 */
+		private Key(final String tag, final Level level, final Object message) {
+			this.tag = tag;
+			this.level = level;
+			this.message = message == null || message instanceof String ? message : message.getClass();
+
+			int hash = level.hashCode();
+			hash = hash * HASH_MULTIPLIER + (tag == null ? 0 : tag.hashCode());
+			hash = hash * HASH_MULTIPLIER + (this.message == null ? 0 : this.message.hashCode());
+			this.hash = hash;
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(final Object obj) {
+			if (this == obj) {
+				return true;
+			} else if (obj instanceof Key) {
+				Key other = (Key) obj;
+				return level == other.level && equals(tag, other.tag) && equals(message, other.message);
+			} else {
+				return false;
+			}
+		}
+
+		/**
+		 * Null-safe comparison of two objects.
+		 *
+		 * @param first
+		 *            First object (can be {@code null})
+		 * @param second
+		 *            Second object (can be {@code null})
+		 * @return {@code true} if both objects are equal, otherwise {@code false}
+		 */
+		private static boolean equals(final Object first, final Object second) {
+			return first == null ? second == null : first.equals(second);
+		}
+
+	}
+
+	/**
+	 * Counter of log entries with the same identity within a time window. The time window and the number of log entries
+	 * are stored together in one atomic long and updated via compare-and-set. The upper 32 bits contain the lower 32
+	 * bits of the time window and the lower 32 bits contain the number of log entries.
+	 */
+	private final class Counter {
+
+		private final Key key;
+		private final AtomicLong state;
+
+		/**
+		 * @param key
+		 *            Identity of counted log entries
+		 * @param window
+		 *            Initial time window
+		 */
+		private Counter(final Key key, final long window) {
+			this.key = key;
+			this.state = new AtomicLong(pack(window, 0));
+		}
+
+		/**
+		 * Counts a log entry.
+		 *
+		 * @param current
+		 *            Current time window
+		 * @return {@code -1} if the log entry has to be suppressed, otherwise the number of suppressed log entries from
+		 *         the last time window
+		 */
+		private long acquire(final long current) {
+			while (true) {
+				long value = state.get();
+				long count = value & COUNT_MASK;
+
+				if (isSameWindow(value, current)) {
+					if (count > limit) {
+						if (count < Integer.MAX_VALUE && !state.compareAndSet(value, value + 1)) {
+							continue;
+						}
+						return -1;
+					} else if (state.compareAndSet(value, value + 1)) {
+						return count < limit ? 0 : -1;
+					}
+				} else if (state.compareAndSet(value, pack(current, 1))) {
+					return Math.max(0, count - limit);
+				}
+			}
+		}
+
+		/**
+		 * Resets the number of suppressed log entries, if they belong to a past time window.
+		 *
+		 * @param current
+		 *            Current time window
+		 * @return Number of suppressed log entries from a past time window that have not been reported yet
+		 */
+		private long expire(final long current) {
+			while (true) {
+				long value = state.get();
+				long count = value & COUNT_MASK;
+
+				if (isSameWindow(value, current) || count <= limit) {
+					return 0;
+				} else if (state.compareAndSet(value, value - count + limit)) {
+					return count - limit;
+				}
+			}
+		}
+
+		/**
+		 * Resets this counter.
+		 *
+		 * @return Number of suppressed log entries that have not been reported yet
+		 */
+		private long reset() {
+			long value = state.getAndSet(0);
+			return Math.max(0, (value & COUNT_MASK) - limit);
+		}
+
+		/**
+		 * Checks whether this counter can be removed without losing any suppressed log entries.
+		 *
+		 * @param current
+		 *            Current time window
+		 * @return {@code true} if this counter has not been used in the current time window and has no suppressed log
+		 *         entries, otherwise {@code false}
+		 */
+		private boolean isIdle(final long current) {
+			long value = state.get();
+			return !isSameWindow(value, current) && (value & COUNT_MASK) <= limit;
+		}
+
+		/**
+		 * Checks whether a state belongs to the passed time window.
+		 *
+		 * @param value
+		 *            State with time window and number of log entries
+		 * @param window
+		 *            Time window to compare
+		 * @return {@code true} if the state belongs to the passed time window, otherwise {@code false}
+		 */
+		private boolean isSameWindow(final long value, final long window) {
+			return (int) (value >>> WINDOW_SHIFT) == (int) window;
+		}
+
+		/**
+		 * Combines a time window and a number of log entries to a state.
+		 *
+		 * @param window
+		 *            Time window
+		 * @param count
+		 *            Number of log entries
+		 * @return Combined state
+		 */
+		private long pack(final long window, final long count) {
+			return window << WINDOW_SHIFT | count;
+		}
+
+	}
+
+}
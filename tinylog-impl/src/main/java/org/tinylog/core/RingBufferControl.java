@@ -0,0 +1,90 @@
+/*
+ * Copyright 2022 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.core;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.tinylog.Level;
+import org.tinylog.provider.InternalLogger;
+import org.tinylog.writers.RingBufferWriter;
+import org.tinylog.writers.Writer;
+
+/**
+ * JMX MBean for outputting the buffered log entries of all {@link RingBufferWriter ring buffer writers} of a
+ * {@link TinylogLoggingProvider}.
+ */
+final class RingBufferControl implements RingBufferControlMBean {
+
+	/**
+	 * Object name of the registered MBean.
+	 */
+	static final String OBJECT_NAME = "org.tinylog:type=RingBuffers";
+
+	private final List<RingBufferWriter> writers;
+
+	/**
+	 * @param writers
+	 *            Ring buffer writers to control
+	 */
+	RingBufferControl(final List<RingBufferWriter> writers) {
+		this.writers = writers;
+	}
+
+	@Override
+	public void dump() {
+		for (RingBufferWriter writer : writers) {
+			try {
+				writer.dump();
+			} catch (Exception ex) {
+				InternalLogger.log(Level.ERROR, ex, "Failed to dump ring buffer writer");
+			}
+		}
+	}
+
+	/**
+	 * Registers a new MBean for the passed logging provider at the platform MBean server, if there is at least one ring
+	 * buffer writer. An already registered MBean will be replaced.
+	 *
+	 * @param provider
+	 *            Logging provider that owns the writers
+	 * @param writers
+	 *            All writers of the logging provider
+	 */
+	static void register(final TinylogLoggingProvider provider, final Collection<Writer> writers) {
+		List<RingBufferWriter> ringBufferWriters = new ArrayList<RingBufferWriter>();
+		for (Writer writer : writers) {
+			if (writer instanceof RingBufferWriter) {
+				ringBufferWriters.add((RingBufferWriter) writer);
+			}
+		}
+
+		if (!ringBufferWriters.isEmpty()) {
+			RingBufferControl control = new RingBufferControl(ringBufferWriters);
+			ManagementRegistry.register(OBJECT_NAME, provider, control, RingBufferControlMBean.class);
+		}
+	}
+
+	/**
+	 * Unregisters the MBean from the platform MBean server, if it belongs to the passed logging provider.
+	 *
+	 * @param provider
+	 *            Logging provider that has been registered before
+	 */
+	static void unregister(final TinylogLoggingProvider provider) {
+		ManagementRegistry.unregister(OBJECT_NAME, provider);
+	}
+
+}
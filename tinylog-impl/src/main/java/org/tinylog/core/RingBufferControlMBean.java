@@ -0,0 +1,32 @@
+/*
+ * Copyright 2022 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.core;
+
+/**
+ * JMX management interface for outputting the buffered log entries of all {@link org.tinylog.writers.RingBufferWriter
+ * ring buffer writers} of a {@link TinylogLoggingProvider}.
+ *
+ * <p>
+ * The MBean is registered as {@code org.tinylog:type=RingBuffers}, if at least one ring buffer writer is configured.
+ * </p>
+ */
+public interface RingBufferControlMBean {
+
+	/**
+	 * Outputs the buffered log entries of all ring buffer writers immediately via their delegate writers. Failures are
+	 * reported via {@link org.tinylog.provider.InternalLogger}.
+	 */
+	void dump();
+
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2022 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.core;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Counter that distributes concurrent increments over multiple cache lines for reducing contention.
+ *
+ * <p>
+ * Each thread is mapped to one stripe by its ID. The current value is the sum of all stripes and therefore only a
+ * snapshot, if other threads are incrementing the counter at the same time.
+ * </p>
+ */
+final class StripedCounter {
+
+	private static final int STRIPES = 16;
+	private static final int PADDING = 8;
+
+	private final AtomicLongArray cells;
+
+	/** */
+	StripedCounter() {
+		cells = new AtomicLongArray(STRIPES * PADDING);
+	}
+
+	/**
+	 * Increments the counter by one.
+	 */
+	void increment() {
+		add(1);
+	}
+
+	/**
+	 * Adds a value to the counter.
+	 *
+	 * @param value
+	 *            Value to add
+	 */
+	void add(final long value) {
+		long id = Thread.currentThread().getId();
+		int hash = (int) (id ^ (id >>> Integer.SIZE));
+		hash ^= hash >>> (Integer.SIZE / 2);
+		cells.addAndGet((hash & (STRIPES - 1)) * PADDING, value);
+	}
+
+	/**
+	 * Gets the current value of the counter.
+	 *
+	 * @return Sum of all stripes
+	 */
+	long sum() {
+		long sum = 0;
+		for (int i = 0; i < STRIPES; ++i) {
+			sum += cells.get(i * PADDING);
+		}
+		return sum;
+	}
+
+}
@@ -13,23 +13,42 @@
 
 package org.tinylog.core;
 
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.Map.Entry;
 
-import org.tinylog.provider.ContextProvider;
+import org.tinylog.ContextScope;
+import org.tinylog.Level;
+import org.tinylog.provider.BulkContextProvider;
+import org.tinylog.provider.InternalLogger;
+import org.tinylog.provider.ScopedContextProvider;
 
 /**
  * tinylog's native context provider implementation uses a {@link InheritableThreadLocal} to store thread context
- * values.
+ * values. The inheritance can be disabled for applications with many short-living threads like virtual threads. In
+ * this case, a normal {@link ThreadLocal} is used and child threads start with an empty thread context.
+ *
+ * <p>
+ *     The values are stored in immutable maps with structural sharing. Therefore, modifications don't copy all
+ *     existing values and returned mappings can be used as snapshots without copying. This applies also to opening and
+ *     closing {@link ContextScope scopes}, which only modify the keys of the scope.
+ * </p>
  */
-public class TinylogContextProvider implements ContextProvider {
+public class TinylogContextProvider implements BulkContextProvider, ScopedContextProvider {
 
-	private final ThreadLocal<Map<String, String>> data;
+	private final ThreadLocal<ContextMap> data;
 
 	/** */
 	public TinylogContextProvider() {
-		data = new InheritableEmptyMapThreadLocal<String, String>();
+		this(true);
+	}
+
+	/**
+	 * @param inheritable
+	 *            {@code true} if child threads should inherit the thread context of their parent thread, otherwise
+	 *            {@code false}
+	 */
+	public TinylogContextProvider(final boolean inheritable) {
+		data = inheritable ? new InheritableContextMapThreadLocal() : new ContextMapThreadLocal();
 	}
 
 	@Override
@@ -44,45 +63,163 @@ public class TinylogContextProvider implements ContextProvider {
 
 	@Override
 	public void put(final String key, final Object value) {
-		Map<String, String> map = new HashMap<String, String>(data.get());
-		if (value == null) {
-			map.remove(key);
-		} else {
-			map.put(key, value.toString());
+		data.set(apply(data.get(), key, value));
+	}
+
+	@Override
+	public void putAll(final Map<String, ?> mapping) {
+		ContextMap map = data.get();
+		for (Entry<String, ?> entry : mapping.entrySet()) {
+			map = apply(map, entry.getKey(), entry.getValue());
 		}
-		data.set(Collections.unmodifiableMap(map));
+		data.set(map);
 	}
 
 	@Override
-	public void remove(final String key) {
-		Map<String, String> map = new HashMap<String, String>(data.get());
-		map.remove(key);
-		data.set(map.isEmpty() ? Collections.<String, String>emptyMap() : Collections.unmodifiableMap(map));
+	public void setMapping(final Map<String, ?> mapping) {
+		ContextMap map = ContextMap.EMPTY;
+		for (Entry<String, ?> entry : mapping.entrySet()) {
+			map = apply(map, entry.getKey(), entry.getValue());
+		}
+		data.set(map);
+	}
 
+	@Override
+	public ContextScope scope(final Map<String, ?> mapping) {
+		return new TinylogContextScope(mapping);
+	}
+
+	@Override
+	public void remove(final String key) {
+		data.set(data.get().without(key));
 	}
 
 	@Override
 	public void clear() {
-		data.set(Collections.<String, String>emptyMap());
+		data.set(ContextMap.EMPTY);
+	}
+
+	/**
+	 * Applies a mapping to a context map. Mappings with {@code null} as key are ignored.
+	 *
+	 * @param map
+	 *            Original context map
+	 * @param key
+	 *            Key of mapping
+	 * @param value
+	 *            Value of mapping or {@code null} for removing the key
+	 * @return New context map
+	 */
+	private static ContextMap apply(final ContextMap map, final String key, final Object value) {
+		if (key == null) {
+			return map;
+		} else {
+			return value == null ? map.without(key) : map.with(key, value.toString());
+		}
 	}
 
 	/**
-	 * Inheritable thread local with an empty map as initial value.
+	 * Checks whether the current value of a key is still the value that has been set by a scope.
 	 *
-	 * @param <K>
-	 *            Type of map keys
-	 * @param <V>
-	 *            Type of map values
+	 * @param current
+	 *            Current value
+	 * @param value
+	 *            Value that has been set by the scope
+	 * @return {@code true} if both values are equal, {@code false} if not
+	 */
+	private static boolean isUnchanged(final String current, final String value) {
+		return current == null ? value == null : current.equals(value);
+	}
+
+	/**
+	 * Scope that remembers the previous values of its keys and restores them while closing. Keys, whose values have
+	 * been changed after opening the scope, are not restored.
+	 */
+	private final class TinylogContextScope implements ContextScope {
+
+		private final Thread thread;
+		private final String[] keys;
+		private final String[] values;
+		private final String[] previousValues;
+		private boolean closed;
+
+		/**
+		 * Stores the passed values in thread context.
+		 *
+		 * @param mapping
+		 *            Values of the scope
+		 */
+		private TinylogContextScope(final Map<String, ?> mapping) {
+			thread = Thread.currentThread();
+			keys = new String[mapping.size()];
+			values = new String[mapping.size()];
+			previousValues = new String[mapping.size()];
+
+			ContextMap map = data.get();
+			int index = 0;
+
+			for (Entry<String, ?> entry : mapping.entrySet()) {
+				keys[index] = entry.getKey();
+				previousValues[index] = map.get(entry.getKey());
+				map = apply(map, entry.getKey(), entry.getValue());
+				values[index] = map.get(entry.getKey());
+				index += 1;
+			}
+
+			data.set(map);
+		}
+
+		@Override
+		public void close() {
+			if (thread != Thread.currentThread()) {
+				InternalLogger.log(Level.ERROR, "Context scope has to be closed by the same thread that has opened it");
+			} else if (!closed) {
+				closed = true;
+
+				ContextMap map = data.get();
+				for (int i = keys.length - 1; i >= 0; --i) {
+					if (isUnchanged(map.get(keys[i]), values[i])) {
+						map = apply(map, keys[i], previousValues[i]);
+					} else {
+						InternalLogger.log(Level.WARN, "Context value of '" + keys[i] + "' is not restored, as it has been"
+							+ " changed after opening the scope");
+					}
+				}
+
+				data.set(map);
+			}
+		}
+
+	}
+
+	/**
+	 * Inheritable thread local with an empty context map as initial value.
+	 */
+	private static final class InheritableContextMapThreadLocal extends InheritableThreadLocal<ContextMap> {
+
+		/** */
+		private InheritableContextMapThreadLocal() {
+		}
+
+		@Override
+		protected ContextMap initialValue() {
+			return ContextMap.EMPTY;
+		}
+
+	}
+
+	/**
+	 * Non-inheritable thread local with an empty context map as initial value.
 	 */
-	private static final class InheritableEmptyMapThreadLocal<K, V> extends InheritableThreadLocal<Map<K, V>> {
+	private static final class ContextMapThreadLocal extends ThreadLocal<ContextMap> {
 
 		/** */
-		private InheritableEmptyMapThreadLocal() {
+		private ContextMapThreadLocal() {
 		}
 
 		@Override
-		protected Map<K, V> initialValue() {
-			return Collections.emptyMap();
+		protected ContextMap initialValue() {
+			return ContextMap.EMPTY;
 		}
 
 	}
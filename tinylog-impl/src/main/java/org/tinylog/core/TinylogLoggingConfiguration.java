@@ -222,8 +222,40 @@ public class TinylogLoggingConfiguration {
 	 * @return Initialized and running writhing thread
 	 */
 	public WritingThread createWritingThread(final Collection<Writer>[][] matrix) {
+		return createWritingThread(matrix, 0);
+	}
+
+	/**
+	 * Creates a writing thread for a matrix of writers, which drops log entries of low severity levels if too many log
+	 * entries are pending.
+	 *
+	 * @param matrix
+	 *            All writers
+	 * @param highWaterMark
+	 *            Number of pending log entries for raising the minimum severity level by one step or {@code 0} for
+	 *            never dropping any log entries
+	 * @return Initialized and running writhing thread
+	 */
+	public WritingThread createWritingThread(final Collection<Writer>[][] matrix, final int highWaterMark) {
+		return createWritingThread(matrix, highWaterMark, null);
+	}
+
+	/**
+	 * Creates a writing thread for a matrix of writers, which records metrics for all writers.
+	 *
+	 * @param matrix
+	 *            All writers
+	 * @param highWaterMark
+	 *            Number of pending log entries for raising the minimum severity level by one step or {@code 0} for
+	 *            never dropping any log entries
+	 * @param metrics
+	 *            Metrics to update or {@code null} for not collecting any metrics
+	 * @return Initialized and running writhing thread
+	 */
+	public WritingThread createWritingThread(final Collection<Writer>[][] matrix, final int highWaterMark,
+		final LoggingMetrics metrics) {
 		Collection<Writer> writers = getAllWriters(matrix);
-		WritingThread thread = new WritingThread(writers);
+		WritingThread thread = new WritingThread(writers, highWaterMark, metrics);
 		thread.start();
 		return thread;
 	}
@@ -272,9 +304,42 @@ public class TinylogLoggingConfiguration {
 		final Level level, final Throwable exception, final MessageFormatter formatter, final Object obj,
 		final Object[] arguments, final Collection<LogEntryValue>[] requiredLogEntryValues, 
 		final ContextProvider contextProvider) {
+		return createLogEntry(null, stackTraceElement, tag, level, exception, formatter, obj, arguments, requiredLogEntryValues,
+			contextProvider);
+	}
+
+	/**
+	 * Creates a new log entry with an already known timestamp.
+	 *
+	 * @param timestamp
+	 *            Timestamp of the log entry or {@code null} to use the current time
+	 * @param stackTraceElement
+	 *            Optional stack trace element of caller
+	 * @param tag
+	 *            Tag name if issued from a tagged logger
+	 * @param level
+	 *            Severity level
+	 * @param exception
+	 *            Caught exception or throwable to log
+	 * @param formatter
+	 *            Formatter for text message
+	 * @param obj
+	 *            Message to log
+	 * @param arguments
+	 *            Arguments for message
+	 * @param requiredLogEntryValues
+	 *            The required log entry value array slice of the tag index of the used tag
+	 * @param contextProvider
+	 *            The context provider
+	 * @return Filled log entry
+	 */
+	public static LogEntry createLogEntry(final Timestamp timestamp, final StackTraceElement stackTraceElement, final String tag,
+		final Level level, final Throwable exception, final MessageFormatter formatter, final Object obj,
+		final Object[] arguments, final Collection<LogEntryValue>[] requiredLogEntryValues,
+		final ContextProvider contextProvider) {
 		Collection<LogEntryValue> required = requiredLogEntryValues[level.ordinal()];
 
-		Timestamp timestamp = RuntimeProvider.createTimestamp();
+		Timestamp actualTimestamp = timestamp == null ? RuntimeProvider.createTimestamp() : timestamp;
 		Thread thread = required.contains(LogEntryValue.THREAD) ? Thread.currentThread() : null;
 		Map<String, String> context = required.contains(LogEntryValue.CONTEXT) ? contextProvider.getMapping() : null;
 
@@ -302,7 +367,7 @@ public class TinylogLoggingConfiguration {
 			message = formatter.format((String) obj, arguments);
 		}
 
-		return new LogEntry(timestamp, thread, context, className, methodName, fileName, lineNumber, tag, level, message, exception);
+		return new LogEntry(actualTimestamp, thread, context, className, methodName, fileName, lineNumber, tag, level, message, exception);
 	}
 
 }
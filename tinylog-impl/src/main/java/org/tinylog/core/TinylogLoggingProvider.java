@@ -15,36 +15,66 @@ package org.tinylog.core;
 
 import java.util.BitSet;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.tinylog.Level;
 import org.tinylog.format.MessageFormatter;
+import org.tinylog.provider.BridgeLoggingProvider;
 import org.tinylog.provider.ContextProvider;
 import org.tinylog.provider.InternalLogger;
-import org.tinylog.provider.LoggingProvider;
+import org.tinylog.provider.LogEntrySource;
 import org.tinylog.runtime.RuntimeProvider;
+import org.tinylog.runtime.Timestamp;
 import org.tinylog.writers.Writer;
 
 /**
  * tinylog's native logging provider implementation.
+ *
+ * <p>
+ * If reconfiguration is enabled (property {@code reconfigurable}), the global severity level and custom severity levels
+ * for packages, classes, and tags can be changed at runtime via {@link #setLevel(Level)}, {@link #setLevel(String,
+ * Level)}, and {@link #setTagLevel(String, Level)}, or via the JMX MBean {@code org.tinylog:type=Levels}. In this
+ * case, writers are not restricted by the configured severity levels at startup anymore, and all severity levels are
+ * resolved from an immutable snapshot that is replaced on each change.
+ * </p>
+ *
+ * <p>
+ * If metrics are enabled (property {@code metrics}), accepted, filtered, dropped, and suppressed log entries as well
+ * as the write and flush latencies of all writers are counted. The metrics are available via {@link #getMetrics()}
+ * and the JMX MBean {@code org.tinylog:type=Metrics}.
+ * </p>
+ *
+ * <p>
+ * Bridges from other logging APIs can pass already known timestamps and sources of log entries via
+ * {@link #log(String, LogEntrySource, Timestamp, String, Level, Throwable, MessageFormatter, Object, Object...)} for
+ * avoiding redundant stack trace walks.
+ * </p>
  */
-public class TinylogLoggingProvider implements LoggingProvider {
+public class TinylogLoggingProvider implements BridgeLoggingProvider {
 
 	private final ContextProvider context;
-	private final Level globalLevel;
-	private final Map<String, Level> customLevels;
+	private final boolean reconfigurable;
+	private final Lock reconfigurationLock;
+	private volatile LevelSnapshot levels;
 	private final List<String> knownTags;
 	private final Collection<Writer>[][] writers;
 	private final Collection<LogEntryValue>[][] requiredLogEntryValues;
 	private final BitSet fullStackTraceRequired;
 	private final WritingThread writingThread;
+	private final RateLimiter rateLimiter;
+	private final LoggingMetrics metrics;
 
 	/** */
 	public TinylogLoggingProvider() {
-		this(new TinylogContextProvider());
+		this(new TinylogContextProvider(ConfigurationParser.isContextInheritanceEnabled()));
 	}
 
 	/**
@@ -53,17 +83,37 @@ public class TinylogLoggingProvider implements LoggingProvider {
 	protected TinylogLoggingProvider(final ContextProvider contextProvider) {
 		TinylogLoggingConfiguration config = new TinylogLoggingConfiguration();
 		context = contextProvider;
-		globalLevel = ConfigurationParser.getGlobalLevel();
-		customLevels = ConfigurationParser.getCustomLevels();
+		reconfigurable = ConfigurationParser.isReconfigurationEnabled();
+		reconfigurationLock = reconfigurable ? new ReentrantLock() : null;
 		knownTags = ConfigurationParser.getTags();
 
-		Level minimumLevel = config.calculateMinimumLevel(globalLevel, customLevels);
+		Level globalLevel = ConfigurationParser.getGlobalLevel();
+		Map<String, Level> customLevels = ConfigurationParser.getCustomLevels();
+		levels = new LevelSnapshot(globalLevel, customLevels, Collections.<String, Level>emptyMap());
+
+		/* Severity levels can be lowered at runtime, so writers must not be restricted to the initial minimum level */
+		Level minimumLevel = reconfigurable ? Level.TRACE : config.calculateMinimumLevel(globalLevel, customLevels);
 		boolean hasWritingThread = ConfigurationParser.isWritingThreadEnabled();
+		int highWaterMark = ConfigurationParser.getWritingThreadHighWaterMark();
 
 		writers = config.createWriters(knownTags, minimumLevel, hasWritingThread);
 		requiredLogEntryValues = config.calculateRequiredLogEntryValues(writers);
 		fullStackTraceRequired = config.calculateFullStackTraceRequirements(requiredLogEntryValues);
-		writingThread = hasWritingThread ? config.createWritingThread(writers) : null;
+		metrics = ConfigurationParser.isMetricsEnabled() ? new LoggingMetrics(TinylogLoggingConfiguration.getAllWriters(writers)) : null;
+		writingThread = hasWritingThread ? config.createWritingThread(writers, highWaterMark, metrics) : null;
+		rateLimiter = ConfigurationParser.getRateLimiter();
+
+		if (reconfigurable && !RuntimeProvider.isAndroid()) {
+			LevelControl.register(this);
+		}
+
+		if (metrics != null && !RuntimeProvider.isAndroid()) {
+			ManagementRegistry.register(LoggingMetrics.OBJECT_NAME, this, metrics, LoggingMetricsMBean.class);
+		}
+
+		if (!RuntimeProvider.isAndroid()) {
+			RingBufferControl.register(this, TinylogLoggingConfiguration.getAllWriters(writers));
+		}
 
 		if (ConfigurationParser.isAutoShutdownEnabled()) {
 			Runtime.getRuntime().addShutdownHook(new Thread() {
@@ -109,85 +159,133 @@ public class TinylogLoggingProvider implements LoggingProvider {
 	}
 
 	@Override
-	public boolean isEnabled(final int depth, final String tag, final Level level) {
-		Level activeLevel;
+	public Map<String, Level> getMinimumLevels(final String tag) {
+		Level minimumLevel = getMinimumLevel(tag);
+		Map<String, Level> result = new HashMap<String, Level>();
 
-		if (customLevels.isEmpty()) {
-			activeLevel = globalLevel;
+		if (reconfigurable) {
+			/* Severity levels can be lowered at runtime, so only writers restrict the minimum level */
+			result.put("", minimumLevel);
 		} else {
-			String className = RuntimeProvider.getCallerClassName(depth + 1);
-			activeLevel = getLevel(className);
+			LevelSnapshot snapshot = levels;
+			result.put("", max(snapshot.getLevel(tag, null), minimumLevel));
+			if (tag == null || !snapshot.getTagLevels().containsKey(tag)) {
+				for (Entry<String, Level> entry : snapshot.getCustomLevels().entrySet()) {
+					result.put(entry.getKey(), max(entry.getValue(), minimumLevel));
+				}
+			}
 		}
 
-		return activeLevel.ordinal() <= level.ordinal() && writers[getTagIndex(tag)][level.ordinal()].size() > 0;
+		return Collections.unmodifiableMap(result);
+	}
+
+	@Override
+	public boolean isEnabled(final int depth, final String tag, final Level level) {
+		LevelSnapshot snapshot = levels;
+
+		if (writers[getTagIndex(tag)][level.ordinal()].size() == 0 || isDropped(level)
+			|| snapshot.getMinimumLevel(tag).ordinal() > level.ordinal()) {
+			return false;
+		} else if (snapshot.isClassDependent(tag)) {
+			String className = RuntimeProvider.getCallerClassName(depth + 1);
+			return snapshot.getLevel(tag, className).ordinal() <= level.ordinal();
+		} else {
+			return true;
+		}
 	}
 
 	@Override
 	public void log(final int depth, final String tag, final Level level, final Throwable exception, final MessageFormatter formatter,
 		final Object obj, final Object... arguments) {
+		LevelSnapshot snapshot = levels;
+		if (isDiscarded(snapshot, tag, level)) {
+			return;
+		}
+
 		int tagIndex = getTagIndex(tag);
 
 		StackTraceElement stackTraceElement;
 		if (fullStackTraceRequired.get(tagIndex)) {
 			stackTraceElement = RuntimeProvider.getCallerStackTraceElement(depth + 1);
+		} else if (snapshot.isClassDependent(tag) || requiredLogEntryValues[tagIndex][level.ordinal()].contains(LogEntryValue.CLASS)) {
+			stackTraceElement = new StackTraceElement(RuntimeProvider.getCallerClassName(depth + 1), "<unknown>", null, -1);
 		} else {
 			stackTraceElement = null;
 		}
 
-		Level activeLevel;
-		if (customLevels.isEmpty()) {
-			if (stackTraceElement == null && requiredLogEntryValues[tagIndex][level.ordinal()].contains(LogEntryValue.CLASS)) {
-				stackTraceElement = new StackTraceElement(RuntimeProvider.getCallerClassName(depth + 1), "<unknown>", null, -1);
-			}
-			activeLevel = globalLevel;
-		} else {
-			if (stackTraceElement == null) {
-				stackTraceElement = new StackTraceElement(RuntimeProvider.getCallerClassName(depth + 1), "<unknown>", null, -1);
-			}
-			activeLevel = getLevel(stackTraceElement.getClassName());
-		}
-
-		if (activeLevel.ordinal() <= level.ordinal()) {
-			LogEntry logEntry = TinylogLoggingConfiguration.createLogEntry(stackTraceElement, tag, level, exception, formatter, 
-					obj, arguments, requiredLogEntryValues[tagIndex], context);
-			output(logEntry, writers[tagIndex][logEntry.getLevel().ordinal()]);
-		}
+		process(snapshot, stackTraceElement, null, tag, tagIndex, level, exception, formatter, obj, arguments);
 	}
 
 	@Override
 	public void log(final String loggerClassName, final String tag, final Level level, final Throwable exception,
 		final MessageFormatter formatter, final Object obj, final Object... arguments) {
+		LevelSnapshot snapshot = levels;
+		if (isDiscarded(snapshot, tag, level)) {
+			return;
+		}
+
 		int tagIndex = getTagIndex(tag);
 
 		StackTraceElement stackTraceElement;
 		if (fullStackTraceRequired.get(tagIndex)) {
 			stackTraceElement = RuntimeProvider.getCallerStackTraceElement(loggerClassName);
+		} else if (snapshot.isClassDependent(tag) || requiredLogEntryValues[tagIndex][level.ordinal()].contains(LogEntryValue.CLASS)) {
+			stackTraceElement = new StackTraceElement(RuntimeProvider.getCallerClassName(loggerClassName), "<unknown>", null, -1);
 		} else {
 			stackTraceElement = null;
 		}
 
-		Level activeLevel;
-		if (customLevels.isEmpty()) {
-			if (stackTraceElement == null && requiredLogEntryValues[tagIndex][level.ordinal()].contains(LogEntryValue.CLASS)) {
-				stackTraceElement = new StackTraceElement(RuntimeProvider.getCallerClassName(loggerClassName), "<unknown>", null, -1);
-			}
-			activeLevel = globalLevel;
-		} else {
-			if (stackTraceElement == null) {
-				stackTraceElement = new StackTraceElement(RuntimeProvider.getCallerClassName(loggerClassName), "<unknown>", null, -1);
-			}
-			activeLevel = getLevel(stackTraceElement.getClassName());
+		process(snapshot, stackTraceElement, null, tag, tagIndex, level, exception, formatter, obj, arguments);
+	}
+
+	@Override
+	public void log(final String loggerClassName, final LogEntrySource source, final Timestamp timestamp, final String tag,
+		final Level level, final Throwable exception, final MessageFormatter formatter, final Object obj, final Object... arguments) {
+		LevelSnapshot snapshot = levels;
+		if (isDiscarded(snapshot, tag, level)) {
+			return;
 		}
 
-		if (activeLevel.ordinal() <= level.ordinal()) {
-			LogEntry logEntry = TinylogLoggingConfiguration.createLogEntry(stackTraceElement, tag, level, exception, formatter,  
-					obj, arguments, requiredLogEntryValues[tagIndex], context);
-			output(logEntry, writers[tagIndex][logEntry.getLevel().ordinal()]);
+		int tagIndex = getTagIndex(tag);
+		Collection<LogEntryValue> required = requiredLogEntryValues[tagIndex][level.ordinal()];
+
+		StackTraceElement stackTraceElement;
+		if (required.contains(LogEntryValue.FILE) || required.contains(LogEntryValue.LINE)
+			|| source == null && required.contains(LogEntryValue.METHOD)) {
+			stackTraceElement = RuntimeProvider.getCallerStackTraceElement(loggerClassName);
+		} else if (required.contains(LogEntryValue.METHOD)) {
+			String methodName = source.getMethodName();
+			stackTraceElement = new StackTraceElement(getCallerClassName(loggerClassName, source),
+				methodName == null ? "<unknown>" : methodName, null, -1);
+		} else if (snapshot.isClassDependent(tag) || required.contains(LogEntryValue.CLASS)) {
+			stackTraceElement = new StackTraceElement(getCallerClassName(loggerClassName, source), "<unknown>", null, -1);
+		} else {
+			stackTraceElement = null;
 		}
+
+		process(snapshot, stackTraceElement, timestamp, tag, tagIndex, level, exception, formatter, obj, arguments);
 	}
 
 	@Override
 	public void shutdown() throws InterruptedException {
+		if (rateLimiter != null) {
+			for (RateLimiter.Summary summary : rateLimiter.drain()) {
+				outputSuppressionSummary(null, summary.getTag(), summary.getLevel(), summary.getCount());
+			}
+		}
+
+		if (reconfigurable && !RuntimeProvider.isAndroid()) {
+			LevelControl.unregister(this);
+		}
+
+		if (metrics != null && !RuntimeProvider.isAndroid()) {
+			ManagementRegistry.unregister(LoggingMetrics.OBJECT_NAME, this);
+		}
+
+		if (!RuntimeProvider.isAndroid()) {
+			RingBufferControl.unregister(this);
+		}
+
 		if (writingThread == null) {
 			for (Writer writer : TinylogLoggingConfiguration.getAllWriters(writers)) {
 				try {
@@ -202,6 +300,124 @@ public class TinylogLoggingProvider implements LoggingProvider {
 		}
 	}
 
+	/**
+	 * Gets the collected metrics.
+	 *
+	 * @return Metrics or {@code null} if metrics are not enabled in the configuration
+	 */
+	public LoggingMetrics getMetrics() {
+		return metrics;
+	}
+
+	/**
+	 * Gets the current global severity level.
+	 *
+	 * @return Global severity level
+	 */
+	public Level getLevel() {
+		return levels.getGlobalLevel();
+	}
+
+	/**
+	 * Gets all current custom severity levels for packages and classes.
+	 *
+	 * @return Unmodifiable map with package or class names as keys
+	 */
+	public Map<String, Level> getCustomLevels() {
+		return levels.getCustomLevels();
+	}
+
+	/**
+	 * Gets all current custom severity levels for tags.
+	 *
+	 * @return Unmodifiable map with tags as keys
+	 */
+	public Map<String, Level> getTagLevels() {
+		return levels.getTagLevels();
+	}
+
+	/**
+	 * Changes the global severity level at runtime. Writers with an explicitly configured severity level still output
+	 * only log entries with this or a more severe severity level.
+	 *
+	 * @param level
+	 *            New global severity level
+	 */
+	public void setLevel(final Level level) {
+		if (isReconfigurable()) {
+			reconfigurationLock.lock();
+			try {
+				levels = levels.withGlobalLevel(level);
+			} finally {
+				reconfigurationLock.unlock();
+			}
+		}
+	}
+
+	/**
+	 * Changes the custom severity level for a package or class at runtime.
+	 *
+	 * @param packageOrClass
+	 *            Fully-qualified name of package or class
+	 * @param level
+	 *            New severity level or {@code null} to remove the custom severity level
+	 */
+	public void setLevel(final String packageOrClass, final Level level) {
+		if (isReconfigurable()) {
+			reconfigurationLock.lock();
+			try {
+				levels = levels.withCustomLevel(packageOrClass, level);
+			} finally {
+				reconfigurationLock.unlock();
+			}
+		}
+	}
+
+	/**
+	 * Changes the custom severity level for a tag at runtime. A custom severity level for a tag has precedence over
+	 * the global severity level and custom severity levels for packages and classes.
+	 *
+	 * @param tag
+	 *            Name of tag
+	 * @param level
+	 *            New severity level or {@code null} to remove the custom severity level
+	 */
+	public void setTagLevel(final String tag, final Level level) {
+		if (isReconfigurable()) {
+			reconfigurationLock.lock();
+			try {
+				levels = levels.withTagLevel(tag, level);
+			} finally {
+				reconfigurationLock.unlock();
+			}
+		}
+	}
+
+	/**
+	 * Checks whether severity levels can be changed at runtime and reports an error if not.
+	 *
+	 * @return {@code true} if reconfiguration is enabled, otherwise {@code false}
+	 */
+	private boolean isReconfigurable() {
+		if (reconfigurable) {
+			return true;
+		} else {
+			InternalLogger.log(Level.ERROR, "Severity levels cannot be changed at runtime, set \"reconfigurable = true\" to enable");
+			return false;
+		}
+	}
+
+	/**
+	 * Checks whether log entries of a severity level are currently dropped, because the writing thread is overloaded.
+	 *
+	 * @param level
+	 *            Severity level to check
+	 * @return {@code true} if log entries are dropped, {@code false} if they are accepted
+	 */
+	private boolean isDropped(final Level level) {
+		return writingThread != null && level.ordinal() < writingThread.getMinimumLevel().ordinal();
+	}
+
 	/**
 	 * Gets the index of a tag.
 	 *
@@ -219,30 +435,140 @@ public class TinylogLoggingProvider implements LoggingProvider {
 	}
 
 	/**
-	 * Gets the severity level for a class. If there is no custom severity level for the class or one of it's
-	 * (sub-)packages, the global severity level will be returned.
+	 * Checks whether a log entry can be discarded without knowing its caller. This is the case if log entries of the
+	 * passed severity level are dropped because the writing thread is overloaded, or if the severity level is lower
+	 * than any severity level that could be active for the passed tag.
+	 *
+	 * @param snapshot
+	 *            Current severity levels
+	 * @param tag
+	 *            Tag of log entry or {@code null} if untagged
+	 * @param level
+	 *            Severity level of log entry
+	 * @return {@code true} if the log entry can be discarded, {@code false} if it has to be processed
+	 */
+	private boolean isDiscarded(final LevelSnapshot snapshot, final String tag, final Level level) {
+		if (isDropped(level)) {
+			if (metrics != null) {
+				metrics.recordDropped();
+			}
+			return true;
+		} else if (snapshot.getMinimumLevel(tag).ordinal() > level.ordinal()) {
+			if (metrics != null) {
+				metrics.recordFiltered();
+			}
+			return true;
+		} else {
+			return false;
+		}
+	}
+
+	/**
+	 * Processes a log entry whose caller has been already resolved. The active severity level and the rate limit are
+	 * checked before creating the log entry and passing it to the writers.
 	 *
-	 * @param className
-	 *            Fully-qualified class name
-	 * @return Severity level for given class
+	 * @param snapshot
+	 *            Current severity levels
+	 * @param stackTraceElement
+	 *            Stack trace element of caller or {@code null} if neither required by writers nor for custom severity
+	 *            levels
+	 * @param timestamp
+	 *            Date and time of issuing the log entry or {@code null} for using the current date and time
+	 * @param tag
+	 *            Tag of log entry or {@code null} if untagged
+	 * @param tagIndex
+	 *            Index of the tag
+	 * @param level
+	 *            Severity level of log entry
+	 * @param exception
+	 *            Exception to log or {@code null}
+	 * @param formatter
+	 *            Formatter for text message, only required if there are any arguments to insert
+	 * @param obj
+	 *            Message to log or {@code null}
+	 * @param arguments
+	 *            Arguments for message or {@code null}
 	 */
-	private Level getLevel(final String className) {
-		String key = className;
-		while (true) {
-			Level customLevel = customLevels.get(key);
-			if (customLevel == null) {
-				int index = key.lastIndexOf('.');
-				if (index == -1) {
-					return globalLevel;
-				} else {
-					key = key.substring(0, index);
+	private void process(final LevelSnapshot snapshot, final StackTraceElement stackTraceElement, final Timestamp timestamp,
+		final String tag, final int tagIndex, final Level level, final Throwable exception, final MessageFormatter formatter,
+		final Object obj, final Object[] arguments) {
+		Level activeLevel = snapshot.getLevel(tag, stackTraceElement == null ? null : stackTraceElement.getClassName());
+
+		if (activeLevel.ordinal() <= level.ordinal()) {
+			long suppressed = 0;
+			if (rateLimiter != null) {
+				for (RateLimiter.Summary summary : rateLimiter.expire()) {
+					outputSuppressionSummary(null, summary.getTag(), summary.getLevel(), summary.getCount());
+				}
+				suppressed = rateLimiter.acquire(tag, level, obj);
+			}
+			if (suppressed > 0) {
+				outputSuppressionSummary(stackTraceElement, tag, level, suppressed);
+			}
+			if (suppressed >= 0) {
+				if (metrics != null) {
+					metrics.recordAccepted();
 				}
-			} else {
-				return customLevel;
+				LogEntry logEntry = TinylogLoggingConfiguration.createLogEntry(timestamp, stackTraceElement, tag, level, exception,
+						formatter, obj, arguments, requiredLogEntryValues[tagIndex], context);
+				output(logEntry, writers[tagIndex][logEntry.getLevel().ordinal()]);
+			} else if (metrics != null) {
+				metrics.recordSuppressed();
 			}
+		} else if (metrics != null) {
+			metrics.recordFiltered();
 		}
 	}
-	
+
+	/**
+	 * Outputs a summary for log entries that have been suppressed by the rate limiter.
+	 *
+	 * @param stackTraceElement
+	 *            Optional stack trace element of caller
+	 * @param tag
+	 *            Tag name if issued from a tagged logger
+	 * @param level
+	 *            Severity level
+	 * @param suppressed
+	 *            Number of suppressed log entries
+	 */
+	private void outputSuppressionSummary(final StackTraceElement stackTraceElement, final String tag, final Level level,
+		final long suppressed) {
+		int tagIndex = getTagIndex(tag);
+		String message = "Suppressed " + suppressed + " similar log entries";
+		LogEntry logEntry = TinylogLoggingConfiguration.createLogEntry(stackTraceElement, tag, level, null, null, message, null,
+			requiredLogEntryValues[tagIndex], context);
+		output(logEntry, writers[tagIndex][level.ordinal()]);
+	}
+
+	/**
+	 * Gets the fully-qualified class name of the caller. The class name provided by the passed source is preferred,
+	 * and the stack trace is only walked if the source doesn't know the class name.
+	 *
+	 * @param loggerClassName
+	 *            Fully-qualified class name of the logger instance
+	 * @param source
+	 *            Already known source of the log entry or {@code null}
+	 * @return Fully-qualified class name of the caller
+	 */
+	private static String getCallerClassName(final String loggerClassName, final LogEntrySource source) {
+		String className = source == null ? null : source.getClassName();
+		return className == null ? RuntimeProvider.getCallerClassName(loggerClassName) : className;
+	}
+
+	/**
+	 * Gets the more severe of two severity levels.
+	 *
+	 * @param first
+	 *            First severity level
+	 * @param second
+	 *            Second severity level
+	 * @return The passed severity level with the higher ordinal
+	 */
+	private static Level max(final Level first, final Level second) {
+		return first.ordinal() >= second.ordinal() ? first : second;
+	}
+
 	/**
 	 * Outputs a log entry to all passed writers.
 	 * 
@@ -254,9 +580,18 @@ public class TinylogLoggingProvider implements LoggingProvider {
 	private void output(final LogEntry logEntry, final Iterable<Writer> writers) {
 		if (writingThread == null) {
 			for (Writer writer : writers) {
+				WriterMetrics writerMetrics = metrics == null ? null : metrics.getWriterMetrics(writer);
+				long start = writerMetrics == null ? 0L : System.nanoTime();
+
 				try {
 					writer.write(logEntry);
+					if (writerMetrics != null) {
+						writerMetrics.recordWrite(System.nanoTime() - start);
+					}
 				} catch (Exception ex) {
+					if (writerMetrics != null) {
+						writerMetrics.recordFailedWrite(System.nanoTime() - start);
+					}
 					InternalLogger.log(Level.ERROR, ex, "Failed to write log entry '" + logEntry.getMessage() + "'");
 				}
 			}
@@ -0,0 +1,197 @@
+/*
+ * Copyright 2022 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.core;
+
+import java.util.Map;
+
+import org.tinylog.configuration.PropertiesConfigurationLoader;
+import org.tinylog.configuration.ServiceFactory;
+import org.tinylog.converters.GzipFileConverter;
+import org.tinylog.policies.DailyPolicy;
+import org.tinylog.policies.DynamicPolicy;
+import org.tinylog.policies.MonthlyPolicy;
+import org.tinylog.policies.SizePolicy;
+import org.tinylog.policies.StartupPolicy;
+import org.tinylog.throwable.DropCauseThrowableFilter;
+import org.tinylog.throwable.KeepThrowableFilter;
+import org.tinylog.throwable.StripThrowableFilter;
+import org.tinylog.throwable.UnpackThrowableFilter;
+import org.tinylog.writers.ConsoleWriter;
+import org.tinylog.writers.FileWriter;
+import org.tinylog.writers.JdbcWriter;
+import org.tinylog.writers.JsonWriter;
+import org.tinylog.writers.LogcatWriter;
+import org.tinylog.writers.RingBufferWriter;
+import org.tinylog.writers.RollingFileWriter;
+import org.tinylog.writers.SharedFileWriter;
+
+/**
+ * Reflection-free factory for all service implementations of tinylog's native logging provider implementation.
+ *
+ * <p>
+ * All service implementations that are registered in {@code META-INF/services} of this module must be covered by this
+ * factory. Writers can be created with a map of properties, all other service implementations with a string argument.
+ * All service implementations can be created without any arguments.
+ * </p>
+ */
+public final class TinylogServiceFactory implements ServiceFactory {
+
+	/** */
+	public TinylogServiceFactory() {
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public Object create(final String className, final Class<?>[] argumentTypes, final Object[] arguments) throws Exception {
+		if (argumentTypes.length != arguments.length) {
+			return null;
+		} else if (argumentTypes.length == 0) {
+			return create(className);
+		} else if (argumentTypes.length > 1 || arguments[0] != null && !argumentTypes[0].isInstance(arguments[0])) {
+			return null;
+		} else if (argumentTypes[0] == Map.class) {
+			return createWriter(className, (Map<String, String>) arguments[0]);
+		} else if (argumentTypes[0] == String.class) {
+			return create(className, (String) arguments[0]);
+		} else {
+			return null;
+		}
+	}
+
+	/**
+	 * Creates a service implementation by using its default constructor.
+	 *
+	 * @param className
+	 *            Fully-qualified class name of service implementation
+	 * @return Created instance or {@code null} if the class is unknown
+	 *
+	 * @throws Exception
+	 *             Constructor of service implementation has failed
+	 */
+	private static Object create(final String className) throws Exception {
+		if ("org.tinylog.core.TinylogLoggingProvider".equals(className)) {
+			return new TinylogLoggingProvider();
+		} else if ("org.tinylog.configuration.PropertiesConfigurationLoader".equals(className)) {
+			return new PropertiesConfigurationLoader();
+		} else if ("org.tinylog.converters.GzipFileConverter".equals(className)) {
+			return new GzipFileConverter();
+		} else if ("org.tinylog.policies.DailyPolicy".equals(className)) {
+			return new DailyPolicy();
+		} else if ("org.tinylog.policies.DynamicPolicy".equals(className)) {
+			return new DynamicPolicy();
+		} else if ("org.tinylog.policies.MonthlyPolicy".equals(className)) {
+			return new MonthlyPolicy();
+		} else if ("org.tinylog.policies.SizePolicy".equals(className)) {
+			return new SizePolicy();
+		} else if ("org.tinylog.policies.StartupPolicy".equals(className)) {
+			return new StartupPolicy();
+		} else if ("org.tinylog.throwable.DropCauseThrowableFilter".equals(className)) {
+			return new DropCauseThrowableFilter();
+		} else if ("org.tinylog.throwable.KeepThrowableFilter".equals(className)) {
+			return new KeepThrowableFilter();
+		} else if ("org.tinylog.throwable.StripThrowableFilter".equals(className)) {
+			return new StripThrowableFilter();
+		} else if ("org.tinylog.throwable.UnpackThrowableFilter".equals(className)) {
+			return new UnpackThrowableFilter();
+		} else if ("org.tinylog.writers.ConsoleWriter".equals(className)) {
+			return new ConsoleWriter();
+		} else if ("org.tinylog.writers.FileWriter".equals(className)) {
+			return new FileWriter();
+		} else if ("org.tinylog.writers.JdbcWriter".equals(className)) {
+			return new JdbcWriter();
+		} else if ("org.tinylog.writers.JsonWriter".equals(className)) {
+			return new JsonWriter();
+		} else if ("org.tinylog.writers.LogcatWriter".equals(className)) {
+			return new LogcatWriter();
+		} else if ("org.tinylog.writers.RingBufferWriter".equals(className)) {
+			return new RingBufferWriter();
+		} else if ("org.tinylog.writers.RollingFileWriter".equals(className)) {
+			return new RollingFileWriter();
+		} else if ("org.tinylog.writers.SharedFileWriter".equals(className)) {
+			return new SharedFileWriter();
+		} else {
+			return null;
+		}
+	}
+
+	/**
+	 * Creates a policy, file converter, or throwable filter with a string argument.
+	 *
+	 * @param className
+	 *            Fully-qualified class name of service implementation
+	 * @param argument
+	 *            Argument for constructor (can be {@code null})
+	 * @return Created instance or {@code null} if the class is unknown
+	 */
+	private static Object create(final String className, final String argument) {
+		if ("org.tinylog.converters.GzipFileConverter".equals(className)) {
+			return new GzipFileConverter(argument);
+		} else if ("org.tinylog.policies.DailyPolicy".equals(className)) {
+			return new DailyPolicy(argument);
+		} else if ("org.tinylog.policies.DynamicPolicy".equals(className)) {
+			return new DynamicPolicy(argument);
+		} else if ("org.tinylog.policies.MonthlyPolicy".equals(className)) {
+			return new MonthlyPolicy(argument);
+		} else if ("org.tinylog.policies.SizePolicy".equals(className)) {
+			return new SizePolicy(argument);
+		} else if ("org.tinylog.policies.StartupPolicy".equals(className)) {
+			return new StartupPolicy(argument);
+		} else if ("org.tinylog.throwable.DropCauseThrowableFilter".equals(className)) {
+			return new DropCauseThrowableFilter(argument);
+		} else if ("org.tinylog.throwable.KeepThrowableFilter".equals(className)) {
+			return new KeepThrowableFilter(argument);
+		} else if ("org.tinylog.throwable.StripThrowableFilter".equals(className)) {
+			return new StripThrowableFilter(argument);
+		} else if ("org.tinylog.throwable.UnpackThrowableFilter".equals(className)) {
+			return new UnpackThrowableFilter(argument);
+		} else {
+			return null;
+		}
+	}
+
+	/**
+	 * Creates a writer with a map of properties.
+	 *
+	 * @param className
+	 *            Fully-qualified class name of writer
+	 * @param properties
+	 *            Configuration for writer
+	 * @return Created writer or {@code null} if the class is unknown
+	 *
+	 * @throws Exception
+	 *             Constructor of writer has failed
+	 */
+	private static Object createWriter(final String className, final Map<String, String> properties) throws Exception {
+		if ("org.tinylog.writers.ConsoleWriter".equals(className)) {
+			return new ConsoleWriter(properties);
+		} else if ("org.tinylog.writers.FileWriter".equals(className)) {
+			return new FileWriter(properties);
+		} else if ("org.tinylog.writers.JdbcWriter".equals(className)) {
+			return new JdbcWriter(properties);
+		} else if ("org.tinylog.writers.JsonWriter".equals(className)) {
+			return new JsonWriter(properties);
+		} else if ("org.tinylog.writers.LogcatWriter".equals(className)) {
+			return new LogcatWriter(properties);
+		} else if ("org.tinylog.writers.RingBufferWriter".equals(className)) {
+			return new RingBufferWriter(properties);
+		} else if ("org.tinylog.writers.RollingFileWriter".equals(className)) {
+			return new RollingFileWriter(properties);
+		} else if ("org.tinylog.writers.SharedFileWriter".equals(className)) {
+			return new SharedFileWriter(properties);
+		} else {
+			return null;
+		}
+	}
+
+}
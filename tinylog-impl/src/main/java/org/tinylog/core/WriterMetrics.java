@@ -0,0 +1,114 @@
+/*
+ * Copyright 2022 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.core;
+
+/**
+ * Metrics of a single writer.
+ */
+public final class WriterMetrics {
+
+	private final StripedCounter writtenEntries;
+	private final StripedCounter failedWrites;
+	private final StripedCounter flushes;
+	private final LatencyHistogram writeLatency;
+	private final LatencyHistogram flushLatency;
+
+	/** */
+	WriterMetrics() {
+		writtenEntries = new StripedCounter();
+		failedWrites = new StripedCounter();
+		flushes = new StripedCounter();
+		writeLatency = new LatencyHistogram();
+		flushLatency = new LatencyHistogram();
+	}
+
+	/**
+	 * Gets the number of successfully written log entries.
+	 *
+	 * @return Number of written log entries
+	 */
+	public long getWrittenEntries() {
+		return writtenEntries.sum();
+	}
+
+	/**
+	 * Gets the number of log entries that could not be written because of an exception.
+	 *
+	 * @return Number of failed log entries
+	 */
+	public long getFailedWrites() {
+		return failedWrites.sum();
+	}
+
+	/**
+	 * Gets the number of flushes. Writers are only flushed by the writing thread.
+	 *
+	 * @return Number of flushes
+	 */
+	public long getFlushes() {
+		return flushes.sum();
+	}
+
+	/**
+	 * Gets the histogram of durations for writing log entries, including failed attempts.
+	 *
+	 * @return Histogram of write durations
+	 */
+	public LatencyHistogram getWriteLatency() {
+		return writeLatency;
+	}
+
+	/**
+	 * Gets the histogram of durations for flushing.
+	 *
+	 * @return Histogram of flush durations
+	 */
+	public LatencyHistogram getFlushLatency() {
+		return flushLatency;
+	}
+
+	/**
+	 * Records a successfully written log entry.
+	 *
+	 * @param nanoseconds
+	 *            Duration of writing in nanoseconds
+	 */
+	void recordWrite(final long nanoseconds) {
+		writtenEntries.increment();
+		writeLatency.record(nanoseconds);
+	}
+
+	/**
+	 * Records a log entry that could not be written.
+	 *
+	 * @param nanoseconds
+	 *            Duration of the failed attempt in nanoseconds
+	 */
+	void recordFailedWrite(final long nanoseconds) {
+		failedWrites.increment();
+		writeLatency.record(nanoseconds);
+	}
+
+	/**
+	 * Records a flush.
+	 *
+	 * @param nanoseconds
+	 *            Duration of flushing in nanoseconds
+	 */
+	void recordFlush(final long nanoseconds) {
+		flushes.increment();
+		flushLatency.record(nanoseconds);
+	}
+
+}
@@ -17,6 +17,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.tinylog.Level;
 import org.tinylog.provider.InternalLogger;
@@ -32,6 +33,9 @@ public final class WritingThread extends Thread {
 
 	private final Object mutex;
 	private final Collection<Writer> writers;
+	private final int highWaterMark;
+	private final AtomicReference<Level> minimumLevel;
+	private final LoggingMetrics metrics;
 	private List<Task> tasks;
 
 	/**
@@ -39,8 +43,35 @@ public final class WritingThread extends Thread {
 	 *            Open writers
 	 */
 	WritingThread(final Collection<Writer> writers) {
+		this(writers, 0);
+	}
+
+	/**
+	 * @param writers
+	 *            Open writers
+	 * @param highWaterMark
+	 *            Number of pending log entries for raising the minimum severity level by one step or {@code 0} for
+	 *            never dropping any log entries
+	 */
+	WritingThread(final Collection<Writer> writers, final int highWaterMark) {
+		this(writers, highWaterMark, null);
+	}
+
+	/**
+	 * @param writers
+	 *            Open writers
+	 * @param highWaterMark
+	 *            Number of pending log entries for raising the minimum severity level by one step or {@code 0} for
+	 *            never dropping any log entries
+	 * @param metrics
+	 *            Metrics to update or {@code null} for not collecting any metrics
+	 */
+	WritingThread(final Collection<Writer> writers, final int highWaterMark, final LoggingMetrics metrics) {
 		this.mutex = new Object();
 		this.writers = writers;
+		this.highWaterMark = highWaterMark;
+		this.minimumLevel = new AtomicReference<Level>(Level.TRACE);
+		this.metrics = metrics;
 		this.tasks = new ArrayList<Task>();
 
 		setName(THREAD_NAME);
@@ -68,6 +99,10 @@ public final class WritingThread extends Thread {
 			flush(writers);
 			writers.clear();
 
+			if (highWaterMark > 0) {
+				lowerMinimumLevel();
+			}
+
 			try {
 				sleep(MILLISECONDS_TO_SLEEP);
 			} catch (InterruptedException ex) {
@@ -86,11 +121,32 @@ public final class WritingThread extends Thread {
 	 */
 	public void add(final Writer writer, final LogEntry logEntry) {
 		Task task = new Task(writer, logEntry);
+		int size;
 		synchronized (mutex) {
 			tasks.add(task);
+			size = tasks.size();
+		}
+
+		if (metrics != null) {
+			metrics.updateQueueDepth(size);
+		}
+
+		if (highWaterMark > 0 && size >= highWaterMark) {
+			raiseMinimumLevel(size);
 		}
 	}
 
+	/**
+	 * Gets the minimum severity level for log entries that should be still accepted. The minimum severity level is
+	 * raised by one step, each time the number of pending log entries exceeds another multiple of the high-water mark.
+	 * Log entries with the severity level {@link Level#ERROR} are always accepted.
+	 *
+	 * @return Minimum severity level for log entries to add
+	 */
+	public Level getMinimumLevel() {
+		return minimumLevel.get();
+	}
+
 	/**
 	 * Shuts this writing thread down after writing all already added log entries.
 	 *
@@ -107,6 +163,50 @@ public final class WritingThread extends Thread {
 		interrupt();
 	}
 
+	/**
+	 * Raises the minimum severity level according to the number of pending log entries.
+	 *
+	 * @param size
+	 *            Number of pending log entries
+	 */
+	private void raiseMinimumLevel(final int size) {
+		Level target = Level.values()[Math.min(size / highWaterMark, Level.WARN.ordinal())];
+		Level current = minimumLevel.get();
+
+		while (target.ordinal() > current.ordinal()) {
+			if (minimumLevel.compareAndSet(current, target)) {
+				InternalLogger.log(Level.WARN, size + " log entries are pending, dropping log entries below " + target);
+				if (Diagnostics.isEnabled()) {
+					Diagnostics.stalled(size, target);
+				}
+				return;
+			} else {
+				current = minimumLevel.get();
+			}
+		}
+	}
+
+	/**
+	 * Lowers the minimum severity level by one step, if the number of pending log entries has dropped below half of
+	 * the threshold that raised the current minimum severity level.
+	 */
+	private void lowerMinimumLevel() {
+		Level current = minimumLevel.get();
+		if (current != Level.TRACE) {
+			int size;
+			synchronized (mutex) {
+				size = tasks.size();
+			}
+
+			if (size / current.ordinal() < highWaterMark / 2) {
+				Level target = Level.values()[current.ordinal() - 1];
+				if (minimumLevel.compareAndSet(current, target)) {
+					InternalLogger.log(Level.INFO, size + " log entries are pending, accepting log entries from " + target + " again");
+				}
+			}
+		}
+	}
+
 	/**
 	 * Receives all added log entries.
 	 *
@@ -119,6 +219,9 @@ public final class WritingThread extends Thread {
 			} else {
 				List<Task> currentTasks = tasks;
 				tasks = new ArrayList<Task>();
+				if (metrics != null) {
+					metrics.updateQueueDepth(0);
+				}
 				return currentTasks;
 			}
 		}
@@ -133,13 +236,22 @@ public final class WritingThread extends Thread {
 	 *            Log entry to write
 	 */
 	private void write(final Collection<Writer> writers, final Task task) {
+		Writer writer = task.writer;
+		WriterMetrics writerMetrics = metrics == null ? null : metrics.getWriterMetrics(writer);
+		long start = writerMetrics == null ? 0L : System.nanoTime();
+
 		try {
-			Writer writer = task.writer;
 			writer.write(task.logEntry);
+			if (writerMetrics != null) {
+				writerMetrics.recordWrite(System.nanoTime() - start);
+			}
 			if (!writers.contains(writer)) {
 				writers.add(writer);
 			}
 		} catch (Exception ex) {
+			if (writerMetrics != null) {
+				writerMetrics.recordFailedWrite(System.nanoTime() - start);
+			}
 			InternalLogger.log(Level.ERROR, ex, "Failed to write log entry '" + task.logEntry.getMessage() + "'");
 		}
 	}
@@ -152,8 +264,21 @@ public final class WritingThread extends Thread {
 	 */
 	private void flush(final Collection<Writer> writers) {
 		for (Writer writer : writers) {
+			WriterMetrics writerMetrics = metrics == null ? null : metrics.getWriterMetrics(writer);
+			boolean diagnostics = Diagnostics.isEnabled();
+			long start = writerMetrics == null && !diagnostics ? 0L : System.nanoTime();
+
 			try {
 				writer.flush();
+				if (writerMetrics != null || diagnostics) {
+					long duration = System.nanoTime() - start;
+					if (writerMetrics != null) {
+						writerMetrics.recordFlush(duration);
+					}
+					if (diagnostics) {
+						Diagnostics.flushed(writer, duration);
+					}
+				}
 			} catch (Exception ex) {
 				InternalLogger.log(Level.ERROR, ex, "Failed to flush writer");
 			}
@@ -19,11 +19,32 @@ import org.tinylog.runtime.Timestamp;
 
 /**
  * Path segment that represents a sequential sequence of numbers.
+ *
+ * <p>
+ *     The directory is scanned only once for each prefix. For subsequent tokens with the same prefix, the last issued
+ *     number is incremented without listing the directory again, as long as there is no file with this number yet.
+ *     If such a file has been created in the meantime, for example by another process, the directory is scanned again.
+ * </p>
  */
 final class CountSegment implements Segment {
 
+	private final String suffix;
+
+	private String lastPrefix;
+	private long nextCount;
+
 	/** */
 	CountSegment() {
+		this("");
+	}
+
+	/**
+	 * @param suffix
+	 *            Static text that follows the number up to the end of the file name or {@code null} if the rest of the
+	 *            file name is dynamic
+	 */
+	CountSegment(final String suffix) {
+		this.suffix = suffix;
 	}
 
 	@Override
@@ -32,7 +53,43 @@ final class CountSegment implements Segment {
 	}
 
 	@Override
-	public String createToken(final String prefix, final Timestamp timestamp) {
+	public synchronized String createToken(final String prefix, final Timestamp timestamp) {
+		long count = isReusable(prefix) ? nextCount : findNextCount(prefix);
+		lastPrefix = prefix;
+		nextCount = count + 1;
+		return Long.toString(count);
+	}
+
+	@Override
+	public boolean validateToken(final String token) {
+		try {
+			Long.parseLong(token);
+			return true;
+		} catch (NumberFormatException ex) {
+			return false;
+		}
+	}
+
+	/**
+	 * Checks if the next number can be issued without scanning the directory again.
+	 *
+	 * @param prefix
+	 *            Already generated path
+	 * @return {@code true} if the next number is known and still unused, {@code false} if the directory has to be
+	 *         scanned
+	 */
+	private boolean isReusable(final String prefix) {
+		return prefix.equals(lastPrefix) && suffix != null && !new File(prefix + nextCount + suffix).exists();
+	}
+
+	/**
+	 * Scans the directory of the passed prefix for the next free number.
+	 *
+	 * @param prefix
+	 *            Already generated path
+	 * @return Next number after the highest existing number
+	 */
+	private static long findNextCount(final String prefix) {
 		int separator = Math.max(prefix.lastIndexOf(File.separatorChar), prefix.lastIndexOf('/'));
 
 		File directory;
@@ -60,17 +117,7 @@ final class CountSegment implements Segment {
 			}
 		}
 
-		return Long.toString(count);
-	}
-
-	@Override
-	public boolean validateToken(final String token) {
-		try {
-			Long.parseLong(token);
-			return true;
-		} catch (NumberFormatException ex) {
-			return false;
-		}
+		return count;
 	}
 
 	/**
@@ -35,6 +35,7 @@ public final class DynamicPath {
 	private final File folder;
 	private final List<String> plainTexts;
 	private final String suffix;
+	private final boolean predictable;
 
 	/**
 	 * @param path
@@ -76,7 +77,7 @@ public final class DynamicPath {
 				}
 			} else if (character == '}') {
 				if (token) {
-					segments.add(parseSegment(normalizedPath, normalizedPath.substring(start, i)));
+					segments.add(parseSegment(normalizedPath, normalizedPath.substring(start, i), normalizedPath.substring(i + 1)));
 					start = i + 1;
 					token = false;
 				} else {
@@ -103,6 +104,7 @@ public final class DynamicPath {
 
 		int separator = Math.max(prefix.lastIndexOf(File.separatorChar), prefix.lastIndexOf('/'));
 		folder = new File(separator == -1 ? "" : prefix.substring(0, separator)).getAbsoluteFile();
+		predictable = isPredictable(segments);
 	}
 
 	/**
@@ -119,6 +121,17 @@ public final class DynamicPath {
 		return builder.toString();
 	}
 
+	/**
+	 * Checks if this path can be resolved in advance. This is the case if the path contains only plain texts, process
+	 * IDs, and counts, as they don't depend on the time of resolving.
+	 *
+	 * @return {@code true} if the path can be resolved in advance, {@code false} if it depends on the date or dynamic
+	 *         text at the time of resolving
+	 */
+	public boolean isPredictable() {
+		return predictable;
+	}
+
 	/**
 	 * Gets all original files and backup files that are compatible with the dynamic path. The returned file tuples are
 	 * sorted by the last modification date. The most recently modified file tuples are at the top, the oldest at the
@@ -250,6 +263,23 @@ public final class DynamicPath {
 		}
 	}
 
+	/**
+	 * Checks if all passed segments can be resolved in advance.
+	 *
+	 * @param segments
+	 *            Segments to check
+	 * @return {@code true} if all segments are independent of the time of resolving, otherwise {@code false}
+	 */
+	private static boolean isPredictable(final List<Segment> segments) {
+		for (Segment segment : segments) {
+			if (!(segment instanceof PlainTextSegment || segment instanceof ProcessIdSegment || segment instanceof CountSegment)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
 	/**
 	 * Parses a token from a pattern as a segment.
 	 *
@@ -257,11 +287,13 @@ public final class DynamicPath {
 	 *            Full path with patterns
 	 * @param token
 	 *            Token from a pattern
+	 * @param following
+	 *            Remaining path after the token
 	 * @return Created segment that represents the passed token
 	 * @throws IllegalArgumentException
 	 *             Token is unknown or contains an unexpected parameter
 	 */
-	private static Segment parseSegment(final String path, final String token) {
+	private static Segment parseSegment(final String path, final String token, final String following) {
 		int separator = token.indexOf(':');
 
 		String name;
@@ -278,7 +310,7 @@ public final class DynamicPath {
 		if ("date".equals(name)) {
 			return new DateSegment(parameter == null ? DEFAULT_DATE_FORMAT_PATTERN : parameter);
 		} else if ("count".equals(name) && parameter == null) {
-			return new CountSegment();
+			return new CountSegment(getStaticSuffix(following));
 		} else if ("pid".equals(name) && parameter == null) {
 			return new ProcessIdSegment();
 		} else if ("dynamic".equals(name)) {
@@ -288,4 +320,17 @@ public final class DynamicPath {
 		}
 	}
 
+	/**
+	 * Gets the static text up to the end of the file or folder name.
+	 *
+	 * @param following
+	 *            Remaining path after a token
+	 * @return Static text or {@code null} if the file or folder name contains further patterns
+	 */
+	private static String getStaticSuffix(final String following) {
+		int separator = following.indexOf(File.separatorChar);
+		String suffix = separator == -1 ? following : following.substring(0, separator);
+		return suffix.indexOf('{') == -1 ? suffix : null;
+	}
+
 }
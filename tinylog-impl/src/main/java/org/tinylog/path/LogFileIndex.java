@@ -0,0 +1,95 @@
+/*
+ * Copyright 2022 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.path;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * In-memory index of known log files for deleting obsolete backups without scanning the file system again.
+ *
+ * <p>
+ *     The index is seeded once with all existing files from {@link DynamicPath#getAllFiles(String)} and is updated for
+ *     each newly created log file afterwards. Files are kept in the order of their creation. The most recently created
+ *     file is at the top, the oldest at the bottom. Log files, which are created outside of the writer after seeding,
+ *     are not taken into account.
+ * </p>
+ *
+ * <p>
+ *     This class is not thread-safe.
+ * </p>
+ */
+public final class LogFileIndex {
+
+	private final String backupSuffix;
+	private final int maximum;
+	private final LinkedList<FileTuple> files;
+
+	/**
+	 * @param files
+	 *            Existing log files sorted by last modification date (most recently modified file first)
+	 * @param backupSuffix
+	 *            Optional file extension for backup files (can be {@code null} if there are no separate backup files)
+	 * @param maximum
+	 *            Number of log files to keep
+	 */
+	public LogFileIndex(final List<FileTuple> files, final String backupSuffix, final int maximum) {
+		this.backupSuffix = backupSuffix;
+		this.maximum = maximum;
+		this.files = new LinkedList<FileTuple>(files);
+	}
+
+	/**
+	 * Gets all indexed log files. The most recently created log file is the first element.
+	 *
+	 * @return Copy of all indexed log files
+	 */
+	public List<FileTuple> getFiles() {
+		return new ArrayList<FileTuple>(files);
+	}
+
+	/**
+	 * Adds a log file as most recent log file. If the log file is already indexed, it will be moved to the top.
+	 *
+	 * @param fileName
+	 *            Path to log file
+	 */
+	public void add(final String fileName) {
+		File original = new File(fileName).getAbsoluteFile();
+		File backup = backupSuffix == null ? original : new File(original.getPath() + backupSuffix);
+
+		Iterator<FileTuple> iterator = files.iterator();
+		while (iterator.hasNext()) {
+			if (original.equals(iterator.next().getOriginal())) {
+				iterator.remove();
+				break;
+			}
+		}
+
+		files.addFirst(new FileTuple(original, backup));
+	}
+
+	/**
+	 * Deletes all log files that exceed the number of log files to keep.
+	 */
+	public void deleteObsoleteFiles() {
+		while (files.size() > maximum) {
+			files.removeLast().delete();
+		}
+	}
+
+}
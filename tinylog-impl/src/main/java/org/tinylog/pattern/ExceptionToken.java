@@ -27,12 +27,19 @@ import org.tinylog.throwable.ThrowableWrapper;
 
 /**
  * Token for outputting the exception or throwable of a log entry.
+ *
+ * <p>
+ * Rendered throwables are cached. Repeatedly logged exceptions with the same class names, messages, and stack traces
+ * are rendered only once, as long as they remain in the cache.
+ * </p>
  */
 final class ExceptionToken implements Token {
 
 	private static final String NEW_LINE = System.getProperty("line.separator");
+	private static final int CACHE_CAPACITY = 32;
 
 	private final List<ThrowableFilter> filters;
+	private final RenderedThrowableCache cache;
 
 	/**
 	 * @param filters
@@ -40,6 +47,7 @@ final class ExceptionToken implements Token {
 	 */
 	ExceptionToken(final List<ThrowableFilter> filters) {
 		this.filters = filters;
+		this.cache = new RenderedThrowableCache(CACHE_CAPACITY);
 	}
 
 	@Override
@@ -51,7 +59,7 @@ final class ExceptionToken implements Token {
 	public void render(final LogEntry logEntry, final StringBuilder builder) {
 		Throwable throwable = logEntry.getException();
 		if (throwable != null) {
-			render(filter(throwable), Collections.<StackTraceElement>emptyList(), builder);
+			builder.append(render(throwable));
 		}
 	}
 
@@ -61,10 +69,36 @@ final class ExceptionToken implements Token {
 		if (throwable == null) {
 			statement.setString(index, null);
 		} else {
+			statement.setString(index, render(throwable));
+		}
+	}
+
+	/**
+	 * Renders a throwable. The rendered throwable is taken from the cache, if the same throwable instance or a
+	 * throwable with the same origin has already been rendered.
+	 *
+	 * @param throwable
+	 *            Throwable to render
+	 * @return Rendered throwable including stack trace and cause throwables
+	 */
+	private String render(final Throwable throwable) {
+		String text = cache.get(throwable);
+		if (text != null) {
+			return text;
+		}
+
+		RenderedThrowableCache.Key key = RenderedThrowableCache.createKey(throwable);
+		text = key == null ? null : cache.get(key);
+
+		if (text == null) {
+			ThrowableData data = key == null ? new ThrowableWrapper(throwable) : key.getThrowable();
 			StringBuilder builder = new StringBuilder();
-			render(filter(throwable), Collections.<StackTraceElement>emptyList(), builder);
-			statement.setString(index, builder.toString());
+			render(filter(data), Collections.<StackTraceElement>emptyList(), builder);
+			text = builder.toString();
 		}
+
+		cache.put(throwable, key, text);
+		return text;
 	}
 
 	/**
@@ -74,8 +108,8 @@ final class ExceptionToken implements Token {
 	 *            Throwable to filter
 	 * @return Transformed throwable
 	 */
-	private ThrowableData filter(final Throwable throwable) {
-		ThrowableData data = new ThrowableWrapper(throwable);
+	private ThrowableData filter(final ThrowableData throwable) {
+		ThrowableData data = throwable;
 		for (ThrowableFilter filter : filters) {
 			data = filter.filter(data);
 		}
@@ -114,7 +148,7 @@ final class ExceptionToken implements Token {
 		for (int i = 0; i < stackTrace.size() - commonElements; ++i) {
 			builder.append(NEW_LINE);
 			builder.append("\tat ");
-			builder.append(stackTrace.get(i));
+			StackTraceElementRenderer.render(stackTrace.get(i), builder);
 		}
 		
 		if (commonElements > 0) {
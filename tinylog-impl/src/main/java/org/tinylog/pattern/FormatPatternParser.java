@@ -90,12 +90,52 @@ public final class FormatPatternParser {
 		int splitIndex = pattern.indexOf('|', start);
 		if (splitIndex == -1) {
 			tokens.add(createPlainToken(pattern.substring(start)));
-			return tokens.size() == 1 ? tokens.get(0) : new BundleToken(tokens);
+			return combine(tokens);
 		} else {
 			String token = pattern.substring(start, splitIndex).trim();
 			tokens.add(createPlainToken(token));
 			String[] styleOptions = SPLIT_PATTERN.split(pattern.substring(splitIndex + 1));
-			return styleToken(tokens.size() == 1 ? tokens.get(0) : new BundleToken(tokens), styleOptions);
+			return styleToken(combine(tokens), styleOptions);
+		}
+	}
+
+	/**
+	 * Combines a list of tokens to a single token. Adjacent plain text tokens are fused into one plain text token and
+	 * empty plain text tokens are dropped, as both are pure overhead for rendering.
+	 *
+	 * @param tokens
+	 *            Tokens to combine
+	 * @return Combined token
+	 */
+	private static Token combine(final List<Token> tokens) {
+		if (tokens.size() == 1) {
+			return tokens.get(0);
+		}
+
+		List<Token> combined = new ArrayList<Token>(tokens.size());
+		StringBuilder text = new StringBuilder();
+
+		for (Token token : tokens) {
+			if (token instanceof PlainTextToken) {
+				text.append(((PlainTextToken) token).getText());
+			} else {
+				if (text.length() > 0) {
+					combined.add(new PlainTextToken(text.toString()));
+					text.setLength(0);
+				}
+				combined.add(token);
+			}
+		}
+
+		if (text.length() > 0 || combined.isEmpty()) {
+			combined.add(new PlainTextToken(text.toString()));
+		}
+
+		/* A single remaining placeholder token is still bundled, as bundles are always applied as text to SQL statements */
+		if (combined.size() == 1 && combined.get(0) instanceof PlainTextToken) {
+			return combined.get(0);
+		} else {
+			return new BundleToken(combined);
 		}
 	}
 
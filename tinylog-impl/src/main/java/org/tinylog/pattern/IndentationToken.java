@@ -27,7 +27,6 @@ import org.tinylog.core.LogEntryValue;
  */
 class IndentationToken implements Token {
 
-	private static final int INITIAL_CAPACITY = 1024;
 	private static final String NEW_LINE = System.getProperty("line.separator");
 
 	private final Token token;
@@ -52,23 +51,89 @@ class IndentationToken implements Token {
 
 	@Override
 	public void render(final LogEntry logEntry, final StringBuilder builder) {
-		StringBuilder source = new StringBuilder(INITIAL_CAPACITY);
-		token.render(logEntry, source);
-
-		int head = 0;
-		for (int i = source.indexOf(NEW_LINE, head); i != -1; i = source.indexOf(NEW_LINE, head)) {
-			builder.append(source, head, i + NEW_LINE.length());
-			head = i + NEW_LINE.length();
-			if (head < source.length()) {
-				builder.append(spaces);
-				while (head < source.length() && source.charAt(head) == '\t') {
-					builder.append(spaces);
+		int offset = builder.length();
+		token.render(logEntry, builder);
+		int end = builder.length();
+
+		if (spaces.length == 0) {
+			removeLeadingTabs(builder, offset);
+			return;
+		}
+
+		int growth = 0;
+		for (int i = builder.indexOf(NEW_LINE, offset); i != -1; i = builder.indexOf(NEW_LINE, i + NEW_LINE.length())) {
+			int head = i + NEW_LINE.length();
+			if (head < end) {
+				growth += spaces.length;
+				while (head < end && builder.charAt(head) == '\t') {
+					growth += spaces.length - 1;
 					++head;
 				}
 			}
 		}
 
-		builder.append(source, head, source.length());
+		if (growth > 0) {
+			builder.setLength(end + growth);
+			indent(builder, end);
+		}
+	}
+
+	/**
+	 * Indents all new lines of the rendered text in place. The builder must already be enlarged by the number of
+	 * characters to insert. The text is processed from back to front, so that each character is moved only once.
+	 *
+	 * @param builder
+	 *            Builder with the rendered text followed by unused space for the indentation
+	 * @param end
+	 *            End of the rendered text
+	 */
+	private void indent(final StringBuilder builder, final int end) {
+		int read = end;
+		int write = builder.length();
+
+		while (write > read) {
+			int lineSeparator = builder.lastIndexOf(NEW_LINE, read - NEW_LINE.length());
+			int head = lineSeparator + NEW_LINE.length();
+
+			int text = head;
+			while (text < read && builder.charAt(text) == '\t') {
+				++text;
+			}
+
+			while (read > text) {
+				builder.setCharAt(--write, builder.charAt(--read));
+			}
+
+			if (head < end) {
+				for (int i = (text - head + 1) * spaces.length; i > 0; --i) {
+					builder.setCharAt(--write, ' ');
+				}
+			}
+
+			read = head;
+			while (read > lineSeparator) {
+				builder.setCharAt(--write, builder.charAt(--read));
+			}
+		}
+	}
+
+	/**
+	 * Removes all tabs at the beginning of new lines, as they are replaced by zero spaces.
+	 *
+	 * @param builder
+	 *            Builder with the rendered text
+	 * @param offset
+	 *            Start of the rendered text
+	 */
+	private static void removeLeadingTabs(final StringBuilder builder, final int offset) {
+		for (int i = builder.indexOf(NEW_LINE, offset); i != -1; i = builder.indexOf(NEW_LINE, i + NEW_LINE.length())) {
+			int head = i + NEW_LINE.length();
+			int text = head;
+			while (text < builder.length() && builder.charAt(text) == '\t') {
+				++text;
+			}
+			builder.delete(head, text);
+		}
 	}
 	
 	@Override
@@ -40,6 +40,16 @@ final class PlainTextToken implements Token {
 		this.text = NEW_LINE_PATTERN.matcher(text).replaceAll(NEW_LINE);
 	}
 
+	/**
+	 * Gets the static text of this token. New lines are already converted to the line separator of the current
+	 * platform.
+	 *
+	 * @return Static text
+	 */
+	String getText() {
+		return text;
+	}
+
 	@Override
 	public Collection<LogEntryValue> getRequiredLogEntryValues() {
 		return Collections.emptyList();
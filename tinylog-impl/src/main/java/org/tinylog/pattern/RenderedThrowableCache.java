@@ -0,0 +1,257 @@
+/*
+ * Copyright 2022 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.pattern;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.tinylog.throwable.ThrowableData;
+
+/**
+ * Bounded cache for rendered throwables.
+ *
+ * <p>
+ * Throwables are identified by their class names, messages, and stack traces, including all cause throwables. Thereby,
+ * repeatedly logged exceptions with the same origin will be rendered only once, as long as they remain in the cache.
+ * </p>
+ *
+ * <p>
+ * Recently rendered throwable instances are additionally held weakly by identity. The same throwable instance can be
+ * found without cloning its stack trace or computing a structural key.
+ * </p>
+ *
+ * <p>
+ * Each entry has a fixed slot that is determined by its hash code. Storing an entry replaces only the previous entry
+ * in the same slot. Thereby, the cache can be read and written concurrently without any locks.
+ * </p>
+ */
+final class RenderedThrowableCache {
+
+	private static final int FIELDS_PER_THROWABLE = 3;
+
+	private final int mask;
+	private final AtomicReferenceArray<KeyEntry> entries;
+	private final AtomicReferenceArray<InstanceEntry> instances;
+
+	/**
+	 * @param capacity
+	 *            Minimum number of slots for rendered throwables
+	 */
+	RenderedThrowableCache(final int capacity) {
+		int size = 1;
+		while (size < capacity) {
+			size <<= 1;
+		}
+
+		this.mask = size - 1;
+		this.entries = new AtomicReferenceArray<KeyEntry>(size);
+		this.instances = new AtomicReferenceArray<InstanceEntry>(size);
+	}
+
+	/**
+	 * Creates a cache key for a throwable. The stack traces of the throwable and all its cause throwables are taken
+	 * once and can be reused for rendering via {@link Key#getThrowable()}. Throwables with circular cause chains cannot
+	 * be cached.
+	 *
+	 * @param throwable
+	 *            Throwable for which a key should be created
+	 * @return Created key or {@code null} if the throwable has a circular cause chain
+	 */
+	static Key createKey(final Throwable throwable) {
+		List<Object> data = new ArrayList<Object>();
+		Map<Throwable, Boolean> visited = new IdentityHashMap<Throwable, Boolean>();
+
+		for (Throwable current = throwable; current != null; current = current.getCause()) {
+			if (visited.put(current, Boolean.TRUE) != null) {
+				return null;
+			}
+
+			data.add(current.getClass().getName());
+			data.add(current.getMessage());
+			data.add(current.getStackTrace());
+		}
+
+		return new Key(data.toArray());
+	}
+
+	/**
+	 * Gets the stored rendered throwable for a throwable instance that has already been rendered.
+	 *
+	 * @param throwable
+	 *            Throwable instance
+	 * @return Rendered throwable or {@code null} if the throwable instance is not cached
+	 */
+	String get(final Throwable throwable) {
+		InstanceEntry entry = instances.get(System.identityHashCode(throwable) & mask);
+		return entry != null && entry.get() == throwable ? entry.text : null;
+	}
+
+	/**
+	 * Gets the stored rendered throwable for a key.
+	 *
+	 * @param key
+	 *            Key of the throwable
+	 * @return Rendered throwable or {@code null} if not cached
+	 */
+	String get(final Key key) {
+		KeyEntry entry = entries.get(key.hashCode() & mask);
+		return entry != null && entry.key.equals(key) ? entry.text : null;
+	}
+
+	/**
+	 * Stores a rendered throwable.
+	 *
+	 * @param throwable
+	 *            Rendered throwable instance
+	 * @param key
+	 *            Key of the throwable or {@code null} if the throwable can be found by its instance only
+	 * @param text
+	 *            Rendered throwable
+	 */
+	void put(final Throwable throwable, final Key key, final String text) {
+		instances.set(System.identityHashCode(throwable) & mask, new InstanceEntry(throwable, text));
+
+		if (key != null) {
+			entries.set(key.hashCode() & mask, new KeyEntry(key, text));
+		}
+	}
+
+	/**
+	 * Cache key containing class names, messages, and stack traces of a throwable and all its cause throwables.
+	 */
+	static final class Key {
+
+		private final Object[] data;
+		private final int hashCode;
+
+		/**
+		 * @param data
+		 *            Class, message, and stack trace for each throwable in the cause chain
+		 */
+		private Key(final Object[] data) {
+			this.data = data;
+			this.hashCode = Arrays.deepHashCode(data);
+		}
+
+		/**
+		 * Gets the stored class names, messages, and stack traces as throwable data for rendering.
+		 *
+		 * @return Throwable data of the throwable and all its cause throwables
+		 */
+		ThrowableData getThrowable() {
+			return new ThrowableSnapshot(data, 0);
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override
+		public boolean equals(final Object obj) {
+			return obj instanceof Key && hashCode == ((Key) obj).hashCode && Arrays.deepEquals(data, ((Key) obj).data);
+		}
+
+	}
+
+	/**
+	 * Throwable data that is backed by the class names, messages, and stack traces of a {@link Key}.
+	 */
+	private static final class ThrowableSnapshot implements ThrowableData {
+
+		private final Object[] data;
+		private final int offset;
+
+		/**
+		 * @param data
+		 *            Class, message, and stack trace for each throwable in the cause chain
+		 * @param offset
+		 *            Position of the class name of this throwable
+		 */
+		private ThrowableSnapshot(final Object[] data, final int offset) {
+			this.data = data;
+			this.offset = offset;
+		}
+
+		@Override
+		public String getClassName() {
+			return (String) data[offset];
+		}
+
+		@Override
+		public String getMessage() {
+			return (String) data[offset + 1];
+		}
+
+		@Override
+		public List<StackTraceElement> getStackTrace() {
+			return Collections.unmodifiableList(Arrays.asList((StackTraceElement[]) data[offset + 2]));
+		}
+
+		@Override
+		public ThrowableData getCause() {
+			int next = offset + FIELDS_PER_THROWABLE;
+			return next < data.length ? new ThrowableSnapshot(data, next) : null;
+		}
+
+	}
+
+	/**
+	 * Cache entry for a rendered throwable that is found by its key.
+	 */
+	private static final class KeyEntry {
+
+		private final Key key;
+		private final String text;
+
+		/**
+		 * @param key
+		 *            Key of the throwable
+		 * @param text
+		 *            Rendered throwable
+		 */
+		private KeyEntry(final Key key, final String text) {
+			this.key = key;
+			this.text = text;
+		}
+
+	}
+
+	/**
+	 * Cache entry for a rendered throwable that is found by its instance. The throwable instance is held weakly.
+	 */
+	private static final class InstanceEntry extends WeakReference<Throwable> {
+
+		private final String text;
+
+		/**
+		 * @param throwable
+		 *            Rendered throwable instance
+		 * @param text
+		 *            Rendered throwable
+		 */
+		private InstanceEntry(final Throwable throwable, final String text) {
+			super(throwable);
+			this.text = text;
+		}
+
+	}
+
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2022 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.pattern;
+
+/**
+ * Renderer for stack trace elements. The output is equal to {@link StackTraceElement#toString()}, but the fields are
+ * appended directly to a string builder without creating any intermediate strings.
+ *
+ * <p>
+ * This implementation is used for Java 6, 7, and 8. A multi-release variant for Java 9 and later additionally renders
+ * class loader and module names.
+ * </p>
+ */
+final class StackTraceElementRenderer {
+
+	/** */
+	private StackTraceElementRenderer() {
+	}
+
+	/**
+	 * Renders a stack trace element.
+	 *
+	 * @param element
+	 *            Stack trace element to render
+	 * @param builder
+	 *            Output will be appended to this string builder
+	 */
+	static void render(final StackTraceElement element, final StringBuilder builder) {
+		builder.append(element.getClassName());
+		builder.append('.');
+		builder.append(element.getMethodName());
+
+		String fileName = element.getFileName();
+		int lineNumber = element.getLineNumber();
+
+		if (element.isNativeMethod()) {
+			builder.append("(Native Method)");
+		} else if (fileName == null) {
+			builder.append("(Unknown Source)");
+		} else {
+			builder.append('(');
+			builder.append(fileName);
+			if (lineNumber >= 0) {
+				builder.append(':');
+				builder.append(lineNumber);
+			}
+			builder.append(')');
+		}
+	}
+
+}
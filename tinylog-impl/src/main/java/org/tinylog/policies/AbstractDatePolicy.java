@@ -25,7 +25,7 @@ import java.util.regex.Pattern;
  * @see DailyPolicy
  * @see MonthlyPolicy
  */
-public abstract class AbstractDatePolicy implements Policy {
+public abstract class AbstractDatePolicy implements LengthBasedPolicy {
 
 	/* Regular expression for a time with hours, optional minutes, and optional time zone */
 	private static final Pattern TIME_PATTERN = Pattern.compile(
@@ -37,6 +37,7 @@ public abstract class AbstractDatePolicy implements Policy {
 	private static final int GROUP_ZONE = 5;
 
 	private final Calendar calendar;
+	private long deadline;
 
 	/**
 	 * @param name
@@ -84,7 +85,17 @@ public abstract class AbstractDatePolicy implements Policy {
 
 	@Override
 	public boolean continueCurrentFile(final byte[] entry) {
-		return calendar.getTimeInMillis() > System.currentTimeMillis();
+		return deadline > System.currentTimeMillis();
+	}
+
+	@Override
+	public boolean continueCurrentFile(final int length) {
+		return true;
+	}
+
+	@Override
+	public long getDeadline() {
+		return deadline;
 	}
 
 	@Override
@@ -92,6 +103,7 @@ public abstract class AbstractDatePolicy implements Policy {
 		while (calendar.getTimeInMillis() <= System.currentTimeMillis()) {
 			scrollAhead(calendar);
 		}
+		deadline = calendar.getTimeInMillis();
 	}
 
 	/**
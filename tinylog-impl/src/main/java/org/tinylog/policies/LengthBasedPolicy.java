@@ -0,0 +1,45 @@
+/*
+ * Copyright 2022 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.policies;
+
+/**
+ * Policy that can decide by the length of a log entry and a precomputed deadline instead of the log entry itself.
+ *
+ * <p>
+ *     Writers can evaluate such policies without materializing log entries as byte arrays. Time based rollovers are
+ *     provided as deadline, so that a {@link PolicyEvaluator} can check all deadlines by a single comparison.
+ * </p>
+ */
+public interface LengthBasedPolicy extends Policy {
+
+	/**
+	 * Checks if a log entry with the passed length can be appended to the current log file. Time based conditions
+	 * must not be checked by this method but should be provided via {@link #getDeadline()}.
+	 *
+	 * @param length
+	 *            Length of log entry in bytes
+	 * @return {@code true} if log entry can be appended to the current log file, {@code false} if a new log file should
+	 *         be created
+	 */
+	boolean continueCurrentFile(int length);
+
+	/**
+	 * Gets the point in time, from which a new log file should be created. The deadline has to be updated on
+	 * {@linkplain #reset() reset}.
+	 *
+	 * @return Milliseconds since 1970-01-01T00:00:00Z or {@link Long#MAX_VALUE} if there is no deadline
+	 */
+	long getDeadline();
+
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2022 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.policies;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Combined evaluator for multiple policies.
+ *
+ * <p>
+ *     If all policies are {@link LengthBasedPolicy length based policies}, log entries are evaluated by their length
+ *     only and the earliest deadline of all policies is precomputed. Checking all time based policies requires a single
+ *     comparison with the current time. Otherwise, all policies are evaluated with the log entry as byte array, which
+ *     has to be copied if the log entry is passed in a larger buffer.
+ * </p>
+ *
+ * <p>
+ *     This class is not thread-safe.
+ * </p>
+ */
+public final class PolicyEvaluator {
+
+	private final Policy[] policies;
+	private final LengthBasedPolicy[] lengthBasedPolicies;
+
+	private long deadline;
+
+	/**
+	 * @param policies
+	 *            Policies to evaluate
+	 */
+	public PolicyEvaluator(final List<Policy> policies) {
+		this.policies = policies.toArray(new Policy[policies.size()]);
+		this.lengthBasedPolicies = toLengthBasedPolicies(this.policies);
+		this.deadline = computeDeadline(lengthBasedPolicies);
+	}
+
+	/**
+	 * Checks if an existing log file can be continued.
+	 *
+	 * @param path
+	 *            Path to log file
+	 * @return {@code true} if existing log file can be continued, {@code false} if a new log file should be created
+	 */
+	public boolean continueExistingFile(final String path) {
+		boolean result = true;
+		for (Policy policy : policies) {
+			result &= policy.continueExistingFile(path);
+		}
+		return result;
+	}
+
+	/**
+	 * Checks if a log entry can be appended to the current log file. The passed byte array can be larger than the log
+	 * entry, for example if it is a reused buffer. Only the first bytes up to the passed length belong to the log entry.
+	 *
+	 * @param data
+	 *            Byte array that starts with the log entry
+	 * @param length
+	 *            Length of the log entry in bytes
+	 * @return {@code true} if log entry can be appended to the current log file, {@code false} if a new log file should
+	 *         be created
+	 */
+	public boolean continueCurrentFile(final byte[] data, final int length) {
+		boolean result = true;
+
+		if (lengthBasedPolicies == null) {
+			byte[] entry = data.length == length ? data : Arrays.copyOf(data, length);
+			for (Policy policy : policies) {
+				result &= policy.continueCurrentFile(entry);
+			}
+		} else {
+			for (LengthBasedPolicy policy : lengthBasedPolicies) {
+				result &= policy.continueCurrentFile(length);
+			}
+
+			if (deadline != Long.MAX_VALUE) {
+				result &= System.currentTimeMillis() < deadline;
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Resets all policies as a new log file has been started.
+	 */
+	public void reset() {
+		for (Policy policy : policies) {
+			policy.reset();
+		}
+
+		deadline = computeDeadline(lengthBasedPolicies);
+	}
+
+	/**
+	 * Casts all passed policies to length based policies.
+	 *
+	 * @param policies
+	 *            Policies to cast
+	 * @return Length based policies or {@code null} if at least one policy is not a length based policy
+	 */
+	private static LengthBasedPolicy[] toLengthBasedPolicies(final Policy[] policies) {
+		LengthBasedPolicy[] result = new LengthBasedPolicy[policies.length];
+		for (int i = 0; i < policies.length; ++i) {
+			if (policies[i] instanceof LengthBasedPolicy) {
+				result[i] = (LengthBasedPolicy) policies[i];
+			} else {
+				return null;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Computes the earliest deadline of all passed policies.
+	 *
+	 * @param policies
+	 *            Length based policies or {@code null}
+	 * @return Earliest deadline or {@link Long#MAX_VALUE} if there is no deadline
+	 */
+	private static long computeDeadline(final LengthBasedPolicy[] policies) {
+		long deadline = Long.MAX_VALUE;
+		if (policies != null) {
+			for (LengthBasedPolicy policy : policies) {
+				deadline = Math.min(deadline, policy.getDeadline());
+			}
+		}
+		return deadline;
+	}
+
+}
@@ -19,7 +19,7 @@ import org.tinylog.provider.InternalLogger;
 /**
  * Policy for triggering a rollover at startup.
  */
-public final class StartupPolicy implements Policy {
+public final class StartupPolicy implements LengthBasedPolicy {
 
 	/** */
 	public StartupPolicy() {
@@ -46,6 +46,16 @@ public final class StartupPolicy implements Policy {
 		return true;
 	}
 
+	@Override
+	public boolean continueCurrentFile(final int length) {
+		return true;
+	}
+
+	@Override
+	public long getDeadline() {
+		return Long.MAX_VALUE;
+	}
+
 	@Override
 	public void reset() {
 	}
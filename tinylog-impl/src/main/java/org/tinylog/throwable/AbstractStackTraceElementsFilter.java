@@ -13,7 +13,6 @@
 
 package org.tinylog.throwable;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -32,14 +31,17 @@ public abstract class AbstractStackTraceElementsFilter extends AbstractThrowable
 	@Override
 	public ThrowableData filter(final ThrowableData origin) {
 		List<StackTraceElement> currentTrace = origin.getStackTrace();
-		List<StackTraceElement> newTrace = new ArrayList<StackTraceElement>(currentTrace.size());
+		int[] indexes = new int[currentTrace.size()];
+		int size = 0;
 
-		for (StackTraceElement element : currentTrace) {
-			if (shouldKept(element.getClassName(), getArguments())) {
-				newTrace.add(element);
+		for (int i = 0; i < indexes.length; ++i) {
+			if (shouldKept(currentTrace.get(i).getClassName(), getArguments())) {
+				indexes[size++] = i;
 			}
 		}
 
+		List<StackTraceElement> newTrace = size == indexes.length ? currentTrace : new FilteredStackTrace(currentTrace, indexes, size);
+
 		ThrowableData cause = origin.getCause();
 		if (cause != null) {
 			cause = filter(cause);
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2022 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.throwable;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Immutable view of selected stack trace elements of an origin stack trace.
+ *
+ * <p>
+ * The stack trace elements are not copied. Instead, only the indexes of the selected elements are stored.
+ * </p>
+ */
+final class FilteredStackTrace extends AbstractList<StackTraceElement> implements RandomAccess {
+
+	private final List<StackTraceElement> origin;
+	private final int[] indexes;
+	private final int size;
+
+	/**
+	 * @param origin
+	 *            Origin stack trace
+	 * @param indexes
+	 *            Indexes of the selected elements in the origin stack trace in ascending order
+	 * @param size
+	 *            Number of selected elements (the passed indexes array can be larger)
+	 */
+	FilteredStackTrace(final List<StackTraceElement> origin, final int[] indexes, final int size) {
+		this.origin = origin;
+		this.indexes = indexes;
+		this.size = size;
+	}
+
+	@Override
+	public StackTraceElement get(final int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		} else {
+			return origin.get(indexes[index]);
+		}
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+}
@@ -14,18 +14,23 @@
 package org.tinylog.writers;
 
 import java.io.File;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.nio.channels.FileLock;
 import java.nio.charset.Charset;
 import java.util.Arrays;
 import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.tinylog.Level;
 import org.tinylog.provider.InternalLogger;
+import org.tinylog.writers.raw.AppendingFileWriter;
 import org.tinylog.writers.raw.BufferedWriterDecorator;
 import org.tinylog.writers.raw.ByteArrayWriter;
 import org.tinylog.writers.raw.CharsetAdjustmentWriterDecorator;
+import org.tinylog.writers.raw.FileChannelWriter;
 import org.tinylog.writers.raw.LockedRandomAccessFileWriter;
 import org.tinylog.writers.raw.RandomAccessFileWriter;
 import org.tinylog.writers.raw.SynchronizedWriterDecorator;
@@ -100,8 +105,33 @@ public abstract class AbstractFileBasedWriter extends AbstractWriter {
 		File file = new File(fileName).getAbsoluteFile();
 		file.getParentFile().mkdirs();
 
-		byte[] charsetHeader = getCharsetHeader(charset);
 		RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw");
+		return createByteArrayWriter(randomAccessFile, append, buffered, threadSafe, shared, charset);
+	}
+
+	/**
+	 * Creates a {@link ByteArrayWriter} for an already opened file.
+	 *
+	 * @param randomAccessFile
+	 *            Opened file for writing
+	 * @param append
+	 *            An already existing file should be continued
+	 * @param buffered
+	 *            Output should be buffered
+	 * @param threadSafe
+	 *            Created writer must be thread-safe
+	 * @param shared
+	 *            Output file is shared with other processes
+	 * @param charset
+	 *            Charset used by the writer
+	 * @return Writer for writing to passed file
+	 * @throws IOException
+	 *             Log file cannot be prepared for write access
+	 */
+	protected static ByteArrayWriter createByteArrayWriter(final RandomAccessFile randomAccessFile, final boolean append,
+			final boolean buffered, final boolean threadSafe, final boolean shared, final Charset charset)
+			throws IOException {
+		byte[] charsetHeader = getCharsetHeader(charset);
 
 		ByteArrayWriter writer;
 		if (shared) {
@@ -118,19 +148,71 @@ public abstract class AbstractFileBasedWriter extends AbstractWriter {
 			writer = new RandomAccessFileWriter(randomAccessFile);
 		}
 
-		if (buffered) {
-			writer = new BufferedWriterDecorator(writer);
-		}
+		return decorate(writer, buffered, threadSafe, charsetHeader);
+	}
 
-		if (threadSafe) {
-			writer = new SynchronizedWriterDecorator(writer, randomAccessFile);
-		}
+	/**
+	 * Creates a {@link ByteArrayWriter} for a file that is shared with other processes. In opposite to
+	 * {@link #createByteArrayWriter(String, boolean, boolean, boolean, boolean, Charset)}, the created writer doesn't
+	 * lock the file for each write operation, but relies on the atomic append mode of the operating system.
+	 *
+	 * @param fileName
+	 *            Name of file to open for writing
+	 * @param append
+	 *            An already existing file should be continued
+	 * @param buffered
+	 *            Output should be buffered
+	 * @param threadSafe
+	 *            Created writer must be thread-safe
+	 * @param charset
+	 *            Charset used by the writer
+	 * @return Writer for appending to passed file
+	 * @throws IOException
+	 *             Log file cannot be opened for write access
+	 */
+	protected static ByteArrayWriter createAppendingByteArrayWriter(final String fileName, final boolean append,
+			final boolean buffered, final boolean threadSafe, final Charset charset) throws IOException {
+		File file = new File(fileName).getAbsoluteFile();
+		file.getParentFile().mkdirs();
 
-		if (charsetHeader.length > 0) {
-			writer = new CharsetAdjustmentWriterDecorator(writer, charsetHeader);
+		byte[] charsetHeader = getCharsetHeader(charset);
+		RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw");
+		FileOutputStream stream;
+
+		try {
+			FileLock lock = randomAccessFile.getChannel().lock();
+			try {
+				prepareLogFile(randomAccessFile, append, charsetHeader);
+			} finally {
+				lock.release();
+			}
+
+			stream = new FileOutputStream(file, true);
+		} catch (IOException ex) {
+			randomAccessFile.close();
+			throw ex;
 		}
 
-		return writer;
+		ByteArrayWriter writer = new AppendingFileWriter(randomAccessFile, stream);
+		return decorate(writer, buffered, threadSafe, charsetHeader);
+	}
+
+	/**
+	 * Creates a {@link ByteArrayWriter} for an already open file descriptor like {@link FileDescriptor#out}. The created
+	 * writer writes via a {@link java.nio.channels.FileChannel} and is not thread-safe.
+	 *
+	 * @param descriptor
+	 *            File descriptor to write to
+	 * @param buffered
+	 *            Output should be buffered
+	 * @param charset
+	 *            Charset used by the writer
+	 * @return Writer for writing to passed file descriptor
+	 */
+	protected static ByteArrayWriter createByteArrayWriter(final FileDescriptor descriptor, final boolean buffered,
+			final Charset charset) {
+		ByteArrayWriter writer = new FileChannelWriter(new FileOutputStream(descriptor).getChannel());
+		return decorate(writer, buffered, false, getCharsetHeader(charset));
 	}
 
 	/**
@@ -148,6 +230,38 @@ public abstract class AbstractFileBasedWriter extends AbstractWriter {
 		return Arrays.copyOf(doubleSpace, singleSpace.length * 2 - doubleSpace.length);
 	}
 
+	/**
+	 * Wraps a raw writer with the decorators that are required for the passed options.
+	 *
+	 * @param rawWriter
+	 *            Writer that writes directly to the file
+	 * @param buffered
+	 *            Output should be buffered
+	 * @param threadSafe
+	 *            Created writer must be thread-safe
+	 * @param charsetHeader
+	 *            Charset header that must be removed from each byte array (can be empty)
+	 * @return Decorated writer
+	 */
+	private static ByteArrayWriter decorate(final ByteArrayWriter rawWriter, final boolean buffered,
+			final boolean threadSafe, final byte[] charsetHeader) {
+		ByteArrayWriter writer = rawWriter;
+
+		if (buffered) {
+			writer = new BufferedWriterDecorator(writer);
+		}
+
+		if (threadSafe) {
+			writer = new SynchronizedWriterDecorator(writer, new ReentrantLock());
+		}
+
+		if (charsetHeader.length > 0) {
+			writer = new CharsetAdjustmentWriterDecorator(writer, charsetHeader);
+		}
+
+		return writer;
+	}
+
 	private static void prepareLogFile(final RandomAccessFile randomAccessFile, final boolean append,
 			final byte[] charsetHeader) throws IOException {
 		if (append) {
@@ -13,15 +13,21 @@
 
 package org.tinylog.writers;
 
+import java.io.FileDescriptor;
+import java.io.IOException;
+import java.nio.charset.Charset;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.tinylog.Level;
 import org.tinylog.core.ConfigurationParser;
 import org.tinylog.core.LogEntry;
 import org.tinylog.core.LogEntryValue;
 import org.tinylog.provider.InternalLogger;
+import org.tinylog.writers.raw.ByteArrayWriter;
 
 /**
  * Writer for outputting log entries to system output streams.
@@ -30,11 +36,25 @@ import org.tinylog.provider.InternalLogger;
  * The error output stream will be used for log entries with the severity level warning and error. The standard output
  * stream will used for all other log entries.
  * </p>
+ *
+ * <p>
+ * By default, log entries are output via {@link System#out} and {@link System#err}. If the property {@code direct} is
+ * enabled, the encoded log entries are written directly to the file descriptors of the output streams via
+ * {@link java.nio.channels.FileChannel FileChannels} instead. In this mode, the output can be buffered and will be
+ * flushed after each batch of log entries, if the writing thread is enabled. Log entries keep their order across both
+ * output streams, as the buffer of the previously used stream is always flushed before switching to the other stream.
+ * </p>
  */
 public final class ConsoleWriter extends AbstractFormatPatternWriter {
 
 	private final Level errorLevel;
 
+	private final Charset charset;
+	private final ByteArrayWriter standardOutput;
+	private final ByteArrayWriter errorOutput;
+	private final Lock lock;
+	private ByteArrayWriter lastOutput;
+
 	/** */
 	public ConsoleWriter() {
 		this(Collections.<String, String>emptyMap());
@@ -74,6 +94,19 @@ public final class ConsoleWriter extends AbstractFormatPatternWriter {
 			InternalLogger.log(Level.ERROR, "Stream must be \"out\" or \"err\", \"" + stream + "\" is an invalid stream name");
 			errorLevel = levelStream;
 		}
+
+		if (getBooleanValue("direct")) {
+			boolean buffered = getBooleanValue("buffered");
+			charset = getCharset();
+			standardOutput = createByteArrayWriter(FileDescriptor.out, buffered, charset);
+			errorOutput = createByteArrayWriter(FileDescriptor.err, buffered, charset);
+			lock = getBooleanValue("writingthread") ? null : new ReentrantLock();
+		} else {
+			charset = null;
+			standardOutput = null;
+			errorOutput = null;
+			lock = null;
+		}
 	}
 
 	@Override
@@ -85,19 +118,89 @@ public final class ConsoleWriter extends AbstractFormatPatternWriter {
 
 	@Override
 	public void write(final LogEntry logEntry) {
-		if (logEntry.getLevel().ordinal() < errorLevel.ordinal()) {
-			System.out.print(render(logEntry));
+		boolean error = logEntry.getLevel().ordinal() >= errorLevel.ordinal();
+
+		if (standardOutput == null) {
+			if (error) {
+				System.err.print(render(logEntry));
+			} else {
+				System.out.print(render(logEntry));
+			}
 		} else {
-			System.err.print(render(logEntry));
+			byte[] data = render(logEntry).getBytes(charset);
+			ByteArrayWriter output = error ? errorOutput : standardOutput;
+
+			if (lock == null) {
+				internalWrite(output, data);
+			} else {
+				lock.lock();
+				try {
+					internalWrite(output, data);
+				} finally {
+					lock.unlock();
+				}
+			}
 		}
 	}
 
 	@Override
 	public void flush() {
+		if (lock == null) {
+			internalFlush();
+		} else {
+			lock.lock();
+			try {
+				internalFlush();
+			} finally {
+				lock.unlock();
+			}
+		}
 	}
 
+	/**
+	 * Closes the writer. The file descriptors of the output streams are only flushed but never closed, as they belong
+	 * to the whole application.
+	 */
 	@Override
 	public void close() {
+		flush();
+	}
+
+	/**
+	 * Outputs a passed byte array unsynchronized to the passed output stream. The previously used output stream is
+	 * flushed before switching to another output stream.
+	 *
+	 * @param output
+	 *            Output stream writer to use
+	 * @param data
+	 *            Byte array to output
+	 */
+	private void internalWrite(final ByteArrayWriter output, final byte[] data) {
+		try {
+			if (output != lastOutput) {
+				if (lastOutput != null) {
+					lastOutput.flush();
+				}
+				lastOutput = output;
+			}
+
+			output.write(data, data.length);
+		} catch (IOException ex) {
+			InternalLogger.log(Level.ERROR, ex, "Failed to write log entry to console");
+		}
+	}
+
+	/**
+	 * Outputs buffered log entries of the last used output stream immediately unsynchronized.
+	 */
+	private void internalFlush() {
+		if (lastOutput != null) {
+			try {
+				lastOutput.flush();
+			} catch (IOException ex) {
+				InternalLogger.log(Level.ERROR, ex, "Failed to flush console");
+			}
+		}
 	}
 
 }
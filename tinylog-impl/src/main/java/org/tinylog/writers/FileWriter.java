@@ -17,6 +17,8 @@ import java.io.IOException;
 import java.nio.charset.Charset;
 import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.tinylog.core.LogEntry;
 import org.tinylog.writers.raw.ByteArrayWriter;
@@ -24,11 +26,23 @@ import org.tinylog.writers.raw.ByteArrayWriter;
 /**
  * Writer for outputting log entries to a log file. Already existing files can be continued and the output can be
  * buffered for improving performance.
+ *
+ * <p>
+ * By default, the log file is opened when creating the writer. If the property {@code lazy} is enabled, the log file
+ * is not opened before the first log entry has to be written. Applications that rarely or never issue log entries for
+ * this writer will neither pay for opening the log file at startup nor create an empty log file.
+ * </p>
  */
 public final class FileWriter extends AbstractFormatPatternWriter {
 
+	private final String fileName;
+	private final boolean append;
+	private final boolean buffered;
+	private final boolean writingThread;
 	private final Charset charset;
-	private final ByteArrayWriter writer;
+
+	private final Lock lock;
+	private volatile ByteArrayWriter writer;
 
 	/**
 	 * @throws IOException
@@ -52,29 +66,65 @@ public final class FileWriter extends AbstractFormatPatternWriter {
 	public FileWriter(final Map<String, String> properties) throws IOException {
 		super(properties);
 
-		String fileName = getFileName();
-		boolean append = getBooleanValue("append");
-		boolean buffered = getBooleanValue("buffered");
-		boolean writingThread = getBooleanValue("writingthread");
-
+		fileName = getFileName();
+		append = getBooleanValue("append");
+		buffered = getBooleanValue("buffered");
+		writingThread = getBooleanValue("writingthread");
 		charset = getCharset();
-		writer = createByteArrayWriter(fileName, append, buffered, !writingThread, false, charset);
+
+		if (getBooleanValue("lazy")) {
+			lock = new ReentrantLock();
+		} else {
+			lock = null;
+			writer = createByteArrayWriter(fileName, append, buffered, !writingThread, false, charset);
+		}
 	}
 
 	@Override
 	public void write(final LogEntry logEntry) throws IOException {
 		byte[] data = render(logEntry).getBytes(charset);
-		writer.write(data, 0, data.length);
+		getWriter().write(data, 0, data.length);
 	}
 
 	@Override
 	public void flush() throws IOException {
-		writer.flush();
+		ByteArrayWriter current = writer;
+		if (current != null) {
+			current.flush();
+		}
 	}
 
 	@Override
 	public void close() throws IOException {
-		writer.close();
+		ByteArrayWriter current = writer;
+		if (current != null) {
+			current.close();
+		}
+	}
+
+	/**
+	 * Gets the byte array writer for the log file. The log file will be opened, if this has not been done yet.
+	 *
+	 * @return Byte array writer for the log file
+	 *
+	 * @throws IOException
+	 *             Log file cannot be opened for write access
+	 */
+	private ByteArrayWriter getWriter() throws IOException {
+		ByteArrayWriter current = writer;
+		if (current == null) {
+			lock.lock();
+			try {
+				current = writer;
+				if (current == null) {
+					current = createByteArrayWriter(fileName, append, buffered, !writingThread, false, charset);
+					writer = current;
+				}
+			} finally {
+				lock.unlock();
+			}
+		}
+		return current;
 	}
 
 }
@@ -25,6 +25,8 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import javax.naming.InitialContext;
 import javax.naming.NamingException;
@@ -52,7 +54,7 @@ public final class JdbcWriter extends AbstractWriter {
 	private final boolean reconnect;
 	private final boolean batch;
 
-	private final Object mutex;
+	private final Lock lock;
 	private final String sql;
 	private final List<Token> tokens;
 
@@ -90,7 +92,7 @@ public final class JdbcWriter extends AbstractWriter {
 		reconnect = getBooleanValue("reconnect");
 		batch = getBooleanValue("batch");
 
-		mutex = getBooleanValue("writingthread") ? null : new Object();
+		lock = getBooleanValue("writingthread") ? null : new ReentrantLock();
 
 		connection = connect(url, user, password);
 		sql = renderSql(properties, connection.getMetaData().getIdentifierQuoteString());
@@ -109,11 +111,14 @@ public final class JdbcWriter extends AbstractWriter {
 
 	@Override
 	public void write(final LogEntry logEntry) throws SQLException {
-		if (mutex == null) {
+		if (lock == null) {
 			doWrite(logEntry);
 		} else {
-			synchronized (mutex) {
+			lock.lock();
+			try {
 				doWrite(logEntry);
+			} finally {
+				lock.unlock();
 			}
 		}
 	}
@@ -121,11 +126,14 @@ public final class JdbcWriter extends AbstractWriter {
 	@Override
 	public void flush() throws SQLException {
 		if (batch) {
-			if (mutex == null) {
+			if (lock == null) {
 				doFlush();
 			} else {
-				synchronized (mutex) {
+				lock.lock();
+				try {
 					doFlush();
+				} finally {
+					lock.unlock();
 				}
 			}
 		}
@@ -133,11 +141,14 @@ public final class JdbcWriter extends AbstractWriter {
 
 	@Override
 	public void close() throws SQLException {
-		if (mutex == null) {
+		if (lock == null) {
 			doClose();
 		} else {
-			synchronized (mutex) {
+			lock.lock();
+			try {
 				doClose();
+			} finally {
+				lock.unlock();
 			}
 		}
 	}
@@ -22,6 +22,8 @@ import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.tinylog.Level;
 import org.tinylog.core.LogEntry;
@@ -42,6 +44,7 @@ public final class JsonWriter extends AbstractFileBasedWriter {
 
 	private final Charset charset;
 	private final ByteArrayWriter writer;
+	private final Lock lock;
 	private final Map<String, Token> fields;
 	private final boolean lineDelimitedJson;
 
@@ -85,6 +88,7 @@ public final class JsonWriter extends AbstractFileBasedWriter {
 
 		charset = getCharset();
 		writer = createByteArrayWriter(fileName, append, buffered, false, false, charset);
+		lock = writingThread ? null : new ReentrantLock();
 		fields = createTokens(properties);
 
 		if (format == null || "JSON".equalsIgnoreCase(format)) {
@@ -127,8 +131,11 @@ public final class JsonWriter extends AbstractFileBasedWriter {
 		if (builder == null) {
 			StringBuilder builder = new StringBuilder();
 			addJsonObject(logEntry, builder);
-			synchronized (writer) {
+			lock.lock();
+			try {
 				internalWrite(builder.toString().getBytes(charset));
+			} finally {
+				lock.unlock();
 			}
 		} else {
 			builder.setLength(0);
@@ -140,8 +147,11 @@ public final class JsonWriter extends AbstractFileBasedWriter {
 	@Override
 	public void flush() throws IOException {
 		if (builder == null) {
-			synchronized (writer) {
+			lock.lock();
+			try {
 				internalFlush();
+			} finally {
+				lock.unlock();
 			}
 		} else {
 			internalFlush();
@@ -151,8 +161,11 @@ public final class JsonWriter extends AbstractFileBasedWriter {
 	@Override
 	public void close() throws IOException {
 		if (builder == null) {
-			synchronized (writer) {
+			lock.lock();
+			try {
 				internalClose();
+			} finally {
+				lock.unlock();
 			}
 		} else {
 			internalClose();
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2022 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.writers;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+
+import org.tinylog.Level;
+import org.tinylog.provider.InternalLogger;
+
+/**
+ * Empty log file that has been created and opened in advance under a temporary name. At rollover, the file is renamed
+ * to the real log file name while staying open. If the real log file name doesn't depend on the time of rollover, it
+ * can be resolved in advance as well.
+ *
+ * <p>
+ *     Renaming opened files is supported on POSIX systems. On other systems, renaming will fail and the log file has to
+ *     be opened in the ordinary way.
+ * </p>
+ */
+final class PreparedLogFile {
+
+	private static final String TEMPORARY_SUFFIX = ".next";
+
+	private final File file;
+	private final RandomAccessFile randomAccessFile;
+	private final String target;
+
+	/**
+	 * @param file
+	 *            Temporary file
+	 * @param randomAccessFile
+	 *            Opened temporary file
+	 * @param target
+	 *            Resolved name of the next log file or {@code null} if it has to be resolved at rollover
+	 */
+	private PreparedLogFile(final File file, final RandomAccessFile randomAccessFile, final String target) {
+		this.file = file;
+		this.randomAccessFile = randomAccessFile;
+		this.target = target;
+	}
+
+	/**
+	 * Creates and opens a new empty temporary file next to the passed log file.
+	 *
+	 * @param logFile
+	 *            Current log file
+	 * @param target
+	 *            Resolved name of the next log file or {@code null} if it has to be resolved at rollover
+	 * @return Prepared log file or {@code null} if the temporary file could not be created
+	 */
+	static PreparedLogFile create(final File logFile, final String target) {
+		File file = getTemporaryFile(logFile);
+		try {
+			RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw");
+			try {
+				randomAccessFile.setLength(0);
+			} catch (IOException ex) {
+				randomAccessFile.close();
+				throw ex;
+			}
+			return new PreparedLogFile(file, randomAccessFile, target);
+		} catch (IOException ex) {
+			InternalLogger.log(Level.WARN, ex, "Failed to prepare next log file '" + file + "'");
+			return null;
+		}
+	}
+
+	/**
+	 * Deletes a prepared file for the passed log file that has been left behind, for example after a crash.
+	 *
+	 * @param logFile
+	 *            Existing log file
+	 */
+	static void deleteStale(final File logFile) {
+		File file = getTemporaryFile(logFile);
+		if (file.isFile() && !file.delete()) {
+			InternalLogger.log(Level.WARN, "Failed to delete stale prepared log file '" + file + "'");
+		}
+	}
+
+	/**
+	 * Gets the name of the next log file, if it has been resolved in advance.
+	 *
+	 * @return Resolved name of the next log file or {@code null} if it has to be resolved at rollover
+	 */
+	String getTarget() {
+		return target;
+	}
+
+	/**
+	 * Renames the prepared file to the passed log file. The prepared file will be discarded, if renaming fails.
+	 *
+	 * @param target
+	 *            Real log file
+	 * @return Opened log file or {@code null} if renaming failed
+	 */
+	RandomAccessFile moveTo(final File target) {
+		File parent = target.getAbsoluteFile().getParentFile();
+		if (parent != null) {
+			parent.mkdirs();
+		}
+
+		if (file.renameTo(target)) {
+			return randomAccessFile;
+		} else {
+			discard();
+			return null;
+		}
+	}
+
+	/**
+	 * Closes and deletes the prepared file.
+	 */
+	void discard() {
+		try {
+			randomAccessFile.close();
+		} catch (IOException ex) {
+			InternalLogger.log(Level.WARN, ex, "Failed to close prepared log file '" + file + "'");
+		}
+
+		if (file.exists() && !file.delete()) {
+			InternalLogger.log(Level.WARN, "Failed to delete prepared log file '" + file + "'");
+		}
+	}
+
+	/**
+	 * Gets the temporary file name for a prepared file next to the passed log file.
+	 *
+	 * @param logFile
+	 *            Log file
+	 * @return Hidden temporary file in the same directory
+	 */
+	private static File getTemporaryFile(final File logFile) {
+		return new File(logFile.getAbsoluteFile().getParentFile(), "." + logFile.getName() + TEMPORARY_SUFFIX);
+	}
+
+}
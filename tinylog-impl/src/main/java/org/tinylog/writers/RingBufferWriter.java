@@ -0,0 +1,434 @@
+/*
+ * Copyright 2022 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.writers;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.WeakHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.tinylog.Level;
+import org.tinylog.configuration.ServiceLoader;
+import org.tinylog.core.ConfigurationParser;
+import org.tinylog.core.LogEntry;
+import org.tinylog.core.LogEntryValue;
+
+/**
+ * Writer for keeping the latest log entries in memory and outputting them only on demand.
+ *
+ * <p>
+ * Log entries below the trigger severity level (property {@code trigger}, default {@link Level#ERROR}) are stored
+ * unrendered in a ring buffer with a fixed capacity (property {@code capacity}, default 1000). Optionally, the memory
+ * of the buffered log entries can be limited (property {@code limit}, e.g. "64KB"). The memory of a log entry is
+ * estimated by the length of its message. If the ring buffer is full or the limit is exceeded, the oldest log entries
+ * will be overwritten. The latest log entry is always kept.
+ * </p>
+ *
+ * <p>
+ * A log entry with a severity level equal or above the trigger level outputs all buffered log entries and itself via
+ * the delegate writer. Buffered log entries are also output when closing the writer and can be output explicitly by
+ * calling {@link #dump()}. tinylog's logging provider exposes this method via JMX.
+ * </p>
+ *
+ * <p>
+ * If the property {@code perthread} is enabled, each thread has its own ring buffer with the configured capacity and
+ * limit. In this case, a log entry with the trigger level outputs only the buffered log entries of its thread.
+ * </p>
+ *
+ * <p>
+ * The delegate writer is defined by the property {@code delegate}. All other properties are passed to the delegate
+ * writer. Properties with the prefix {@code delegate.} are passed without prefix and overwrite properties with the same
+ * name.
+ * </p>
+ */
+public final class RingBufferWriter extends AbstractWriter {
+
+	private static final int DEFAULT_CAPACITY = 1000;
+	private static final int ENTRY_OVERHEAD = 64;
+	private static final String DELEGATE_PREFIX = "delegate.";
+
+	private static final long KB = 1024L;
+	private static final long MB = KB * 1024L;
+	private static final long GB = MB * 1024L;
+
+	private final Writer delegate;
+	private final Level triggerLevel;
+	private final int capacity;
+	private final long limit;
+
+	private final Lock lock;
+	private final RingBuffer sharedBuffer;
+	private final Map<Thread, RingBuffer> threadBuffers;
+
+	/**
+	 * @throws IllegalArgumentException
+	 *             Delegate writer is not defined
+	 */
+	public RingBufferWriter() {
+		this(Collections.<String, String>emptyMap());
+	}
+
+	/**
+	 * @param properties
+	 *            Configuration for writer
+	 *
+	 * @throws IllegalArgumentException
+	 *             Delegate writer is missing or invalid, or the capacity or limit is not a positive number
+	 */
+	public RingBufferWriter(final Map<String, String> properties) {
+		super(properties);
+
+		delegate = createDelegate(properties);
+		triggerLevel = ConfigurationParser.parse(getStringValue("trigger"), Level.ERROR);
+		capacity = getCapacity();
+		limit = getLimit();
+
+		if (getBooleanValue("perthread")) {
+			sharedBuffer = null;
+			threadBuffers = new WeakHashMap<Thread, RingBuffer>();
+		} else {
+			sharedBuffer = new RingBuffer(capacity);
+			threadBuffers = null;
+		}
+
+		/* Buffered log entries can be dumped from any thread, even if the writing thread is enabled */
+		lock = new ReentrantLock();
+	}
+
+	@Override
+	public Collection<LogEntryValue> getRequiredLogEntryValues() {
+		Collection<LogEntryValue> values = EnumSet.of(LogEntryValue.LEVEL);
+		if (threadBuffers != null) {
+			values.add(LogEntryValue.THREAD);
+		}
+		values.addAll(delegate.getRequiredLogEntryValues());
+		return values;
+	}
+
+	@Override
+	public void write(final LogEntry logEntry) throws Exception {
+		lock.lock();
+		try {
+			RingBuffer buffer = getBuffer(logEntry.getThread());
+			if (logEntry.getLevel().ordinal() >= triggerLevel.ordinal()) {
+				buffer.dump(delegate);
+				delegate.write(logEntry);
+			} else {
+				buffer.add(logEntry, limit);
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Outputs all buffered log entries immediately via the delegate writer. The ring buffers are empty afterwards. If
+	 * there is one ring buffer per thread, the log entries are output thread by thread.
+	 *
+	 * @throws Exception
+	 *             Delegate writer failed to output or flush log entries
+	 */
+	public void dump() throws Exception {
+		lock.lock();
+		try {
+			internalDump();
+			delegate.flush();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public void flush() throws Exception {
+		lock.lock();
+		try {
+			delegate.flush();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Outputs all buffered log entries and closes the delegate writer afterwards.
+	 *
+	 * @throws Exception
+	 *             Delegate writer failed to output log entries or to close
+	 */
+	@Override
+	public void close() throws Exception {
+		lock.lock();
+		try {
+			internalDump();
+		} finally {
+			try {
+				delegate.close();
+			} finally {
+				lock.unlock();
+			}
+		}
+	}
+
+	/**
+	 * Gets the ring buffer for log entries of a thread unsynchronized.
+	 *
+	 * @param thread
+	 *            Thread that has issued the log entry
+	 * @return Ring buffer for the passed thread
+	 */
+	private RingBuffer getBuffer(final Thread thread) {
+		if (threadBuffers == null) {
+			return sharedBuffer;
+		} else {
+			RingBuffer buffer = threadBuffers.get(thread);
+			if (buffer == null) {
+				buffer = new RingBuffer(capacity);
+				threadBuffers.put(thread, buffer);
+			}
+			return buffer;
+		}
+	}
+
+	/**
+	 * Outputs all buffered log entries of all ring buffers unsynchronized via the delegate writer.
+	 *
+	 * @throws Exception
+	 *             Delegate writer failed to output log entries
+	 */
+	private void internalDump() throws Exception {
+		if (threadBuffers == null) {
+			sharedBuffer.dump(delegate);
+		} else {
+			List<RingBuffer> buffers = new ArrayList<RingBuffer>(threadBuffers.values());
+			threadBuffers.clear();
+			for (RingBuffer buffer : buffers) {
+				buffer.dump(delegate);
+			}
+		}
+	}
+
+	/**
+	 * Extracts the capacity of the ring buffer from configuration.
+	 *
+	 * @return Maximum number of log entries to buffer
+	 *
+	 * @throws IllegalArgumentException
+	 *             Capacity is not a positive number
+	 */
+	private int getCapacity() {
+		String value = getStringValue("capacity");
+		if (value == null) {
+			return DEFAULT_CAPACITY;
+		}
+
+		int capacity;
+		try {
+			capacity = Integer.parseInt(value);
+		} catch (NumberFormatException ex) {
+			throw new IllegalArgumentException("Invalid capacity for ring buffer writer: " + value, ex);
+		}
+
+		if (capacity > 0) {
+			return capacity;
+		} else {
+			throw new IllegalArgumentException("Capacity for ring buffer writer must be positive: " + value);
+		}
+	}
+
+	/**
+	 * Extracts the memory limit of the ring buffer from configuration. The units GB, MB, KB and bytes are supported.
+	 *
+	 * @return Maximum estimated memory of buffered log entries in bytes or {@link Long#MAX_VALUE} if not limited
+	 *
+	 * @throws IllegalArgumentException
+	 *             Limit is not a positive number
+	 */
+	private long getLimit() {
+		String value = getStringValue("limit");
+		if (value == null) {
+			return Long.MAX_VALUE;
+		}
+
+		String argument = value.trim().toLowerCase(Locale.ROOT);
+		long limit;
+		try {
+			if (argument.endsWith("gb")) {
+				limit = Long.parseLong(argument.substring(0, argument.length() - "gb".length()).trim()) * GB;
+			} else if (argument.endsWith("mb")) {
+				limit = Long.parseLong(argument.substring(0, argument.length() - "mb".length()).trim()) * MB;
+			} else if (argument.endsWith("kb")) {
+				limit = Long.parseLong(argument.substring(0, argument.length() - "kb".length()).trim()) * KB;
+			} else if (argument.endsWith("bytes")) {
+				limit = Long.parseLong(argument.substring(0, argument.length() - "bytes".length()).trim());
+			} else {
+				limit = Long.parseLong(argument);
+			}
+		} catch (NumberFormatException ex) {
+			throw new IllegalArgumentException("Invalid limit for ring buffer writer: " + value, ex);
+		}
+
+		if (limit > 0) {
+			return limit;
+		} else {
+			throw new IllegalArgumentException("Limit for ring buffer writer must be positive: " + value);
+		}
+	}
+
+	/**
+	 * Creates the delegate writer.
+	 *
+	 * @param properties
+	 *            Configuration for ring buffer writer
+	 * @return Created delegate writer
+	 *
+	 * @throws IllegalArgumentException
+	 *             Delegate writer is not defined or cannot be created
+	 */
+	private static Writer createDelegate(final Map<String, String> properties) {
+		String name = properties.get("delegate");
+		if (name == null || name.trim().isEmpty()) {
+			throw new IllegalArgumentException("Delegate writer is missing for ring buffer writer");
+		}
+
+		Map<String, String> configuration = new HashMap<String, String>();
+		for (Entry<String, String> entry : properties.entrySet()) {
+			String key = entry.getKey();
+			if (!key.startsWith(DELEGATE_PREFIX) && !isOwnProperty(key)) {
+				configuration.put(key, entry.getValue());
+			}
+		}
+		for (Entry<String, String> entry : properties.entrySet()) {
+			String key = entry.getKey();
+			if (key.startsWith(DELEGATE_PREFIX)) {
+				configuration.put(key.substring(DELEGATE_PREFIX.length()), entry.getValue());
+			}
+		}
+
+		Writer writer = new ServiceLoader<Writer>(Writer.class, Map.class).create(name.trim(), configuration);
+		if (writer == null) {
+			throw new IllegalArgumentException("Invalid delegate writer for ring buffer writer: " + name.trim());
+		} else {
+			return writer;
+		}
+	}
+
+	/**
+	 * Checks whether a property is used by the ring buffer writer itself and must not be passed to the delegate writer.
+	 *
+	 * @param key
+	 *            Name of property
+	 * @return {@code true} if the property belongs to the ring buffer writer, {@code false} if not
+	 */
+	private static boolean isOwnProperty(final String key) {
+		return "delegate".equals(key) || "capacity".equals(key) || "limit".equals(key) || "trigger".equals(key)
+			|| "perthread".equals(key);
+	}
+
+	/**
+	 * Estimates the memory of a buffered log entry.
+	 *
+	 * @param logEntry
+	 *            Log entry to estimate
+	 * @return Estimated memory in bytes
+	 */
+	private static long estimateSize(final LogEntry logEntry) {
+		String message = logEntry.getMessage();
+		return message == null ? ENTRY_OVERHEAD : ENTRY_OVERHEAD + 2L * message.length();
+	}
+
+	/**
+	 * Ring buffer for log entries. Ring buffers are not thread-safe.
+	 */
+	private static final class RingBuffer {
+
+		private final LogEntry[] entries;
+		private final long[] sizes;
+		private int head;
+		private int size;
+		private long bytes;
+
+		/**
+		 * @param capacity
+		 *            Maximum number of log entries
+		 */
+		private RingBuffer(final int capacity) {
+			entries = new LogEntry[capacity];
+			sizes = new long[capacity];
+		}
+
+		/**
+		 * Adds a log entry. The oldest log entries are removed, if the ring buffer is full or the memory limit is
+		 * exceeded.
+		 *
+		 * @param logEntry
+		 *            Log entry to add
+		 * @param limit
+		 *            Maximum estimated memory of all buffered log entries in bytes
+		 */
+		private void add(final LogEntry logEntry, final long limit) {
+			if (size == entries.length) {
+				removeOldest();
+			}
+
+			long entrySize = estimateSize(logEntry);
+			while (size > 0 && bytes + entrySize > limit) {
+				removeOldest();
+			}
+
+			entries[head] = logEntry;
+			sizes[head] = entrySize;
+			head = (head + 1) % entries.length;
+			size += 1;
+			bytes += entrySize;
+		}
+
+		/**
+		 * Outputs all buffered log entries via the passed writer in the order of their occurrence. The ring buffer is
+		 * empty afterwards.
+		 *
+		 * @param writer
+		 *            Writer for outputting the log entries
+		 * @throws Exception
+		 *             Writer failed to output log entries
+		 */
+		private void dump(final Writer writer) throws Exception {
+			while (size > 0) {
+				writer.write(removeOldest());
+			}
+		}
+
+		/**
+		 * Removes the oldest log entry.
+		 *
+		 * @return Removed log entry
+		 */
+		private LogEntry removeOldest() {
+			int index = (head - size + entries.length) % entries.length;
+			LogEntry logEntry = entries[index];
+			entries[index] = null;
+			bytes -= sizes[index];
+			size -= 1;
+			return logEntry;
+		}
+
+	}
+
+}
@@ -15,23 +15,42 @@ package org.tinylog.writers;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
 import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.codehaus.mojo.animal_sniffer.IgnoreJRERequirement;
 import org.tinylog.Level;
 import org.tinylog.configuration.ServiceLoader;
 import org.tinylog.converters.FileConverter;
 import org.tinylog.converters.NopFileConverter;
+import org.tinylog.core.Diagnostics;
 import org.tinylog.core.LogEntry;
 import org.tinylog.path.DynamicPath;
 import org.tinylog.path.FileTuple;
+import org.tinylog.path.LogFileIndex;
 import org.tinylog.policies.Policy;
+import org.tinylog.policies.PolicyEvaluator;
 import org.tinylog.policies.StartupPolicy;
 import org.tinylog.provider.InternalLogger;
 import org.tinylog.runtime.RuntimeProvider;
@@ -41,19 +60,37 @@ import org.tinylog.writers.raw.ByteArrayWriter;
  * Writer for outputting log entries to rolling log files. Rollover strategies can be defined via {@link Policy
  * policies} and the output can be buffered for improving performance. The path to the log file can contain one or more
  * patterns that will be resolved at runtime.
+ *
+ * <p>
+ *     If asynchronous rollover is enabled via the property {@code asyncrollover}, the next log file is created and opened
+ *     in advance by a background thread. At rollover, the writing thread only swaps the file. Closing the previous log
+ *     file, switching the file converter to the new log file, linking the latest log file, and deleting obsolete
+ *     backups are done by the background thread. Log entries that are issued while the file converter is being
+ *     switched are retained and written as soon as the file converter has been opened for the new log file.
+ * </p>
  */
 public final class RollingFileWriter extends AbstractFormatPatternWriter {
 
+	private static final int MAX_ENCODING_LENGTH = 8192;
+
 	private final DynamicPath path;
-	private final List<Policy> policies;
+	private final PolicyEvaluator policies;
 	private final FileConverter converter;
-	private final int backups;
+	private final boolean converting;
+	private final LogFileIndex index;
 	private final boolean buffered;
 	private final boolean writingThread;
 	private final DynamicPath linkToLatest;
 	private final Charset charset;
+	private final CharsetEncoder encoder;
+	private final byte[] buffer;
+	private final ExecutorService rolloverExecutor;
+	private final AtomicReference<PreparedLogFile> preparedFile;
+	private final List<byte[]> pendingData;
+	private final Lock lock;
 
 	private ByteArrayWriter writer;
+	private Rollover pendingRollover;
 
 	/**
 	 * @throws IOException
@@ -78,16 +115,24 @@ public final class RollingFileWriter extends AbstractFormatPatternWriter {
 		super(properties);
 
 		path = new DynamicPath(getFileName());
-		policies = createPolicies(getStringValue("policies"));
+		policies = new PolicyEvaluator(createPolicies(getStringValue("policies")));
 		converter = createConverter(getStringValue("convert"));
-		backups = properties.containsKey("backups") ? Integer.parseInt(getStringValue("backups")) : -1;
+		converting = !(converter instanceof NopFileConverter);
+		int backups = properties.containsKey("backups") ? Integer.parseInt(getStringValue("backups")) : -1;
 		linkToLatest = properties.containsKey("latest") ? new DynamicPath(getStringValue("latest")) : null;
 
 		List<FileTuple> files = getAllFileTuplesWithoutLinks(converter.getBackupSuffix());
 		File latestFile = findLatestLogFile(files);
 
+		for (FileTuple file : files) {
+			PreparedLogFile.deleteStale(file.getOriginal());
+		}
+
 		if (backups >= 0) {
-			deleteBackups(files, backups);
+			index = new LogFileIndex(files, converter.getBackupSuffix(), backups);
+			index.deleteObsoleteFiles();
+		} else {
+			index = null;
 		}
 
 		String fileName;
@@ -95,7 +140,7 @@ public final class RollingFileWriter extends AbstractFormatPatternWriter {
 
 		if (latestFile != null && path.isValid(latestFile)) {
 			fileName = latestFile.getAbsolutePath();
-			if (canBeContinued(fileName, policies)) {
+			if (policies.continueExistingFile(fileName)) {
 				append = true;
 			} else {
 				fileName = path.resolve();
@@ -107,19 +152,40 @@ public final class RollingFileWriter extends AbstractFormatPatternWriter {
 		}
 
 		charset = getCharset();
+		encoder = charset.newEncoder().onMalformedInput(CodingErrorAction.REPLACE).onUnmappableCharacter(CodingErrorAction.REPLACE);
+		buffer = new byte[(int) Math.ceil(MAX_ENCODING_LENGTH * encoder.maxBytesPerChar())];
 		buffered = getBooleanValue("buffered");
 		writingThread = getBooleanValue("writingthread");
+		lock = writingThread ? null : new ReentrantLock();
 		writer = createByteArrayWriterAndLinkLatest(fileName, append, buffered, charset);
+
+		if (index != null) {
+			index.add(fileName);
+		}
+
+		if (getBooleanValue("asyncrollover")) {
+			rolloverExecutor = Executors.newSingleThreadExecutor(new RolloverThreadFactory());
+			preparedFile = new AtomicReference<PreparedLogFile>();
+			pendingData = new ArrayList<byte[]>();
+			prepareNextFile(new File(fileName));
+		} else {
+			rolloverExecutor = null;
+			preparedFile = null;
+			pendingData = null;
+		}
 	}
 
 	@Override
 	public void write(final LogEntry logEntry) throws IOException {
-		byte[] data = render(logEntry).getBytes(charset);
+		String text = render(logEntry);
 		if (writingThread) {
-			internalWrite(data);
+			internalWrite(text);
 		} else {
-			synchronized (writer) {
-				internalWrite(data);
+			lock.lock();
+			try {
+				internalWrite(text);
+			} finally {
+				lock.unlock();
 			}
 		}
 	}
@@ -129,8 +195,11 @@ public final class RollingFileWriter extends AbstractFormatPatternWriter {
 		if (writingThread) {
 			internalFlush();
 		} else {
-			synchronized (writer) {
+			lock.lock();
+			try {
 				internalFlush();
+			} finally {
+				lock.unlock();
 			}
 		}
 	}
@@ -140,39 +209,102 @@ public final class RollingFileWriter extends AbstractFormatPatternWriter {
 		if (writingThread) {
 			internalClose();
 		} else {
-			synchronized (writer) {
+			lock.lock();
+			try {
 				internalClose();
+			} finally {
+				lock.unlock();
 			}
 		}
 	}
 
 	/**
-	 * Outputs a passed byte array unsynchronized.
+	 * Outputs a rendered log entry unsynchronized. Log entries are encoded into a reusable buffer. Only very long log
+	 * entries or log entries that have to be passed to a file converter or retained are copied into own byte arrays.
 	 *
-	 * @param data
-	 *            Byte array to output
+	 * @param text
+	 *            Rendered log entry to output
 	 * @throws IOException
 	 *             Writing failed
 	 */
-	private void internalWrite(final byte[] data) throws IOException {
-		if (!canBeContinued(data, policies)) {
-			writer.close();
-			converter.close();
+	private void internalWrite(final String text) throws IOException {
+		byte[] data;
+		int length = encode(text);
+
+		if (length >= 0) {
+			data = buffer;
+		} else {
+			data = text.getBytes(charset);
+			length = data.length;
+		}
+
+		if (!policies.continueCurrentFile(data, length)) {
+			long start = Diagnostics.isEnabled() ? System.nanoTime() : 0L;
+			String fileName;
 
-			String fileName = path.resolve();
-			writer = createByteArrayWriterAndLinkLatest(fileName, false, buffered, charset);
+			if (rolloverExecutor == null) {
+				writer.close();
+				converter.close();
 
-			for (Policy policy : policies) {
-				policy.reset();
+				fileName = path.resolve();
+				writer = createByteArrayWriterAndLinkLatest(fileName, false, buffered, charset);
+
+				if (index != null) {
+					index.add(fileName);
+					index.deleteObsoleteFiles();
+				}
+			} else {
+				if (pendingRollover != null) {
+					finishRollover(true);
+				}
+
+				PreparedLogFile file = preparedFile.getAndSet(null);
+				fileName = file == null || file.getTarget() == null ? path.resolve() : file.getTarget();
+
+				ByteArrayWriter previousWriter = writer;
+				writer = openNextFile(file, fileName);
+				pendingRollover = new Rollover(previousWriter, fileName);
+				rolloverExecutor.execute(pendingRollover);
 			}
 
-			if (backups >= 0) {
-				deleteBackups(getAllFileTuplesWithoutLinks(converter.getBackupSuffix()), backups);
+			policies.reset();
+
+			if (Diagnostics.isEnabled()) {
+				Diagnostics.rolledOver(fileName, System.nanoTime() - start);
 			}
 		}
 
-		byte[] convertedData = converter.write(data);
-		writer.write(convertedData, 0, convertedData.length);
+		if (pendingRollover != null && !finishRollover(false)) {
+			pendingData.add(data == buffer ? Arrays.copyOf(data, length) : data);
+		} else if (converting) {
+			byte[] convertedData = converter.write(data == buffer ? Arrays.copyOf(data, length) : data);
+			writer.write(convertedData, 0, convertedData.length);
+		} else {
+			writer.write(data, 0, length);
+		}
+	}
+
+	/**
+	 * Encodes a rendered log entry into the reusable buffer.
+	 *
+	 * @param text
+	 *            Rendered log entry
+	 * @return Number of encoded bytes or {@code -1} if the log entry doesn't fit into the buffer
+	 */
+	private int encode(final String text) {
+		if (text.length() > MAX_ENCODING_LENGTH) {
+			return -1;
+		}
+
+		ByteBuffer output = ByteBuffer.wrap(buffer);
+		encoder.reset();
+
+		CoderResult result = encoder.encode(CharBuffer.wrap(text), output, true);
+		if (result.isUnderflow()) {
+			result = encoder.flush(output);
+		}
+
+		return result.isUnderflow() ? output.position() : -1;
 	}
 
 	/**
@@ -182,6 +314,10 @@ public final class RollingFileWriter extends AbstractFormatPatternWriter {
 	 *             Flushing failed
 	 */
 	private void internalFlush() throws IOException {
+		if (pendingRollover != null) {
+			finishRollover(false);
+		}
+
 		writer.flush();
 	}
 
@@ -194,11 +330,89 @@ public final class RollingFileWriter extends AbstractFormatPatternWriter {
 	 *             Interrupted while waiting for the converter
 	 */
 	private void internalClose() throws IOException, InterruptedException {
+		if (pendingRollover != null) {
+			finishRollover(true);
+		}
+
+		if (rolloverExecutor != null) {
+			rolloverExecutor.shutdown();
+			rolloverExecutor.awaitTermination(1, TimeUnit.MINUTES);
+
+			PreparedLogFile file = preparedFile.getAndSet(null);
+			if (file != null) {
+				file.discard();
+			}
+		}
+
 		writer.close();
 		converter.close();
 		converter.shutdown();
 	}
 
+	/**
+	 * Completes a pending rollover. All log entries that have been retained while the background thread was switching
+	 * the file converter are converted and written to the new log file.
+	 *
+	 * @param wait
+	 *            {@code true} for waiting until the background thread has switched the file converter, {@code false}
+	 *            for returning immediately if the file converter has not been switched yet
+	 * @return {@code true} if the rollover has been completed, {@code false} if the file converter has not been
+	 *         switched yet
+	 * @throws IOException
+	 *             Writing retained log entries failed
+	 */
+	private boolean finishRollover(final boolean wait) throws IOException {
+		if (wait) {
+			pendingRollover.awaitSwitch();
+		} else if (!pendingRollover.isSwitched()) {
+			return false;
+		}
+
+		pendingRollover = null;
+
+		for (byte[] data : pendingData) {
+			byte[] convertedData = converter.write(data);
+			writer.write(convertedData, 0, convertedData.length);
+		}
+
+		pendingData.clear();
+		return true;
+	}
+
+	/**
+	 * Creates and opens the next log file in advance. If the path doesn't depend on the time of rollover, the name of
+	 * the next log file will be resolved in advance as well.
+	 *
+	 * @param currentFile
+	 *            Current log file
+	 */
+	private void prepareNextFile(final File currentFile) {
+		String target = path.isPredictable() ? path.resolve() : null;
+		preparedFile.set(PreparedLogFile.create(currentFile, target));
+	}
+
+	/**
+	 * Opens the next log file. A prepared log file will be used if available.
+	 *
+	 * @param file
+	 *            Prepared log file or {@code null} if none is available
+	 * @param fileName
+	 *            Name of the new log file
+	 * @return Writer for writing to the passed file
+	 * @throws IOException
+	 *             Log file cannot be opened for write access
+	 */
+	private ByteArrayWriter openNextFile(final PreparedLogFile file, final String fileName) throws IOException {
+		if (file != null) {
+			RandomAccessFile randomAccessFile = file.moveTo(new File(fileName));
+			if (randomAccessFile != null) {
+				return createByteArrayWriter(randomAccessFile, false, buffered, false, false, charset);
+			}
+		}
+
+		return createByteArrayWriter(fileName, false, buffered, false, false, charset);
+	}
+
 	/**
 	 * Gets all log files including backups from {@link DynamicPath} but without links.
 	 *
@@ -237,11 +451,22 @@ public final class RollingFileWriter extends AbstractFormatPatternWriter {
 	 * @throws IOException
 	 *             Log file cannot be opened for write access
 	 */
-	@IgnoreJRERequirement
 	private ByteArrayWriter createByteArrayWriterAndLinkLatest(final String fileName, final boolean append,
 			final boolean buffered, final Charset charset) throws IOException {
 		converter.open(fileName);
 		ByteArrayWriter writer = createByteArrayWriter(fileName, append, buffered, false, false, charset);
+		linkLatest(fileName);
+		return writer;
+	}
+
+	/**
+	 * Creates a link to the passed log file if linking is enabled.
+	 *
+	 * @param fileName
+	 *            Log file to link
+	 */
+	@IgnoreJRERequirement
+	private void linkLatest(final String fileName) {
 		if (linkToLatest != null) {
 			File logFile = new File(fileName);
 			File linkFile = new File(linkToLatest.resolve());
@@ -258,7 +483,6 @@ public final class RollingFileWriter extends AbstractFormatPatternWriter {
 				InternalLogger.log(Level.WARN, "Cannot create link to latest log file on Android");
 			}
 		}
-		return writer;
 	}
 
 	/**
@@ -301,7 +525,7 @@ public final class RollingFileWriter extends AbstractFormatPatternWriter {
 	 * Creates the file converter from a nullable string.
 	 *
 	 * @param property
-	 *            Nullable string with converter to create
+	 *            Nullable string with converter to create and an optional argument separated by a colon
 	 * @return Created file converter
 	 */
 	private static FileConverter createConverter(final String property) {
@@ -312,57 +536,116 @@ public final class RollingFileWriter extends AbstractFormatPatternWriter {
 				java.util.ServiceLoader.load(FileConverter.class); // Workaround for ProGuard (see issue #126)
 			}
 
-			FileConverter converter = new ServiceLoader<FileConverter>(FileConverter.class).create(property);
+			FileConverter converter;
+			int separator = property.indexOf(':');
+			if (separator == -1) {
+				converter = new ServiceLoader<FileConverter>(FileConverter.class).create(property.trim());
+			} else {
+				String name = property.substring(0, separator).trim();
+				String argument = property.substring(separator + 1).trim();
+				converter = new ServiceLoader<FileConverter>(FileConverter.class, String.class).create(name, argument);
+			}
+
 			return converter == null ? new NopFileConverter() : converter;
 		}
 	}
 
 	/**
-	 * Checks if an already existing log file can be continued.
-	 *
-	 * @param fileName
-	 *            Log file
-	 * @param policies
-	 *            Policies that should be applied
-	 * @return {@code true} if the passed log file can be continued, {@code false} if a new log file should be started
+	 * Background task for finishing a rollover. It prepares the next log file, closes the previous log file, switches
+	 * the file converter to the new log file, links the new log file, and deletes obsolete backups. The writing thread
+	 * doesn't use the file converter or start another rollover before the file converter has been switched, so both
+	 * threads never use the file converter or resolve the path concurrently.
 	 */
-	private static boolean canBeContinued(final String fileName, final List<Policy> policies) {
-		boolean result = true;
-		for (Policy policy : policies) {
-			result &= policy.continueExistingFile(fileName);
+	private final class Rollover implements Runnable {
+
+		private final ByteArrayWriter previousWriter;
+		private final String fileName;
+		private final CountDownLatch switched;
+
+		/**
+		 * @param previousWriter
+		 *            Writer of the previous log file
+		 * @param fileName
+		 *            Name of the new log file
+		 */
+		private Rollover(final ByteArrayWriter previousWriter, final String fileName) {
+			this.previousWriter = previousWriter;
+			this.fileName = fileName;
+			this.switched = new CountDownLatch(1);
 		}
-		return result;
-	}
 
-	/**
-	 * Checks if a new log entry can be still written to the current log file.
-	 *
-	 * @param data
-	 *            Log entry
-	 * @param policies
-	 *            Policies that should be applied
-	 * @return {@code true} if the current log file can be continued, {@code false} if a new log file should be started
-	 */
-	private static boolean canBeContinued(final byte[] data, final List<Policy> policies) {
-		boolean result = true;
-		for (Policy policy : policies) {
-			result &= policy.continueCurrentFile(data);
+		/**
+		 * Checks if the file converter has already been switched to the new log file.
+		 *
+		 * @return {@code true} if the file converter can be used for the new log file, otherwise {@code false}
+		 */
+		private boolean isSwitched() {
+			return switched.getCount() == 0;
+		}
+
+		/**
+		 * Waits until the file converter has been switched to the new log file. An interrupt doesn't abort waiting, but
+		 * will be restored afterwards.
+		 */
+		private void awaitSwitch() {
+			boolean interrupted = false;
+
+			while (!isSwitched()) {
+				try {
+					switched.await();
+				} catch (InterruptedException ex) {
+					interrupted = true;
+				}
+			}
+
+			if (interrupted) {
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		@Override
+		public void run() {
+			prepareNextFile(new File(fileName));
+
+			try {
+				previousWriter.close();
+			} catch (IOException ex) {
+				InternalLogger.log(Level.ERROR, ex, "Failed to close previous log file");
+			}
+
+			try {
+				converter.close();
+				converter.open(fileName);
+			} finally {
+				switched.countDown();
+			}
+
+			linkLatest(fileName);
+
+			if (index != null) {
+				index.add(fileName);
+				index.deleteObsoleteFiles();
+			}
 		}
-		return result;
+
 	}
 
 	/**
-	 * Deletes old log files.
-	 *
-	 * @param files
-	 *            All original and backup files
-	 * @param count
-	 *            Number of log files to keep
+	 * Thread factory for the background rollover thread.
 	 */
-	private static void deleteBackups(final List<FileTuple> files, final int count) {
-		for (int i = count; i < files.size(); ++i) {
-			files.get(i).delete();
+	private static final class RolloverThreadFactory implements ThreadFactory {
+
+		/** */
+		private RolloverThreadFactory() {
 		}
+
+		@Override
+		public Thread newThread(final Runnable runnable) {
+			Thread thread = new Thread(runnable, "tinylog-RolloverThread");
+			thread.setDaemon(true);
+			return thread;
+		}
+
 	}
 
 }
@@ -30,6 +30,14 @@ import org.tinylog.writers.raw.ByteArrayWriter;
  * file. The shared file writer ensures that no process overrides log entries of another process. Already existing files
  * can be continued. The output can be buffered for improving performance, but is not recommended as outputs of
  * different processes will be not in chronological order.
+ *
+ * <p>
+ *     By default, the log file is locked for each write operation. If the property {@code lockfree} is enabled, the log
+ *     file is opened in append mode instead and each log entry (or each batch of log entries, if the writing thread or
+ *     buffering is enabled) is appended by a single atomic write operation without any locking. All processes should
+ *     use the same mode for the same log file. The lock free mode is only reliable for local file systems. Log entries
+ *     larger than the 64 KB output buffer are not guaranteed to be written atomically.
+ * </p>
  */
 public final class SharedFileWriter extends AbstractFormatPatternWriter {
 
@@ -88,7 +96,15 @@ public final class SharedFileWriter extends AbstractFormatPatternWriter {
 		}
 
 		charset = getCharset();
-		writer = createByteArrayWriter(fileName, append, buffered, !writingThread, true, charset);
+
+		if (getBooleanValue("lockfree")) {
+			// The writing thread flushes after each batch of log entries. Buffering ensures that each batch is
+			// appended by a single atomic write operation.
+			boolean batched = buffered || writingThread;
+			writer = createAppendingByteArrayWriter(fileName, append, batched, !writingThread, charset);
+		} else {
+			writer = createByteArrayWriter(fileName, append, buffered, !writingThread, true, charset);
+		}
 	}
 
 	@Override
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2022 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.writers.raw;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+
+/**
+ * Writer for appending byte arrays to a file that is shared with other processes.
+ *
+ * <p>
+ *     In opposite to {@link LockedRandomAccessFileWriter}, this writer doesn't lock the file for writing. Instead, the
+ *     passed output stream has to be opened in append mode ({@code O_APPEND} on POSIX systems). Thereby, the operating
+ *     system moves the file pointer to the end of the file and writes the data in one atomic operation. Each passed
+ *     byte array is written by exactly one system call. Outputs of different processes can be interleaved only between
+ *     two write calls, but never inside a single write call, as long as the file is located on a local file system.
+ * </p>
+ *
+ * <p>
+ *     The operating system can write large byte arrays partially. In this case, the remaining bytes are written by a
+ *     further system call and outputs of other processes can be interleaved. Therefore, only byte arrays that fit into
+ *     the 64 KB buffer of {@link BufferedWriterDecorator} should be considered as written atomically. Larger log entries
+ *     are not guaranteed to be written atomically.
+ * </p>
+ *
+ * <p>
+ *     The random access file is only used for reading and truncating. Both operations are still protected by
+ *     {@link FileLock FileLocks}.
+ * </p>
+ */
+public final class AppendingFileWriter implements ByteArrayWriter {
+
+	private final RandomAccessFile file;
+	private final FileOutputStream stream;
+
+	/**
+	 * @param file
+	 *            Underlying random access file for reading and truncating
+	 * @param stream
+	 *            Output stream for the same file, opened in append mode
+	 */
+	public AppendingFileWriter(final RandomAccessFile file, final FileOutputStream stream) {
+		this.file = file;
+		this.stream = stream;
+	}
+
+	@Override
+	public int readTail(final byte[] data, final int offset, final int length) throws IOException {
+		FileChannel channel = file.getChannel();
+		FileLock lock = channel.lock();
+		try {
+			long fileSize = channel.size();
+			int bytesToRead = (int) Math.min(fileSize, length);
+			channel.position(fileSize - bytesToRead);
+			return file.read(data, offset, bytesToRead);
+		} finally {
+			lock.release();
+		}
+	}
+
+	@Override
+	public void write(final byte[] data, final int length) throws IOException {
+		write(data, 0, length);
+	}
+
+	@Override
+	public void write(final byte[] data, final int offset, final int length) throws IOException {
+		stream.write(data, offset, length);
+	}
+
+	@Override
+	public void truncate(final int count) throws IOException {
+		FileChannel channel = file.getChannel();
+		FileLock lock = channel.lock();
+		try {
+			file.setLength(Math.max(0, channel.size() - count));
+		} finally {
+			lock.release();
+		}
+	}
+
+	@Override
+	public void flush() {
+	}
+
+	@Override
+	public void close() throws IOException {
+		try {
+			stream.close();
+		} finally {
+			file.close();
+		}
+	}
+
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2022 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.writers.raw;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Wrapper for using a {@link FileChannel} as writer.
+ *
+ * <p>
+ *     The channel can be also opened for a file descriptor like {@link java.io.FileDescriptor#out}. In this case,
+ *     reading and truncating is not supported by the operating system and will fail.
+ * </p>
+ */
+public final class FileChannelWriter implements ByteArrayWriter {
+
+	private final FileChannel channel;
+
+	/**
+	 * @param channel Underlying file channel
+	 */
+	public FileChannelWriter(final FileChannel channel) {
+		this.channel = channel;
+	}
+
+	@Override
+	public int readTail(final byte[] data, final int offset, final int length) throws IOException {
+		long size = channel.size();
+		int bytesToRead = (int) Math.min(size, length);
+		ByteBuffer buffer = ByteBuffer.wrap(data, offset, bytesToRead);
+
+		long position = size - bytesToRead;
+		while (buffer.hasRemaining()) {
+			int count = channel.read(buffer, position);
+			if (count < 0) {
+				break;
+			}
+			position += count;
+		}
+
+		return bytesToRead - buffer.remaining();
+	}
+
+	@Override
+	public void write(final byte[] data, final int length) throws IOException {
+		write(data, 0, length);
+	}
+
+	@Override
+	public void write(final byte[] data, final int offset, final int length) throws IOException {
+		ByteBuffer buffer = ByteBuffer.wrap(data, offset, length);
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+	}
+
+	@Override
+	public void truncate(final int count) throws IOException {
+		channel.truncate(Math.max(0, channel.size() - count));
+	}
+
+	@Override
+	public void flush() {
+	}
+
+	@Override
+	public void close() throws IOException {
+		channel.close();
+	}
+
+}
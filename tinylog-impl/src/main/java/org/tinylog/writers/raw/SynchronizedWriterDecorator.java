@@ -14,30 +14,58 @@
 package org.tinylog.writers.raw;
 
 import java.io.IOException;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Thread-safe decorator for any {@link ByteArrayWriter} implementation.
+ *
+ * <p>
+ *     The decorator uses a {@link Lock} instead of a {@code synchronized} block. Thereby, virtual threads that are
+ *     waiting for or performing I/O operations don't pin their carrier threads. The deprecated constructor with a
+ *     plain mutex object is still supported. All decorators with the same mutex object share the same lock.
+ * </p>
  */
 public final class SynchronizedWriterDecorator implements ByteArrayWriter {
 
+	private static final Map<Object, Lock> MUTEX_LOCKS = new WeakHashMap<Object, Lock>();
+
 	private final ByteArrayWriter writer;
-	private final Object mutex;
+	private final Lock lock;
+
+	/**
+	 * @param writer
+	 *            Underlying writer
+	 * @param lock
+	 *            Lock for synchronizing all operations
+	 */
+	public SynchronizedWriterDecorator(final ByteArrayWriter writer, final Lock lock) {
+		this.writer = writer;
+		this.lock = lock;
+	}
 
 	/**
 	 * @param writer
 	 *            Underlying writer
 	 * @param mutex
 	 *            Mutex for synchronized
+	 * @deprecated Synchronized blocks pin virtual threads to their carrier threads. Use
+	 *             {@link #SynchronizedWriterDecorator(ByteArrayWriter, Lock)} instead.
 	 */
+	@Deprecated
 	public SynchronizedWriterDecorator(final ByteArrayWriter writer, final Object mutex) {
-		this.writer = writer;
-		this.mutex = mutex;
+		this(writer, getLock(mutex));
 	}
 
 	@Override
 	public int readTail(final byte[] data, final int offset, final int length) throws IOException {
-		synchronized (mutex) {
+		lock.lock();
+		try {
 			return writer.readTail(data, offset, length);
+		} finally {
+			lock.unlock();
 		}
 	}
 
@@ -48,29 +76,60 @@ public final class SynchronizedWriterDecorator implements ByteArrayWriter {
 
 	@Override
 	public void write(final byte[] data, final int offset, final int length) throws IOException {
-		synchronized (mutex) {
+		lock.lock();
+		try {
 			writer.write(data, offset, length);
+		} finally {
+			lock.unlock();
 		}
 	}
 
 	@Override
 	public void truncate(final int count) throws IOException {
-		synchronized (mutex) {
+		lock.lock();
+		try {
 			writer.truncate(count);
+		} finally {
+			lock.unlock();
 		}
 	}
 
 	@Override
 	public void flush() throws IOException {
-		synchronized (mutex) {
+		lock.lock();
+		try {
 			writer.flush();
+		} finally {
+			lock.unlock();
 		}
 	}
 
 	@Override
 	public void close() throws IOException {
-		synchronized (mutex) {
+		lock.lock();
+		try {
 			writer.close();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Gets the lock for a mutex object. The same lock is returned for the same mutex object, as long as the mutex
+	 * object is in use.
+	 *
+	 * @param mutex
+	 *            Mutex object
+	 * @return Lock for the passed mutex object
+	 */
+	private static Lock getLock(final Object mutex) {
+		synchronized (MUTEX_LOCKS) {
+			Lock lock = MUTEX_LOCKS.get(mutex);
+			if (lock == null) {
+				lock = new ReentrantLock();
+				MUTEX_LOCKS.put(mutex, lock);
+			}
+			return lock;
 		}
 	}
 
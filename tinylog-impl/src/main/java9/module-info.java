@@ -1,4 +1,5 @@
 module org.tinylog.impl {
+	requires static java.management;
 	requires static java.naming;
 	requires static java.sql;
 	requires org.tinylog.api;
@@ -13,10 +14,14 @@ module org.tinylog.impl {
 	exports org.tinylog.writers.raw;
 
 	uses org.tinylog.converters.FileConverter;
+	uses org.tinylog.core.DiagnosticListener;
 	uses org.tinylog.policies.Policy;
 	uses org.tinylog.throwable.ThrowableFilter;
 	uses org.tinylog.writers.Writer;
 
+	provides org.tinylog.configuration.ServiceFactory with
+			org.tinylog.core.TinylogServiceFactory;
+
 	provides org.tinylog.converters.FileConverter with
 			org.tinylog.converters.GzipFileConverter;
 
@@ -40,6 +45,7 @@ module org.tinylog.impl {
 			org.tinylog.writers.FileWriter,
 			org.tinylog.writers.JdbcWriter,
 			org.tinylog.writers.LogcatWriter,
+			org.tinylog.writers.RingBufferWriter,
 			org.tinylog.writers.RollingFileWriter,
 			org.tinylog.writers.SharedFileWriter;
 }
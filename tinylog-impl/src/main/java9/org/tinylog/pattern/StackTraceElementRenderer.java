@@ -0,0 +1,71 @@
+/*
+ * Copyright 2022 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.pattern;
+
+/**
+ * Renderer for stack trace elements. The output is equal to {@link StackTraceElement#toString()}.
+ *
+ * <p>
+ * This implementation is used for Java 9 and later. Stack trace elements of classes from named modules or from
+ * non-built-in class loaders are rendered via {@link StackTraceElement#toString()} for keeping the module and class
+ * loader prefixes. All other stack trace elements are appended field by field without creating any intermediate
+ * strings.
+ * </p>
+ */
+final class StackTraceElementRenderer {
+
+	private static final String APPLICATION_CLASS_LOADER = "app";
+
+	/** */
+	private StackTraceElementRenderer() {
+	}
+
+	/**
+	 * Renders a stack trace element.
+	 *
+	 * @param element
+	 *            Stack trace element to render
+	 * @param builder
+	 *            Output will be appended to this string builder
+	 */
+	static void render(final StackTraceElement element, final StringBuilder builder) {
+		String classLoaderName = element.getClassLoaderName();
+		if (element.getModuleName() != null || classLoaderName != null && !APPLICATION_CLASS_LOADER.equals(classLoaderName)) {
+			builder.append(element.toString());
+			return;
+		}
+
+		builder.append(element.getClassName());
+		builder.append('.');
+		builder.append(element.getMethodName());
+
+		String fileName = element.getFileName();
+		int lineNumber = element.getLineNumber();
+
+		if (element.isNativeMethod()) {
+			builder.append("(Native Method)");
+		} else if (fileName == null) {
+			builder.append("(Unknown Source)");
+		} else {
+			builder.append('(');
+			builder.append(fileName);
+			if (lineNumber >= 0) {
+				builder.append(':');
+				builder.append(lineNumber);
+			}
+			builder.append(')');
+		}
+	}
+
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2022 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.converters;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.powermock.reflect.Whitebox;
+import org.tinylog.configuration.Configuration;
+import org.tinylog.rules.SystemStreamCollector;
+
+import static java.util.Collections.emptyMap;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link CompressionExecutor}.
+ */
+public final class CompressionExecutorTest {
+
+	/**
+	 * Redirects and collects system output streams.
+	 */
+	@Rule
+	public final SystemStreamCollector systemStream = new SystemStreamCollector(true);
+
+	/**
+	 * Resets configuration.
+	 */
+	@Before
+	@After
+	public void reset() {
+		Whitebox.setInternalState(Configuration.class, "frozen", false);
+		Configuration.replace(emptyMap());
+	}
+
+	/**
+	 * Verifies that the shared executor is always the same instance and has at least one thread.
+	 */
+	@Test
+	public void sharedInstance() {
+		assertThat(CompressionExecutor.get()).isSameAs(CompressionExecutor.get());
+		assertThat(CompressionExecutor.getThreads()).isPositive();
+	}
+
+	/**
+	 * Verifies that half of the available processors are used by default.
+	 */
+	@Test
+	public void defaultThreads() {
+		int expected = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+		assertThat(CompressionExecutor.loadThreads()).isEqualTo(expected);
+	}
+
+	/**
+	 * Verifies that the number of threads can be configured.
+	 */
+	@Test
+	public void configuredThreads() {
+		Configuration.set("compressionthreads", "3");
+		assertThat(CompressionExecutor.loadThreads()).isEqualTo(3);
+	}
+
+	/**
+	 * Verifies that an error will be output for an invalid number of threads.
+	 */
+	@Test
+	public void invalidThreads() {
+		Configuration.set("compressionthreads", "0");
+
+		int expected = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+		assertThat(CompressionExecutor.loadThreads()).isEqualTo(expected);
+		assertThat(systemStream.consumeErrorOutput()).containsOnlyOnce("ERROR").contains("compression threads");
+	}
+
+}
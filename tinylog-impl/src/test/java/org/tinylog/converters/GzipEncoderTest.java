@@ -19,7 +19,11 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.regex.Pattern;
+import java.util.zip.Deflater;
 import java.util.zip.GZIPInputStream;
 
 import org.junit.Rule;
@@ -74,6 +78,62 @@ public final class GzipEncoderTest {
 		}
 	}
 
+	/**
+	 * Verifies that a large file can be compressed in parallel blocks and will be output as valid GZIP file.
+	 *
+	 * @throws IOException
+	 *             Failed to read or write file
+	 */
+	@Test
+	public void encodeBlocksInParallel() throws IOException {
+		byte[] data = new byte[GzipEncoder.BLOCK_SIZE * 3 + 1];
+		new Random(0).nextBytes(data);
+
+		File originalFile = folder.newFile();
+		File compressedFile = new File(originalFile.getAbsolutePath() + ".gz");
+		Files.write(originalFile.toPath(), data);
+
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			new GzipEncoder(originalFile, Deflater.BEST_SPEED, executor, 2).run();
+		} finally {
+			executor.shutdown();
+		}
+
+		assertThat(compressedFile).isFile();
+		assertThat(originalFile).doesNotExist();
+
+		try (InputStream fileStream = new FileInputStream(compressedFile)) {
+			try (GZIPInputStream gzipStream = new GZIPInputStream(fileStream)) {
+				assertThat(gzipStream.readAllBytes()).isEqualTo(data);
+			}
+		}
+	}
+
+	/**
+	 * Verifies that parallel compression cannot block, even if the executor does not run any tasks.
+	 *
+	 * @throws IOException
+	 *             Failed to read or write file
+	 */
+	@Test
+	public void encodeBlocksWithoutIdleThreads() throws IOException {
+		byte[] data = new byte[GzipEncoder.BLOCK_SIZE + 1];
+		new Random(0).nextBytes(data);
+
+		File originalFile = folder.newFile();
+		File compressedFile = new File(originalFile.getAbsolutePath() + ".gz");
+		Files.write(originalFile.toPath(), data);
+
+		new GzipEncoder(originalFile, Deflater.BEST_SPEED, runnable -> { }, 4).run();
+
+		try (InputStream fileStream = new FileInputStream(compressedFile)) {
+			try (GZIPInputStream gzipStream = new GZIPInputStream(fileStream)) {
+				assertThat(gzipStream.readAllBytes()).isEqualTo(data);
+			}
+		}
+	}
+
 	/**
 	 * Verifies that a meaningful error will be output, if the passed file does not exist.
 	 *
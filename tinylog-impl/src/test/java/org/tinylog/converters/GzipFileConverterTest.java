@@ -19,6 +19,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.util.Random;
 import java.util.zip.GZIPInputStream;
 
 import org.junit.Rule;
@@ -27,6 +28,7 @@ import org.junit.rules.TemporaryFolder;
 import org.tinylog.configuration.ServiceLoader;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.tinylog.util.ResultObserver.waitFor;
 
 /**
@@ -82,6 +84,91 @@ public class GzipFileConverterTest {
 		assertThat(originalFile).doesNotExist();
 	}
 
+	/**
+	 * Verifies that files will be compressed with a custom compression level.
+	 *
+	 * @throws IOException
+	 *             Failed to create new file
+	 * @throws InterruptedException
+	 *             Interrupted while waiting for the converter
+	 */
+	@Test
+	public void compressionWithCustomLevel() throws IOException, InterruptedException {
+		File originalFile = folder.newFile();
+		File compressedFile = new File(originalFile.getAbsolutePath() + ".gz");
+
+		byte[] data = "My little GZIP test".getBytes(StandardCharsets.UTF_8);
+		GzipFileConverter converter = new GzipFileConverter("level=1");
+
+		converter.open(originalFile.getAbsolutePath());
+		Files.write(originalFile.toPath(), data);
+		converter.close();
+		converter.shutdown();
+
+		try (InputStream fileStream = new FileInputStream(compressedFile)) {
+			try (GZIPInputStream gzipStream = new GZIPInputStream(fileStream)) {
+				assertThat(gzipStream.readAllBytes()).isEqualTo(data);
+			}
+		}
+
+		assertThat(originalFile).doesNotExist();
+	}
+
+	/**
+	 * Verifies that large files, which are split into multiple blocks, are compressed as valid GZIP file.
+	 *
+	 * @throws IOException
+	 *             Failed to create new file
+	 * @throws InterruptedException
+	 *             Interrupted while waiting for the converter
+	 */
+	@Test
+	public void compressionOfLargeFile() throws IOException, InterruptedException {
+		File originalFile = folder.newFile();
+		File compressedFile = new File(originalFile.getAbsolutePath() + ".gz");
+
+		byte[] data = new byte[GzipEncoder.BLOCK_SIZE * 2 + 42];
+		new Random(0).nextBytes(data);
+		GzipFileConverter converter = new GzipFileConverter();
+
+		converter.open(originalFile.getAbsolutePath());
+		Files.write(originalFile.toPath(), data);
+		converter.close();
+		converter.shutdown();
+
+		try (InputStream fileStream = new FileInputStream(compressedFile)) {
+			try (GZIPInputStream gzipStream = new GZIPInputStream(fileStream)) {
+				assertThat(gzipStream.readAllBytes()).isEqualTo(data);
+			}
+		}
+
+		assertThat(originalFile).doesNotExist();
+	}
+
+	/**
+	 * Verifies that an exception will be thrown for an invalid compression level.
+	 */
+	@Test
+	public void invalidLevel() {
+		assertThatThrownBy(() -> new GzipFileConverter("level=10"))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("10");
+
+		assertThatThrownBy(() -> new GzipFileConverter("level=abc"))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("abc");
+	}
+
+	/**
+	 * Verifies that an exception will be thrown for an unknown setting.
+	 */
+	@Test
+	public void unknownSetting() {
+		assertThatThrownBy(() -> new GzipFileConverter("foo=bar"))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("foo=bar");
+	}
+
 	/**
 	 * Verifies that the GZIP converter is registered as service under the name "gzip".
 	 */
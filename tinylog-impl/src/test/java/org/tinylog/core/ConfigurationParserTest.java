@@ -15,6 +15,7 @@ package org.tinylog.core;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.After;
 import org.junit.Before;
@@ -252,6 +253,46 @@ public final class ConfigurationParserTest {
 		assertThat(enabled).isTrue();
 	}
 
+	/**
+	 * Verifies that reconfiguration of severity levels is disabled by default.
+	 */
+	@Test
+	public void noConfiguredReconfiguration() {
+		boolean enabled = ConfigurationParser.isReconfigurationEnabled();
+		assertThat(enabled).isFalse();
+	}
+
+	/**
+	 * Verifies that enabling of reconfiguration of severity levels will be detected.
+	 */
+	@Test
+	public void enabledReconfiguration() {
+		Configuration.set("reconfigurable", "true");
+
+		boolean enabled = ConfigurationParser.isReconfigurationEnabled();
+		assertThat(enabled).isTrue();
+	}
+
+	/**
+	 * Verifies that metrics are disabled by default.
+	 */
+	@Test
+	public void noConfiguredMetrics() {
+		boolean enabled = ConfigurationParser.isMetricsEnabled();
+		assertThat(enabled).isFalse();
+	}
+
+	/**
+	 * Verifies that enabling of metrics will be detected.
+	 */
+	@Test
+	public void enabledMetrics() {
+		Configuration.set("metrics", "true");
+
+		boolean enabled = ConfigurationParser.isMetricsEnabled();
+		assertThat(enabled).isTrue();
+	}
+
 	/**
 	 * Verifies that auto shutdown is disabled by default.
 	 */
@@ -283,4 +324,98 @@ public final class ConfigurationParserTest {
 		assertThat(enabled).isTrue();
 	}
 
+	/**
+	 * Verifies that context inheritance is enabled by default.
+	 */
+	@Test
+	public void noConfiguredContextInheritance() {
+		boolean enabled = ConfigurationParser.isContextInheritanceEnabled();
+		assertThat(enabled).isTrue();
+	}
+
+	/**
+	 * Verifies that disabling of context inheritance will be detected.
+	 */
+	@Test
+	public void disabledContextInheritance() {
+		Configuration.set("inheritcontext", "false");
+
+		boolean enabled = ConfigurationParser.isContextInheritanceEnabled();
+		assertThat(enabled).isFalse();
+	}
+
+	/**
+	 * Verifies that log entries are never dropped by the writing thread by default.
+	 */
+	@Test
+	public void noConfiguredHighWaterMark() {
+		assertThat(ConfigurationParser.getWritingThreadHighWaterMark()).isZero();
+	}
+
+	/**
+	 * Verifies that a configured high-water mark for the writing thread will be loaded.
+	 */
+	@Test
+	public void validHighWaterMark() {
+		Configuration.set("writingthread.highwatermark", "10000");
+		assertThat(ConfigurationParser.getWritingThreadHighWaterMark()).isEqualTo(10000);
+	}
+
+	/**
+	 * Verifies that invalid high-water marks for the writing thread will be reported and ignored.
+	 */
+	@Test
+	public void invalidHighWaterMark() {
+		for (String value : new String[] { "abc", "0", "-1" }) {
+			Whitebox.setInternalState(Configuration.class, "frozen", false);
+			Configuration.set("writingthread.highwatermark", value);
+			assertThat(ConfigurationParser.getWritingThreadHighWaterMark()).isZero();
+			assertThat(systemStream.consumeErrorOutput()).containsOnlyOnce("ERROR").contains(value);
+		}
+	}
+
+	/**
+	 * Verifies that no rate limiter will be created, if no rate limit is configured.
+	 */
+	@Test
+	public void noConfiguredRateLimit() {
+		assertThat(ConfigurationParser.getRateLimiter()).isNull();
+	}
+
+	/**
+	 * Verifies that rate limits per second, minute, and hour can be configured.
+	 */
+	@Test
+	public void validRateLimits() {
+		Configuration.set("ratelimit", "100/s");
+		RateLimiter limiter = ConfigurationParser.getRateLimiter();
+		assertThat(limiter.getLimit()).isEqualTo(100);
+		assertThat(limiter.getPeriod()).isEqualTo(TimeUnit.SECONDS.toNanos(1));
+
+		Whitebox.setInternalState(Configuration.class, "frozen", false);
+		Configuration.set("ratelimit", " 200 / m ");
+		limiter = ConfigurationParser.getRateLimiter();
+		assertThat(limiter.getLimit()).isEqualTo(200);
+		assertThat(limiter.getPeriod()).isEqualTo(TimeUnit.MINUTES.toNanos(1));
+
+		Whitebox.setInternalState(Configuration.class, "frozen", false);
+		Configuration.set("ratelimit", "300/H");
+		limiter = ConfigurationParser.getRateLimiter();
+		assertThat(limiter.getLimit()).isEqualTo(300);
+		assertThat(limiter.getPeriod()).isEqualTo(TimeUnit.HOURS.toNanos(1));
+	}
+
+	/**
+	 * Verifies that invalid rate limits will be reported and ignored.
+	 */
+	@Test
+	public void invalidRateLimits() {
+		for (String value : new String[] { "100", "abc/s", "0/s", "100/d" }) {
+			Whitebox.setInternalState(Configuration.class, "frozen", false);
+			Configuration.set("ratelimit", value);
+			assertThat(ConfigurationParser.getRateLimiter()).isNull();
+			assertThat(systemStream.consumeErrorOutput()).containsOnlyOnce("ERROR").contains(value);
+		}
+	}
+
 }
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2022 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.core;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+/**
+ * Tests for {@link ContextMap}.
+ */
+public final class ContextMapTest {
+
+	/**
+	 * Verifies that the empty context map doesn't contain any mappings.
+	 */
+	@Test
+	public void empty() {
+		assertThat(ContextMap.EMPTY).isEmpty();
+		assertThat(ContextMap.EMPTY.get("test")).isNull();
+		assertThat(ContextMap.EMPTY.without("test")).isSameAs(ContextMap.EMPTY);
+	}
+
+	/**
+	 * Verifies that mappings can be added and overridden for small maps.
+	 */
+	@Test
+	public void addAndOverrideSmallMap() {
+		ContextMap map = ContextMap.EMPTY.with("b", "2").with("a", "1").with("c", "3").with("b", "4");
+
+		assertThat(map).containsExactly(entry("a", "1"), entry("b", "4"), entry("c", "3"));
+		assertThat(map.get("b")).isEqualTo("4");
+		assertThat(map.get("d")).isNull();
+	}
+
+	/**
+	 * Verifies that mappings can be removed from small maps.
+	 */
+	@Test
+	public void removeFromSmallMap() {
+		ContextMap map = ContextMap.EMPTY.with("a", "1").with("b", "2").with("c", "3");
+
+		assertThat(map.without("b")).containsOnly(entry("a", "1"), entry("c", "3"));
+		assertThat(map.without("d")).isSameAs(map);
+		assertThat(map.without("a").without("b").without("c")).isEmpty();
+	}
+
+	/**
+	 * Verifies that mappings can be added, overridden and removed for large maps.
+	 */
+	@Test
+	public void addOverrideAndRemoveLargeMap() {
+		Map<String, String> expected = new HashMap<>();
+		ContextMap map = ContextMap.EMPTY;
+
+		for (int i = 0; i < 100; ++i) {
+			expected.put("key" + i, "value" + i);
+			map = map.with("key" + i, "value" + i);
+		}
+
+		assertThat(map).hasSize(100).isEqualTo(expected);
+
+		for (int i = 0; i < 100; i += 3) {
+			expected.put("key" + i, "new" + i);
+			map = map.with("key" + i, "new" + i);
+		}
+
+		assertThat(map).hasSize(100).isEqualTo(expected);
+
+		for (int i = 0; i < 100; i += 2) {
+			expected.remove("key" + i);
+			map = map.without("key" + i);
+		}
+
+		assertThat(map).hasSize(50).isEqualTo(expected);
+
+		for (int i = 1; i < 100; i += 2) {
+			map = map.without("key" + i);
+		}
+
+		assertThat(map).isEmpty();
+	}
+
+	/**
+	 * Verifies that keys with identical hash codes are stored as separate mappings.
+	 */
+	@Test
+	public void hashCollisions() {
+		ContextMap map = ContextMap.EMPTY;
+		for (int i = 0; i < 10; ++i) {
+			map = map.with("filler" + i, "x");
+		}
+
+		assertThat("Aa".hashCode()).isEqualTo("BB".hashCode());
+
+		map = map.with("Aa", "1").with("BB", "2");
+		assertThat(map.get("Aa")).isEqualTo("1");
+		assertThat(map.get("BB")).isEqualTo("2");
+		assertThat(map).hasSize(12);
+
+		map = map.without("Aa");
+		assertThat(map.get("Aa")).isNull();
+		assertThat(map.get("BB")).isEqualTo("2");
+		assertThat(map).hasSize(11);
+	}
+
+	/**
+	 * Verifies that modifications don't affect already existing maps.
+	 */
+	@Test
+	public void immutability() {
+		ContextMap original = ContextMap.EMPTY;
+		for (int i = 0; i < 20; ++i) {
+			original = original.with("key" + i, "value" + i);
+		}
+
+		Map<String, String> snapshot = new HashMap<>(original);
+
+		ContextMap modified = original.with("key0", "changed").with("new", "value").without("key1");
+
+		assertThat(original).isEqualTo(snapshot);
+		assertThat(modified).hasSize(20).containsEntry("key0", "changed").containsEntry("new", "value")
+			.doesNotContainKey("key1");
+	}
+
+	/**
+	 * Verifies that the same map will be returned, if an already existing mapping is added again.
+	 */
+	@Test
+	public void addExistingMapping() {
+		ContextMap map = ContextMap.EMPTY.with("a", "1");
+		assertThat(map.with("a", "1")).isSameAs(map);
+	}
+
+}
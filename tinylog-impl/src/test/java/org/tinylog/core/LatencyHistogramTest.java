@@ -0,0 +1,89 @@
+/*
+ * Copyright 2022 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.core;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link LatencyHistogram}.
+ */
+public final class LatencyHistogramTest {
+
+	/**
+	 * Verifies that an empty histogram has no durations and reports zero for all percentiles.
+	 */
+	@Test
+	public void empty() {
+		LatencyHistogram histogram = new LatencyHistogram();
+
+		assertThat(histogram.getCount()).isZero();
+		assertThat(histogram.getPercentile(50)).isZero();
+		assertThat(histogram.getPercentile(99)).isZero();
+	}
+
+	/**
+	 * Verifies that percentiles are reported as exclusive upper bound of the power of two bucket.
+	 */
+	@Test
+	public void percentiles() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		for (int i = 0; i < 99; ++i) {
+			histogram.record(100);
+		}
+		histogram.record(5000);
+
+		assertThat(histogram.getCount()).isEqualTo(100);
+		assertThat(histogram.getPercentile(50)).isEqualTo(128);
+		assertThat(histogram.getPercentile(99)).isEqualTo(128);
+		assertThat(histogram.getPercentile(100)).isEqualTo(8192);
+	}
+
+	/**
+	 * Verifies that zero, negative, and huge durations can be recorded.
+	 */
+	@Test
+	public void edgeCases() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		histogram.record(-1);
+		histogram.record(0);
+
+		assertThat(histogram.getPercentile(100)).isEqualTo(1);
+
+		histogram.record(Long.MAX_VALUE);
+
+		assertThat(histogram.getCount()).isEqualTo(3);
+		assertThat(histogram.getPercentile(100)).isEqualTo(Long.MAX_VALUE);
+	}
+
+	/**
+	 * Verifies that percentiles can be calculated across multiple histograms.
+	 */
+	@Test
+	public void combined() {
+		LatencyHistogram first = new LatencyHistogram();
+		first.record(10);
+
+		LatencyHistogram second = new LatencyHistogram();
+		second.record(1000);
+		second.record(1000);
+
+		assertThat(LatencyHistogram.getPercentile(Arrays.asList(first, second), 30)).isEqualTo(16);
+		assertThat(LatencyHistogram.getPercentile(Arrays.asList(first, second), 99)).isEqualTo(1024);
+	}
+
+}
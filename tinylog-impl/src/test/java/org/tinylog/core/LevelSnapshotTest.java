@@ -0,0 +1,119 @@
+/*
+ * Copyright 2022 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.core;
+
+import org.junit.Test;
+import org.tinylog.Level;
+
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+/**
+ * Tests for {@link LevelSnapshot}.
+ */
+public final class LevelSnapshotTest {
+
+	/**
+	 * Verifies that the global severity level is used, if there are no custom severity levels.
+	 */
+	@Test
+	public void globalLevel() {
+		LevelSnapshot snapshot = new LevelSnapshot(Level.INFO, emptyMap(), emptyMap());
+
+		assertThat(snapshot.hasCustomLevels()).isFalse();
+		assertThat(snapshot.getLevel(null, null)).isEqualTo(Level.INFO);
+		assertThat(snapshot.getLevel("test", "org.tinylog.Test")).isEqualTo(Level.INFO);
+	}
+
+	/**
+	 * Verifies that custom severity levels are resolved for classes and their parent packages.
+	 */
+	@Test
+	public void customLevels() {
+		LevelSnapshot snapshot = new LevelSnapshot(Level.INFO, singletonMap("org.tinylog", Level.DEBUG), emptyMap());
+
+		assertThat(snapshot.hasCustomLevels()).isTrue();
+		assertThat(snapshot.getLevel(null, "org.tinylog.core.Test")).isEqualTo(Level.DEBUG);
+		assertThat(snapshot.getLevel(null, "org.other.Test")).isEqualTo(Level.INFO);
+	}
+
+	/**
+	 * Verifies that custom severity levels for tags have precedence over custom severity levels for packages.
+	 */
+	@Test
+	public void tagLevels() {
+		LevelSnapshot snapshot = new LevelSnapshot(Level.INFO, singletonMap("org.tinylog", Level.DEBUG), singletonMap("test", Level.ERROR));
+
+		assertThat(snapshot.getLevel("test", "org.tinylog.Test")).isEqualTo(Level.ERROR);
+		assertThat(snapshot.getLevel("other", "org.tinylog.Test")).isEqualTo(Level.DEBUG);
+	}
+
+	/**
+	 * Verifies that the class name of the caller is only required, if there are custom severity levels for packages or
+	 * classes and no custom severity level for the tag.
+	 */
+	@Test
+	public void classDependency() {
+		assertThat(new LevelSnapshot(Level.INFO, emptyMap(), emptyMap()).isClassDependent(null)).isFalse();
+
+		LevelSnapshot snapshot = new LevelSnapshot(Level.INFO, singletonMap("org.tinylog", Level.DEBUG), singletonMap("test", Level.ERROR));
+		assertThat(snapshot.isClassDependent(null)).isTrue();
+		assertThat(snapshot.isClassDependent("other")).isTrue();
+		assertThat(snapshot.isClassDependent("test")).isFalse();
+	}
+
+	/**
+	 * Verifies that the lowest possible severity level covers the global severity level and all custom severity levels
+	 * for packages and classes, unless there is a custom severity level for the tag.
+	 */
+	@Test
+	public void minimumLevel() {
+		assertThat(new LevelSnapshot(Level.INFO, emptyMap(), emptyMap()).getMinimumLevel(null)).isEqualTo(Level.INFO);
+		assertThat(new LevelSnapshot(Level.INFO, singletonMap("org.tinylog", Level.ERROR), emptyMap()).getMinimumLevel(null))
+			.isEqualTo(Level.INFO);
+
+		LevelSnapshot snapshot = new LevelSnapshot(Level.INFO, singletonMap("org.tinylog", Level.DEBUG), singletonMap("test", Level.ERROR));
+		assertThat(snapshot.getMinimumLevel(null)).isEqualTo(Level.DEBUG);
+		assertThat(snapshot.getMinimumLevel("other")).isEqualTo(Level.DEBUG);
+		assertThat(snapshot.getMinimumLevel("test")).isEqualTo(Level.ERROR);
+		assertThat(snapshot.withCustomLevel("org.tinylog", null).getMinimumLevel(null)).isEqualTo(Level.INFO);
+	}
+
+	/**
+	 * Verifies that changing severity levels creates new snapshots and keeps the original snapshot untouched.
+	 */
+	@Test
+	public void copyOnWrite() {
+		LevelSnapshot original = new LevelSnapshot(Level.INFO, emptyMap(), emptyMap());
+
+		LevelSnapshot changed = original
+			.withGlobalLevel(Level.WARN)
+			.withCustomLevel("org.tinylog", Level.TRACE)
+			.withTagLevel("test", Level.DEBUG);
+		assertThat(changed.getGlobalLevel()).isEqualTo(Level.WARN);
+		assertThat(changed.getCustomLevels()).containsOnly(entry("org.tinylog", Level.TRACE));
+		assertThat(changed.getTagLevels()).containsOnly(entry("test", Level.DEBUG));
+
+		LevelSnapshot removed = changed.withCustomLevel("org.tinylog", null).withTagLevel("test", null);
+		assertThat(removed.getCustomLevels()).isEmpty();
+		assertThat(removed.getTagLevels()).isEmpty();
+
+		assertThat(original.getGlobalLevel()).isEqualTo(Level.INFO);
+		assertThat(original.getCustomLevels()).isEmpty();
+		assertThat(original.getTagLevels()).isEmpty();
+	}
+
+}
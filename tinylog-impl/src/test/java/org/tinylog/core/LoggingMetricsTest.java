@@ -0,0 +1,91 @@
+/*
+ * Copyright 2022 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.core;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+import org.tinylog.writers.ConsoleWriter;
+import org.tinylog.writers.Writer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link LoggingMetrics}.
+ */
+public final class LoggingMetricsTest {
+
+	/**
+	 * Verifies that log entry counters are independent of each other.
+	 */
+	@Test
+	public void countLogEntries() {
+		LoggingMetrics metrics = new LoggingMetrics(Arrays.<Writer>asList());
+		metrics.recordAccepted();
+		metrics.recordAccepted();
+		metrics.recordFiltered();
+		metrics.recordDropped();
+		metrics.recordSuppressed();
+
+		assertThat(metrics.getAcceptedEntries()).isEqualTo(2);
+		assertThat(metrics.getFilteredEntries()).isEqualTo(1);
+		assertThat(metrics.getDroppedEntries()).isEqualTo(1);
+		assertThat(metrics.getSuppressedEntries()).isEqualTo(1);
+	}
+
+	/**
+	 * Verifies that the current and the maximum queue depth are tracked.
+	 */
+	@Test
+	public void queueDepth() {
+		LoggingMetrics metrics = new LoggingMetrics(Arrays.<Writer>asList());
+		metrics.updateQueueDepth(5);
+		metrics.updateQueueDepth(3);
+
+		assertThat(metrics.getQueueDepth()).isEqualTo(3);
+		assertThat(metrics.getMaximumQueueDepth()).isEqualTo(5);
+	}
+
+	/**
+	 * Verifies that metrics of multiple writers are aggregated.
+	 */
+	@Test
+	public void aggregateWriters() {
+		Writer first = new ConsoleWriter();
+		Writer second = new ConsoleWriter();
+		LoggingMetrics metrics = new LoggingMetrics(Arrays.asList(first, second));
+
+		metrics.getWriterMetrics(first).recordWrite(100);
+		metrics.getWriterMetrics(second).recordWrite(100);
+		metrics.getWriterMetrics(second).recordFailedWrite(5000);
+		metrics.getWriterMetrics(second).recordFlush(1000);
+
+		assertThat(metrics.getWriterMetrics()).containsOnlyKeys(first, second);
+		assertThat(metrics.getWrittenEntries()).isEqualTo(2);
+		assertThat(metrics.getFailedWrites()).isEqualTo(1);
+		assertThat(metrics.getFlushes()).isEqualTo(1);
+		assertThat(metrics.getWriteLatency99thPercentile()).isEqualTo(8192);
+		assertThat(metrics.getFlushLatency99thPercentile()).isEqualTo(1024);
+	}
+
+	/**
+	 * Verifies that unknown writers have no metrics.
+	 */
+	@Test
+	public void unknownWriter() {
+		LoggingMetrics metrics = new LoggingMetrics(Arrays.<Writer>asList());
+		assertThat(metrics.getWriterMetrics(new ConsoleWriter())).isNull();
+	}
+
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2022 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.core;
+
+import java.util.List;
+
+import org.junit.Test;
+import org.tinylog.Level;
+import org.tinylog.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link RateLimiter}.
+ */
+public final class RateLimiterTest {
+
+	private static final long PERIOD = 1000;
+
+	/**
+	 * Verifies that log entries are suppressed, if the limit is exceeded within a time window.
+	 */
+	@Test
+	public void suppressExceedingLogEntries() {
+		RateLimiter limiter = new RateLimiter(2, PERIOD);
+
+		assertThat(limiter.acquire(null, Level.INFO, "Hello World!", PERIOD)).isZero();
+		assertThat(limiter.acquire(null, Level.INFO, "Hello World!", PERIOD + 1)).isZero();
+		assertThat(limiter.acquire(null, Level.INFO, "Hello World!", PERIOD + 2)).isEqualTo(-1);
+	}
+
+	/**
+	 * Verifies that the number of suppressed log entries is reported with the first log entry in a new time window.
+	 */
+	@Test
+	public void reportSuppressedLogEntries() {
+		RateLimiter limiter = new RateLimiter(1, PERIOD);
+
+		assertThat(limiter.acquire(null, Level.INFO, "Hello World!", PERIOD)).isZero();
+		assertThat(limiter.acquire(null, Level.INFO, "Hello World!", PERIOD)).isEqualTo(-1);
+		assertThat(limiter.acquire(null, Level.INFO, "Hello World!", PERIOD)).isEqualTo(-1);
+
+		assertThat(limiter.acquire(null, Level.INFO, "Hello World!", 2 * PERIOD)).isEqualTo(2);
+		assertThat(limiter.acquire(null, Level.INFO, "Hello World!", 3 * PERIOD)).isZero();
+	}
+
+	/**
+	 * Verifies that text messages with the same content share the same limit, even if they are different instances.
+	 */
+	@Test
+	public void equalTextMessages() {
+		RateLimiter limiter = new RateLimiter(1, PERIOD);
+
+		assertThat(limiter.acquire(null, Level.INFO, new String("Hello World!"), PERIOD)).isZero();
+		assertThat(limiter.acquire(null, Level.INFO, new String("Hello World!"), PERIOD)).isEqualTo(-1);
+	}
+
+	/**
+	 * Verifies that different tags have independent limits.
+	 */
+	@Test
+	public void differentTags() {
+		RateLimiter limiter = new RateLimiter(1, PERIOD);
+
+		assertThat(limiter.acquire("foo", Level.INFO, "Hello World!", PERIOD)).isZero();
+		assertThat(limiter.acquire("bar", Level.INFO, "Hello World!", PERIOD)).isZero();
+		assertThat(limiter.acquire("foo", Level.INFO, "Hello World!", PERIOD)).isEqualTo(-1);
+	}
+
+	/**
+	 * Verifies that {@code null} messages can be limited.
+	 */
+	@Test
+	public void nullMessage() {
+		RateLimiter limiter = new RateLimiter(1, PERIOD);
+
+		assertThat(limiter.acquire(null, Level.INFO, null, PERIOD)).isZero();
+		assertThat(limiter.acquire(null, Level.INFO, null, PERIOD)).isEqualTo(-1);
+	}
+
+	/**
+	 * Verifies that different messages never share the same limit, even if there are many of them.
+	 */
+	@Test
+	public void differentMessages() {
+		RateLimiter limiter = new RateLimiter(1, PERIOD);
+
+		for (int i = 0; i < 2048; ++i) {
+			assertThat(limiter.acquire(null, Level.ERROR, "Message " + i, PERIOD)).isZero();
+		}
+	}
+
+	/**
+	 * Verifies that different severity levels have independent limits.
+	 */
+	@Test
+	public void differentLevels() {
+		RateLimiter limiter = new RateLimiter(1, PERIOD);
+
+		assertThat(limiter.acquire(null, Level.INFO, "Hello World!", PERIOD)).isZero();
+		assertThat(limiter.acquire(null, Level.ERROR, "Hello World!", PERIOD)).isZero();
+		assertThat(limiter.acquire(null, Level.INFO, "Hello World!", PERIOD)).isEqualTo(-1);
+	}
+
+	/**
+	 * Verifies that lazy message suppliers from the same call site share the same limit.
+	 */
+	@Test
+	public void lazyMessages() {
+		RateLimiter limiter = new RateLimiter(1, PERIOD);
+
+		for (int i = 0; i < 3; ++i) {
+			int value = i;
+			Supplier<String> supplier = () -> "Value: " + value;
+			assertThat(limiter.acquire(null, Level.INFO, supplier, PERIOD)).isEqualTo(i == 0 ? 0 : -1);
+		}
+	}
+
+	/**
+	 * Verifies that pending summaries of suppressed log entries can be drained, for example on shutdown.
+	 */
+	@Test
+	public void drainPendingSummaries() {
+		RateLimiter limiter = new RateLimiter(1, PERIOD);
+
+		limiter.acquire("test", Level.WARN, "Hello World!", PERIOD);
+		limiter.acquire("test", Level.WARN, "Hello World!", PERIOD);
+		limiter.acquire("test", Level.WARN, "Hello World!", PERIOD);
+		limiter.acquire(null, Level.INFO, "Goodbye!", PERIOD);
+
+		List<RateLimiter.Summary> summaries = limiter.drain();
+		assertThat(summaries).hasSize(1);
+		assertThat(summaries.get(0).getTag()).isEqualTo("test");
+		assertThat(summaries.get(0).getLevel()).isEqualTo(Level.WARN);
+		assertThat(summaries.get(0).getCount()).isEqualTo(2);
+
+		assertThat(limiter.drain()).isEmpty();
+		assertThat(limiter.acquire("test", Level.WARN, "Hello World!", PERIOD)).isZero();
+	}
+
+	/**
+	 * Verifies that summaries of suppressed log entries are provided as soon as their time window has passed, even if
+	 * there are no further log entries with the same identity.
+	 */
+	@Test
+	public void expireSummaries() {
+		RateLimiter limiter = new RateLimiter(1, PERIOD);
+
+		limiter.acquire("test", Level.WARN, "Hello World!", PERIOD);
+		limiter.acquire("test", Level.WARN, "Hello World!", PERIOD);
+		limiter.acquire("test", Level.WARN, "Hello World!", PERIOD);
+		limiter.acquire(null, Level.INFO, "Goodbye!", PERIOD);
+
+		assertThat(limiter.expire(PERIOD + 1)).isEmpty();
+
+		List<RateLimiter.Summary> summaries = limiter.expire(2 * PERIOD);
+		assertThat(summaries).hasSize(1);
+		assertThat(summaries.get(0).getTag()).isEqualTo("test");
+		assertThat(summaries.get(0).getLevel()).isEqualTo(Level.WARN);
+		assertThat(summaries.get(0).getCount()).isEqualTo(2);
+
+		assertThat(limiter.acquire("test", Level.WARN, "Hello World!", 2 * PERIOD)).isZero();
+		assertThat(limiter.expire(3 * PERIOD)).isEmpty();
+		assertThat(limiter.drain()).isEmpty();
+	}
+
+	/**
+	 * Verifies that identities from past time windows are replaced by new identities, if there is no free capacity.
+	 */
+	@Test
+	public void replaceIdleIdentities() {
+		RateLimiter limiter = new RateLimiter(1, PERIOD);
+
+		for (int i = 0; i < 4096; ++i) {
+			limiter.acquire(null, Level.INFO, "Message " + i, PERIOD);
+		}
+
+		for (int i = 0; i < 2; ++i) {
+			assertThat(limiter.acquire(null, Level.INFO, "Hello World!", 2 * PERIOD)).isEqualTo(i == 0 ? 0 : -1);
+		}
+	}
+
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2022 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.core;
+
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link StripedCounter}.
+ */
+public final class StripedCounterTest {
+
+	/**
+	 * Verifies that a new counter starts at zero.
+	 */
+	@Test
+	public void initialValue() {
+		assertThat(new StripedCounter().sum()).isZero();
+	}
+
+	/**
+	 * Verifies that increments and added values are summed up.
+	 */
+	@Test
+	public void incrementAndAdd() {
+		StripedCounter counter = new StripedCounter();
+		counter.increment();
+		counter.add(41);
+
+		assertThat(counter.sum()).isEqualTo(42);
+	}
+
+	/**
+	 * Verifies that no increments are lost, if multiple threads increment the counter concurrently.
+	 *
+	 * @throws InterruptedException
+	 *             Interrupted while waiting for threads
+	 */
+	@Test
+	public void concurrentIncrements() throws InterruptedException {
+		StripedCounter counter = new StripedCounter();
+		CountDownLatch latch = new CountDownLatch(1);
+
+		Thread[] threads = new Thread[32];
+		for (int i = 0; i < threads.length; ++i) {
+			threads[i] = new Thread(() -> {
+				try {
+					latch.await();
+				} catch (InterruptedException ex) {
+					return;
+				}
+
+				for (int j = 0; j < 1000; ++j) {
+					counter.increment();
+				}
+			});
+			threads[i].start();
+		}
+
+		latch.countDown();
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		assertThat(counter.sum()).isEqualTo(32_000);
+	}
+
+}
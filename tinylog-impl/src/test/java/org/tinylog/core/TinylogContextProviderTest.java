@@ -13,16 +13,31 @@
 
 package org.tinylog.core;
 
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Rule;
 import org.junit.Test;
+import org.tinylog.ContextScope;
+import org.tinylog.rules.SystemStreamCollector;
 
+import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.entry;
+import static org.tinylog.util.Maps.doubletonMap;
+import static org.tinylog.util.Maps.tripletonMap;
 
 /**
  * Tests for {@link TinylogContextProvider}.
  */
 public final class TinylogContextProviderTest {
 
+	/**
+	 * Redirects and collects system output streams.
+	 */
+	@Rule
+	public final SystemStreamCollector systemStream = new SystemStreamCollector(true);
+
 	/**
 	 * Verifies that a new context provider has an empty mapping.
 	 */
@@ -68,6 +83,160 @@ public final class TinylogContextProviderTest {
 		assertThat(provider.getMapping()).isEmpty();
 	}
 
+	/**
+	 * Verifies that values with {@code null} as key are ignored.
+	 */
+	@Test
+	public void ignoreNullKeys() {
+		Map<String, String> mapping = new HashMap<>();
+		mapping.put(null, "42");
+		mapping.put("pi", "3.14");
+
+		TinylogContextProvider provider = new TinylogContextProvider();
+		provider.put(null, "42");
+		provider.putAll(mapping);
+		provider.remove(null);
+
+		assertThat(provider.get(null)).isNull();
+		assertThat(provider.getMapping()).containsOnly(entry("pi", "3.14"));
+
+		try (ContextScope scope = provider.scope(mapping)) {
+			assertThat(provider.getMapping()).containsOnly(entry("pi", "3.14"));
+		}
+
+		provider.setMapping(mapping);
+		assertThat(provider.getMapping()).containsOnly(entry("pi", "3.14"));
+	}
+
+	/**
+	 * Verifies that multiple values can be added at once.
+	 */
+	@Test
+	public void putAll() {
+		TinylogContextProvider provider = new TinylogContextProvider();
+		provider.put("a", 1);
+
+		provider.putAll(tripletonMap("a", 2, "b", 3, "c", null));
+		assertThat(provider.getMapping()).containsOnly(entry("a", "2"), entry("b", "3"));
+	}
+
+	/**
+	 * Verifies that all existing values can be replaced at once.
+	 */
+	@Test
+	public void setMapping() {
+		TinylogContextProvider provider = new TinylogContextProvider();
+		provider.put("a", 1);
+
+		provider.setMapping(doubletonMap("b", 2, "c", 3));
+		assertThat(provider.getMapping()).containsOnly(entry("b", "2"), entry("c", "3"));
+	}
+
+	/**
+	 * Verifies that a returned mapping is a snapshot that is not affected by later modifications.
+	 */
+	@Test
+	public void snapshot() {
+		TinylogContextProvider provider = new TinylogContextProvider();
+		provider.put("a", 1);
+
+		Map<String, String> snapshot = provider.getMapping();
+		provider.put("b", 2);
+		provider.remove("a");
+
+		assertThat(snapshot).containsOnly(entry("a", "1"));
+	}
+
+	/**
+	 * Verifies that values of a scope are visible until the scope is closed and previous values are restored
+	 * afterwards.
+	 */
+	@Test
+	public void scope() {
+		TinylogContextProvider provider = new TinylogContextProvider();
+		provider.put("a", 1);
+
+		try (ContextScope scope = provider.scope(doubletonMap("a", 2, "b", 3))) {
+			assertThat(provider.getMapping()).containsOnly(entry("a", "2"), entry("b", "3"));
+		}
+
+		assertThat(provider.getMapping()).containsOnly(entry("a", "1"));
+	}
+
+	/**
+	 * Verifies that nested scopes restore the values of their enclosing scopes.
+	 */
+	@Test
+	public void nestedScopes() {
+		TinylogContextProvider provider = new TinylogContextProvider();
+
+		try (ContextScope outer = provider.scope(singletonMap("a", 1))) {
+			try (ContextScope inner = provider.scope(doubletonMap("a", 2, "b", 3))) {
+				assertThat(provider.getMapping()).containsOnly(entry("a", "2"), entry("b", "3"));
+			}
+
+			assertThat(provider.getMapping()).containsOnly(entry("a", "1"));
+		}
+
+		assertThat(provider.getMapping()).isEmpty();
+	}
+
+	/**
+	 * Verifies that closing a scope multiple times has no additional effect.
+	 */
+	@Test
+	public void closeScopeTwice() {
+		TinylogContextProvider provider = new TinylogContextProvider();
+
+		ContextScope scope = provider.scope(singletonMap("a", 1));
+		scope.close();
+
+		provider.put("a", 2);
+		scope.close();
+
+		assertThat(provider.getMapping()).containsOnly(entry("a", "2"));
+	}
+
+	/**
+	 * Verifies that closing scopes out of order keeps values of newer scopes and reports the issue.
+	 */
+	@Test
+	public void closeScopesOutOfOrder() {
+		TinylogContextProvider provider = new TinylogContextProvider();
+
+		ContextScope outer = provider.scope(doubletonMap("a", 1, "b", 2));
+		ContextScope inner = provider.scope(singletonMap("a", 3));
+
+		outer.close();
+		assertThat(provider.getMapping()).containsOnly(entry("a", "3"));
+		assertThat(systemStream.consumeErrorOutput()).containsOnlyOnce("WARN").contains("'a'");
+
+		inner.close();
+		assertThat(provider.getMapping()).containsOnly(entry("a", "1"));
+	}
+
+	/**
+	 * Verifies that a scope cannot be closed by another thread.
+	 *
+	 * @throws InterruptedException
+	 *             Failed waiting for the closing thread
+	 */
+	@Test
+	public void closeScopeByOtherThread() throws InterruptedException {
+		TinylogContextProvider provider = new TinylogContextProvider(false);
+		final ContextScope scope = provider.scope(singletonMap("a", 1));
+
+		Thread thread = new Thread(scope::close);
+		thread.start();
+		thread.join();
+
+		assertThat(provider.getMapping()).containsOnly(entry("a", "1"));
+		assertThat(systemStream.consumeErrorOutput()).containsOnlyOnce("ERROR").contains("same thread");
+
+		scope.close();
+		assertThat(provider.getMapping()).isEmpty();
+	}
+
 	/**
 	 * Verifies that existing values can be removed.
 	 */
@@ -122,4 +291,26 @@ public final class TinylogContextProviderTest {
 		assertThat(provider.getMapping()).containsOnly(entry("a", "1"));
 	}
 
+	/**
+	 * Verifies that a child thread doesn't inherit values from parent thread, if inheritance is disabled.
+	 *
+	 * @throws InterruptedException
+	 *             Failed waiting for child thread
+	 */
+	@Test
+	public void disabledInheritance() throws InterruptedException {
+		TinylogContextProvider provider = new TinylogContextProvider(false);
+		provider.put("a", 1);
+
+		Thread thread = new Thread(() -> {
+			assertThat(provider.getMapping()).isEmpty();
+			provider.put("b", 2);
+			assertThat(provider.getMapping()).containsOnly(entry("b", "2"));
+		});
+		thread.start();
+		thread.join();
+
+		assertThat(provider.getMapping()).containsOnly(entry("a", "1"));
+	}
+
 }
@@ -14,10 +14,18 @@
 package org.tinylog.core;
 
 import java.io.IOException;
+import java.lang.management.ManagementFactory;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Locale;
+import java.util.Map;
+
+import javax.management.Attribute;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
 
 import org.assertj.core.api.Condition;
 import org.junit.After;
@@ -37,8 +45,11 @@ import org.tinylog.configuration.Configuration;
 import org.tinylog.configuration.ServiceLoader;
 import org.tinylog.format.AdvancedMessageFormatter;
 import org.tinylog.format.MessageFormatter;
+import org.tinylog.provider.LogEntrySource;
 import org.tinylog.provider.LoggingProvider;
 import org.tinylog.rules.SystemStreamCollector;
+import org.tinylog.runtime.LegacyTimestamp;
+import org.tinylog.runtime.Timestamp;
 import org.tinylog.util.EvilWriter;
 import org.tinylog.util.StorageWriter;
 import org.tinylog.util.Strings;
@@ -48,6 +59,11 @@ import org.tinylog.writers.Writer;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 import static org.tinylog.util.Maps.doubletonMap;
 import static org.tinylog.util.ResultObserver.waitFor;
 
@@ -794,6 +810,409 @@ public final class TinylogLoggingProviderTest {
 
 	}
 
+	/**
+	 * Tests for logging with configured rate limit.
+	 */
+	public static final class RateLimitEnabled extends AbstractTest {
+
+		/**
+		 * Activates a rate limit of two log entries per hour for a console writer and disables auto shutdown.
+		 */
+		@BeforeClass
+		public static void configure() {
+			Map<String, String> configuration = new HashMap<>();
+			configuration.put("ratelimit", "2/h");
+			configuration.put("writer", "console");
+			configuration.put("writer.format", "{message}");
+			configuration.put("autoshutdown", "false");
+
+			Whitebox.setInternalState(Configuration.class, "frozen", false);
+			Configuration.replace(configuration);
+		}
+
+		/**
+		 * Verifies that repeated log entries are suppressed after reaching the rate limit.
+		 */
+		@Test
+		public void suppressRepeatedLogEntries() {
+			for (int i = 0; i < 5; ++i) {
+				provider.log(1, null, Level.INFO, null, null, "Hello World!");
+			}
+			provider.log(1, null, Level.INFO, null, null, "Goodbye!");
+
+			assertThat(systemStream.consumeStandardOutput())
+				.isEqualTo("Hello World!" + NEW_LINE + "Hello World!" + NEW_LINE + "Goodbye!" + NEW_LINE);
+		}
+
+		/**
+		 * Verifies that pending summaries of suppressed log entries are output on shutdown.
+		 *
+		 * @throws InterruptedException
+		 *             Interrupted while waiting for complete shutdown
+		 */
+		@Test
+		public void reportSuppressedLogEntriesOnShutdown() throws InterruptedException {
+			for (int i = 0; i < 5; ++i) {
+				provider.log(1, null, Level.INFO, null, null, "Hello World!");
+			}
+			provider.shutdown();
+
+			assertThat(systemStream.consumeStandardOutput())
+				.isEqualTo("Hello World!" + NEW_LINE + "Hello World!" + NEW_LINE + "Suppressed 3 similar log entries" + NEW_LINE);
+		}
+
+	}
+
+	/**
+	 * Tests for changing severity levels at runtime.
+	 */
+	public static final class ReconfigurationEnabled extends AbstractTest {
+
+		/**
+		 * Activates reconfiguration for a console writer with global severity level {@link Level#INFO} and disables auto
+		 * shutdown.
+		 */
+		@BeforeClass
+		public static void configure() {
+			Map<String, String> configuration = new HashMap<>();
+			configuration.put("reconfigurable", "true");
+			configuration.put("level", "info");
+			configuration.put("writer", "console");
+			configuration.put("writer.format", "{message}");
+			configuration.put("autoshutdown", "false");
+
+			Whitebox.setInternalState(Configuration.class, "frozen", false);
+			Configuration.replace(configuration);
+		}
+
+		/**
+		 * Shuts down the logging provider to unregister its MBean.
+		 *
+		 * @throws InterruptedException
+		 *             Interrupted while waiting for complete shutdown
+		 */
+		@After
+		public void shutdown() throws InterruptedException {
+			provider.shutdown();
+		}
+
+		/**
+		 * Verifies that writers are not restricted to the initial global severity level.
+		 */
+		@Test
+		public void unrestrictedWriters() {
+			assertThat(provider.getMinimumLevel()).isEqualTo(Level.TRACE);
+			assertThat(provider.getMinimumLevel(null)).isEqualTo(Level.TRACE);
+		}
+
+		/**
+		 * Verifies that the global severity level can be changed.
+		 */
+		@Test
+		public void changeGlobalLevel() {
+			assertThat(provider.isEnabled(1, null, Level.DEBUG)).isFalse();
+			provider.log(1, null, Level.DEBUG, null, null, "First");
+
+			provider.setLevel(Level.DEBUG);
+
+			assertThat(provider.getLevel()).isEqualTo(Level.DEBUG);
+			assertThat(provider.isEnabled(1, null, Level.DEBUG)).isTrue();
+			provider.log(1, null, Level.DEBUG, null, null, "Second");
+
+			assertThat(systemStream.consumeStandardOutput()).isEqualTo("Second" + NEW_LINE);
+		}
+
+		/**
+		 * Verifies that custom severity levels for packages can be added and removed.
+		 */
+		@Test
+		public void changeCustomLevel() {
+			provider.setLevel("org.tinylog", Level.TRACE);
+
+			assertThat(provider.getCustomLevels()).containsOnly(entry("org.tinylog", Level.TRACE));
+			assertThat(provider.isEnabled(1, null, Level.TRACE)).isTrue();
+			provider.log(1, null, Level.TRACE, null, null, "First");
+
+			provider.setLevel("org.tinylog", null);
+
+			assertThat(provider.getCustomLevels()).isEmpty();
+			assertThat(provider.isEnabled(1, null, Level.TRACE)).isFalse();
+			provider.log(1, null, Level.TRACE, null, null, "Second");
+
+			assertThat(systemStream.consumeStandardOutput()).isEqualTo("First" + NEW_LINE);
+		}
+
+		/**
+		 * Verifies that log entries below all active severity levels are discarded before resolving the caller, even
+		 * if the writers are unrestricted and there are custom severity levels for packages. The passed logger class
+		 * name is not part of the stack trace, so the caller could not be resolved at all.
+		 */
+		@Test
+		public void discardWithoutResolvingCaller() {
+			provider.setLevel("org.tinylog", Level.DEBUG);
+
+			assertThat(provider.isEnabled(1, null, Level.TRACE)).isFalse();
+			provider.log("org.example.UnknownLogger", null, Level.TRACE, null, null, "Hello World!");
+			provider.log("org.example.UnknownLogger", "test", Level.TRACE, null, null, "Hello World!");
+
+			assertThat(systemStream.consumeStandardOutput()).isEmpty();
+		}
+
+		/**
+		 * Verifies that custom severity levels for tags have precedence over other severity levels.
+		 */
+		@Test
+		public void changeTagLevel() {
+			provider.setLevel("org.tinylog", Level.WARN);
+			provider.setTagLevel("test", Level.DEBUG);
+
+			assertThat(provider.getTagLevels()).containsOnly(entry("test", Level.DEBUG));
+			assertThat(provider.isEnabled(1, "test", Level.DEBUG)).isTrue();
+			assertThat(provider.isEnabled(1, null, Level.INFO)).isFalse();
+			provider.log(1, "test", Level.DEBUG, null, null, "First");
+			provider.log(1, null, Level.INFO, null, null, "Second");
+
+			assertThat(systemStream.consumeStandardOutput()).isEqualTo("First" + NEW_LINE);
+		}
+
+		/**
+		 * Verifies that severity levels can be changed via JMX.
+		 *
+		 * @throws JMException
+		 *             Failed to access MBean
+		 */
+		@Test
+		public void changeLevelsViaJmx() throws JMException {
+			MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+			ObjectName name = new ObjectName("org.tinylog:type=Levels");
+
+			server.setAttribute(name, new Attribute("Level", "debug"));
+			server.invoke(name, "setCustomLevel", new Object[] { "org.tinylog", "warn" }, new String[] { "java.lang.String",
+				"java.lang.String" });
+
+			assertThat(server.getAttribute(name, "Level")).isEqualTo("DEBUG");
+			assertThat(provider.getLevel()).isEqualTo(Level.DEBUG);
+			assertThat(provider.getCustomLevels()).containsOnly(entry("org.tinylog", Level.WARN));
+		}
+
+		/**
+		 * Verifies that the MBean is unregistered on shutdown.
+		 *
+		 * @throws Exception
+		 *             Failed to access MBean or interrupted while waiting for complete shutdown
+		 */
+		@Test
+		public void unregisterOnShutdown() throws Exception {
+			ObjectName name = new ObjectName("org.tinylog:type=Levels");
+			assertThat(ManagementFactory.getPlatformMBeanServer().isRegistered(name)).isTrue();
+
+			provider.shutdown();
+			assertThat(ManagementFactory.getPlatformMBeanServer().isRegistered(name)).isFalse();
+		}
+
+	}
+
+	/**
+	 * Tests for attempts to change severity levels at runtime without enabling reconfiguration.
+	 */
+	public static final class ReconfigurationDisabled extends AbstractTest {
+
+		/**
+		 * Activates a console writer with global severity level {@link Level#INFO} and disables auto shutdown.
+		 */
+		@BeforeClass
+		public static void configure() {
+			Whitebox.setInternalState(Configuration.class, "frozen", false);
+			Configuration.replace(doubletonMap("level", "info", "autoshutdown", "false"));
+		}
+
+		/**
+		 * Verifies that an error is reported and the severity levels remain unchanged.
+		 */
+		@Test
+		public void rejectChanges() {
+			provider.setLevel(Level.DEBUG);
+			provider.setLevel("org.tinylog", Level.DEBUG);
+			provider.setTagLevel("test", Level.DEBUG);
+
+			assertThat(provider.getLevel()).isEqualTo(Level.INFO);
+			assertThat(provider.getCustomLevels()).isEmpty();
+			assertThat(provider.getTagLevels()).isEmpty();
+			assertThat(systemStream.consumeErrorOutput()).contains("ERROR").contains("reconfigurable");
+		}
+
+	}
+
+	/**
+	 * Tests for collecting metrics.
+	 */
+	public static final class MetricsEnabled extends AbstractTest {
+
+		/**
+		 * Activates metrics for a console writer with global severity level {@link Level#INFO}, a rate limit of one log
+		 * entry per hour, and disables auto shutdown.
+		 */
+		@BeforeClass
+		public static void configure() {
+			Map<String, String> configuration = new HashMap<>();
+			configuration.put("metrics", "true");
+			configuration.put("level", "info");
+			configuration.put("ratelimit", "1/h");
+			configuration.put("writer", "console");
+			configuration.put("writer.format", "{message}");
+			configuration.put("autoshutdown", "false");
+
+			Whitebox.setInternalState(Configuration.class, "frozen", false);
+			Configuration.replace(configuration);
+		}
+
+		/**
+		 * Shuts down the logging provider to unregister its MBean.
+		 *
+		 * @throws InterruptedException
+		 *             Interrupted while waiting for complete shutdown
+		 */
+		@After
+		public void shutdown() throws InterruptedException {
+			provider.shutdown();
+		}
+
+		/**
+		 * Verifies that accepted, filtered, and suppressed log entries are counted.
+		 *
+		 * @throws InterruptedException
+		 *             Interrupted while waiting for complete shutdown
+		 */
+		@Test
+		public void countLogEntries() throws InterruptedException {
+			provider.log(1, null, Level.DEBUG, null, null, "Filtered");
+			provider.log(1, null, Level.INFO, null, null, "Accepted");
+			provider.log(1, null, Level.INFO, null, null, "Accepted");
+
+			LoggingMetrics metrics = provider.getMetrics();
+			assertThat(metrics.getAcceptedEntries()).isEqualTo(1);
+			assertThat(metrics.getFilteredEntries()).isEqualTo(1);
+			assertThat(metrics.getSuppressedEntries()).isEqualTo(1);
+			assertThat(metrics.getDroppedEntries()).isZero();
+
+			provider.shutdown();
+			assertThat(systemStream.consumeStandardOutput())
+				.isEqualTo("Accepted" + NEW_LINE + "Suppressed 1 similar log entries" + NEW_LINE);
+		}
+
+		/**
+		 * Verifies that written log entries and their latencies are recorded per writer.
+		 */
+		@Test
+		public void recordWriterMetrics() {
+			provider.log(1, null, Level.INFO, null, null, "Hello World!");
+
+			LoggingMetrics metrics = provider.getMetrics();
+			assertThat(metrics.getWriterMetrics()).hasSize(1);
+			assertThat(metrics.getWriterMetrics().keySet()).allMatch(writer -> writer instanceof ConsoleWriter);
+
+			WriterMetrics writerMetrics = metrics.getWriterMetrics().values().iterator().next();
+			assertThat(writerMetrics.getWrittenEntries()).isEqualTo(1);
+			assertThat(writerMetrics.getFailedWrites()).isZero();
+			assertThat(writerMetrics.getWriteLatency().getCount()).isEqualTo(1);
+
+			assertThat(metrics.getWrittenEntries()).isEqualTo(1);
+			assertThat(metrics.getWriteLatency99thPercentile()).isPositive();
+
+			assertThat(systemStream.consumeStandardOutput()).isEqualTo("Hello World!" + NEW_LINE);
+		}
+
+		/**
+		 * Verifies that metrics can be read via JMX and the MBean is unregistered on shutdown.
+		 *
+		 * @throws Exception
+		 *             Failed to access MBean or interrupted while waiting for complete shutdown
+		 */
+		@Test
+		public void readViaJmx() throws Exception {
+			MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+			ObjectName name = new ObjectName("org.tinylog:type=Metrics");
+
+			provider.log(1, null, Level.INFO, null, null, "Hello World!");
+
+			assertThat(server.getAttribute(name, "AcceptedEntries")).isEqualTo(1L);
+			assertThat(server.getAttribute(name, "QueueDepth")).isEqualTo(0);
+
+			provider.shutdown();
+			assertThat(server.isRegistered(name)).isFalse();
+
+			systemStream.consumeStandardOutput();
+		}
+
+	}
+
+	/**
+	 * Tests for ring buffer writers.
+	 */
+	public static final class RingBufferEnabled extends AbstractTest {
+
+		/**
+		 * Activates a ring buffer writer with a console writer as delegate and disables auto shutdown.
+		 */
+		@BeforeClass
+		public static void configure() {
+			Map<String, String> configuration = new HashMap<>();
+			configuration.put("writer", "ring buffer");
+			configuration.put("writer.delegate", "console");
+			configuration.put("writer.format", "{message}");
+			configuration.put("autoshutdown", "false");
+
+			Whitebox.setInternalState(Configuration.class, "frozen", false);
+			Configuration.replace(configuration);
+		}
+
+		/**
+		 * Verifies that buffered log entries can be output via JMX and the MBean is unregistered on shutdown.
+		 *
+		 * @throws Exception
+		 *             Failed to access MBean or interrupted while waiting for complete shutdown
+		 */
+		@Test
+		public void dumpViaJmx() throws Exception {
+			MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+			ObjectName name = new ObjectName("org.tinylog:type=RingBuffers");
+
+			provider.log(1, null, Level.INFO, null, null, "Hello World!");
+			assertThat(systemStream.consumeStandardOutput()).isEmpty();
+
+			server.invoke(name, "dump", new Object[0], new String[0]);
+			assertThat(systemStream.consumeStandardOutput()).isEqualTo("Hello World!" + NEW_LINE);
+
+			provider.shutdown();
+			assertThat(server.isRegistered(name)).isFalse();
+		}
+
+	}
+
+	/**
+	 * Tests for disabled metrics.
+	 */
+	public static final class MetricsDisabled extends AbstractTest {
+
+		/**
+		 * Activates a console writer and disables auto shutdown.
+		 */
+		@BeforeClass
+		public static void configure() {
+			Whitebox.setInternalState(Configuration.class, "frozen", false);
+			Configuration.replace(doubletonMap("writer", "console", "autoshutdown", "false"));
+		}
+
+		/**
+		 * Verifies that no metrics are collected by default.
+		 */
+		@Test
+		public void noMetrics() {
+			assertThat(provider.getMetrics()).isNull();
+		}
+
+	}
+
 	/**
 	 * Tests for writer operations that throw an exception.
 	 */
@@ -1036,6 +1455,193 @@ public final class TinylogLoggingProviderTest {
 
 	}
 
+	/**
+	 * Tests for log entries with already known timestamp and source, as passed by logging bridges.
+	 */
+	public static final class KnownSource {
+
+		/**
+		 * Activates {@link StorageWriter}.
+		 */
+		@Before
+		public void configure() {
+			Whitebox.setInternalState(Configuration.class, "frozen", false);
+			Configuration.replace(singletonMap("writer", StorageWriter.class.getName()));
+		}
+
+		/**
+		 * Clears global tinylog configuration.
+		 */
+		@Before
+		@After
+		public void clear() {
+			Whitebox.setInternalState(Configuration.class, "frozen", false);
+			Configuration.replace(emptyMap());
+		}
+
+		/**
+		 * Verifies that a passed timestamp is used instead of the current time.
+		 */
+		@Test
+		public void timestamp() {
+			Configuration.set("writer.values", "date");
+			Timestamp timestamp = new LegacyTimestamp(1000);
+
+			new TinylogLoggingProvider().log(TinylogLoggingProvider.class.getName(), mockSource("com.example.Foo", "bar"), timestamp,
+				null, Level.INFO, null, null, null);
+			assertThat(StorageWriter.consumeEntries()).extracting(LogEntry::getTimestamp).containsOnly(timestamp);
+		}
+
+		/**
+		 * Verifies that the current time is used, if no timestamp is passed.
+		 */
+		@Test
+		public void currentTime() {
+			Configuration.set("writer.values", "date");
+
+			Instant before = Instant.now();
+			new TinylogLoggingProvider().log(TinylogLoggingProvider.class.getName(), null, null, null, Level.INFO, null, null, null);
+			Instant after = Instant.now();
+
+			assertThat(StorageWriter.consumeEntries()).hasSize(1).extracting(LogEntry::getTimestamp).allSatisfy(timestamp -> {
+				assertThat(timestamp.toInstant()).isBetween(before, after);
+			});
+		}
+
+		/**
+		 * Verifies that class and method name are taken from the passed source.
+		 */
+		@Test
+		public void classAndMethodName() {
+			Configuration.set("writer.values", "class, method");
+
+			new TinylogLoggingProvider().log(TinylogLoggingProvider.class.getName(), mockSource("com.example.Foo", "bar"), null,
+				null, Level.INFO, null, null, null);
+			assertThat(StorageWriter.consumeEntries()).hasSize(1).allSatisfy(logEntry -> {
+				assertThat(logEntry.getClassName()).isEqualTo("com.example.Foo");
+				assertThat(logEntry.getMethodName()).isEqualTo("bar");
+				assertThat(logEntry.getFileName()).isNull();
+				assertThat(logEntry.getLineNumber()).isEqualTo(-1);
+			});
+		}
+
+		/**
+		 * Verifies that the class name is resolved from the stack trace, if the passed source doesn't know it.
+		 */
+		@Test
+		public void unknownClassName() {
+			Configuration.set("writer.values", "class");
+
+			new TinylogLoggingProvider().log(TinylogLoggingProvider.class.getName(), mockSource(null, null), null, null, Level.INFO,
+				null, null, null);
+			assertThat(StorageWriter.consumeEntries()).extracting(LogEntry::getClassName).containsOnly(KnownSource.class.getName());
+		}
+
+		/**
+		 * Verifies that the stack trace is used, if the source file name is required.
+		 */
+		@Test
+		public void fileName() {
+			Configuration.set("writer.values", "file");
+
+			new TinylogLoggingProvider().log(TinylogLoggingProvider.class.getName(), mockSource("com.example.Foo", "bar"), null,
+				null, Level.INFO, null, null, null);
+			assertThat(StorageWriter.consumeEntries())
+					.extracting(LogEntry::getFileName)
+					.containsOnly(TinylogLoggingProviderTest.class.getSimpleName() + ".java");
+		}
+
+		/**
+		 * Verifies that the passed source is not queried, if neither class nor method name are required.
+		 */
+		@Test
+		public void lazySource() {
+			Configuration.set("writer.values", "message");
+			LogEntrySource source = mockSource("com.example.Foo", "bar");
+
+			new TinylogLoggingProvider().log(TinylogLoggingProvider.class.getName(), source, null, null, Level.INFO, null, null,
+				"Hello World!");
+			assertThat(StorageWriter.consumeEntries()).extracting(LogEntry::getMessage).containsOnly("Hello World!");
+
+			verify(source, never()).getClassName();
+			verify(source, never()).getMethodName();
+		}
+
+		/**
+		 * Verifies that custom severity levels are applied to the class name of the passed source.
+		 */
+		@Test
+		public void customLevel() {
+			Configuration.set("level", "warn");
+			Configuration.set("level@com.example", "debug");
+			Configuration.set("writer.values", "message");
+
+			TinylogLoggingProvider provider = new TinylogLoggingProvider();
+			provider.log(TinylogLoggingProvider.class.getName(), mockSource("com.example.Foo", "bar"), null, null, Level.INFO, null,
+				null, "Hello World!");
+			provider.log(TinylogLoggingProvider.class.getName(), mockSource("org.example.Foo", "bar"), null, null, Level.INFO, null,
+				null, "Hello World!");
+
+			assertThat(StorageWriter.consumeEntries()).hasSize(1);
+		}
+
+		/**
+		 * Verifies that the minimum severity levels for packages combine custom severity levels and writer levels.
+		 */
+		@Test
+		public void minimumLevels() {
+			Configuration.set("level", "warn");
+			Configuration.set("level@com.example", "trace");
+			Configuration.set("level@org.example", "error");
+			Configuration.set("writer.level", "debug");
+
+			assertThat(new TinylogLoggingProvider().getMinimumLevels(null)).containsOnly(
+				entry("", Level.WARN),
+				entry("com.example", Level.DEBUG),
+				entry("org.example", Level.ERROR)
+			);
+		}
+
+		/**
+		 * Verifies that only writer levels are taken into account for the minimum severity levels, if severity levels
+		 * can be changed at runtime.
+		 *
+		 * @throws InterruptedException
+		 *             Interrupted while waiting for the shutdown of the logging provider
+		 */
+		@Test
+		public void minimumLevelsForReconfiguration() throws InterruptedException {
+			Configuration.set("level", "warn");
+			Configuration.set("level@org.example", "error");
+			Configuration.set("writer.level", "debug");
+			Configuration.set("reconfigurable", "true");
+
+			TinylogLoggingProvider provider = new TinylogLoggingProvider();
+			try {
+				assertThat(provider.getMinimumLevels(null)).containsOnly(entry("", Level.DEBUG));
+			} finally {
+				provider.shutdown();
+			}
+		}
+
+		/**
+		 * Creates a mocked source of a log entry.
+		 *
+		 * @param className
+		 *            Fully-qualified class name
+		 * @param methodName
+		 *            Method name
+		 * @return Mocked source
+		 */
+		private static LogEntrySource mockSource(final String className, final String methodName) {
+			LogEntrySource source = mock(LogEntrySource.class);
+			when(source.getClassName()).thenReturn(className);
+			when(source.getMethodName()).thenReturn(methodName);
+			return source;
+		}
+
+	}
+
 	/**
 	 * Tests for the different types of messages to log.
 	 */
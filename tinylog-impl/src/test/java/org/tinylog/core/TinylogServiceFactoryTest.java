@@ -0,0 +1,206 @@
+/*
+ * Copyright 2022 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.core;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.tinylog.converters.FileConverter;
+import org.tinylog.policies.Policy;
+import org.tinylog.policies.StartupPolicy;
+import org.tinylog.provider.LoggingProvider;
+import org.tinylog.rules.SystemStreamCollector;
+import org.tinylog.throwable.ThrowableFilter;
+import org.tinylog.util.FileSystem;
+import org.tinylog.writers.ConsoleWriter;
+import org.tinylog.writers.Writer;
+
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link TinylogServiceFactory}.
+ */
+public final class TinylogServiceFactoryTest {
+
+	/**
+	 * Redirects and collects system output streams.
+	 */
+	@Rule
+	public final SystemStreamCollector systemStream = new SystemStreamCollector(false);
+
+	private final TinylogServiceFactory factory = new TinylogServiceFactory();
+
+	/**
+	 * Verifies that all registered writers are covered and can be created with a map of properties.
+	 *
+	 * @throws IOException
+	 *             Failed reading service file
+	 */
+	@Test
+	public void coversAllWriters() throws IOException {
+		for (String className : readServiceFile(Writer.class)) {
+			String file = FileSystem.createTemporaryFile();
+			assertThat(isCovered(className, Map.class, singletonMap("file", file))).as(className).isTrue();
+		}
+	}
+
+	/**
+	 * Verifies that all registered policies, file converters, and throwable filters are covered and can be created
+	 * with a string argument.
+	 *
+	 * @throws IOException
+	 *             Failed reading service file
+	 */
+	@Test
+	public void coversAllServicesWithStringArgument() throws IOException {
+		List<String> classNames = new ArrayList<>();
+		classNames.addAll(readServiceFile(Policy.class));
+		classNames.addAll(readServiceFile(FileConverter.class));
+		classNames.addAll(readServiceFile(ThrowableFilter.class));
+
+		for (String className : classNames) {
+			assertThat(isCovered(className, String.class, null)).as(className).isTrue();
+		}
+	}
+
+	/**
+	 * Verifies that the logging provider is covered.
+	 *
+	 * @throws Exception
+	 *             Failed reading service file or creating logging provider
+	 */
+	@Test
+	public void coversLoggingProvider() throws Exception {
+		for (String className : readServiceFile(LoggingProvider.class)) {
+			assertThat(factory.create(className, new Class<?>[0], new Object[0])).isInstanceOf(TinylogLoggingProvider.class);
+		}
+	}
+
+	/**
+	 * Verifies that service implementations can be created with their expected arguments.
+	 *
+	 * @throws Exception
+	 *             Failed creating service implementation
+	 */
+	@Test
+	public void createWithArguments() throws Exception {
+		Object writer = factory.create(ConsoleWriter.class.getName(), new Class<?>[] { Map.class },
+			new Object[] { singletonMap("format", "{message}") });
+		assertThat(writer).isInstanceOf(ConsoleWriter.class);
+
+		Object policy = factory.create(StartupPolicy.class.getName(), new Class<?>[] { String.class }, new Object[] { null });
+		assertThat(policy).isInstanceOf(StartupPolicy.class);
+	}
+
+	/**
+	 * Verifies that {@code null} is returned for unknown classes and unsupported constructors.
+	 *
+	 * @throws Exception
+	 *             Failed creating service implementation
+	 */
+	@Test
+	public void unknown() throws Exception {
+		assertThat(factory.create("org.tinylog.writers.UnknownWriter", new Class<?>[0], new Object[0])).isNull();
+		assertThat(factory.create(ConsoleWriter.class.getName(), new Class<?>[] { Integer.class }, new Object[] { 42 })).isNull();
+		assertThat(factory.create(ConsoleWriter.class.getName(), new Class<?>[] { Map.class }, new Object[] { "text" })).isNull();
+		assertThat(factory.create(ConsoleWriter.class.getName(), new Class<?>[] { Map.class }, new Object[0])).isNull();
+	}
+
+	/**
+	 * Verifies that exceptions thrown by constructors are passed through.
+	 */
+	@Test
+	public void failingConstructor() {
+		assertThatThrownBy(() -> factory.create("org.tinylog.writers.FileWriter", new Class<?>[0], new Object[0]))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	/**
+	 * Checks whether the factory knows a service implementation. Constructors that fail because of missing
+	 * dependencies or configuration still prove that the service implementation is covered.
+	 *
+	 * @param className
+	 *            Fully-qualified class name of service implementation
+	 * @param argumentType
+	 *            Argument type of constructor
+	 * @param argument
+	 *            Argument for constructor
+	 * @return {@code true} if the factory has created or tried to create the service implementation, {@code false} if
+	 *         the factory does not know the service implementation
+	 */
+	private boolean isCovered(final String className, final Class<?> argumentType, final Object argument) {
+		try {
+			Object instance = factory.create(className, new Class<?>[] { argumentType }, new Object[] { argument });
+			if (instance instanceof Writer) {
+				Writer writer = (Writer) instance;
+				writer.close();
+			}
+			return instance != null && instance.getClass().getName().equals(className);
+		} catch (Exception | LinkageError ex) {
+			return true;
+		}
+	}
+
+	/**
+	 * Reads all class names from a service file of tinylog-impl. Service files of the same name in test resources are
+	 * ignored.
+	 *
+	 * @param service
+	 *            Service interface
+	 * @return All registered class names
+	 * @throws IOException
+	 *             Failed reading service file
+	 */
+	private static List<String> readServiceFile(final Class<?> service) throws IOException {
+		List<String> classNames = new ArrayList<>();
+		String path = "META-INF/services/" + service.getName();
+		String location = TinylogServiceFactory.class.getProtectionDomain().getCodeSource().getLocation().toString();
+
+		URL file = null;
+		Enumeration<URL> resources = TinylogServiceFactory.class.getClassLoader().getResources(path);
+		while (resources.hasMoreElements()) {
+			URL resource = resources.nextElement();
+			if (resource.toString().startsWith(location)) {
+				file = resource;
+			}
+		}
+
+		assertThat(file).as(path).isNotNull();
+
+		try (InputStream stream = file.openStream()) {
+			BufferedReader reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8));
+			for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+				if (!line.trim().isEmpty() && !line.trim().startsWith("#")) {
+					classNames.add(line.trim());
+				}
+			}
+		}
+
+		assertThat(classNames).isNotEmpty();
+		return classNames;
+	}
+
+}
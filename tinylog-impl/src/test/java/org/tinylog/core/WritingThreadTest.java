@@ -23,6 +23,7 @@ import java.util.Map;
 
 import org.junit.Rule;
 import org.junit.Test;
+import org.tinylog.Level;
 import org.tinylog.rules.SystemStreamCollector;
 import org.tinylog.util.FileSystem;
 import org.tinylog.util.LogEntryBuilder;
@@ -116,6 +117,48 @@ public final class WritingThreadTest {
 		assertThat(Files.readAllLines(Paths.get(file))).hasSize(10 * 1000).containsOnly("Hello World!");
 	}
 
+	/**
+	 * Verifies that the minimum severity level is raised with growing number of pending log entries and lowered again
+	 * after writing the pending log entries.
+	 *
+	 * @throws Exception
+	 *             Illegal thread or mock invocation
+	 */
+	@Test
+	public void adaptiveMinimumLevel() throws Exception {
+		Writer writer = mock(Writer.class);
+		LogEntry entry = LogEntryBuilder.empty().create();
+
+		WritingThread thread = new WritingThread(singletonList(writer), 2);
+		assertThat(thread.getMinimumLevel()).isEqualTo(Level.TRACE);
+
+		thread.add(writer, entry);
+		assertThat(thread.getMinimumLevel()).isEqualTo(Level.TRACE);
+
+		thread.add(writer, entry);
+		assertThat(thread.getMinimumLevel()).isEqualTo(Level.DEBUG);
+
+		for (int i = 0; i < 2; ++i) {
+			thread.add(writer, entry);
+		}
+		assertThat(thread.getMinimumLevel()).isEqualTo(Level.INFO);
+
+		for (int i = 0; i < 100; ++i) {
+			thread.add(writer, entry);
+		}
+		assertThat(thread.getMinimumLevel()).isEqualTo(Level.WARN);
+		assertThat(systemStream.consumeErrorOutput()).contains("WARN", "DEBUG", "INFO").doesNotContain("ERROR");
+
+		thread.start();
+		Thread.sleep(200); // Wait for writing and lowering the minimum severity level step by step
+
+		assertThat(thread.getMinimumLevel()).isEqualTo(Level.TRACE);
+		assertThat(systemStream.consumeErrorOutput()).contains("INFO", "TRACE");
+
+		thread.shutdown();
+		thread.join();
+	}
+
 	/**
 	 * Verifies that a thrown exception will be reported while writing.
 	 *
@@ -65,6 +65,78 @@ public final class CountSegmentTest {
 		assertThat(segment.createToken(prefix, null)).isEqualTo("0");
 	}
 
+	/**
+	 * Verifies that subsequent tokens for the same prefix are incremented without scanning the folder again.
+	 *
+	 * @throws IOException
+	 *             Failed to create files
+	 */
+	@Test
+	public void createSubsequentTokens() throws IOException {
+		folder.newFile("5");
+
+		CountSegment segment = new CountSegment();
+		String prefix = folder.getRoot().getAbsolutePath() + File.separator;
+		assertThat(segment.createToken(prefix, null)).isEqualTo("6");
+
+		folder.newFile("42");
+		assertThat(segment.createToken(prefix, null)).isEqualTo("7");
+	}
+
+	/**
+	 * Verifies that the folder will be scanned again, if a file with the next number has been created in the meantime.
+	 *
+	 * @throws IOException
+	 *             Failed to create files
+	 */
+	@Test
+	public void createTokenAfterExternalFile() throws IOException {
+		folder.newFile("test5.log");
+
+		CountSegment segment = new CountSegment(".log");
+		String prefix = folder.getRoot().getAbsolutePath() + File.separator + "test";
+		assertThat(segment.createToken(prefix, null)).isEqualTo("6");
+
+		folder.newFile("test7.log");
+		folder.newFile("test8.log");
+		assertThat(segment.createToken(prefix, null)).isEqualTo("9");
+	}
+
+	/**
+	 * Verifies that the folder will be scanned for each token, if the rest of the file name is dynamic.
+	 *
+	 * @throws IOException
+	 *             Failed to create files
+	 */
+	@Test
+	public void createTokensForDynamicSuffix() throws IOException {
+		folder.newFile("test5_a.log");
+
+		CountSegment segment = new CountSegment(null);
+		String prefix = folder.getRoot().getAbsolutePath() + File.separator + "test";
+		assertThat(segment.createToken(prefix, null)).isEqualTo("6");
+
+		folder.newFile("test6_b.log");
+		assertThat(segment.createToken(prefix, null)).isEqualTo("7");
+	}
+
+	/**
+	 * Verifies that the folder will be scanned again, if the prefix changes.
+	 *
+	 * @throws IOException
+	 *             Failed to create folders or files
+	 */
+	@Test
+	public void createTokensForDifferentPrefixes() throws IOException {
+		File first = folder.newFolder();
+		File second = folder.newFolder();
+		new File(second, "3").createNewFile();
+
+		CountSegment segment = new CountSegment();
+		assertThat(segment.createToken(first.getAbsolutePath() + File.separator, null)).isEqualTo("0");
+		assertThat(segment.createToken(second.getAbsolutePath() + File.separator, null)).isEqualTo("4");
+	}
+
 	/**
 	 * Verifies that a sequence of numeric file names can be continued and the next number will be returned as token.
 	 *
@@ -158,6 +158,17 @@ public final class DynamicPathTest {
 		assertThat(path.resolve()).isEqualTo("0." + RuntimeProvider.getProcessId());
 	}
 
+	/**
+	 * Verifies that only paths with plain texts, process IDs, and counts are predictable.
+	 */
+	@Test
+	public void predictable() {
+		assertThat(new DynamicPath("foo.log").isPredictable()).isTrue();
+		assertThat(new DynamicPath("{count}.{pid}.log").isPredictable()).isTrue();
+		assertThat(new DynamicPath("{date}.log").isPredictable()).isFalse();
+		assertThat(new DynamicPath("{dynamic: foo}.log").isPredictable()).isFalse();
+	}
+
 	/**
 	 * Verifies that a path is rejected if patterns are not separated by a static text.
 	 */
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2022 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.path;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link LogFileIndex}.
+ */
+public final class LogFileIndexTest {
+
+	/**
+	 * Temporary folder for creating files.
+	 */
+	@Rule
+	public final TemporaryFolder folder = new TemporaryFolder();
+
+	/**
+	 * Verifies that seeded files keep their order and the oldest files will be deleted.
+	 *
+	 * @throws IOException
+	 *             Failed to create files
+	 */
+	@Test
+	public void deleteSeededFiles() throws IOException {
+		File newest = folder.newFile("2");
+		File middle = folder.newFile("1");
+		File oldest = folder.newFile("0");
+
+		LogFileIndex index = new LogFileIndex(Arrays.asList(tuple(newest), tuple(middle), tuple(oldest)), null, 2);
+		index.deleteObsoleteFiles();
+
+		assertThat(newest).exists();
+		assertThat(middle).exists();
+		assertThat(oldest).doesNotExist();
+		assertThat(index.getFiles()).extracting(FileTuple::getOriginal).containsExactly(newest, middle);
+	}
+
+	/**
+	 * Verifies that added files become the most recent files and the oldest files will be deleted.
+	 *
+	 * @throws IOException
+	 *             Failed to create files
+	 */
+	@Test
+	public void addFiles() throws IOException {
+		File first = folder.newFile("0");
+		File second = folder.newFile("1");
+		File third = folder.newFile("2");
+
+		LogFileIndex index = new LogFileIndex(Collections.singletonList(tuple(first)), null, 2);
+
+		index.add(second.getPath());
+		index.deleteObsoleteFiles();
+		assertThat(first).exists();
+
+		index.add(third.getPath());
+		index.deleteObsoleteFiles();
+		assertThat(first).doesNotExist();
+
+		assertThat(index.getFiles()).extracting(FileTuple::getOriginal).containsExactly(third, second);
+	}
+
+	/**
+	 * Verifies that an already indexed file will be moved to the top instead of being indexed twice.
+	 *
+	 * @throws IOException
+	 *             Failed to create files
+	 */
+	@Test
+	public void addExistingFile() throws IOException {
+		File first = folder.newFile("0");
+		File second = folder.newFile("1");
+
+		LogFileIndex index = new LogFileIndex(Arrays.asList(tuple(second), tuple(first)), null, 2);
+		index.add(first.getPath());
+		index.deleteObsoleteFiles();
+
+		assertThat(first).exists();
+		assertThat(second).exists();
+		assertThat(index.getFiles()).extracting(FileTuple::getOriginal).containsExactly(first, second);
+	}
+
+	/**
+	 * Verifies that backup files will be deleted together with their original files.
+	 *
+	 * @throws IOException
+	 *             Failed to create files
+	 */
+	@Test
+	public void deleteBackupFiles() throws IOException {
+		File original = folder.newFile("0.log");
+		File backup = folder.newFile("0.log.gz");
+
+		LogFileIndex index = new LogFileIndex(Collections.<FileTuple>emptyList(), ".gz", 0);
+		index.add(original.getPath());
+
+		assertThat(index.getFiles()).extracting(FileTuple::getBackup).containsExactly(backup);
+
+		index.deleteObsoleteFiles();
+
+		assertThat(original).doesNotExist();
+		assertThat(backup).doesNotExist();
+		assertThat(index.getFiles()).isEmpty();
+	}
+
+	/**
+	 * Creates a file tuple without separate backup file.
+	 *
+	 * @param file
+	 *            Original file
+	 * @return Created file tuple
+	 */
+	private static FileTuple tuple(final File file) {
+		return new FileTuple(file, file);
+	}
+
+}
@@ -16,9 +16,11 @@ package org.tinylog.pattern;
 import java.io.IOException;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Test;
 import org.mockito.ArgumentCaptor;
@@ -229,6 +231,70 @@ public final class ExceptionTokenTest {
 		assertThat(captor.getValue()).startsWith(RuntimeException.class.getName() + ": Test12");
 	}
 
+	/**
+	 * Verifies that stack trace elements of native methods and stack trace elements with missing file names or line
+	 * numbers are rendered like in {@link Throwable#printStackTrace()}.
+	 */
+	@Test
+	public void renderIncompleteStackTraceElements() {
+		Exception exception = new RuntimeException();
+		exception.setStackTrace(new StackTraceElement[] {
+			new StackTraceElement("a.B", "native", "B.java", -2),
+			new StackTraceElement("a.B", "unknown", null, -1),
+			new StackTraceElement("a.B", "noLine", "B.java", -1),
+			new StackTraceElement("a.B", "complete", "B.java", 42)
+		});
+
+		ExceptionToken token = new ExceptionToken(Collections.emptyList());
+
+		assertThat(render(token, exception)).isEqualTo(
+			RuntimeException.class.getName() + System.lineSeparator()
+				+ "\tat a.B.native(Native Method)" + System.lineSeparator()
+				+ "\tat a.B.unknown(Unknown Source)" + System.lineSeparator()
+				+ "\tat a.B.noLine(B.java)" + System.lineSeparator()
+				+ "\tat a.B.complete(B.java:42)"
+		);
+	}
+
+	/**
+	 * Verifies that repeatedly logged exceptions with the same origin are rendered only once.
+	 */
+	@Test
+	public void renderRepeatedExceptionFromCache() {
+		AtomicInteger counter = new AtomicInteger();
+		List<ThrowableFilter> filters = Collections.singletonList(origin -> {
+			counter.incrementAndGet();
+			return origin;
+		});
+
+		ExceptionToken token = new ExceptionToken(filters);
+
+		List<String> results = new ArrayList<>();
+		for (int i = 0; i < 3; ++i) {
+			results.add(render(token, new RuntimeException("Test")));
+		}
+
+		assertThat(results).containsOnly(results.get(0));
+		assertThat(results.get(0)).startsWith(RuntimeException.class.getName() + ": Test");
+		assertThat(counter).hasValue(1);
+	}
+
+	/**
+	 * Verifies that exceptions with the same stack trace but different messages are rendered separately.
+	 */
+	@Test
+	public void renderExceptionsWithDifferentMessages() {
+		ExceptionToken token = new ExceptionToken(Collections.emptyList());
+
+		List<String> results = new ArrayList<>();
+		for (String message : Arrays.asList("First", "Second")) {
+			results.add(render(token, new RuntimeException(message)));
+		}
+
+		assertThat(results.get(0)).startsWith(RuntimeException.class.getName() + ": First");
+		assertThat(results.get(1)).startsWith(RuntimeException.class.getName() + ": Second");
+	}
+
 	/**
 	 * Renders a token.
 	 *
@@ -22,6 +22,7 @@ import java.time.temporal.ChronoUnit;
 
 import org.junit.Rule;
 import org.junit.Test;
+import org.powermock.reflect.Whitebox;
 import org.tinylog.Level;
 import org.tinylog.core.LogEntry;
 import org.tinylog.rules.SystemStreamCollector;
@@ -496,6 +497,33 @@ public final class FormatPatternParserTest {
 		assertThat(render("{{message}}", LogEntryBuilder.empty().message("Hello World!").create())).isEqualTo("Hello World!");
 	}
 
+	/**
+	 * Verifies that adjacent plain texts are fused into a single plain text token.
+	 */
+	@Test
+	public void fusedPlainText() {
+		Token token = new FormatPatternParser(null).parse("<{opening-curly-bracket}{pipe}{closing-curly-bracket}>");
+		assertThat(token).isInstanceOf(PlainTextToken.class);
+
+		StringBuilder builder = new StringBuilder();
+		token.render(LogEntryBuilder.empty().create(), builder);
+		assertThat(builder).hasToString("<{|}>");
+	}
+
+	/**
+	 * Verifies that plain texts between placeholders are fused and empty plain texts are dropped.
+	 */
+	@Test
+	public void fusedPlainTextAfterPlaceholder() {
+		Token token = new FormatPatternParser(null).parse("{level}{pipe}{pipe}");
+		assertThat(token).isInstanceOf(BundleToken.class);
+		assertThat((Token[]) Whitebox.getInternalState(token, "tokens")).hasSize(2);
+
+		StringBuilder builder = new StringBuilder();
+		token.render(LogEntryBuilder.empty().level(Level.INFO).create(), builder);
+		assertThat(builder).hasToString("INFO||");
+	}
+
 	/**
 	 * Verifies that a missing opening curly bracket will produce an error.
 	 */
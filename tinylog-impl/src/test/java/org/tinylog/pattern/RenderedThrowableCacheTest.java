@@ -0,0 +1,149 @@
+/*
+ * Copyright 2022 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.pattern;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.tinylog.throwable.ThrowableData;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link RenderedThrowableCache}.
+ */
+public final class RenderedThrowableCacheTest {
+
+	/**
+	 * Verifies that throwables with the same class, message, and stack trace produce equal keys.
+	 */
+	@Test
+	public void equalKeysForSameOrigin() {
+		List<RenderedThrowableCache.Key> keys = new ArrayList<>();
+		for (int i = 0; i < 2; ++i) {
+			keys.add(RenderedThrowableCache.createKey(new RuntimeException("Test", new IllegalStateException())));
+		}
+
+		assertThat(keys.get(0)).isEqualTo(keys.get(1)).hasSameHashCodeAs(keys.get(1));
+	}
+
+	/**
+	 * Verifies that throwables with different messages produce different keys.
+	 */
+	@Test
+	public void differentKeysForDifferentMessages() {
+		List<RenderedThrowableCache.Key> keys = new ArrayList<>();
+		for (int i = 0; i < 2; ++i) {
+			keys.add(RenderedThrowableCache.createKey(new RuntimeException("Test " + i)));
+		}
+
+		assertThat(keys.get(0)).isNotEqualTo(keys.get(1));
+	}
+
+	/**
+	 * Verifies that throwables with different cause throwables produce different keys.
+	 */
+	@Test
+	public void differentKeysForDifferentCauses() {
+		List<RenderedThrowableCache.Key> keys = new ArrayList<>();
+		for (Throwable cause : new Throwable[] { new IllegalStateException(), new IllegalArgumentException() }) {
+			keys.add(RenderedThrowableCache.createKey(new RuntimeException("Test", cause)));
+		}
+
+		assertThat(keys.get(0)).isNotEqualTo(keys.get(1));
+	}
+
+	/**
+	 * Verifies that no key will be created for throwables with a circular cause chain.
+	 */
+	@Test
+	public void noKeyForCircularCauses() {
+		RuntimeException first = new RuntimeException();
+		RuntimeException second = new RuntimeException(first);
+		first.initCause(second);
+
+		assertThat(RenderedThrowableCache.createKey(first)).isNull();
+	}
+
+	/**
+	 * Verifies that stored rendered throwables can be received.
+	 */
+	@Test
+	public void storeAndReceive() {
+		RenderedThrowableCache cache = new RenderedThrowableCache(2);
+		RuntimeException exception = new RuntimeException();
+		RenderedThrowableCache.Key key = RenderedThrowableCache.createKey(exception);
+
+		assertThat(cache.get(exception)).isNull();
+		assertThat(cache.get(key)).isNull();
+		cache.put(exception, key, "Rendered");
+		assertThat(cache.get(exception)).isEqualTo("Rendered");
+		assertThat(cache.get(key)).isEqualTo("Rendered");
+	}
+
+	/**
+	 * Verifies that a rendered throwable can be received by its instance only, if there is no key.
+	 */
+	@Test
+	public void storeAndReceiveWithoutKey() {
+		RenderedThrowableCache cache = new RenderedThrowableCache(2);
+		RuntimeException exception = new RuntimeException();
+
+		cache.put(exception, null, "Rendered");
+		assertThat(cache.get(exception)).isEqualTo("Rendered");
+		assertThat(cache.get(new RuntimeException())).isNull();
+	}
+
+	/**
+	 * Verifies that storing an entry replaces the previous entry in the same slot.
+	 */
+	@Test
+	public void replaceEntryInSameSlot() {
+		RenderedThrowableCache cache = new RenderedThrowableCache(1);
+		RuntimeException[] exceptions = { new RuntimeException("1"), new RuntimeException("2") };
+		RenderedThrowableCache.Key first = RenderedThrowableCache.createKey(exceptions[0]);
+		RenderedThrowableCache.Key second = RenderedThrowableCache.createKey(exceptions[1]);
+
+		cache.put(exceptions[0], first, "1");
+		cache.put(exceptions[1], second, "2");
+
+		assertThat(cache.get(exceptions[0])).isNull();
+		assertThat(cache.get(first)).isNull();
+		assertThat(cache.get(exceptions[1])).isEqualTo("2");
+		assertThat(cache.get(second)).isEqualTo("2");
+	}
+
+	/**
+	 * Verifies that a key provides the class names, messages, and stack traces of a throwable and its cause throwables
+	 * for rendering.
+	 */
+	@Test
+	public void throwableDataOfKey() {
+		IllegalStateException cause = new IllegalStateException();
+		RuntimeException exception = new RuntimeException("Test", cause);
+
+		ThrowableData data = RenderedThrowableCache.createKey(exception).getThrowable();
+		assertThat(data.getClassName()).isEqualTo(RuntimeException.class.getName());
+		assertThat(data.getMessage()).isEqualTo("Test");
+		assertThat(data.getStackTrace()).containsExactly(exception.getStackTrace());
+
+		ThrowableData causeData = data.getCause();
+		assertThat(causeData.getClassName()).isEqualTo(IllegalStateException.class.getName());
+		assertThat(causeData.getMessage()).isNull();
+		assertThat(causeData.getStackTrace()).containsExactly(cause.getStackTrace());
+		assertThat(causeData.getCause()).isNull();
+	}
+
+}
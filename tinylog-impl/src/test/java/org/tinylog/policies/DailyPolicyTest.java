@@ -192,6 +192,21 @@ public final class DailyPolicyTest {
 			assertThat(policy.continueCurrentFile(null)).isFalse();
 		}
 
+		/**
+		 * Verifies that the next rollover event is provided as deadline and will be updated on reset.
+		 */
+		@Test
+		public void deadline() {
+			setTime(LocalDate.of(1985, 6, 3), LocalTime.of(12, 0));
+			DailyPolicy policy = new DailyPolicy(null);
+			assertThat(policy.getDeadline()).isEqualTo(asEpochMilliseconds(LocalDate.of(1985, 6, 4), LocalTime.of(0, 0)));
+			assertThat(policy.continueCurrentFile(Integer.MAX_VALUE)).isTrue();
+
+			setTime(LocalDate.of(1985, 6, 4), LocalTime.of(0, 1));
+			policy.reset();
+			assertThat(policy.getDeadline()).isEqualTo(asEpochMilliseconds(LocalDate.of(1985, 6, 5), LocalTime.of(0, 0)));
+		}
+
 		/**
 		 * Sets the current date and time.
 		 * 
@@ -68,6 +68,22 @@ public final class DynamicPolicyTest {
 		assertThat(policy.continueCurrentFile(new byte[0])).isTrue();
 	}
 
+	/**
+	 * Verifies that the current log file will be continued until triggering a manual reset for length based evaluation.
+	 */
+	@Test
+	public void continueCurrentFileByLength() {
+		DynamicPolicy policy = new DynamicPolicy(null);
+		assertThat(policy.continueCurrentFile(0)).isTrue();
+		assertThat(policy.getDeadline()).isEqualTo(Long.MAX_VALUE);
+
+		DynamicPolicy.setReset();
+		assertThat(policy.continueCurrentFile(0)).isFalse();
+
+		policy.reset();
+		assertThat(policy.continueCurrentFile(0)).isTrue();
+	}
+
 	/**
 	 * Verifies that the reset() method can be executed without throwing any exception.
 	 */
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2022 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.policies;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalMatchers.aryEq;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for {@link PolicyEvaluator}.
+ */
+public final class PolicyEvaluatorTest {
+
+	/**
+	 * Verifies that length based policies will be evaluated by the length of log entries.
+	 */
+	@Test
+	public void evaluateByLength() {
+		LengthBasedPolicy policy = mockLengthBasedPolicy(Long.MAX_VALUE);
+		when(policy.continueCurrentFile(anyInt())).thenReturn(true, false);
+
+		PolicyEvaluator evaluator = new PolicyEvaluator(Collections.singletonList(policy));
+		assertThat(evaluator.continueCurrentFile(new byte[42], 42)).isTrue();
+		assertThat(evaluator.continueCurrentFile(new byte[100], 42)).isFalse();
+
+		verify(policy, times(2)).continueCurrentFile(42);
+		verify(policy, never()).continueCurrentFile(any(byte[].class));
+	}
+
+	/**
+	 * Verifies that log entries will be passed as byte arrays, if at least one policy is not length based.
+	 */
+	@Test
+	public void evaluateByByteArray() {
+		LengthBasedPolicy first = mockLengthBasedPolicy(Long.MAX_VALUE);
+		when(first.continueCurrentFile(any(byte[].class))).thenReturn(true);
+		Policy second = mock(Policy.class);
+		when(second.continueCurrentFile(any(byte[].class))).thenReturn(false);
+
+		byte[] data = new byte[] {1};
+		PolicyEvaluator evaluator = new PolicyEvaluator(Arrays.asList(first, second));
+		assertThat(evaluator.continueCurrentFile(data, 1)).isFalse();
+
+		verify(first).continueCurrentFile(same(data));
+		verify(second).continueCurrentFile(same(data));
+		verify(first, never()).continueCurrentFile(anyInt());
+	}
+
+	/**
+	 * Verifies that only the log entry will be passed to policies that are not length based, if the log entry is
+	 * passed in a larger buffer.
+	 */
+	@Test
+	public void evaluateByByteArrayFromBuffer() {
+		Policy policy = mock(Policy.class);
+		when(policy.continueCurrentFile(any(byte[].class))).thenReturn(true);
+
+		PolicyEvaluator evaluator = new PolicyEvaluator(Collections.singletonList(policy));
+		assertThat(evaluator.continueCurrentFile(new byte[] {1, 2, 3, 4}, 2)).isTrue();
+
+		verify(policy).continueCurrentFile(aryEq(new byte[] {1, 2}));
+	}
+
+	/**
+	 * Verifies that the earliest deadline of all policies triggers a rollover.
+	 */
+	@Test
+	public void evaluateDeadline() {
+		LengthBasedPolicy past = mockLengthBasedPolicy(System.currentTimeMillis() - 1000);
+		LengthBasedPolicy future = mockLengthBasedPolicy(Long.MAX_VALUE);
+		when(past.continueCurrentFile(anyInt())).thenReturn(true);
+		when(future.continueCurrentFile(anyInt())).thenReturn(true);
+
+		PolicyEvaluator evaluator = new PolicyEvaluator(Arrays.asList(past, future));
+		assertThat(evaluator.continueCurrentFile(new byte[1], 1)).isFalse();
+
+		when(past.getDeadline()).thenReturn(Long.MAX_VALUE);
+		evaluator.reset();
+		assertThat(evaluator.continueCurrentFile(new byte[1], 1)).isTrue();
+
+		verify(past).reset();
+		verify(future).reset();
+	}
+
+	/**
+	 * Verifies that an existing log file can only be continued, if all policies agree.
+	 */
+	@Test
+	public void continueExistingFile() {
+		LengthBasedPolicy first = mockLengthBasedPolicy(Long.MAX_VALUE);
+		LengthBasedPolicy second = mockLengthBasedPolicy(Long.MAX_VALUE);
+		when(first.continueExistingFile("test.log")).thenReturn(true);
+		when(second.continueExistingFile("test.log")).thenReturn(false);
+
+		assertThat(new PolicyEvaluator(Collections.singletonList(first)).continueExistingFile("test.log")).isTrue();
+		assertThat(new PolicyEvaluator(Arrays.asList(first, second)).continueExistingFile("test.log")).isFalse();
+	}
+
+	/**
+	 * Creates a mocked length based policy.
+	 *
+	 * @param deadline
+	 *            Deadline to return
+	 * @return Mocked policy
+	 */
+	private static LengthBasedPolicy mockLengthBasedPolicy(final long deadline) {
+		LengthBasedPolicy policy = mock(LengthBasedPolicy.class);
+		when(policy.getDeadline()).thenReturn(deadline);
+		return policy;
+	}
+
+}
@@ -150,6 +150,24 @@ public final class SizePolicyTest {
 			assertThat(policy.continueCurrentFile(new byte[1])).isTrue();
 		}
 
+		/**
+		 * Verifies that log entries can be evaluated by their length only.
+		 *
+		 * @throws IOException
+		 *             Failed creating temporary file
+		 */
+		@Test
+		public void continueByLength() throws IOException {
+			String file = createTemporaryFile(size - 1);
+			SizePolicy policy = new SizePolicy(argument);
+			assertThat(policy.continueExistingFile(file)).isTrue();
+			assertThat(policy.continueCurrentFile(1)).isTrue();
+			assertThat(policy.continueCurrentFile(1)).isFalse();
+			policy.reset();
+			assertThat(policy.continueCurrentFile(size)).isTrue();
+			assertThat(policy.getDeadline()).isEqualTo(Long.MAX_VALUE);
+		}
+
 		/**
 		 * Creates a new temporary file. The created file will be deleted automatically when the virtual machine
 		 * terminates.
@@ -54,6 +54,16 @@ public final class StartupPolicyTest {
 		assertThat(new StartupPolicy(null).continueCurrentFile(new byte[0])).isTrue();
 	}
 
+	/**
+	 * Verifies that the current log file will be always continued for length based evaluation.
+	 */
+	@Test
+	public void continueCurrentFileByLength() {
+		StartupPolicy policy = new StartupPolicy(null);
+		assertThat(policy.continueCurrentFile(Integer.MAX_VALUE)).isTrue();
+		assertThat(policy.getDeadline()).isEqualTo(Long.MAX_VALUE);
+	}
+
 	/**
 	 * Verifies that the reset() method can be executed without throwing any exception.
 	 */
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2022 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.throwable;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link FilteredStackTrace}.
+ */
+public final class FilteredStackTraceTest {
+
+	private static final List<StackTraceElement> ORIGIN = Arrays.asList(
+		new StackTraceElement("a.A", "first", "A.java", 1),
+		new StackTraceElement("b.B", "second", "B.java", 2),
+		new StackTraceElement("c.C", "third", "C.java", 3)
+	);
+
+	/**
+	 * Verifies that only the selected stack trace elements are provided.
+	 */
+	@Test
+	public void selectedElements() {
+		FilteredStackTrace stackTrace = new FilteredStackTrace(ORIGIN, new int[] { 0, 2, 0 }, 2);
+		assertThat(stackTrace).containsExactly(ORIGIN.get(0), ORIGIN.get(2));
+	}
+
+	/**
+	 * Verifies that a view without any selected stack trace elements is empty.
+	 */
+	@Test
+	public void noSelectedElements() {
+		FilteredStackTrace stackTrace = new FilteredStackTrace(ORIGIN, new int[3], 0);
+		assertThat(stackTrace).isEmpty();
+	}
+
+	/**
+	 * Verifies that accessing an index beyond the selected stack trace elements fails.
+	 */
+	@Test
+	public void indexOutOfBounds() {
+		FilteredStackTrace stackTrace = new FilteredStackTrace(ORIGIN, new int[] { 1, 0, 0 }, 1);
+		assertThatThrownBy(() -> stackTrace.get(1)).isInstanceOf(IndexOutOfBoundsException.class);
+		assertThatThrownBy(() -> stackTrace.get(-1)).isInstanceOf(IndexOutOfBoundsException.class);
+	}
+
+}
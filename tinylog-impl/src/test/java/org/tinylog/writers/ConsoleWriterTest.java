@@ -13,6 +13,10 @@
 
 package org.tinylog.writers;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
 import java.time.LocalDate;
 import java.util.Map;
 
@@ -22,12 +26,14 @@ import org.tinylog.Level;
 import org.tinylog.configuration.ServiceLoader;
 import org.tinylog.core.LogEntryValue;
 import org.tinylog.rules.SystemStreamCollector;
+import org.tinylog.util.JvmProcessBuilder;
 import org.tinylog.util.LogEntryBuilder;
 
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.tinylog.util.Maps.doubletonMap;
+import static org.tinylog.util.Maps.tripletonMap;
 
 /**
  * Tests for {@link ConsoleWriter}.
@@ -239,4 +245,78 @@ public final class ConsoleWriterTest {
 		writer.write(LogEntryBuilder.empty().level(Level.ERROR).message("Hello World!").date(LocalDate.now()).create());
 		assertThat(systemStream.consumeErrorOutput()).contains("Hello World!" + NEW_LINE);
 	}
+
+	/**
+	 * Verifies that log entries are written directly to the file descriptors of the output streams in the correct
+	 * order, if direct mode is enabled.
+	 *
+	 * @throws IOException
+	 *             Failed creating process or reading its output
+	 * @throws InterruptedException
+	 *             Interrupted while waiting for process
+	 */
+	@Test
+	public void directUnbufferedOutput() throws IOException, InterruptedException {
+		assertThat(runDirectOutput(false)).isEqualTo("A" + NEW_LINE + "B" + NEW_LINE + "C" + NEW_LINE + "D" + NEW_LINE);
+	}
+
+	/**
+	 * Verifies that buffered log entries keep their order across standard and error output stream, if direct mode is
+	 * enabled.
+	 *
+	 * @throws IOException
+	 *             Failed creating process or reading its output
+	 * @throws InterruptedException
+	 *             Interrupted while waiting for process
+	 */
+	@Test
+	public void directBufferedOutput() throws IOException, InterruptedException {
+		assertThat(runDirectOutput(true)).isEqualTo("A" + NEW_LINE + "B" + NEW_LINE + "C" + NEW_LINE + "D" + NEW_LINE);
+	}
+
+	/**
+	 * Writes alternately to standard and error output stream in direct mode. This main method is used to test the
+	 * direct mode in a separate process.
+	 *
+	 * @param arguments
+	 *            First element defines whether the output should be buffered
+	 */
+	public static void main(final String[] arguments) {
+		Map<String, String> properties = tripletonMap("format", "{message}", "direct", "true", "buffered", arguments[0]);
+		ConsoleWriter writer = new ConsoleWriter(properties);
+
+		writer.write(LogEntryBuilder.empty().level(Level.INFO).message("A").create());
+		writer.write(LogEntryBuilder.empty().level(Level.WARN).message("B").create());
+		writer.write(LogEntryBuilder.empty().level(Level.INFO).message("C").create());
+		writer.write(LogEntryBuilder.empty().level(Level.ERROR).message("D").create());
+
+		writer.close();
+	}
+
+	/**
+	 * Runs {@link #main(String[])} in a separate process and returns its combined standard and error output.
+	 *
+	 * @param buffered
+	 *            Defines whether the output should be buffered
+	 * @return Combined output of the process
+	 * @throws IOException
+	 *             Failed creating process or reading its output
+	 * @throws InterruptedException
+	 *             Interrupted while waiting for process
+	 */
+	private static String runDirectOutput(final boolean buffered) throws IOException, InterruptedException {
+		Process process = new JvmProcessBuilder(ConsoleWriterTest.class, Boolean.toString(buffered)).start();
+
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		try (InputStream stream = process.getInputStream()) {
+			byte[] buffer = new byte[1024];
+			for (int count = stream.read(buffer); count >= 0; count = stream.read(buffer)) {
+				output.write(buffer, 0, count);
+			}
+		}
+
+		process.waitFor();
+		return new String(output.toByteArray(), Charset.defaultCharset());
+	}
+
 }
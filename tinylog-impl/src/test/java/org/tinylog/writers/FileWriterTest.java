@@ -13,6 +13,7 @@
 
 package org.tinylog.writers;
 
+import java.io.File;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.Map;
@@ -157,6 +158,42 @@ public final class FileWriterTest {
 		assertThat(Whitebox.getInternalState(writer, ByteArrayWriter.class)).isNotInstanceOf(SynchronizedWriterDecorator.class);
 	}
 
+	/**
+	 * Verifies that the log file is not opened before the first log entry is written, if lazy opening is enabled.
+	 *
+	 * @throws IOException
+	 *             Failed writing to file
+	 */
+	@Test
+	public void lazyOpening() throws IOException {
+		File file = new File(FileSystem.createTemporaryFile());
+		file.delete();
+
+		FileWriter writer = new FileWriter(tripletonMap("file", file.getPath(), "format", "{message}", "lazy", "true"));
+		writer.flush();
+		assertThat(file).doesNotExist();
+
+		writer.write(LogEntryBuilder.empty().message("Hello World!").create());
+		writer.close();
+		assertThat(FileSystem.readFile(file.getPath())).isEqualTo("Hello World!" + NEW_LINE);
+	}
+
+	/**
+	 * Verifies that closing a lazy writer without any written log entries does not create the log file.
+	 *
+	 * @throws IOException
+	 *             Failed closing writer
+	 */
+	@Test
+	public void lazyClosingWithoutLogEntries() throws IOException {
+		File file = new File(FileSystem.createTemporaryFile());
+		file.delete();
+
+		FileWriter writer = new FileWriter(tripletonMap("file", file.getPath(), "format", "{message}", "lazy", "true"));
+		writer.close();
+		assertThat(file).doesNotExist();
+	}
+
 	/**
 	 * Verifies that a configured charset will be used for encoding text.
 	 *
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2022 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.writers;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link PreparedLogFile}.
+ */
+public final class PreparedLogFileTest {
+
+	/**
+	 * Temporary folder for creating files.
+	 */
+	@Rule
+	public final TemporaryFolder folder = new TemporaryFolder();
+
+	/**
+	 * Verifies that a prepared file can be renamed and stays open for writing.
+	 *
+	 * @throws IOException
+	 *             Failed to access files
+	 */
+	@Test
+	public void moveToTarget() throws IOException {
+		File current = new File(folder.getRoot(), "current.log");
+		File target = new File(folder.getRoot(), "next.log");
+
+		PreparedLogFile file = PreparedLogFile.create(current, null);
+		assertThat(file).isNotNull();
+		assertThat(folder.getRoot().list()).containsExactly(".current.log.next");
+
+		RandomAccessFile randomAccessFile = file.moveTo(target);
+		assertThat(randomAccessFile).isNotNull();
+		try {
+			randomAccessFile.write("Hello".getBytes(StandardCharsets.US_ASCII));
+		} finally {
+			randomAccessFile.close();
+		}
+
+		assertThat(target).hasContent("Hello");
+		assertThat(folder.getRoot().list()).containsExactly("next.log");
+	}
+
+	/**
+	 * Verifies that a prepared file can be moved into a not yet existing folder.
+	 *
+	 * @throws IOException
+	 *             Failed to access files
+	 */
+	@Test
+	public void moveToNewFolder() throws IOException {
+		File current = new File(folder.getRoot(), "current.log");
+		File target = new File(new File(folder.getRoot(), "sub"), "next.log");
+
+		RandomAccessFile randomAccessFile = PreparedLogFile.create(current, null).moveTo(target);
+		assertThat(randomAccessFile).isNotNull();
+		randomAccessFile.close();
+
+		assertThat(target).isFile();
+	}
+
+	/**
+	 * Verifies that a discarded file will be deleted.
+	 */
+	@Test
+	public void discard() {
+		File current = new File(folder.getRoot(), "current.log");
+
+		PreparedLogFile file = PreparedLogFile.create(current, null);
+		file.discard();
+
+		assertThat(folder.getRoot().list()).isEmpty();
+	}
+
+	/**
+	 * Verifies that a prepared file left behind from a previous run can be deleted, while other files are kept.
+	 *
+	 * @throws IOException
+	 *             Failed to access files
+	 */
+	@Test
+	public void deleteStale() throws IOException {
+		File current = new File(folder.getRoot(), "current.log");
+		assertThat(current.createNewFile()).isTrue();
+		assertThat(new File(folder.getRoot(), ".current.log.next").createNewFile()).isTrue();
+		assertThat(new File(folder.getRoot(), ".other.log.next").createNewFile()).isTrue();
+
+		PreparedLogFile.deleteStale(current);
+
+		assertThat(folder.getRoot().list()).containsExactlyInAnyOrder("current.log", ".other.log.next");
+	}
+
+}
@@ -0,0 +1,294 @@
+/*
+ * Copyright 2022 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.writers;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.tinylog.Level;
+import org.tinylog.configuration.ServiceLoader;
+import org.tinylog.core.LogEntryValue;
+import org.tinylog.rules.SystemStreamCollector;
+import org.tinylog.util.LogEntryBuilder;
+
+import static java.util.Collections.emptyMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link RingBufferWriter}.
+ */
+public final class RingBufferWriterTest {
+
+	private static final String NEW_LINE = System.lineSeparator();
+
+	/**
+	 * Redirects and collects system output streams.
+	 */
+	@Rule
+	public final SystemStreamCollector systemStream = new SystemStreamCollector(true);
+
+	/**
+	 * Verifies that the required log entry values of the delegate writer and the severity level are required.
+	 */
+	@Test
+	public void requiredLogEntryValues() {
+		RingBufferWriter writer = new RingBufferWriter(createProperties(10, null));
+		assertThat(writer.getRequiredLogEntryValues()).containsOnly(LogEntryValue.LEVEL, LogEntryValue.MESSAGE, LogEntryValue.EXCEPTION);
+	}
+
+	/**
+	 * Verifies that log entries below the trigger level are buffered and not output.
+	 *
+	 * @throws Exception
+	 *             Failed to output log entries
+	 */
+	@Test
+	public void bufferLogEntries() throws Exception {
+		RingBufferWriter writer = new RingBufferWriter(createProperties(10, null));
+		writer.write(LogEntryBuilder.empty().level(Level.DEBUG).message("First").create());
+		writer.write(LogEntryBuilder.empty().level(Level.WARN).message("Second").create());
+		writer.flush();
+
+		assertThat(systemStream.consumeStandardOutput()).isEmpty();
+	}
+
+	/**
+	 * Verifies that all buffered log entries are output in order of their occurrence, if a log entry with the trigger
+	 * level is written.
+	 *
+	 * @throws Exception
+	 *             Failed to output log entries
+	 */
+	@Test
+	public void dumpOnTriggerLevel() throws Exception {
+		RingBufferWriter writer = new RingBufferWriter(createProperties(10, null));
+		writer.write(LogEntryBuilder.empty().level(Level.DEBUG).message("First").create());
+		writer.write(LogEntryBuilder.empty().level(Level.INFO).message("Second").create());
+		writer.write(LogEntryBuilder.empty().level(Level.ERROR).message("Third").create());
+
+		assertThat(systemStream.consumeStandardOutput()).isEqualTo("First" + NEW_LINE + "Second" + NEW_LINE + "Third" + NEW_LINE);
+
+		writer.write(LogEntryBuilder.empty().level(Level.ERROR).message("Fourth").create());
+
+		assertThat(systemStream.consumeStandardOutput()).isEqualTo("Fourth" + NEW_LINE);
+	}
+
+	/**
+	 * Verifies that a custom trigger level can be defined.
+	 *
+	 * @throws Exception
+	 *             Failed to output log entries
+	 */
+	@Test
+	public void customTriggerLevel() throws Exception {
+		RingBufferWriter writer = new RingBufferWriter(createProperties(10, "warn"));
+		writer.write(LogEntryBuilder.empty().level(Level.INFO).message("First").create());
+		writer.write(LogEntryBuilder.empty().level(Level.WARN).message("Second").create());
+
+		assertThat(systemStream.consumeStandardOutput()).isEqualTo("First" + NEW_LINE + "Second" + NEW_LINE);
+	}
+
+	/**
+	 * Verifies that the oldest log entries are overwritten, if the ring buffer is full.
+	 *
+	 * @throws Exception
+	 *             Failed to output log entries
+	 */
+	@Test
+	public void overwriteOldestLogEntries() throws Exception {
+		RingBufferWriter writer = new RingBufferWriter(createProperties(2, null));
+		writer.write(LogEntryBuilder.empty().level(Level.DEBUG).message("First").create());
+		writer.write(LogEntryBuilder.empty().level(Level.DEBUG).message("Second").create());
+		writer.write(LogEntryBuilder.empty().level(Level.DEBUG).message("Third").create());
+		writer.dump();
+
+		assertThat(systemStream.consumeStandardOutput()).isEqualTo("Second" + NEW_LINE + "Third" + NEW_LINE);
+	}
+
+	/**
+	 * Verifies that buffered log entries can be output explicitly and are removed from the ring buffer afterwards.
+	 *
+	 * @throws Exception
+	 *             Failed to output log entries
+	 */
+	@Test
+	public void explicitDump() throws Exception {
+		RingBufferWriter writer = new RingBufferWriter(createProperties(10, null));
+		writer.write(LogEntryBuilder.empty().level(Level.DEBUG).message("Hello World!").create());
+		writer.dump();
+
+		assertThat(systemStream.consumeStandardOutput()).isEqualTo("Hello World!" + NEW_LINE);
+
+		writer.dump();
+
+		assertThat(systemStream.consumeStandardOutput()).isEmpty();
+	}
+
+	/**
+	 * Verifies that buffered log entries are output when closing the writer.
+	 *
+	 * @throws Exception
+	 *             Failed to output log entries
+	 */
+	@Test
+	public void dumpOnClose() throws Exception {
+		RingBufferWriter writer = new RingBufferWriter(createProperties(10, null));
+		writer.write(LogEntryBuilder.empty().level(Level.DEBUG).message("Hello World!").create());
+		writer.close();
+
+		assertThat(systemStream.consumeStandardOutput()).isEqualTo("Hello World!" + NEW_LINE);
+	}
+
+	/**
+	 * Verifies that the oldest log entries are overwritten, if the memory limit is exceeded, but the latest log entry
+	 * is always kept.
+	 *
+	 * @throws Exception
+	 *             Failed to output log entries
+	 */
+	@Test
+	public void overwriteOnExceededLimit() throws Exception {
+		Map<String, String> properties = createProperties(10, null);
+		properties.put("limit", "200 bytes");
+
+		RingBufferWriter writer = new RingBufferWriter(properties);
+		writer.write(LogEntryBuilder.empty().level(Level.DEBUG).message("First").create());
+		writer.write(LogEntryBuilder.empty().level(Level.DEBUG).message("Second").create());
+		writer.dump();
+
+		assertThat(systemStream.consumeStandardOutput()).isEqualTo("First" + NEW_LINE + "Second" + NEW_LINE);
+
+		writer.write(LogEntryBuilder.empty().level(Level.DEBUG).message("First").create());
+		writer.write(LogEntryBuilder.empty().level(Level.DEBUG).message(repeat('x', 100)).create());
+		writer.write(LogEntryBuilder.empty().level(Level.DEBUG).message("Third").create());
+		writer.dump();
+
+		assertThat(systemStream.consumeStandardOutput()).isEqualTo("Third" + NEW_LINE);
+	}
+
+	/**
+	 * Verifies that a log entry with the trigger level outputs only the buffered log entries of its own thread, if
+	 * there is one ring buffer per thread.
+	 *
+	 * @throws Exception
+	 *             Failed to output log entries
+	 */
+	@Test
+	public void ringBufferPerThread() throws Exception {
+		Map<String, String> properties = createProperties(10, null);
+		properties.put("perthread", "true");
+
+		Thread other = new Thread();
+		RingBufferWriter writer = new RingBufferWriter(properties);
+		assertThat(writer.getRequiredLogEntryValues()).contains(LogEntryValue.THREAD);
+
+		writer.write(LogEntryBuilder.empty().thread(other).level(Level.DEBUG).message("Other").create());
+		writer.write(LogEntryBuilder.empty().thread(Thread.currentThread()).level(Level.DEBUG).message("First").create());
+		writer.write(LogEntryBuilder.empty().thread(Thread.currentThread()).level(Level.ERROR).message("Second").create());
+
+		assertThat(systemStream.consumeStandardOutput()).isEqualTo("First" + NEW_LINE + "Second" + NEW_LINE);
+
+		writer.close();
+
+		assertThat(systemStream.consumeStandardOutput()).isEqualTo("Other" + NEW_LINE);
+	}
+
+	/**
+	 * Verifies that a missing delegate writer is rejected.
+	 */
+	@Test
+	public void missingDelegate() {
+		assertThatThrownBy(() -> new RingBufferWriter(emptyMap()))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("Delegate");
+	}
+
+	/**
+	 * Verifies that an invalid capacity is rejected.
+	 */
+	@Test
+	public void invalidCapacity() {
+		Map<String, String> properties = createProperties(10, null);
+
+		properties.put("capacity", "0");
+		assertThatThrownBy(() -> new RingBufferWriter(properties)).isInstanceOf(IllegalArgumentException.class);
+
+		properties.put("capacity", "abc");
+		assertThatThrownBy(() -> new RingBufferWriter(properties)).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	/**
+	 * Verifies that an invalid memory limit is rejected.
+	 */
+	@Test
+	public void invalidLimit() {
+		Map<String, String> properties = createProperties(10, null);
+
+		properties.put("limit", "0KB");
+		assertThatThrownBy(() -> new RingBufferWriter(properties)).isInstanceOf(IllegalArgumentException.class);
+
+		properties.put("limit", "abc");
+		assertThatThrownBy(() -> new RingBufferWriter(properties)).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	/**
+	 * Verifies that writer is registered as service under the name "ring buffer".
+	 */
+	@Test
+	public void isRegistered() {
+		Writer writer = new ServiceLoader<>(Writer.class, Map.class).create("ring buffer", createProperties(10, null));
+		assertThat(writer).isInstanceOf(RingBufferWriter.class);
+	}
+
+	/**
+	 * Creates properties for a ring buffer writer with a console writer as delegate writer.
+	 *
+	 * @param capacity
+	 *            Capacity of the ring buffer
+	 * @param trigger
+	 *            Trigger severity level or {@code null} for default
+	 * @return Created properties
+	 */
+	private static Map<String, String> createProperties(final int capacity, final String trigger) {
+		Map<String, String> properties = new HashMap<>();
+		properties.put("delegate", "console");
+		properties.put("delegate.stream", "out");
+		properties.put("format", "{message}");
+		properties.put("capacity", Integer.toString(capacity));
+		if (trigger != null) {
+			properties.put("trigger", trigger);
+		}
+		return properties;
+	}
+
+	/**
+	 * Creates a text by repeating a character.
+	 *
+	 * @param character
+	 *            Character to repeat
+	 * @param count
+	 *            Number of repetitions
+	 * @return Created text
+	 */
+	private static String repeat(final char character, final int count) {
+		char[] characters = new char[count];
+		Arrays.fill(characters, character);
+		return new String(characters);
+	}
+
+}
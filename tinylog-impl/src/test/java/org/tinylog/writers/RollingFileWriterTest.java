@@ -16,12 +16,14 @@ package org.tinylog.writers;
 import java.io.File;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
+import org.mockito.InOrder;
 import org.powermock.reflect.Whitebox;
 import org.tinylog.configuration.ServiceLoader;
 import org.tinylog.converters.FileConverter;
@@ -36,6 +38,8 @@ import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.verify;
 import static org.powermock.api.mockito.PowerMockito.mock;
 import static org.powermock.api.mockito.PowerMockito.when;
@@ -167,6 +171,29 @@ public final class RollingFileWriterTest {
 			.isEqualTo("Hello World!" + NEW_LINE + "Goodbye!" + NEW_LINE);
 	}
 
+	/**
+	 * Verifies that short and very long log entries can be written in any order.
+	 *
+	 * @throws IOException
+	 *             Failed opening file
+	 * @throws InterruptedException
+	 *             Interrupted while waiting for the converter
+	 */
+	@Test
+	public void shortAndLongLogEntries() throws IOException, InterruptedException {
+		String file = FileSystem.createTemporaryFile();
+		String longMessage = String.join(" ", Collections.nCopies(1000, "Hello World!"));
+
+		RollingFileWriter writer = new RollingFileWriter(tripletonMap("file", file, "format", "{message}", "charset", "UTF-8"));
+		writer.write(LogEntryBuilder.empty().message("Hello World!").create());
+		writer.write(LogEntryBuilder.empty().message(longMessage).create());
+		writer.write(LogEntryBuilder.empty().message("Goodbye!").create());
+		writer.close();
+
+		assertThat(FileSystem.readFile(file, StandardCharsets.UTF_8))
+			.isEqualTo("Hello World!" + NEW_LINE + longMessage + NEW_LINE + "Goodbye!" + NEW_LINE);
+	}
+
 	/**
 	 * Verifies that the default pattern contains a minimum set of information.
 	 *
@@ -472,6 +499,151 @@ public final class RollingFileWriterTest {
 		writer.close();
 	}
 
+	/**
+	 * Verifies that log files are rolled over correctly, if asynchronous rollover is enabled.
+	 *
+	 * @throws IOException
+	 *             Failed access to temporary folder or files
+	 * @throws InterruptedException
+	 *             Interrupted while waiting for the converter
+	 */
+	@Test
+	public void asynchronousRollover() throws IOException, InterruptedException {
+		File file1 = new File(folder.getRoot(), "0");
+		File file2 = new File(folder.getRoot(), "1");
+		File file3 = new File(folder.getRoot(), "2");
+
+		Map<String, String> properties = new HashMap<>();
+		properties.put("file", new File(folder.getRoot(), "{count}").getAbsolutePath());
+		properties.put("format", "{message}");
+		properties.put("policies", "size: 10");
+		properties.put("backups", "2");
+		properties.put("asyncrollover", "true");
+
+		RollingFileWriter writer = new RollingFileWriter(properties);
+		try {
+			writer.write(LogEntryBuilder.empty().message("First").create());
+			writer.write(LogEntryBuilder.empty().message("Second").create());
+			writer.write(LogEntryBuilder.empty().message("Third").create());
+			writer.write(LogEntryBuilder.empty().message("Fourth").create());
+		} finally {
+			writer.close();
+		}
+
+		assertThat(file1).doesNotExist();
+		assertThat(file2).hasContent("Second" + NEW_LINE + "Third" + NEW_LINE);
+		assertThat(file3).hasContent("Fourth" + NEW_LINE);
+		assertThat(folder.getRoot().list()).containsExactlyInAnyOrder("1", "2");
+	}
+
+	/**
+	 * Verifies that prepared log files left behind from a previous run, for example after a crash, are deleted on
+	 * startup.
+	 *
+	 * @throws IOException
+	 *             Failed access to temporary folder or files
+	 * @throws InterruptedException
+	 *             Interrupted while waiting for the converter
+	 */
+	@Test
+	public void deleteStalePreparedLogFiles() throws IOException, InterruptedException {
+		File file = new File(folder.getRoot(), "0");
+		File stale = new File(folder.getRoot(), ".0.next");
+		assertThat(file.createNewFile()).isTrue();
+		assertThat(stale.createNewFile()).isTrue();
+
+		Map<String, String> properties = new HashMap<>();
+		properties.put("file", new File(folder.getRoot(), "{count}").getAbsolutePath());
+		properties.put("format", "{message}");
+
+		RollingFileWriter writer = new RollingFileWriter(properties);
+		writer.close();
+
+		assertThat(stale).doesNotExist();
+		assertThat(file).exists();
+	}
+
+	/**
+	 * Verifies that the latest log file will be linked by the background thread, if asynchronous rollover is enabled.
+	 *
+	 * @throws IOException
+	 *             Failed access to temporary folder or files
+	 * @throws InterruptedException
+	 *             Interrupted while waiting for the converter
+	 */
+	@Test
+	public void asynchronousRolloverWithLink() throws IOException, InterruptedException {
+		File latest = new File(folder.getRoot(), "latest");
+
+		Map<String, String> properties = new HashMap<>();
+		properties.put("file", new File(folder.getRoot(), "{count}.log").getAbsolutePath());
+		properties.put("latest", latest.getAbsolutePath());
+		properties.put("format", "{message}");
+		properties.put("policies", "size: 10");
+		properties.put("asyncrollover", "true");
+
+		RollingFileWriter writer = new RollingFileWriter(properties);
+		try {
+			writer.write(LogEntryBuilder.empty().message("First").create());
+			writer.write(LogEntryBuilder.empty().message("Second").create());
+		} finally {
+			writer.close();
+		}
+
+		assertThat(latest).hasContent("Second" + NEW_LINE);
+	}
+
+	/**
+	 * Verifies that the file converter is opened for a new log file before any data is written to it, if asynchronous
+	 * rollover is enabled. Log entries, which are issued while the file converter is still being closed, must be retained.
+	 *
+	 * @throws IOException
+	 *             Failed access to temporary folder or files
+	 * @throws InterruptedException
+	 *             Interrupted while waiting for the converter
+	 */
+	@Test
+	public void asynchronousRolloverWithFileConverter() throws IOException, InterruptedException {
+		FileConverter converter = mock(FileConverter.class);
+		when(converter.write(any())).then(invocation -> invocation.getArgument(0));
+		doAnswer(invocation -> {
+			Thread.sleep(100);
+			return null;
+		}).when(converter).close();
+		WrapperFileConverter.converter = converter;
+
+		File file1 = new File(folder.getRoot(), "0");
+		File file2 = new File(folder.getRoot(), "1");
+
+		Map<String, String> properties = new HashMap<>();
+		properties.put("file", new File(folder.getRoot(), "{count}").getAbsolutePath());
+		properties.put("format", "{message}");
+		properties.put("policies", "size: 10");
+		properties.put("convert", WrapperFileConverter.class.getName());
+		properties.put("asyncrollover", "true");
+
+		RollingFileWriter writer = new RollingFileWriter(properties);
+		try {
+			writer.write(LogEntryBuilder.empty().message("First").create());
+			writer.write(LogEntryBuilder.empty().message("Second").create());
+			writer.write(LogEntryBuilder.empty().message("Third").create());
+		} finally {
+			writer.close();
+		}
+
+		assertThat(file1).hasContent("First" + NEW_LINE);
+		assertThat(file2).hasContent("Second" + NEW_LINE + "Third" + NEW_LINE);
+
+		InOrder inOrder = inOrder(converter);
+		inOrder.verify(converter).open(file1.getAbsolutePath());
+		inOrder.verify(converter).write(("First" + NEW_LINE).getBytes(StandardCharsets.UTF_8));
+		inOrder.verify(converter).close();
+		inOrder.verify(converter).open(file2.getAbsolutePath());
+		inOrder.verify(converter).write(("Second" + NEW_LINE).getBytes(StandardCharsets.UTF_8));
+		inOrder.verify(converter).write(("Third" + NEW_LINE).getBytes(StandardCharsets.UTF_8));
+		inOrder.verify(converter).close();
+	}
+
 	/**
 	 * Verifies that an invalid charset will be reported as error.
 	 *
@@ -524,10 +696,9 @@ public final class RollingFileWriterTest {
 		String barFile = FileSystem.createTemporaryFile();
 
 		RollingFileWriter writer = new RollingFileWriter(tripletonMap(
-				"file", "{dynamic}",
+				"file", "{dynamic: " + fooFile + "}",
 				"format", "{message}",
 				"policies", "dynamic"));
-		DynamicSegment.setText(fooFile);
 		writer.write(LogEntryBuilder.empty().message("Hello World!").create());
 		DynamicSegment.setText(barFile);
 		writer.write(LogEntryBuilder.empty().message("Goodbye!").create());
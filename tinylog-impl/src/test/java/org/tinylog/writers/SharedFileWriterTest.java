@@ -208,6 +208,103 @@ public final class SharedFileWriterTest {
 			.matches(Pattern.quote("PREAMBLE" + NEW_LINE) + "(" + Pattern.quote(LOG_ENTRY_MESSAGE + NEW_LINE) + "){" + entries + "}");
 	}
 
+	/**
+	 * Verifies that multiple processes neither override an already existing file nor each other, if lock free mode is
+	 * enabled.
+	 *
+	 * @throws IOException
+	 *             Failed writing to file or creating process
+	 * @throws InterruptedException
+	 *             Interrupted while waiting for process
+	 */
+	@Test
+	public void lockFreeAppendingForMultipleProcesses() throws IOException, InterruptedException {
+		File file = new File(FileSystem.createTemporaryFile());
+		String path = file.getAbsolutePath();
+
+		if (!file.delete()) {
+			throw new IOException("Failed to delete temporary file: " + path);
+		}
+
+		List<Process> processes = new JvmProcessBuilder(SharedFileWriterTest.class, path, "true", "true").start(NUMBER_OF_PROCESSES);
+
+		Files.write(file.toPath(), Arrays.asList("PREAMBLE"));
+
+		for (Process process : processes) {
+			process.waitFor();
+		}
+
+		int entries = NUMBER_OF_PROCESSES * NUMBER_OF_LINES;
+		assertThat(FileSystem.readFile(path))
+			.hasLineCount(entries + 1)
+			.matches(Pattern.quote("PREAMBLE" + NEW_LINE) + "(" + Pattern.quote(LOG_ENTRY_MESSAGE + NEW_LINE) + "){" + entries + "}");
+	}
+
+	/**
+	 * Verifies that log entries will be immediately output, if lock free mode is enabled but neither buffering nor
+	 * writing thread.
+	 *
+	 * @throws IOException
+	 *             Failed writing to file
+	 */
+	@Test
+	public void lockFreeUnbufferedWriting() throws IOException {
+		String file = FileSystem.createTemporaryFile();
+		SharedFileWriter writer = new SharedFileWriter(tripletonMap("file", file, "format", "{message}", "lockfree", "true"));
+
+		writer.write(LogEntryBuilder.empty().message("Hello World!").create());
+		assertThat(FileSystem.readFile(file)).isEqualTo("Hello World!" + NEW_LINE);
+
+		writer.close();
+		assertThat(FileSystem.readFile(file)).isEqualTo("Hello World!" + NEW_LINE);
+	}
+
+	/**
+	 * Verifies that log entries are collected and output as batch while flushing, if lock free mode and writing thread
+	 * are enabled.
+	 *
+	 * @throws IOException
+	 *             Failed writing to file
+	 */
+	@Test
+	public void lockFreeBatchedWriting() throws IOException {
+		String file = FileSystem.createTemporaryFile();
+		Map<String, String> properties = tripletonMap("file", file, "format", "{message}", "lockfree", "true");
+		properties.put("writingthread", "true");
+		SharedFileWriter writer = new SharedFileWriter(properties);
+
+		writer.write(LogEntryBuilder.empty().message("Hello World!").create());
+		writer.write(LogEntryBuilder.empty().message("Goodbye!").create());
+		assertThat(FileSystem.readFile(file)).isEmpty();
+
+		writer.flush();
+		assertThat(FileSystem.readFile(file)).isEqualTo("Hello World!" + NEW_LINE + "Goodbye!" + NEW_LINE);
+
+		writer.close();
+		assertThat(FileSystem.readFile(file)).isEqualTo("Hello World!" + NEW_LINE + "Goodbye!" + NEW_LINE);
+	}
+
+	/**
+	 * Verifies that a configured charset will be used for encoding text, if lock free mode is enabled.
+	 *
+	 * @throws IOException
+	 *             Failed writing to file
+	 */
+	@Test
+	public void lockFreeDefinedCharset() throws IOException {
+		String file = FileSystem.createTemporaryFile();
+		Map<String, String> properties = tripletonMap("file", file, "format", "{message}", "charset", "UTF-16");
+		properties.put("lockfree", "true");
+
+		SharedFileWriter writer = new SharedFileWriter(properties);
+		writer.write(LogEntryBuilder.empty().message("Hello World!").create());
+		writer.write(LogEntryBuilder.empty().message("Goodbye!").create());
+		writer.close();
+
+		assertThat(FileSystem.readFile(file, StandardCharsets.UTF_16))
+			.isEqualTo("Hello World!" + NEW_LINE + "Goodbye!" + NEW_LINE);
+	}
+
 	/**
 	 * Verifies that writing works and underlying byte array writer is thread-safe, if writing thread is disable.
 	 *
@@ -356,7 +453,8 @@ public final class SharedFileWriterTest {
 	 * to the same file by multiple processes.
 	 *
 	 * @param arguments
-	 *            First element will be used as file name for target file and second element for defining append mode
+	 *            First element will be used as file name for target file, second element for defining append mode
+	 *            and the optional third element for enabling the lock free mode
 	 * @throws IOException
 	 *             Failed writing to target file
 	 */
@@ -367,6 +465,10 @@ public final class SharedFileWriterTest {
 		}
 
 		Map<String, String> properties = tripletonMap("file", arguments[0], "append", arguments[1], "format", "{message}");
+		if (arguments.length > 2) {
+			properties.put("lockfree", arguments[2]);
+		}
+
 		SharedFileWriter writer = new SharedFileWriter(properties);
 		LogEntry logEntry = LogEntryBuilder.prefilled(SharedFileWriterTest.class).message(LOG_ENTRY_MESSAGE).create();
 
@@ -14,9 +14,18 @@
 package org.tinylog.writers.raw;
 
 import java.io.IOException;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.junit.Test;
-
+import org.powermock.reflect.Whitebox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 
@@ -36,7 +45,7 @@ public final class SynchronizedWriterDecoratorTest {
 		ByteArrayWriter mock = mock(ByteArrayWriter.class);
 
 		byte[] data = new byte[0];
-		new SynchronizedWriterDecorator(mock, new Object()).readTail(data, 1, 2);
+		new SynchronizedWriterDecorator(mock, new ReentrantLock()).readTail(data, 1, 2);
 
 		verify(mock).readTail(data, 1, 2);
 	}
@@ -52,7 +61,7 @@ public final class SynchronizedWriterDecoratorTest {
 		ByteArrayWriter mock = mock(ByteArrayWriter.class);
 
 		byte[] data = new byte[0];
-		new SynchronizedWriterDecorator(mock, new Object()).write(data, 42);
+		new SynchronizedWriterDecorator(mock, new ReentrantLock()).write(data, 42);
 
 		verify(mock).write(data, 0, 42);
 	}
@@ -68,7 +77,7 @@ public final class SynchronizedWriterDecoratorTest {
 		ByteArrayWriter mock = mock(ByteArrayWriter.class);
 
 		byte[] data = new byte[0];
-		new SynchronizedWriterDecorator(mock, new Object()).write(data, 1, 42);
+		new SynchronizedWriterDecorator(mock, new ReentrantLock()).write(data, 1, 42);
 
 		verify(mock).write(data, 1, 42);
 	}
@@ -83,7 +92,7 @@ public final class SynchronizedWriterDecoratorTest {
 	public void truncate() throws IOException {
 		ByteArrayWriter mock = mock(ByteArrayWriter.class);
 
-		new SynchronizedWriterDecorator(mock, new Object()).truncate(42);
+		new SynchronizedWriterDecorator(mock, new ReentrantLock()).truncate(42);
 
 		verify(mock).truncate(42);
 	}
@@ -98,7 +107,7 @@ public final class SynchronizedWriterDecoratorTest {
 	public void flush() throws IOException {
 		ByteArrayWriter mock = mock(ByteArrayWriter.class);
 
-		new SynchronizedWriterDecorator(mock, new Object()).flush();
+		new SynchronizedWriterDecorator(mock, new ReentrantLock()).flush();
 
 		verify(mock).flush();
 	}
@@ -113,9 +122,72 @@ public final class SynchronizedWriterDecoratorTest {
 	public void close() throws IOException {
 		ByteArrayWriter mock = mock(ByteArrayWriter.class);
 
-		new SynchronizedWriterDecorator(mock, new Object()).close();
+		new SynchronizedWriterDecorator(mock, new ReentrantLock()).close();
+
+		verify(mock).close();
+	}
+
+	/**
+	 * Verifies that the lock is released, even if the underlying writer throws an exception.
+	 *
+	 * @throws IOException
+	 *             Failed writing to underlying writer
+	 */
+	@Test
+	public void releaseLockAfterFailure() throws IOException {
+		ByteArrayWriter mock = mock(ByteArrayWriter.class);
+		doThrow(new IOException()).when(mock).write(any(), anyInt(), anyInt());
+
+		ReentrantLock lock = new ReentrantLock();
+		SynchronizedWriterDecorator writer = new SynchronizedWriterDecorator(mock, lock);
+
+		assertThatThrownBy(() -> writer.write(new byte[1], 0, 1)).isInstanceOf(IOException.class);
+		assertThat(lock.isLocked()).isFalse();
+	}
+
+	/**
+	 * Verifies that the deprecated constructor with a plain mutex object is still supported and that decorators with
+	 * the same mutex object share the same lock.
+	 */
+	@Test
+	@SuppressWarnings("deprecation")
+	public void shareLockForSameMutex() {
+		Object mutex = new Object();
+		ByteArrayWriter mock = mock(ByteArrayWriter.class);
+
+		SynchronizedWriterDecorator first = new SynchronizedWriterDecorator(mock, mutex);
+		SynchronizedWriterDecorator second = new SynchronizedWriterDecorator(mock, mutex);
+		SynchronizedWriterDecorator other = new SynchronizedWriterDecorator(mock, new Object());
+
+		Lock lock = Whitebox.getInternalState(first, Lock.class);
+		assertThat(lock).isNotNull().isSameAs(Whitebox.getInternalState(second, Lock.class));
+		assertThat(lock).isNotSameAs(Whitebox.getInternalState(other, Lock.class));
+	}
+
+	/**
+	 * Verifies that all operations of a decorator with a plain mutex object hold the shared lock.
+	 *
+	 * @throws IOException
+	 *             Failed writing to underlying writer
+	 */
+	@Test
+	@SuppressWarnings("deprecation")
+	public void lockForMutex() throws IOException {
+		ByteArrayWriter mock = mock(ByteArrayWriter.class);
+		SynchronizedWriterDecorator writer = new SynchronizedWriterDecorator(mock, new Object());
+		ReentrantLock lock = (ReentrantLock) Whitebox.getInternalState(writer, Lock.class);
+
+		doAnswer(invocation -> {
+			assertThat(lock.isHeldByCurrentThread()).isTrue();
+			return null;
+		}).when(mock).write(any(), anyInt(), anyInt());
+
+		writer.write(new byte[1], 0, 1);
+		writer.close();
 
+		verify(mock).write(any(), anyInt(), anyInt());
 		verify(mock).close();
+		assertThat(lock.isLocked()).isFalse();
 	}
 
 }
@@ -19,12 +19,12 @@ import java.util.Map;
 import java.util.Map.Entry;
 
 import org.jboss.logging.MDC;
-import org.tinylog.provider.ContextProvider;
+import org.tinylog.provider.BulkContextProvider;
 
 /**
  * Adapter context provider based on JBoss Logging's {@link MDC}.
  */
-public final class JBossContextProvider implements ContextProvider {
+public final class JBossContextProvider implements BulkContextProvider {
 
 	/** */
 	public JBossContextProvider() {
@@ -55,6 +55,21 @@ public final class JBossContextProvider implements ContextProvider {
 		MDC.put(key, value);
 	}
 
+	@Override
+	public void putAll(final Map<String, ?> mapping) {
+		for (Entry<String, ?> entry : mapping.entrySet()) {
+			if (entry.getValue() != null) {
+				MDC.put(entry.getKey(), entry.getValue());
+			}
+		}
+	}
+
+	@Override
+	public void setMapping(final Map<String, ?> mapping) {
+		MDC.clear();
+		putAll(mapping);
+	}
+
 	@Override
 	public void remove(final String key) {
 		MDC.remove(key);
@@ -19,9 +19,12 @@ import org.jboss.logging.MDC;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
+import org.tinylog.ContextScope;
+import org.tinylog.provider.RestoringContextScope;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.entry;
+import static org.tinylog.util.Maps.doubletonMap;
 
 /**
  * Tests for {@link JBossContextProvider}.
@@ -100,6 +103,45 @@ public final class JBossContextProviderTest {
 		assertThat(MDC.getMap()).containsOnly(entry("test", "b"));
 	}
 
+	/**
+	 * Verifies that multiple values can be added at once.
+	 */
+	@Test
+	public void putAllValues() {
+		MDC.put("test", "a");
+
+		new JBossContextProvider().putAll(doubletonMap("pi", "3.14", "test", "b"));
+
+		assertThat(MDC.getMap()).containsOnly(entry("pi", "3.14"), entry("test", "b"));
+	}
+
+	/**
+	 * Verifies that all existing values can be replaced at once.
+	 */
+	@Test
+	public void setMapping() {
+		MDC.put("test", "a");
+
+		new JBossContextProvider().setMapping(doubletonMap("pi", "3.14", "e", "2.71"));
+
+		assertThat(MDC.getMap()).containsOnly(entry("pi", "3.14"), entry("e", "2.71"));
+	}
+
+	/**
+	 * Verifies that values of a generic scope are visible until the scope is closed.
+	 */
+	@Test
+	public void scope() {
+		MDC.put("test", "a");
+
+		JBossContextProvider provider = new JBossContextProvider();
+		try (ContextScope scope = new RestoringContextScope(provider, doubletonMap("pi", "3.14", "test", "b"))) {
+			assertThat(MDC.getMap()).containsOnly(entry("pi", "3.14"), entry("test", "b"));
+		}
+
+		assertThat(MDC.getMap()).containsOnly(entry("test", "a"));
+	}
+
 	/**
 	 * Verifies that existing values can be removed.
 	 */
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2022 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.jfr;
+
+import org.tinylog.Level;
+import org.tinylog.core.DiagnosticListener;
+import org.tinylog.writers.Writer;
+
+/**
+ * Fallback listener for Java versions without JDK Flight Recorder API. This listener ignores all events. On Java 11
+ * and later, the multi-release implementation commits JFR events instead.
+ */
+public final class JfrDiagnosticListener implements DiagnosticListener {
+
+	/** */
+	public JfrDiagnosticListener() {
+	}
+
+	@Override
+	public void flushed(final Writer writer, final long nanoseconds) {
+	}
+
+	@Override
+	public void rolledOver(final String fileName, final long nanoseconds) {
+	}
+
+	@Override
+	public void compressed(final String fileName, final long originalSize, final long compressedSize, final long nanoseconds) {
+	}
+
+	@Override
+	public void stalled(final int pendingEntries, final Level minimumLevel) {
+	}
+
+}
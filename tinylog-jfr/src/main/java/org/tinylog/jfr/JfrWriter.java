@@ -0,0 +1,63 @@
+/*
+ * Copyright 2022 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.jfr;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+
+import org.tinylog.Level;
+import org.tinylog.core.LogEntry;
+import org.tinylog.core.LogEntryValue;
+import org.tinylog.provider.InternalLogger;
+import org.tinylog.writers.AbstractWriter;
+
+/**
+ * Fallback writer for Java versions without JDK Flight Recorder API. This writer reports an error and discards all log
+ * entries. On Java 11 and later, the multi-release implementation commits log entries as JFR events instead.
+ */
+public final class JfrWriter extends AbstractWriter {
+
+	/** */
+	public JfrWriter() {
+		this(Collections.<String, String>emptyMap());
+	}
+
+	/**
+	 * @param properties
+	 *            Configuration for writer
+	 */
+	public JfrWriter(final Map<String, String> properties) {
+		super(properties);
+		InternalLogger.log(Level.ERROR, "JFR writer requires Java 11 or later, all log entries will be discarded");
+	}
+
+	@Override
+	public Collection<LogEntryValue> getRequiredLogEntryValues() {
+		return Collections.emptySet();
+	}
+
+	@Override
+	public void write(final LogEntry logEntry) {
+	}
+
+	@Override
+	public void flush() {
+	}
+
+	@Override
+	public void close() {
+	}
+
+}
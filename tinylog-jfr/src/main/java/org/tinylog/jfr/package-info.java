@@ -0,0 +1,23 @@
+/*
+ * Copyright 2022 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+/**
+ * Integration of tinylog with JDK Flight Recorder.
+ *
+ * <p>
+ * This module is a multi-release JAR. The JFR based implementations require Java 11 or later. On older Java versions,
+ * {@link org.tinylog.jfr.JfrWriter} reports an error and discards all log entries, and
+ * {@link org.tinylog.jfr.JfrDiagnosticListener} ignores all events.
+ * </p>
+ */
+package org.tinylog.jfr;
@@ -0,0 +1,13 @@
+module org.tinylog.jfr {
+	requires jdk.jfr;
+	requires org.tinylog.api;
+	requires org.tinylog.impl;
+
+	exports org.tinylog.jfr;
+
+	provides org.tinylog.core.DiagnosticListener with
+			org.tinylog.jfr.JfrDiagnosticListener;
+
+	provides org.tinylog.writers.Writer with
+			org.tinylog.jfr.JfrWriter;
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2022 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR event for a compressed log file.
+ */
+@Name("org.tinylog.Compression")
+@Label("Compression")
+@Category("tinylog")
+@Description("Log file has been compressed")
+@StackTrace(false)
+final class CompressionEvent extends Event {
+
+	@Label("File Name")
+	@Description("Path of the original log file")
+	String fileName;
+
+	@Label("Original Size")
+	@DataAmount
+	long originalSize;
+
+	@Label("Compressed Size")
+	@DataAmount
+	long compressedSize;
+
+	@Label("Compression Duration")
+	@Timespan(Timespan.NANOSECONDS)
+	long compressionDuration;
+
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2022 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR event for a flushed writer.
+ */
+@Name("org.tinylog.Flush")
+@Label("Flush")
+@Category("tinylog")
+@Description("Writer has been flushed by the writing thread")
+@StackTrace(false)
+final class FlushEvent extends Event {
+
+	@Label("Writer")
+	@Description("Class name of the flushed writer")
+	String writer;
+
+	@Label("Flush Duration")
+	@Timespan(Timespan.NANOSECONDS)
+	long flushDuration;
+
+}
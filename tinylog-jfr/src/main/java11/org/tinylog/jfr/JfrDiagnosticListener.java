@@ -0,0 +1,76 @@
+/*
+ * Copyright 2022 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.jfr;
+
+import org.tinylog.Level;
+import org.tinylog.core.DiagnosticListener;
+import org.tinylog.writers.Writer;
+
+/**
+ * Listener for committing tinylog's internal events as JDK Flight Recorder events.
+ *
+ * <p>
+ * JFR events are only created for enabled event types. Durations are measured by tinylog and stored as separate
+ * field, since the events are committed after the measured operation has been completed.
+ * </p>
+ */
+public final class JfrDiagnosticListener implements DiagnosticListener {
+
+	/** */
+	public JfrDiagnosticListener() {
+	}
+
+	@Override
+	public void flushed(final Writer writer, final long nanoseconds) {
+		FlushEvent event = new FlushEvent();
+		if (event.isEnabled()) {
+			event.writer = writer.getClass().getName();
+			event.flushDuration = nanoseconds;
+			event.commit();
+		}
+	}
+
+	@Override
+	public void rolledOver(final String fileName, final long nanoseconds) {
+		RolloverEvent event = new RolloverEvent();
+		if (event.isEnabled()) {
+			event.fileName = fileName;
+			event.blockingDuration = nanoseconds;
+			event.commit();
+		}
+	}
+
+	@Override
+	public void compressed(final String fileName, final long originalSize, final long compressedSize, final long nanoseconds) {
+		CompressionEvent event = new CompressionEvent();
+		if (event.isEnabled()) {
+			event.fileName = fileName;
+			event.originalSize = originalSize;
+			event.compressedSize = compressedSize;
+			event.compressionDuration = nanoseconds;
+			event.commit();
+		}
+	}
+
+	@Override
+	public void stalled(final int pendingEntries, final Level minimumLevel) {
+		QueueStallEvent event = new QueueStallEvent();
+		if (event.isEnabled()) {
+			event.pendingEntries = pendingEntries;
+			event.minimumLevel = minimumLevel.name();
+			event.commit();
+		}
+	}
+
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2022 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.jfr;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Map;
+
+import org.tinylog.core.LogEntry;
+import org.tinylog.core.LogEntryValue;
+import org.tinylog.pattern.FormatPatternParser;
+import org.tinylog.pattern.Token;
+import org.tinylog.writers.AbstractWriter;
+
+/**
+ * Writer for committing log entries as JDK Flight Recorder events ({@code org.tinylog.LogEntry}).
+ *
+ * <p>
+ * Log entries are only rendered, if a recording with enabled log entry events is running. Otherwise, this writer
+ * discards log entries without any further work. The timestamp and thread of the JFR event are the time of writing and
+ * the writing thread, the original thread of the log entry is stored as separate field.
+ * </p>
+ */
+public final class JfrWriter extends AbstractWriter {
+
+	private static final String DEFAULT_FORMAT_PATTERN = "{message}";
+	private static final int BUILDER_CAPACITY = 1024;
+
+	private final StringBuilder builder;
+	private final Token token;
+
+	/** */
+	public JfrWriter() {
+		this(Collections.emptyMap());
+	}
+
+	/**
+	 * @param properties
+	 *            Configuration for writer
+	 */
+	public JfrWriter(final Map<String, String> properties) {
+		super(properties);
+
+		FormatPatternParser parser = new FormatPatternParser(getStringValue("exception"));
+
+		String pattern = properties.get("format");
+		if (pattern == null) {
+			pattern = DEFAULT_FORMAT_PATTERN;
+		}
+
+		token = parser.parse(pattern);
+		builder = getBooleanValue("writingthread") ? new StringBuilder(BUILDER_CAPACITY) : null;
+	}
+
+	@Override
+	public Collection<LogEntryValue> getRequiredLogEntryValues() {
+		Collection<LogEntryValue> values = EnumSet.of(LogEntryValue.LEVEL, LogEntryValue.TAG, LogEntryValue.THREAD);
+		values.addAll(token.getRequiredLogEntryValues());
+		return values;
+	}
+
+	@Override
+	public void write(final LogEntry logEntry) {
+		LogEntryEvent event = new LogEntryEvent();
+		if (event.isEnabled()) {
+			Thread thread = logEntry.getThread();
+
+			event.level = logEntry.getLevel().name();
+			event.tag = logEntry.getTag();
+			event.thread = thread == null ? null : thread.getName();
+			event.message = render(logEntry);
+			event.commit();
+		}
+	}
+
+	@Override
+	public void flush() {
+	}
+
+	@Override
+	public void close() {
+	}
+
+	/**
+	 * Renders a log entry as string.
+	 *
+	 * @param logEntry
+	 *            Log entry to render
+	 * @return Rendered log entry
+	 */
+	private String render(final LogEntry logEntry) {
+		if (builder == null) {
+			StringBuilder builder = new StringBuilder(BUILDER_CAPACITY);
+			token.render(logEntry, builder);
+			return builder.toString();
+		} else {
+			builder.setLength(0);
+			token.render(logEntry, builder);
+			return builder.toString();
+		}
+	}
+
+}
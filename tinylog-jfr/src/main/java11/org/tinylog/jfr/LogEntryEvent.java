@@ -0,0 +1,46 @@
+/*
+ * Copyright 2022 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for a log entry.
+ */
+@Name("org.tinylog.LogEntry")
+@Label("Log Entry")
+@Category("tinylog")
+@Description("Log entry issued via tinylog")
+@StackTrace(false)
+final class LogEntryEvent extends Event {
+
+	@Label("Level")
+	String level;
+
+	@Label("Tag")
+	String tag;
+
+	@Label("Thread")
+	@Description("Name of the thread that has issued the log entry")
+	String thread;
+
+	@Label("Message")
+	String message;
+
+}
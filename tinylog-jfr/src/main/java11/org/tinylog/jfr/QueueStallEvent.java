@@ -0,0 +1,40 @@
+/*
+ * Copyright 2022 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for a writing thread that has started dropping log entries.
+ */
+@Name("org.tinylog.QueueStall")
+@Label("Queue Stall")
+@Category("tinylog")
+@Description("Writing thread has fallen behind and drops log entries")
+@StackTrace(false)
+final class QueueStallEvent extends Event {
+
+	@Label("Pending Entries")
+	int pendingEntries;
+
+	@Label("Minimum Level")
+	@Description("Minimum severity level for log entries that are still accepted")
+	String minimumLevel;
+
+}
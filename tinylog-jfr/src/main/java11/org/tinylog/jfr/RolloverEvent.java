@@ -0,0 +1,43 @@
+/*
+ * Copyright 2022 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR event for starting a new log file.
+ */
+@Name("org.tinylog.Rollover")
+@Label("Rollover")
+@Category("tinylog")
+@Description("Rolling file writer has started a new log file")
+@StackTrace(false)
+final class RolloverEvent extends Event {
+
+	@Label("File Name")
+	@Description("Path of the new log file")
+	String fileName;
+
+	@Label("Blocking Duration")
+	@Description("Duration that writing has been blocked by starting the new log file")
+	@Timespan(Timespan.NANOSECONDS)
+	long blockingDuration;
+
+}
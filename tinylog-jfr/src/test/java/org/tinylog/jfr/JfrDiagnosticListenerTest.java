@@ -0,0 +1,149 @@
+/*
+ * Copyright 2022 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.jfr;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.tinylog.Level;
+import org.tinylog.writers.ConsoleWriter;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link JfrDiagnosticListener}.
+ */
+public final class JfrDiagnosticListenerTest {
+
+	private Recording recording;
+
+	/**
+	 * Starts a new JFR recording for all tinylog events.
+	 */
+	@Before
+	public void startRecording() {
+		recording = new Recording();
+		recording.enable("org.tinylog.Flush");
+		recording.enable("org.tinylog.Rollover");
+		recording.enable("org.tinylog.Compression");
+		recording.enable("org.tinylog.QueueStall");
+		recording.start();
+	}
+
+	/**
+	 * Closes the JFR recording.
+	 */
+	@After
+	public void closeRecording() {
+		recording.close();
+	}
+
+	/**
+	 * Verifies that flushes are committed as JFR events.
+	 *
+	 * @throws IOException
+	 *             Failed to dump or read the JFR recording
+	 */
+	@Test
+	public void flushed() throws IOException {
+		new JfrDiagnosticListener().flushed(new ConsoleWriter(), 1000);
+
+		RecordedEvent event = stopRecording("org.tinylog.Flush");
+		assertThat(event.getString("writer")).isEqualTo(ConsoleWriter.class.getName());
+		assertThat(event.getDuration("flushDuration")).isEqualTo(Duration.ofNanos(1000));
+	}
+
+	/**
+	 * Verifies that rollovers are committed as JFR events.
+	 *
+	 * @throws IOException
+	 *             Failed to dump or read the JFR recording
+	 */
+	@Test
+	public void rolledOver() throws IOException {
+		new JfrDiagnosticListener().rolledOver("log-2.txt", 2000);
+
+		RecordedEvent event = stopRecording("org.tinylog.Rollover");
+		assertThat(event.getString("fileName")).isEqualTo("log-2.txt");
+		assertThat(event.getDuration("blockingDuration")).isEqualTo(Duration.ofNanos(2000));
+	}
+
+	/**
+	 * Verifies that compressions are committed as JFR events.
+	 *
+	 * @throws IOException
+	 *             Failed to dump or read the JFR recording
+	 */
+	@Test
+	public void compressed() throws IOException {
+		new JfrDiagnosticListener().compressed("log-1.txt", 4096, 512, 3000);
+
+		RecordedEvent event = stopRecording("org.tinylog.Compression");
+		assertThat(event.getString("fileName")).isEqualTo("log-1.txt");
+		assertThat(event.getLong("originalSize")).isEqualTo(4096);
+		assertThat(event.getLong("compressedSize")).isEqualTo(512);
+		assertThat(event.getDuration("compressionDuration")).isEqualTo(Duration.ofNanos(3000));
+	}
+
+	/**
+	 * Verifies that queue stalls are committed as JFR events.
+	 *
+	 * @throws IOException
+	 *             Failed to dump or read the JFR recording
+	 */
+	@Test
+	public void stalled() throws IOException {
+		new JfrDiagnosticListener().stalled(10000, Level.INFO);
+
+		RecordedEvent event = stopRecording("org.tinylog.QueueStall");
+		assertThat(event.getInt("pendingEntries")).isEqualTo(10000);
+		assertThat(event.getString("minimumLevel")).isEqualTo("INFO");
+	}
+
+	/**
+	 * Stops the JFR recording and reads the single recorded event of the passed type.
+	 *
+	 * @param name
+	 *            Name of the expected JFR event type
+	 * @return Recorded event
+	 * @throws IOException
+	 *             Failed to dump or read the JFR recording
+	 */
+	private RecordedEvent stopRecording(final String name) throws IOException {
+		recording.stop();
+
+		Path file = Files.createTempFile("tinylog", ".jfr");
+		try {
+			recording.dump(file);
+			List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+			events.removeIf(event -> !event.getEventType().getName().startsWith("org.tinylog."));
+			assertThat(events).hasSize(1);
+			assertThat(events.get(0).getEventType().getName()).isEqualTo(name);
+			return events.get(0);
+		} finally {
+			Files.delete(file);
+		}
+	}
+
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2022 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.jfr;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.tinylog.Level;
+import org.tinylog.core.LogEntry;
+import org.tinylog.core.LogEntryValue;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link JfrWriter}.
+ */
+public final class JfrWriterTest {
+
+	private Recording recording;
+
+	/**
+	 * Starts a new JFR recording for log entry events.
+	 */
+	@Before
+	public void startRecording() {
+		recording = new Recording();
+		recording.enable("org.tinylog.LogEntry");
+		recording.start();
+	}
+
+	/**
+	 * Closes the JFR recording.
+	 */
+	@After
+	public void closeRecording() {
+		recording.close();
+	}
+
+	/**
+	 * Verifies that all required log entry values will be detected.
+	 */
+	@Test
+	public void requiredLogEntryValues() {
+		JfrWriter writer = new JfrWriter(singletonMap("format", "{class}: {message-only}"));
+		assertThat(writer.getRequiredLogEntryValues()).containsOnly(LogEntryValue.LEVEL, LogEntryValue.TAG, LogEntryValue.THREAD,
+			LogEntryValue.CLASS, LogEntryValue.MESSAGE);
+	}
+
+	/**
+	 * Verifies that log entries are committed as JFR events with rendered message.
+	 *
+	 * @throws IOException
+	 *             Failed to dump or read the JFR recording
+	 */
+	@Test
+	public void commitEvents() throws IOException {
+		JfrWriter writer = new JfrWriter(emptyMap());
+		writer.write(new LogEntry(null, Thread.currentThread(), null, null, null, null, -1, "test", Level.INFO, "Hello World!", null));
+		writer.close();
+
+		List<RecordedEvent> events = stopRecording();
+		assertThat(events).hasSize(1);
+
+		RecordedEvent event = events.get(0);
+		assertThat(event.getString("level")).isEqualTo("INFO");
+		assertThat(event.getString("tag")).isEqualTo("test");
+		assertThat(event.getString("thread")).isEqualTo(Thread.currentThread().getName());
+		assertThat(event.getString("message")).isEqualTo("Hello World!");
+	}
+
+	/**
+	 * Verifies that a custom format pattern will be used for rendering messages.
+	 *
+	 * @throws IOException
+	 *             Failed to dump or read the JFR recording
+	 */
+	@Test
+	public void customFormatPattern() throws IOException {
+		JfrWriter writer = new JfrWriter(singletonMap("format", "{level}: {message}"));
+		writer.write(new LogEntry(null, null, null, null, null, null, -1, null, Level.WARN, "Hello World!", null));
+		writer.close();
+
+		List<RecordedEvent> events = stopRecording();
+		assertThat(events).hasSize(1);
+
+		RecordedEvent event = events.get(0);
+		assertThat(event.getString("tag")).isNull();
+		assertThat(event.getString("thread")).isNull();
+		assertThat(event.getString("message")).isEqualTo("WARN: Hello World!");
+	}
+
+	/**
+	 * Verifies that no events are committed if log entry events are disabled.
+	 *
+	 * @throws IOException
+	 *             Failed to dump or read the JFR recording
+	 */
+	@Test
+	public void disabledEvents() throws IOException {
+		recording.disable("org.tinylog.LogEntry");
+
+		JfrWriter writer = new JfrWriter(emptyMap());
+		writer.write(new LogEntry(null, null, null, null, null, null, -1, null, Level.INFO, "Hello World!", null));
+		writer.close();
+
+		assertThat(stopRecording()).isEmpty();
+	}
+
+	/**
+	 * Stops the JFR recording and reads all recorded tinylog events.
+	 *
+	 * @return Recorded log entry events
+	 * @throws IOException
+	 *             Failed to dump or read the JFR recording
+	 */
+	private List<RecordedEvent> stopRecording() throws IOException {
+		recording.stop();
+
+		Path file = Files.createTempFile("tinylog", ".jfr");
+		try {
+			recording.dump(file);
+			List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+			events.removeIf(event -> !event.getEventType().getName().equals("org.tinylog.LogEntry"));
+			return events;
+		} finally {
+			Files.delete(file);
+		}
+	}
+
+}